@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.pmw.benchmark.frameworks.Dummy;
+import org.pmw.benchmark.frameworks.DurableTinylog;
 import org.pmw.benchmark.frameworks.Framework;
 import org.pmw.benchmark.frameworks.JUL;
 import org.pmw.benchmark.frameworks.Log4j;
@@ -14,8 +15,8 @@ import org.pmw.benchmark.frameworks.Tinylog;
 
 public abstract class AbstractApplication {
 
-	protected static final String[] FRAMEWORKS = new String[] { "dummy", "jul", "log4j1", "log4j2", "logback", "tinylog" };
-	protected static final String[] BENCHMARKS = new String[] { "output", "primes" };
+	protected static final String[] FRAMEWORKS = new String[] { "dummy", "jul", "log4j1", "log4j2", "logback", "tinylog", "tinylog-durable" };
+	protected static final String[] BENCHMARKS = new String[] { "output", "primes", "latency" };
 	protected static final String[] THREADING = new String[] { "single-threaded", "multi-threaded" };
 
 	protected static final Map<String, Class<? extends Framework>> FRAMEWORK_MAPPING = new HashMap<String, Class<? extends Framework>>();
@@ -26,6 +27,7 @@ public abstract class AbstractApplication {
 		FRAMEWORK_MAPPING.put("log4j2", Log4j2.class);
 		FRAMEWORK_MAPPING.put("logback", Logback.class);
 		FRAMEWORK_MAPPING.put("tinylog", Tinylog.class);
+		FRAMEWORK_MAPPING.put("tinylog-durable", DurableTinylog.class);
 	}
 
 	protected static final boolean supportsAsync(final String framework) {
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.pmw.benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cooder.tinylog.Configurator;
+import org.cooder.tinylog.Level;
+import org.cooder.tinylog.Logger;
+import org.cooder.tinylog.writers.ConsoleWriter;
+
+/**
+ * Benchmark for {@link ConsoleWriter}, which compares printing via {@link System#out} with buffered writing via file
+ * channels. Each benchmark run is executed in a separate process, whose standard output is redirected into a file.
+ *
+ * <p>
+ * Usage: <code>ConsoleApplication [threads] [iterations per thread]</code>
+ * </p>
+ */
+public final class ConsoleApplication {
+
+	private static final int DEFAULT_THREADS = Runtime.getRuntime().availableProcessors();
+	private static final int DEFAULT_ITERATIONS = 200_000;
+
+	private static final String WORKER_ARGUMENT = "--worker";
+
+	private ConsoleApplication() {
+	}
+
+	public static void main(final String[] arguments) throws Exception {
+		if (arguments.length > 0 && WORKER_ARGUMENT.equals(arguments[0])) {
+			runWorker(Boolean.parseBoolean(arguments[1]), Integer.parseInt(arguments[2]), Integer.parseInt(arguments[3]));
+		} else {
+			int threads = arguments.length > 0 ? Integer.parseInt(arguments[0]) : DEFAULT_THREADS;
+			int iterations = arguments.length > 1 ? Integer.parseInt(arguments[1]) : DEFAULT_ITERATIONS;
+
+			System.out.println("CONSOLE BENCHMARK (" + threads + " THREADS x " + iterations + " ITERATIONS)");
+			System.out.println();
+			runBenchmark("print stream", false, threads, iterations);
+			runBenchmark("buffered channel", true, threads, iterations);
+		}
+	}
+
+	private static void runBenchmark(final String name, final boolean buffered, final int threads, final int iterations) throws Exception {
+		File file = File.createTempFile("log", ".txt");
+		file.deleteOnExit();
+
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		String classpath = System.getProperty("java.class.path");
+
+		ProcessBuilder builder = new ProcessBuilder(java, "-cp", classpath, ConsoleApplication.class.getName(), WORKER_ARGUMENT,
+				Boolean.toString(buffered), Integer.toString(threads), Integer.toString(iterations));
+		builder.redirectOutput(file);
+		Process worker = builder.start();
+
+		String result;
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(worker.getErrorStream()))) {
+			result = reader.readLine();
+		}
+
+		if (worker.waitFor() != 0 || result == null) {
+			System.err.println("Worker process failed with exit code " + worker.exitValue());
+			System.exit(-1);
+		}
+
+		long time = Long.parseLong(result.trim());
+		long lines = 0L;
+		try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				if (line.contains(": Console benchmark entry ")) {
+					++lines;
+				}
+			}
+		}
+
+		long expected = (long) threads * iterations;
+		if (lines != expected) {
+			System.err.println(name + ": " + lines + " valid lines have been written, but " + expected + " lines expected");
+		}
+
+		System.out.println(name + ": " + time + " ms (" + expected * 1000L / Math.max(1L, time) + " entries per second)");
+		file.delete();
+	}
+
+	private static void runWorker(final boolean buffered, final int threads, final int iterations) throws Exception {
+		Configurator.defaultConfig().writer(new ConsoleWriter(buffered)).level(Level.INFO).formatPattern("{thread}: {message}").activate();
+
+		long start = System.currentTimeMillis();
+
+		List<Thread> list = new ArrayList<>();
+		for (int i = 0; i < threads; ++i) {
+			Thread thread = new Thread() {
+
+				@Override
+				public void run() {
+					for (int j = 0; j < iterations; ++j) {
+						Logger.info("Console benchmark entry {}", j);
+					}
+				}
+
+			};
+			list.add(thread);
+			thread.start();
+		}
+
+		for (Thread thread : list) {
+			thread.join();
+		}
+
+		Configurator.defaultConfig().activate();
+
+		/* Elapsed time is reported via the standard error stream, as the standard output stream is the benchmarked sink */
+		long time = System.currentTimeMillis() - start;
+		System.err.println(time);
+	}
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.pmw.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.cooder.tinylog.Configurator;
+import org.cooder.tinylog.Level;
+import org.cooder.tinylog.Logger;
+import org.cooder.tinylog.writers.JdbcWriter;
+import org.cooder.tinylog.writers.JdbcWriter.Value;
+
+/**
+ * Benchmark for {@link JdbcWriter} against an embedded H2 database, which compares inserting single rows, batch
+ * processes with one row per statement and batch processes with multi-row insert statements.
+ *
+ * <p>
+ * Usage: <code>JdbcApplication [threads] [iterations per thread] [batch size] [rows per insert statement]</code>
+ * </p>
+ */
+public final class JdbcApplication {
+
+	private static final int DEFAULT_THREADS = Runtime.getRuntime().availableProcessors();
+	private static final int DEFAULT_ITERATIONS = 100_000;
+	private static final int DEFAULT_BATCH_SIZE = 1000;
+	private static final int DEFAULT_BULK_SIZE = 100;
+
+	private static final List<Value> VALUES = Arrays.asList(Value.DATE, Value.LEVEL, Value.THREAD_NAME, Value.MESSAGE);
+
+	private JdbcApplication() {
+	}
+
+	public static void main(final String[] arguments) throws Exception {
+		int threads = arguments.length > 0 ? Integer.parseInt(arguments[0]) : DEFAULT_THREADS;
+		int iterations = arguments.length > 1 ? Integer.parseInt(arguments[1]) : DEFAULT_ITERATIONS;
+		int batchSize = arguments.length > 2 ? Integer.parseInt(arguments[2]) : DEFAULT_BATCH_SIZE;
+		int bulkSize = arguments.length > 3 ? Integer.parseInt(arguments[3]) : DEFAULT_BULK_SIZE;
+
+		System.out.println("JDBC BENCHMARK (" + threads + " THREADS x " + iterations + " ITERATIONS, BATCH SIZE " + batchSize + ", " + bulkSize
+				+ " ROWS PER INSERT)");
+		System.out.println();
+
+		/* Warm up, so that all code paths are compiled before measuring */
+		runBenchmark(null, false, threads, iterations / 10, batchSize, bulkSize);
+		runBenchmark(null, true, threads, iterations / 10, batchSize, 0);
+		runBenchmark(null, true, threads, iterations / 10, batchSize, bulkSize);
+
+		runBenchmark("single statements", false, threads, iterations, batchSize, 0);
+		runBenchmark("execute batch", true, threads, iterations, batchSize, 0);
+		runBenchmark("multi-row insert", true, threads, iterations, batchSize, bulkSize);
+	}
+
+	private static void runBenchmark(final String name, final boolean batch, final int threads, final int iterations, final int batchSize,
+			final int bulkSize) throws Exception {
+		String url = "jdbc:h2:mem:benchmark" + System.nanoTime();
+
+		/* In-memory database lives as long as at least one connection is open */
+		try (Connection connection = DriverManager.getConnection(url)) {
+			try (Statement statement = connection.createStatement()) {
+				statement.executeUpdate("CREATE TABLE log (date TIMESTAMP, level VARCHAR(8), thread VARCHAR(256), message VARCHAR(1024))");
+			}
+
+			JdbcWriter writer = new JdbcWriter(url, "LOG", null, VALUES, batch, null, null, -1, batchSize, 0, 0, 0, bulkSize);
+			Configurator.defaultConfig().writer(writer).level(Level.INFO).activate();
+
+			long start = System.currentTimeMillis();
+
+			List<Thread> list = new ArrayList<>();
+			for (int i = 0; i < threads; ++i) {
+				Thread thread = new Thread() {
+
+					@Override
+					public void run() {
+						for (int j = 0; j < iterations; ++j) {
+							Logger.info("JDBC benchmark entry {}", j);
+						}
+					}
+
+				};
+				list.add(thread);
+				thread.start();
+			}
+
+			for (Thread thread : list) {
+				thread.join();
+			}
+
+			/* Activating another configuration closes the writer, which executes the last batch process */
+			Configurator.defaultConfig().activate();
+
+			long time = System.currentTimeMillis() - start;
+
+			long rows;
+			try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM log")) {
+				resultSet.next();
+				rows = resultSet.getLong(1);
+			}
+
+			long expected = (long) threads * iterations;
+			if (rows != expected) {
+				System.err.println(name + ": " + rows + " rows have been inserted, but " + expected + " rows expected");
+			}
+
+			if (name != null) {
+				System.out.println(name + ": " + time + " ms (" + expected * 1000L / Math.max(1L, time) + " entries per second)");
+			}
+		}
+	}
+
+}
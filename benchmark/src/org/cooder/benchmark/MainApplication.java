@@ -14,13 +14,20 @@
 package org.pmw.benchmark;
 
 import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
+import org.pmw.benchmark.benchmarks.latency.LatencyBenchmark;
+
 /**
  * Main application for executing benchmarks with an user friendly console interface.
  */
@@ -33,6 +40,9 @@ public class MainApplication extends AbstractApplication {
 	private static final int DEFAULT_THREADS = Runtime.getRuntime().availableProcessors() * 2;
 	private static final long DEFAULT_ITERATIONS = 20_000L;
 	private static final long DEFAULT_PRIME = 200_000L;
+	private static final long DEFAULT_FREQUENCY = 10_000L;
+
+	private static final String RESOURCES_HEADER = String.format("%1$14s %2$8s %3$10s %4$10s", "allocation", "GCs", "GC time", "peak heap");
 
 	public static void main(final String[] arguments) throws Exception {
 		if (arguments.length < 2) {
@@ -68,6 +78,8 @@ public class MainApplication extends AbstractApplication {
 			int threads = getIntParameter(arguments, "threads", DEFAULT_THREADS);
 			long iterations = getLongParameter(arguments, "iterations", DEFAULT_ITERATIONS);
 			long prime = getLongParameter(arguments, "prime", DEFAULT_PRIME);
+			long frequency = getLongParameter(arguments, "frequency", DEFAULT_FREQUENCY);
+			String csv = getStringParameter(arguments, "csv");
 
 			if (depth < 0) {
 				System.err.println("Minimum amount of additional stack trace depth is 0");
@@ -77,7 +89,7 @@ public class MainApplication extends AbstractApplication {
 				System.err.println("Minimum number of parallel threads is 1");
 				System.exit(-1);
 			}
-			if (benchmarks.contains("output") && iterations <= 0) {
+			if ((benchmarks.contains("output") || benchmarks.contains("latency")) && iterations <= 0) {
 				System.err.println("Minimum number of logging iterations is 1");
 				System.exit(-1);
 			}
@@ -93,16 +105,25 @@ public class MainApplication extends AbstractApplication {
 				System.err.println("Minimum prime is 1");
 				System.exit(-1);
 			}
+			if (benchmarks.contains("latency") && frequency <= 0) {
+				System.err.println("Minimum frequency is 1 iteration per second");
+				System.exit(-1);
+			}
 
-			Executor executor = new Executor(runs, outliers);
+			Executor executor = new Executor(runs, outliers, csv == null ? null : new File(csv));
 			for (String benchmark : benchmarks) {
 				for (String threadingMode : threadingModes) {
 					System.out.println(benchmark.toUpperCase() + " BENCHMARK (" + threadingMode.toUpperCase() + ")");
 					System.out.println();
+					if ("latency".equals(benchmark)) {
+						System.out.println(String.format("%1$-30s %2$10s %3$10s %4$10s %5$10s %6$s", "", "p50", "p99", "p99.9", "max", RESOURCES_HEADER));
+					} else {
+						System.out.println(String.format("%1$-30s %2$12s %3$s", "", "time", RESOURCES_HEADER));
+					}
 					for (String framework : frameworks) {
-						executor.run(framework, locationInformation, false, benchmark, threadingMode, depth, threads, iterations, prime);
+						executor.run(framework, locationInformation, false, benchmark, threadingMode, depth, threads, iterations, prime, frequency);
 						if (supportsAsync(framework)) {
-							executor.run(framework, locationInformation, true, benchmark, threadingMode, depth, threads, iterations, prime);
+							executor.run(framework, locationInformation, true, benchmark, threadingMode, depth, threads, iterations, prime, frequency);
 						}
 					}
 					System.out.println();
@@ -234,7 +255,8 @@ public class MainApplication extends AbstractApplication {
 	private static void showHelp() {
 		System.out.println("Run logging framework benchmarks.");
 		System.out.println();
-		System.out.println("  framework benchmark [threading] [--location X] [--runs X] [--outliers X] [--depth X] [--iterations X] [--threads X] [--prime X]");
+		System.out.println("  framework benchmark [threading] [--location X] [--runs X] [--outliers X] [--depth X] [--iterations X] [--threads X] [--prime X]"
+				+ " [--frequency X] [--csv X]");
 		System.out.println();
 		System.out.println("  framework          Name of logging framework or \"all\"");
 		System.out.println("  benchmark          Name of benchmark or \"all\"");
@@ -245,8 +267,10 @@ public class MainApplication extends AbstractApplication {
 		System.out.println("  -o --outliers X    Number of outlier benchmark runs to exclude from result (default is 0)");
 		System.out.println("  -d --depth X        Amount of additional stack trace depth for more realistic results (default is 0)");
 		System.out.println("  -t --threads X     Number of parallel threads in multi-threaded benchmarks (default is number of cores * 2)");
-		System.out.println("  -i --iterations X  Number of logging iterations in output benchmark (default is 20,000)");
+		System.out.println("  -i --iterations X  Number of logging iterations in output and latency benchmark (default is 20,000)");
 		System.out.println("  -p --prime X       Maximum prime to calculate in prime benchmark (default is 200,000)");
+		System.out.println("  -f --frequency X   Target rate of logging iterations per second in latency benchmark (default is 10,000)");
+		System.out.println("  -c --csv X         File for appending the latency percentiles in nanoseconds as CSV (default is none)");
 		System.out.println();
 		System.out.println("Frameworks");
 		System.out.println();
@@ -255,12 +279,14 @@ public class MainApplication extends AbstractApplication {
 		System.out.println("  log4j2             Apache Log4j 2.x");
 		System.out.println("  logback            Logback");
 		System.out.println("  tinylog            tinylog");
+		System.out.println("  tinylog-durable    tinylog with error log entries forced to disk by group commits");
 		System.out.println("  dummy              Without any logging output (helpful for calculating logging overhead)");
 		System.out.println();
 		System.out.println("Benchmarks");
 		System.out.println();
 		System.out.println("  output             Writes a big amount of log entries to a file (tests the maximum logging output)");
 		System.out.println("  primes             Calculates primes and log the results (tests the influence of logging for a CPU intensive program)");
+		System.out.println("  latency            Writes log entries at a fixed rate (tests the latency percentiles of logging calls)");
 		System.out.println();
 		System.out.println("Location information (format pattern for log entries)");
 		System.out.println();
@@ -271,38 +297,175 @@ public class MainApplication extends AbstractApplication {
 
 	private static final class Executor {
 
+		private static final int P50_INDEX = 0;
+		private static final int P99_INDEX = 2;
+		private static final int P999_INDEX = 3;
+		private static final int MAX_INDEX = 5;
+
+		private static final int ALLOCATED_BYTES_INDEX = 0;
+		private static final int ENTRIES_INDEX = 1;
+		private static final int COLLECTIONS_INDEX = 2;
+		private static final int COLLECTION_TIME_INDEX = 3;
+		private static final int PEAK_HEAP_INDEX = 4;
+
 		private final int runs;
 		private final int outliers;
+		private final File csv;
 
-		public Executor(final int runs, final int outliers) {
+		public Executor(final int runs, final int outliers, final File csv) {
 			this.runs = runs;
 			this.outliers = outliers;
+			this.csv = csv;
 		}
 
 		public void run(final String framework, final boolean locationInformation, final boolean async, final String benchmark, final String threadingMode,
-				final int depth, final int threads, final long iterations, final long prime) throws Exception {
-			int[] times = new int[runs];
+				final int depth, final int threads, final long iterations, final long prime, final long frequency) throws Exception {
+			if ("latency".equals(benchmark)) {
+				runLatency(framework, locationInformation, async, threadingMode, depth, threads, iterations, frequency);
+				return;
+			}
+
+			final long[] times = new long[runs];
+			long[][] resources = new long[runs][];
 			for (int i = 0; i < runs; ++i) {
-				int time = execute(framework, locationInformation, async, benchmark, threadingMode, depth, threads, iterations, prime);
-				if (time < 0) {
+				StringBuilder output = new StringBuilder();
+				int time = execute(framework, locationInformation, async, benchmark, threadingMode, depth, threads, iterations, prime, frequency, output);
+				resources[i] = parseResult(output, SingleBenchmarkApplication.RESOURCES_RESULT_PREFIX);
+				if (time < 0 || resources[i] == null) {
 					return;
 				} else {
 					times[i] += time;
 				}
 			}
 
-			Arrays.sort(times);
+			Integer[] ranking = rank(new Comparator<Integer>() {
+				@Override
+				public int compare(final Integer first, final Integer second) {
+					return Long.compare(times[first], times[second]);
+				}
+			});
+
 			long time = 0L;
 			for (int i = outliers / 2; i < runs - outliers / 2; ++i) {
-				time += times[i];
+				time += times[ranking[i]];
 			}
 			time = Math.round((double) time / (runs - outliers));
 
-			System.out.println(String.format("%1$-30s %2$10dms", createFramework(framework, locationInformation, async).getName(), time));
+			System.out.println(String.format("%1$-30s %2$10dms %3$s", createFramework(framework, locationInformation, async).getName(), time,
+					formatResources(average(resources, ranking))));
+		}
+
+		private void runLatency(final String framework, final boolean locationInformation, final boolean async, final String threadingMode, final int depth,
+				final int threads, final long iterations, final long frequency) throws Exception {
+			final long[][] results = new long[runs][];
+			long[][] resources = new long[runs][];
+			for (int i = 0; i < runs; ++i) {
+				StringBuilder output = new StringBuilder();
+				int time = execute(framework, locationInformation, async, "latency", threadingMode, depth, threads, iterations, 0L, frequency, output);
+				results[i] = parseResult(output, SingleBenchmarkApplication.LATENCY_RESULT_PREFIX);
+				resources[i] = parseResult(output, SingleBenchmarkApplication.RESOURCES_RESULT_PREFIX);
+				if (time < 0 || results[i] == null || resources[i] == null) {
+					return;
+				}
+			}
+
+			/* Runs are ranked by their 99th percentile for excluding outliers */
+			Integer[] ranking = rank(new Comparator<Integer>() {
+				@Override
+				public int compare(final Integer first, final Integer second) {
+					return Long.compare(results[first][P99_INDEX], results[second][P99_INDEX]);
+				}
+			});
+
+			String[] labels = LatencyBenchmark.getPercentileLabels();
+			long[] latencies = average(results, ranking);
+
+			String name = createFramework(framework, locationInformation, async).getName();
+			System.out.println(String.format("%1$-30s %2$10s %3$10s %4$10s %5$10s %6$s", name, formatLatency(latencies[P50_INDEX]),
+					formatLatency(latencies[P99_INDEX]), formatLatency(latencies[P999_INDEX]), formatLatency(latencies[MAX_INDEX]),
+					formatResources(average(resources, ranking))));
+
+			if (csv != null) {
+				writeCsv(name, threadingMode, "single-threaded".equals(threadingMode) ? 1 : threads, frequency, labels, latencies);
+			}
+		}
+
+		private Integer[] rank(final Comparator<Integer> comparator) {
+			Integer[] ranking = new Integer[runs];
+			for (int i = 0; i < runs; ++i) {
+				ranking[i] = i;
+			}
+			Arrays.sort(ranking, comparator);
+			return ranking;
+		}
+
+		private long[] average(final long[][] results, final Integer[] ranking) {
+			long[] averages = new long[results[0].length];
+			for (int i = 0; i < averages.length; ++i) {
+				long sum = 0L;
+				for (int j = outliers / 2; j < runs - outliers / 2; ++j) {
+					sum += results[ranking[j]][i];
+				}
+				averages[i] = Math.round((double) sum / (runs - outliers));
+			}
+			return averages;
+		}
+
+		private static long[] parseResult(final CharSequence output, final String prefix) {
+			for (String line : output.toString().split("\\r?\\n")) {
+				if (line.startsWith(prefix)) {
+					String[] values = line.substring(prefix.length()).trim().split(" ");
+					long[] result = new long[values.length];
+					for (int i = 0; i < values.length; ++i) {
+						result[i] = Long.parseLong(values[i]);
+					}
+					return result;
+				}
+			}
+
+			System.err.println("Benchmark did not report any \"" + prefix.trim() + "\" results");
+			return null;
+		}
+
+		private static String formatResources(final long[] resources) {
+			String allocation;
+			if (resources[ALLOCATED_BYTES_INDEX] < 0L) {
+				allocation = "n/a";
+			} else {
+				allocation = resources[ALLOCATED_BYTES_INDEX] / Math.max(1L, resources[ENTRIES_INDEX]) + " B/entry";
+			}
+
+			String heap = String.format(Locale.ENGLISH, "%.1fMB", resources[PEAK_HEAP_INDEX] / (1024d * 1024d));
+			return String.format("%1$14s %2$8d %3$8dms %4$10s", allocation, resources[COLLECTIONS_INDEX], resources[COLLECTION_TIME_INDEX], heap);
+		}
+
+		private static String formatLatency(final long nanoseconds) {
+			return String.format(Locale.ENGLISH, "%.1fus", nanoseconds / 1000d);
+		}
+
+		private void writeCsv(final String framework, final String threadingMode, final int threads, final long frequency, final String[] labels,
+				final long[] latencies) throws IOException {
+			boolean header = !csv.exists() || csv.length() == 0L;
+			try (PrintWriter writer = new PrintWriter(new FileWriter(csv, true))) {
+				if (header) {
+					writer.print("framework,threading,threads,frequency");
+					for (String label : labels) {
+						writer.print("," + label);
+					}
+					writer.println();
+				}
+
+				writer.print(framework + "," + threadingMode + "," + threads + "," + frequency);
+				for (long latency : latencies) {
+					writer.print("," + latency);
+				}
+				writer.println();
+			}
 		}
 
 		private static int execute(final String framework, final boolean locationInformation, final boolean async, final String benchmark,
-				final String threadingMode, final int depth, final int threads, final long iterations, final long prime) throws Exception {
+				final String threadingMode, final int depth, final int threads, final long iterations, final long prime, final long frequency,
+				final StringBuilder output) throws Exception {
 			String jvm = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
 			String classpath = System.getProperty("java.class.path");
 
@@ -318,6 +481,7 @@ public class MainApplication extends AbstractApplication {
 			command.add(Integer.toString(threads));
 			command.add(Long.toString(iterations));
 			command.add(Long.toString(prime));
+			command.add(Long.toString(frequency));
 
 			ProcessBuilder processBuilder = new ProcessBuilder(command);
 			Map<String, String> environment = processBuilder.environment();
@@ -331,10 +495,17 @@ public class MainApplication extends AbstractApplication {
 			stream.read(data, 0, data.length);
 			System.err.print(new String(data));
 
+			/* Results are collected, any other output is passed through */
 			stream = process.getInputStream();
 			data = new byte[stream.available()];
 			stream.read(data, 0, data.length);
-			System.out.print(new String(data));
+			for (String line : new String(data).split("\\r?\\n")) {
+				if (line.startsWith(SingleBenchmarkApplication.LATENCY_RESULT_PREFIX) || line.startsWith(SingleBenchmarkApplication.RESOURCES_RESULT_PREFIX)) {
+					output.append(line).append('\n');
+				} else if (!line.isEmpty()) {
+					System.out.println(line);
+				}
+			}
 
 			return result;
 		}
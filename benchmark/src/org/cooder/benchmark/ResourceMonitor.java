@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.pmw.benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Monitor for allocated bytes, garbage collections and heap usage during a benchmark run. The allocated bytes of all
+ * threads are sampled periodically, as logging threads and writing threads can terminate before the end of the
+ * benchmark. Allocations of a thread after its last sample are not counted.
+ */
+final class ResourceMonitor extends Thread {
+
+	private static final long SAMPLING_INTERVAL = 10L; // milliseconds
+
+	private final ThreadMXBean threadBean;
+	private final MemoryMXBean memoryBean;
+	private final List<GarbageCollectorMXBean> garbageCollectorBeans;
+
+	private final Map<Long, Long> initialBytes;
+	private final Map<Long, Long> allocatedBytes;
+	private final long initialCollections;
+	private final long initialCollectionTime;
+	private long peakHeap;
+
+	private volatile boolean shutdown;
+
+	ResourceMonitor() {
+		threadBean = ManagementFactory.getThreadMXBean();
+		memoryBean = ManagementFactory.getMemoryMXBean();
+		garbageCollectorBeans = ManagementFactory.getGarbageCollectorMXBeans();
+
+		initialBytes = new HashMap<>();
+		allocatedBytes = new HashMap<>();
+		sampleAllocations(initialBytes);
+		initialCollections = countCollections();
+		initialCollectionTime = sumCollectionTime();
+		peakHeap = memoryBean.getHeapMemoryUsage().getUsed();
+
+		setName("benchmark-monitor");
+		setDaemon(true);
+	}
+
+	/**
+	 * Check whether the JVM supports measuring the allocated bytes per thread.
+	 *
+	 * @return <code>true</code> if supported, <code>false</code> if not
+	 */
+	boolean isAllocationSupported() {
+		return threadBean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported();
+	}
+
+	@Override
+	public void run() {
+		while (!shutdown) {
+			sample();
+			try {
+				sleep(SAMPLING_INTERVAL);
+			} catch (InterruptedException ex) {
+				// Continue
+			}
+		}
+	}
+
+	/**
+	 * Stop monitoring and take a final sample.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the monitor thread
+	 */
+	void shutdown() throws InterruptedException {
+		shutdown = true;
+		interrupt();
+		join();
+		sample();
+	}
+
+	/**
+	 * Get the number of bytes, which have been allocated by all threads except this monitor since creating the
+	 * monitor.
+	 *
+	 * @return Allocated bytes or -1 if not supported by the JVM
+	 */
+	long getAllocatedBytes() {
+		if (!isAllocationSupported()) {
+			return -1L;
+		}
+
+		long total = 0L;
+		synchronized (allocatedBytes) {
+			for (Map.Entry<Long, Long> entry : allocatedBytes.entrySet()) {
+				if (entry.getKey() != getId()) {
+					Long initial = initialBytes.get(entry.getKey());
+					total += entry.getValue() - (initial == null ? 0L : initial);
+				}
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Get the number of garbage collections since creating the monitor.
+	 *
+	 * @return Number of garbage collections of all collectors
+	 */
+	long getCollections() {
+		return countCollections() - initialCollections;
+	}
+
+	/**
+	 * Get the accumulated time of garbage collections since creating the monitor.
+	 *
+	 * @return Garbage collection time in milliseconds
+	 */
+	long getCollectionTime() {
+		return sumCollectionTime() - initialCollectionTime;
+	}
+
+	/**
+	 * Get the highest sampled heap usage.
+	 *
+	 * @return Used heap in bytes
+	 */
+	synchronized long getPeakHeap() {
+		return peakHeap;
+	}
+
+	private void sample() {
+		sampleAllocations(allocatedBytes);
+		long used = memoryBean.getHeapMemoryUsage().getUsed();
+		synchronized (this) {
+			peakHeap = Math.max(peakHeap, used);
+		}
+	}
+
+	private void sampleAllocations(final Map<Long, Long> target) {
+		if (isAllocationSupported()) {
+			long[] ids = threadBean.getAllThreadIds();
+			long[] bytes = ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(ids);
+			synchronized (target) {
+				for (int i = 0; i < ids.length; ++i) {
+					if (bytes[i] >= 0L) {
+						target.put(ids[i], bytes[i]);
+					}
+				}
+			}
+		}
+	}
+
+	private long countCollections() {
+		long count = 0L;
+		for (GarbageCollectorMXBean bean : garbageCollectorBeans) {
+			count += Math.max(0L, bean.getCollectionCount());
+		}
+		return count;
+	}
+
+	private long sumCollectionTime() {
+		long time = 0L;
+		for (GarbageCollectorMXBean bean : garbageCollectorBeans) {
+			time += Math.max(0L, bean.getCollectionTime());
+		}
+		return time;
+	}
+
+}
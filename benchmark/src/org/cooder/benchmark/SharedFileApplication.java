@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.pmw.benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cooder.tinylog.Configurator;
+import org.cooder.tinylog.Level;
+import org.cooder.tinylog.Logger;
+import org.cooder.tinylog.writers.SharedFileWriter;
+
+/**
+ * Benchmark for multiple processes with multiple threads that are logging into the same file via
+ * {@link SharedFileWriter}. Unbuffered writing (one write per log entry) is compared with buffered writing (one file
+ * lock per batch of log entries).
+ *
+ * <p>
+ * Usage: <code>SharedFileApplication [processes] [threads] [iterations per thread]</code>
+ * </p>
+ */
+public final class SharedFileApplication {
+
+	private static final int DEFAULT_PROCESSES = 4;
+	private static final int DEFAULT_THREADS = 8;
+	private static final int DEFAULT_ITERATIONS = 100_000;
+
+	private static final String WORKER_ARGUMENT = "--worker";
+
+	private SharedFileApplication() {
+	}
+
+	public static void main(final String[] arguments) throws Exception {
+		if (arguments.length > 0 && WORKER_ARGUMENT.equals(arguments[0])) {
+			runWorker(arguments[1], Boolean.parseBoolean(arguments[2]), Integer.parseInt(arguments[3]), Integer.parseInt(arguments[4]));
+		} else {
+			int processes = arguments.length > 0 ? Integer.parseInt(arguments[0]) : DEFAULT_PROCESSES;
+			int threads = arguments.length > 1 ? Integer.parseInt(arguments[1]) : DEFAULT_THREADS;
+			int iterations = arguments.length > 2 ? Integer.parseInt(arguments[2]) : DEFAULT_ITERATIONS;
+
+			System.out.println("SHARED FILE BENCHMARK (" + processes + " PROCESSES x " + threads + " THREADS x " + iterations + " ITERATIONS)");
+			System.out.println();
+			runBenchmark("unbuffered", false, processes, threads, iterations);
+			runBenchmark("buffered", true, processes, threads, iterations);
+		}
+	}
+
+	private static void runBenchmark(final String name, final boolean buffered, final int processes, final int threads, final int iterations)
+			throws Exception {
+		File file = File.createTempFile("log", ".txt");
+		file.deleteOnExit();
+
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		String classpath = System.getProperty("java.class.path");
+
+		long start = System.currentTimeMillis();
+
+		List<Process> workers = new ArrayList<>();
+		for (int i = 0; i < processes; ++i) {
+			ProcessBuilder builder = new ProcessBuilder(java, "-cp", classpath, SharedFileApplication.class.getName(), WORKER_ARGUMENT,
+					file.getAbsolutePath(), Boolean.toString(buffered), Integer.toString(threads), Integer.toString(iterations));
+			builder.inheritIO();
+			workers.add(builder.start());
+		}
+
+		for (Process worker : workers) {
+			if (worker.waitFor() != 0) {
+				System.err.println("Worker process failed with exit code " + worker.exitValue());
+				System.exit(-1);
+			}
+		}
+
+		long time = System.currentTimeMillis() - start;
+
+		long expected = (long) processes * threads * iterations;
+		long lines = countValidLines(file);
+		if (lines != expected) {
+			System.err.println(name + ": " + lines + " valid lines have been written, but " + expected + " lines expected");
+		}
+
+		System.out.println(name + ": " + time + " ms (" + expected * 1000L / Math.max(1L, time) + " entries per second)");
+		file.delete();
+	}
+
+	private static void runWorker(final String filename, final boolean buffered, final int threads, final int iterations) throws Exception {
+		Configurator.defaultConfig().writer(new SharedFileWriter(filename, true, buffered)).level(Level.INFO).formatPattern("{thread}: {message}")
+				.activate();
+
+		List<Thread> list = new ArrayList<>();
+		for (int i = 0; i < threads; ++i) {
+			Thread thread = new Thread() {
+
+				@Override
+				public void run() {
+					for (int j = 0; j < iterations; ++j) {
+						Logger.info("Shared file benchmark entry {}", j);
+					}
+				}
+
+			};
+			list.add(thread);
+			thread.start();
+		}
+
+		for (Thread thread : list) {
+			thread.join();
+		}
+
+		Configurator.defaultConfig().activate();
+	}
+
+	private static long countValidLines(final File file) throws Exception {
+		long count = 0L;
+		try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				if (line.contains(": Shared file benchmark entry ")) {
+					++count;
+				}
+			}
+		}
+		return count;
+	}
+
+}
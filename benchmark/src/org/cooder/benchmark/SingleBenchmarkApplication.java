@@ -19,6 +19,7 @@ import java.io.FileReader;
 import java.text.MessageFormat;
 
 import org.pmw.benchmark.benchmarks.Benchmark;
+import org.pmw.benchmark.benchmarks.latency.LatencyBenchmark;
 import org.pmw.benchmark.benchmarks.output.MultiThreadedOutputBenchmark;
 import org.pmw.benchmark.benchmarks.output.SingleThreadedOutputBenchmark;
 import org.pmw.benchmark.benchmarks.prime.MultiThreadedPrimesBenchmark;
@@ -34,8 +35,19 @@ public final class SingleBenchmarkApplication extends AbstractApplication {
 	private static final String ERROR_LINES_COUNT_MESSAGE = "{0} lines have been written, but {1} lines expected";
 	private static final String ERROR_INVALID_LINES_MESSAGE = "Found {0} invalid log entries";
 
+	/**
+	 * Prefix of the line with the measured percentiles of the latency benchmark in the standard output stream.
+	 */
+	static final String LATENCY_RESULT_PREFIX = "LATENCY ";
+
+	/**
+	 * Prefix of the line with allocated bytes, number of issued log entries, number of garbage collections, garbage
+	 * collection time in milliseconds and peak heap usage in bytes in the standard output stream.
+	 */
+	static final String RESOURCES_RESULT_PREFIX = "RESOURCES ";
+
 	public static void main(final String[] arguments) {
-		if (arguments.length != 9) {
+		if (arguments.length != 10) {
 			System.err.println(MainApplication.class.getName() + " should be used");
 			System.exit(-1);
 		} else {
@@ -48,6 +60,7 @@ public final class SingleBenchmarkApplication extends AbstractApplication {
 				int threads = Integer.parseInt(arguments[6]);
 				long iterations = Long.parseLong(arguments[7]);
 				long prime = Long.parseLong(arguments[8]);
+				long rate = Long.parseLong(arguments[9]);
 
 				if ("output".equals(benchmark)) {
 					if ("single-threaded".equals(threadingMode)) {
@@ -55,6 +68,12 @@ public final class SingleBenchmarkApplication extends AbstractApplication {
 					} else if ("multi-threaded".equals(threadingMode)) {
 						execute(new MultiThreadedOutputBenchmark(framework, locationInformation, depth, iterations / threads, threads));
 					}
+				} else if ("latency".equals(benchmark)) {
+					if ("single-threaded".equals(threadingMode)) {
+						execute(new LatencyBenchmark(framework, locationInformation, depth, iterations, 1, rate));
+					} else if ("multi-threaded".equals(threadingMode)) {
+						execute(new LatencyBenchmark(framework, locationInformation, depth, iterations / threads, threads, rate));
+					}
 				} else if ("primes".equals(benchmark)) {
 					if ("single-threaded".equals(threadingMode)) {
 						execute(new SingleThreadedPrimesBenchmark(framework, locationInformation, depth, prime));
@@ -77,11 +96,14 @@ public final class SingleBenchmarkApplication extends AbstractApplication {
 		file.deleteOnExit();
 
 		Framework framework = benchmark.getFramework();
+		ResourceMonitor monitor = new ResourceMonitor();
+		monitor.start();
 		long start = System.currentTimeMillis();
 		framework.init(file);
 		benchmark.run();
 		framework.dispose();
 		long finished = System.currentTimeMillis();
+		monitor.shutdown();
 
 		long totalLines = 0;
 		long invalidLines = 0;
@@ -104,6 +126,12 @@ public final class SingleBenchmarkApplication extends AbstractApplication {
 
 		file.delete();
 
+		if (benchmark instanceof LatencyBenchmark) {
+			System.out.println(LATENCY_RESULT_PREFIX + ((LatencyBenchmark) benchmark).formatPercentiles());
+		}
+		System.out.println(RESOURCES_RESULT_PREFIX + monitor.getAllocatedBytes() + " " + benchmark.countTriggeredLogEntries() + " " + monitor.getCollections()
+				+ " " + monitor.getCollectionTime() + " " + monitor.getPeakHeap());
+
 		System.exit((int) (finished - start));
 	}
 
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.pmw.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.management.ObjectName;
+
+import org.cooder.tinylog.Configuration;
+import org.cooder.tinylog.Configurator;
+import org.cooder.tinylog.Level;
+import org.cooder.tinylog.LogEntry;
+import org.cooder.tinylog.Logger;
+import org.cooder.tinylog.Statistics.Distribution;
+import org.cooder.tinylog.Statistics.Phase;
+import org.cooder.tinylog.writers.LogEntryValue;
+import org.cooder.tinylog.writers.Writer;
+
+/**
+ * Benchmark for the overhead of sampled timing, which compares outputting log entries without timing, with measuring
+ * every 100th log entry and with measuring every log entry. Log entries are rendered but not written, so that the
+ * benchmark is dominated by the call path of the logger. The medians of all measured phases are output after each run.
+ *
+ * <p>
+ * Usage: <code>TimingApplication [threads] [iterations per thread]</code>
+ * </p>
+ */
+public final class TimingApplication {
+
+	private static final int DEFAULT_THREADS = Runtime.getRuntime().availableProcessors();
+	private static final int DEFAULT_ITERATIONS = 1_000_000;
+
+	private static final String MBEAN_NAME = "org.cooder.tinylog:type=Statistics";
+
+	private TimingApplication() {
+	}
+
+	public static void main(final String[] arguments) throws Exception {
+		int threads = arguments.length > 0 ? Integer.parseInt(arguments[0]) : DEFAULT_THREADS;
+		int iterations = arguments.length > 1 ? Integer.parseInt(arguments[1]) : DEFAULT_ITERATIONS;
+
+		System.out.println("TIMING BENCHMARK (" + threads + " THREADS x " + iterations + " ITERATIONS)");
+		System.out.println();
+
+		/* Warm up, so that all code paths are compiled before measuring */
+		runBenchmark(null, 0, threads, iterations / 10);
+		runBenchmark(null, 1, threads, iterations / 10);
+
+		runBenchmark("without timing", 0, threads, iterations);
+		runBenchmark("every 100th entry", 100, threads, iterations);
+		runBenchmark("every entry", 1, threads, iterations);
+	}
+
+	private static void runBenchmark(final String name, final int interval, final int threads, final int iterations) throws Exception {
+		Configurator.defaultConfig().writer(new DiscardingWriter()).level(Level.INFO).formatPattern("{date} [{thread}] {class}.{method}(): {message}")
+				.timing(interval).activate();
+
+		/* Timing of previous runs has to be discarded (the MBean is registered as soon as timing is enabled) */
+		if (interval > 0) {
+			ManagementFactory.getPlatformMBeanServer().invoke(new ObjectName(MBEAN_NAME), "reset", null, null);
+		}
+
+		long start = System.currentTimeMillis();
+
+		List<Thread> list = new ArrayList<>();
+		for (int i = 0; i < threads; ++i) {
+			Thread thread = new Thread() {
+
+				@Override
+				public void run() {
+					for (int j = 0; j < iterations; ++j) {
+						Logger.info("Timing benchmark entry {}", j);
+					}
+				}
+
+			};
+			list.add(thread);
+			thread.start();
+		}
+
+		for (Thread thread : list) {
+			thread.join();
+		}
+
+		long time = System.currentTimeMillis() - start;
+		Map<Phase, Distribution> timings = Logger.getStatistics().getTimings();
+		Configurator.defaultConfig().activate();
+
+		if (name != null) {
+			long expected = (long) threads * iterations;
+			System.out.println(name + ": " + time + " ms (" + expected * 1000L / Math.max(1L, time) + " entries per second)");
+			if (interval > 0) {
+				StringBuilder builder = new StringBuilder("    medians in ns:");
+				for (Map.Entry<Phase, Distribution> entry : timings.entrySet()) {
+					builder.append(" ").append(entry.getKey()).append(" ").append(entry.getValue().getMedian());
+				}
+				System.out.println(builder);
+			}
+		}
+	}
+
+	/**
+	 * Writer, which requires a rendered log entry but discards it.
+	 */
+	private static final class DiscardingWriter implements Writer {
+
+		@Override
+		public Set<LogEntryValue> getRequiredLogEntryValues() {
+			return EnumSet.of(LogEntryValue.RENDERED_LOG_ENTRY);
+		}
+
+		@Override
+		public void init(final Configuration configuration) {
+			// Nothing to do
+		}
+
+		@Override
+		public void write(final LogEntry logEntry) {
+			// Discard log entry
+		}
+
+		@Override
+		public void flush() {
+			// Nothing to do
+		}
+
+		@Override
+		public void close() {
+			// Nothing to do
+		}
+
+	}
+
+}
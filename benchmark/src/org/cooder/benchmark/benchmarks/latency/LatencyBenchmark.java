@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.pmw.benchmark.benchmarks.latency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.pmw.benchmark.benchmarks.output.AbstractOutputBenchmark;
+import org.pmw.benchmark.frameworks.Framework;
+
+/**
+ * Benchmark, which issues log entries at a fixed target rate and records the latency of each call. The latency is
+ * measured from the intended start time of a call according to the schedule and not from the actual start time.
+ * Thereby, stalls are not hidden by delaying subsequent calls (correction of coordinated omission).
+ *
+ * Each call writes a number as trace, debug, info, warning and error log entry, exactly like the output benchmark.
+ * The first tenth of the iterations is executed for warming up and not recorded.
+ */
+public final class LatencyBenchmark extends AbstractOutputBenchmark {
+
+	private static final double[] PERCENTILES = new double[] { 50d, 90d, 99d, 99.9d, 99.99d };
+	private static final String[] LABELS = new String[] { "p50", "p90", "p99", "p99.9", "p99.99", "max" };
+	private static final long SPIN_THRESHOLD = TimeUnit.MICROSECONDS.toNanos(100);
+
+	private final long iterations;
+	private final long warmUpIterations;
+	private final int threads;
+	private final long interval;
+	private final LatencyHistogram histogram;
+
+	/**
+	 * @param framework
+	 *            Logging framework to benchmark
+	 * @param locationInformation
+	 *            Include location information in format pattern
+	 * @param depth
+	 *            Amount of additional stack trace depth
+	 * @param iterations
+	 *            Number of recorded calls per thread
+	 * @param threads
+	 *            Number of parallel threads
+	 * @param rate
+	 *            Target rate of calls per second over all threads
+	 */
+	public LatencyBenchmark(final Framework framework, final boolean locationInformation, final int depth, final long iterations, final int threads,
+			final long rate) {
+		super(framework, locationInformation, depth);
+		this.iterations = iterations;
+		this.warmUpIterations = iterations / 10;
+		this.threads = threads;
+		this.interval = Math.max(1L, TimeUnit.SECONDS.toNanos(1) * threads / rate);
+		this.histogram = new LatencyHistogram();
+	}
+
+	@Override
+	public long countTriggeredLogEntries() {
+		return threads * (warmUpIterations + iterations) * 5L; // TRACE, DEBUG, INFO, WARNING and ERROR
+	}
+
+	@Override
+	public long countWrittenLogEntries() {
+		return threads * (warmUpIterations + iterations) * 3L; // INFO, WARNING and ERROR will be output
+	}
+
+	@Override
+	public void run() throws Exception {
+		final List<LoggingThread> loggingThreads = new ArrayList<LoggingThread>(threads);
+
+		for (int i = 0; i < threads; ++i) {
+			LoggingThread loggingThread = new LoggingThread("logging-" + i);
+			loggingThreads.add(loggingThread);
+			loggingThread.start();
+		}
+
+		for (int i = threads - 1; i >= 0; --i) {
+			LoggingThread loggingThread = loggingThreads.get(i);
+			while (true) {
+				try {
+					loggingThread.join();
+					break;
+				} catch (InterruptedException ex) {
+					// Continue
+				}
+			}
+			if (loggingThread.exception != null) {
+				throw loggingThread.exception;
+			}
+			histogram.add(loggingThread.histogram);
+		}
+	}
+
+	/**
+	 * Get the recorded latencies of all threads.
+	 *
+	 * @return Merged histogram
+	 */
+	public LatencyHistogram getHistogram() {
+		return histogram;
+	}
+
+	/**
+	 * Create a single line with the 50th, 90th, 99th, 99.9th and 99.99th percentile as well as the maximum latency in
+	 * nanoseconds, separated by spaces.
+	 *
+	 * @return Formatted percentiles
+	 */
+	public String formatPercentiles() {
+		StringBuilder builder = new StringBuilder();
+		for (double percentile : PERCENTILES) {
+			builder.append(histogram.getPercentile(percentile)).append(' ');
+		}
+		builder.append(histogram.getMaximum());
+		return builder.toString();
+	}
+
+	/**
+	 * Get the labels of the values of {@link #formatPercentiles()}.
+	 *
+	 * @return Labels like "p50" or "max"
+	 */
+	public static String[] getPercentileLabels() {
+		return LABELS.clone();
+	}
+
+	private void write(final int stackTraceDepth, final LatencyHistogram histogram) throws Exception {
+		if (stackTraceDepth <= 0) {
+			long next = System.nanoTime();
+			for (long i = 0; i < warmUpIterations + iterations; ++i) {
+				waitUntil(next);
+				framework.write(i + 1);
+				if (i >= warmUpIterations) {
+					histogram.record(System.nanoTime() - next);
+				}
+				next += interval;
+			}
+		} else {
+			write(stackTraceDepth - 1, histogram);
+		}
+	}
+
+	private static void waitUntil(final long time) {
+		for (long remaining = time - System.nanoTime(); remaining > 0; remaining = time - System.nanoTime()) {
+			if (remaining > SPIN_THRESHOLD) {
+				LockSupport.parkNanos(remaining - SPIN_THRESHOLD);
+			}
+		}
+	}
+
+	private class LoggingThread extends Thread {
+
+		private final LatencyHistogram histogram;
+		private volatile Exception exception;
+
+		public LoggingThread(final String name) {
+			super(name);
+			this.histogram = new LatencyHistogram();
+		}
+
+		@Override
+		public void run() {
+			try {
+				write(getAdditionStackTraceDepth(), histogram);
+			} catch (Exception ex) {
+				exception = ex;
+			}
+		}
+
+	}
+
+}
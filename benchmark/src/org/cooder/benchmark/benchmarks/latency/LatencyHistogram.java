@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.pmw.benchmark.benchmarks.latency;
+
+/**
+ * Histogram for latencies in nanoseconds with a relative precision of about 3%. Values below 64 ns have their own
+ * buckets, larger values are assigned to one of 32 linear sub-buckets of their power of two. A histogram is not
+ * thread-safe and should be used by a single thread only.
+ */
+public final class LatencyHistogram {
+
+	private static final int PRECISION = 5;
+	private static final int SUB_BUCKETS = 1 << PRECISION;
+	private static final long HIGHEST_TRACKABLE = (1L << 40) - 1L; // ~ 18 minutes
+
+	private final long[] buckets;
+	private long count;
+	private long maximum;
+
+	public LatencyHistogram() {
+		buckets = new long[index(HIGHEST_TRACKABLE) + 1];
+	}
+
+	/**
+	 * Record a latency.
+	 *
+	 * @param nanoseconds
+	 *            Latency in nanoseconds
+	 */
+	public void record(final long nanoseconds) {
+		long value = Math.max(0L, nanoseconds);
+		++buckets[index(Math.min(value, HIGHEST_TRACKABLE))];
+		++count;
+		maximum = Math.max(maximum, value);
+	}
+
+	/**
+	 * Add all recorded latencies of another histogram.
+	 *
+	 * @param other
+	 *            Histogram to add
+	 */
+	public void add(final LatencyHistogram other) {
+		for (int i = 0; i < buckets.length; ++i) {
+			buckets[i] += other.buckets[i];
+		}
+		count += other.count;
+		maximum = Math.max(maximum, other.maximum);
+	}
+
+	/**
+	 * Get the number of recorded latencies.
+	 *
+	 * @return Number of latencies
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Get the highest recorded latency.
+	 *
+	 * @return Maximum latency in nanoseconds
+	 */
+	public long getMaximum() {
+		return maximum;
+	}
+
+	/**
+	 * Get a percentile. The result is the upper bound of the bucket, which contains the percentile, but never larger
+	 * than the maximum.
+	 *
+	 * @param percentile
+	 *            Percentile between 0 and 100
+	 * @return Latency in nanoseconds
+	 */
+	public long getPercentile(final double percentile) {
+		long rank = (long) Math.ceil(percentile / 100d * count);
+		long sum = 0L;
+		for (int i = 0; i < buckets.length; ++i) {
+			sum += buckets[i];
+			if (sum >= Math.max(1L, rank)) {
+				return Math.min(upperBound(i), maximum);
+			}
+		}
+		return maximum;
+	}
+
+	private static int index(final long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		} else {
+			int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+			return ((exponent - PRECISION + 1) << PRECISION) + (int) ((value >>> (exponent - PRECISION)) & (SUB_BUCKETS - 1));
+		}
+	}
+
+	private static long upperBound(final int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		} else {
+			int shift = (index >> PRECISION) - 1;
+			long lower = ((long) SUB_BUCKETS + (index & (SUB_BUCKETS - 1))) << shift;
+			return lower + ((1L << shift) - 1L);
+		}
+	}
+
+}
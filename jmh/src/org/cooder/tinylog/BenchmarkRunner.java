@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runner for all JMH benchmarks. In addition to the passed JMH command line options, the GC profiler is always
+ * enabled. It reports the allocation rate per operation ("gc.alloc.rate.norm") as well as the number and time of
+ * garbage collections, so that allocation regressions become visible next to throughput regressions.
+ *
+ * <p>
+ * Usage: <code>java -jar target/benchmarks.jar [JMH options] [benchmark regex]</code>
+ * </p>
+ */
+public final class BenchmarkRunner {
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(final String[] arguments) throws Exception {
+		Options options = new OptionsBuilder().parent(new CommandLineOptions(arguments)).addProfiler(GCProfiler.class).build();
+		new Runner(options).run();
+	}
+
+}
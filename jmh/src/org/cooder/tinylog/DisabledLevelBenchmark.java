@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for the costs of issuing log entries for a disabled severity level. Without custom severity levels, log
+ * entries are discarded by the fast check in {@link Logger}. With custom severity levels for other packages, the
+ * severity level of the calling class has to be resolved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DisabledLevelBenchmark {
+
+	/**
+	 * Defines whether there is a custom severity level for another package, which enables trace log entries.
+	 */
+	@Param({ "false", "true" })
+	public boolean customLevel;
+
+	private int value;
+
+	/**
+	 * Activate a configuration with the global severity level INFO.
+	 */
+	@Setup
+	public void init() {
+		Configurator configurator = Configurator.defaultConfig().writer(new DiscardingWriter()).level(Level.INFO);
+		if (customLevel) {
+			configurator.level("org.cooder.other", Level.TRACE);
+		}
+		configurator.activate();
+		value = 42;
+	}
+
+	/**
+	 * Restore the default configuration.
+	 */
+	@TearDown
+	public void release() {
+		Configurator.defaultConfig().activate();
+	}
+
+	/**
+	 * Issue a trace log entry with a plain text message.
+	 */
+	@Benchmark
+	public void plainText() {
+		Logger.trace("Hello World!");
+	}
+
+	/**
+	 * Issue a trace log entry with a message with placeholders.
+	 */
+	@Benchmark
+	public void placeholder() {
+		Logger.trace("Hello {}!", value);
+	}
+
+	/**
+	 * Issue a trace log entry with a lazy message.
+	 */
+	@Benchmark
+	public void supplier() {
+		Logger.trace(() -> "Hello " + value + "!");
+	}
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.cooder.tinylog.writers.LogEntryValue;
+import org.cooder.tinylog.writers.Writer;
+
+/**
+ * Writer, which requires a rendered log entry but discards it. Thereby benchmarks measure only the costs of tinylog
+ * itself and not of any I/O.
+ */
+final class DiscardingWriter implements Writer {
+
+	@Override
+	public Set<LogEntryValue> getRequiredLogEntryValues() {
+		return EnumSet.of(LogEntryValue.RENDERED_LOG_ENTRY);
+	}
+
+	@Override
+	public void init(final Configuration configuration) {
+		// Nothing to do
+	}
+
+	@Override
+	public void write(final LogEntry logEntry) {
+		// Discard log entry
+	}
+
+	@Override
+	public void flush() {
+		// Nothing to do
+	}
+
+	@Override
+	public void close() {
+		// Nothing to do
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for resolving the severity level of a class by {@link Configuration#getLevel(String)} with a varying
+ * number of custom severity levels for packages.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelBenchmark {
+
+	/**
+	 * Number of custom severity levels.
+	 */
+	@Param({ "0", "1", "10", "100" })
+	public int customLevels;
+
+	private Configuration configuration;
+
+	/**
+	 * Create a configuration with custom severity levels for sibling packages of the looked up class.
+	 */
+	@Setup
+	public void init() {
+		Configurator configurator = Configurator.defaultConfig().level(Level.INFO);
+		for (int i = 0; i < customLevels; ++i) {
+			configurator.level("org.cooder.application.module" + i, Level.DEBUG);
+		}
+		configuration = configurator.create();
+	}
+
+	/**
+	 * Resolve the severity level of a class in a package with a custom severity level.
+	 *
+	 * @return Severity level
+	 */
+	@Benchmark
+	public Level matchingClass() {
+		return configuration.getLevel("org.cooder.application.module0.service.Example");
+	}
+
+	/**
+	 * Resolve the severity level of a class in a package without any custom severity level.
+	 *
+	 * @return Severity level
+	 */
+	@Benchmark
+	public Level otherClass() {
+		return configuration.getLevel("org.cooder.other.service.Example");
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for formatting messages with placeholders by {@link MessageFormatter}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageFormatterBenchmark {
+
+	/**
+	 * Number of arguments, which are inserted into the message.
+	 */
+	@Param({ "0", "1", "2", "3", "4", "5" })
+	public int arguments;
+
+	private String message;
+	private Object[] values;
+
+	/**
+	 * Create a message with placeholders and the matching arguments of different types.
+	 */
+	@Setup
+	public void init() {
+		Object[] candidates = new Object[] { "Hello", 42, 3.14d, Boolean.TRUE, 'x' };
+		StringBuilder builder = new StringBuilder("Message");
+		values = new Object[arguments];
+		for (int i = 0; i < arguments; ++i) {
+			builder.append(" {}");
+			values[i] = candidates[i];
+		}
+		message = builder.toString();
+	}
+
+	/**
+	 * Format the message.
+	 *
+	 * @return Formatted message
+	 */
+	@Benchmark
+	public String format() {
+		return MessageFormatter.format(message, values);
+	}
+
+}
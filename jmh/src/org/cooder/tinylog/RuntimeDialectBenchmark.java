@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog;
+
+import java.util.concurrent.TimeUnit;
+
+import org.cooder.tinylog.runtime.RuntimeDialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for resolving the caller by the runtime dialect of the current JVM. The costs of stack trace walking
+ * usually grow with the depth of the stack, so that the lookups are executed with additional stack frames below.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuntimeDialectBenchmark {
+
+	private static final RuntimeDialect dialect = EnvironmentHelper.getRuntimeDialect();
+
+	/**
+	 * Number of additional stack frames.
+	 */
+	@Param({ "0", "50" })
+	public int frames;
+
+	/**
+	 * Get the class name of the caller.
+	 *
+	 * @return Fully-qualified class name
+	 */
+	@Benchmark
+	public String className() {
+		return getClassName(frames);
+	}
+
+	/**
+	 * Get the complete stack trace element of the caller.
+	 *
+	 * @return Stack trace element
+	 */
+	@Benchmark
+	public StackTraceElement stackTraceElement() {
+		return getStackTraceElement(frames);
+	}
+
+	private static String getClassName(final int remaining) {
+		return remaining == 0 ? dialect.getClassName(1) : getClassName(remaining - 1);
+	}
+
+	private static StackTraceElement getStackTraceElement(final int remaining) {
+		return remaining == 0 ? dialect.getStackTraceElement(1) : getStackTraceElement(remaining - 1);
+	}
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for rendering single tokens of format patterns, which have been created by {@link Tokenizer}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenBenchmark {
+
+	/**
+	 * Format pattern with a single token.
+	 */
+	@Param({ "{date}", "{date:HH:mm:ss.SSS}", "{pid}", "{thread}", "{thread_id}", "{context:user}", "{class}", "{class_name}", "{package}",
+			"{method}", "{file}", "{line}", "{level}", "{message}", "{message|min-size=64}", "plain text" })
+	public String pattern;
+
+	private List<Token> tokens;
+	private LogEntry logEntry;
+	private StringBuilder builder;
+
+	/**
+	 * Parse the format pattern and create a log entry with all values.
+	 */
+	@Setup
+	public void init() {
+		tokens = new Tokenizer(Locale.ROOT, Integer.MAX_VALUE).parse(pattern);
+		logEntry = new PreciseLogEntry(Instant.now(), "1234", Thread.currentThread(), Collections.singletonMap("user", "admin"),
+				"org.cooder.tinylog.TokenBenchmark", "render", "TokenBenchmark.java", 42, Level.INFO, "Hello World!", null);
+		builder = new StringBuilder(1024);
+	}
+
+	/**
+	 * Render the tokens of the format pattern.
+	 *
+	 * @return Rendered text
+	 */
+	@Benchmark
+	public StringBuilder render() {
+		builder.setLength(0);
+		for (Token token : tokens) {
+			token.render(logEntry, builder);
+		}
+		return builder;
+	}
+
+}
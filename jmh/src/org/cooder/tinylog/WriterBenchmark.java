@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.cooder.tinylog.policies.SizePolicy;
+import org.cooder.tinylog.writers.BinaryWriter;
+import org.cooder.tinylog.writers.CollectorWriter;
+import org.cooder.tinylog.writers.FileWriter;
+import org.cooder.tinylog.writers.JdbcWriter;
+import org.cooder.tinylog.writers.LogCollector;
+import org.cooder.tinylog.writers.RollingFileWriter;
+import org.cooder.tinylog.writers.SharedFileWriter;
+import org.cooder.tinylog.writers.Writer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for the write path of writers. Each measurement iteration writes into a new log file or database, so
+ * that the size of log files is limited to a single iteration. The console writer is not benchmarked, as JMH uses
+ * the standard output stream for reporting, and logcat is only available on Android.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WriterBenchmark {
+
+	/**
+	 * Writer to benchmark.
+	 */
+	@Param({ "file", "buffered file", "rolling file", "shared file", "binary", "jdbc", "collector" })
+	public String writer;
+
+	private File file;
+	private Connection connection;
+	private LogCollector collector;
+	private Writer instance;
+	private LogEntry logEntry;
+
+	/**
+	 * Create and initialize the writer.
+	 *
+	 * @throws Exception
+	 *             Failed to create writer
+	 */
+	@Setup(org.openjdk.jmh.annotations.Level.Iteration)
+	public void init() throws Exception {
+		file = File.createTempFile("benchmark", ".log");
+		file.deleteOnExit();
+
+		instance = createWriter();
+		instance.init(Configurator.defaultConfig().create());
+
+		logEntry = new PreciseLogEntry(Instant.now(), "1234", Thread.currentThread(), Collections.<String, String> emptyMap(),
+				"org.cooder.tinylog.WriterBenchmark", "write", "WriterBenchmark.java", 42, Level.INFO, "Hello 42!", null);
+		logEntry.setRawMessage("Hello {}!", new Object[] { 42 });
+		logEntry.setRenderedLogEntry("2017-01-01 12:00:00 [main] org.cooder.tinylog.WriterBenchmark.write()\nINFO: Hello 42!\n");
+	}
+
+	/**
+	 * Close the writer and delete all created resources.
+	 *
+	 * @throws Exception
+	 *             Failed to close the writer
+	 */
+	@TearDown(org.openjdk.jmh.annotations.Level.Iteration)
+	public void release() throws Exception {
+		instance.close();
+
+		if (collector != null) {
+			collector.stop();
+			collector = null;
+		}
+
+		if (connection != null) {
+			connection.close();
+			connection = null;
+		}
+
+		file.delete();
+	}
+
+	/**
+	 * Write a single log entry.
+	 *
+	 * @throws Exception
+	 *             Failed to write log entry
+	 */
+	@Benchmark
+	public void write() throws Exception {
+		instance.write(logEntry);
+	}
+
+	private Writer createWriter() throws Exception {
+		String path = file.getAbsolutePath();
+
+		if ("file".equals(writer)) {
+			return new FileWriter(path, false);
+		} else if ("buffered file".equals(writer)) {
+			return new FileWriter(path, true);
+		} else if ("rolling file".equals(writer)) {
+			return new RollingFileWriter(path, 1, true, new SizePolicy(64L * 1024L * 1024L));
+		} else if ("shared file".equals(writer)) {
+			return new SharedFileWriter(path, true, true);
+		} else if ("binary".equals(writer)) {
+			return new BinaryWriter(path, true);
+		} else if ("jdbc".equals(writer)) {
+			String url = "jdbc:h2:mem:benchmark" + System.nanoTime();
+			/* In-memory database lives as long as at least one connection is open */
+			connection = DriverManager.getConnection(url);
+			try (Statement statement = connection.createStatement()) {
+				statement.executeUpdate("CREATE TABLE log (date TIMESTAMP, level VARCHAR(8), message VARCHAR(1024))");
+			}
+			return new JdbcWriter(url, "LOG", Arrays.asList(JdbcWriter.Value.DATE, JdbcWriter.Value.LEVEL, JdbcWriter.Value.MESSAGE), true);
+		} else if ("collector".equals(writer)) {
+			String address = Integer.toString(findFreePort());
+			collector = new LogCollector(address, path);
+			collector.start();
+			return new CollectorWriter(address);
+		} else {
+			throw new IllegalArgumentException("Unknown writer \"" + writer + "\"");
+		}
+	}
+
+	private static int findFreePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.cooder.tinylog.writers.Writer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for enqueuing log entries into {@link WritingThread} by one and by multiple application threads, while
+ * the writing thread drains the queue concurrently.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WritingThreadBenchmark {
+
+	private WritingThread writingThread;
+	private Writer writer;
+	private LogEntry logEntry;
+
+	/**
+	 * Start the writing thread.
+	 */
+	@Setup
+	public void init() {
+		writingThread = new WritingThread(null, Thread.NORM_PRIORITY);
+		writingThread.start();
+
+		writer = new DiscardingWriter();
+		logEntry = new PreciseLogEntry(Instant.now(), "1234", Thread.currentThread(), Collections.<String, String> emptyMap(),
+				"org.cooder.tinylog.WritingThreadBenchmark", "put", "WritingThreadBenchmark.java", 42, Level.INFO, "Hello World!", null);
+	}
+
+	/**
+	 * Shutdown the writing thread.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the writing thread
+	 */
+	@TearDown
+	public void release() throws InterruptedException {
+		writingThread.shutdown();
+		writingThread.join();
+	}
+
+	/**
+	 * Enqueue a log entry by a single application thread.
+	 */
+	@Benchmark
+	@Threads(1)
+	public void uncontended() {
+		writingThread.putLogEntry(writer, logEntry);
+	}
+
+	/**
+	 * Enqueue a log entry by four concurrent application threads.
+	 */
+	@Benchmark
+	@Threads(4)
+	public void contended() {
+		writingThread.putLogEntry(writer, logEntry);
+	}
+
+}
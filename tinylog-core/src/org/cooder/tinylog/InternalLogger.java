@@ -13,6 +13,8 @@
 
 package org.cooder.tinylog;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Static logger for logging internal problems of tinylog.
  *
@@ -23,6 +25,9 @@ public final class InternalLogger {
 	private static final String PREFIX_WARNING = "LOGGER WARNING: ";
 	private static final String PREFIX_ERROR = "LOGGER ERROR: ";
 
+	private static final AtomicLong WARNINGS = new AtomicLong();
+	private static final AtomicLong ERRORS = new AtomicLong();
+
 	private static volatile String lastLogEntry = null;
 
 	private InternalLogger() {
@@ -35,6 +40,7 @@ public final class InternalLogger {
 	 *            Text to log
 	 */
 	public static void warn(final String message) {
+		WARNINGS.incrementAndGet();
 		String logEntry = PREFIX_WARNING + message;
 		if (!logEntry.equals(lastLogEntry)) {
 			System.err.println(logEntry);
@@ -107,6 +113,7 @@ public final class InternalLogger {
 	 *            Text to log
 	 */
 	public static void error(final String message) {
+		ERRORS.incrementAndGet();
 		String logEntry = PREFIX_ERROR + message;
 		if (!logEntry.equals(lastLogEntry)) {
 			System.err.println(logEntry);
@@ -172,4 +179,22 @@ public final class InternalLogger {
 		error(exception, MessageFormatter.format(message, arguments));
 	}
 
+	/**
+	 * Get the number of internal warnings, which have been logged so far (including suppressed repetitions).
+	 *
+	 * @return Number of warnings
+	 */
+	public static long getWarningCount() {
+		return WARNINGS.get();
+	}
+
+	/**
+	 * Get the number of internal errors, which have been logged so far (including suppressed repetitions).
+	 *
+	 * @return Number of errors
+	 */
+	public static long getErrorCount() {
+		return ERRORS.get();
+	}
+
 }
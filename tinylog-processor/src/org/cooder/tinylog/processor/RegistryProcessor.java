@@ -0,0 +1,349 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that generates an {@code org.cooder.tinylog.ImplementationRegistry} for each package with
+ * writers, labelers or policies annotated with {@code PropertiesSupport}.
+ *
+ * <p>
+ * The generated class is named {@value #REGISTRY_NAME} and lives in the same package as the annotated classes, as it
+ * must be able to call package private constructors. All generated registries are listed in
+ * "META-INF/services/org.cooder.tinylog". Classes that cannot be created by generated code (for example private
+ * classes or classes with private constructors) are skipped and will be still found by reflection at runtime.
+ * </p>
+ */
+@SupportedAnnotationTypes({ RegistryProcessor.WRITER_ANNOTATION, RegistryProcessor.LABELER_ANNOTATION, RegistryProcessor.POLICY_ANNOTATION })
+public final class RegistryProcessor extends AbstractProcessor {
+
+	/**
+	 * Simple name of generated registry classes.
+	 */
+	static final String REGISTRY_NAME = "GeneratedRegistry";
+
+	static final String WRITER_ANNOTATION = "org.cooder.tinylog.writers.PropertiesSupport";
+	static final String LABELER_ANNOTATION = "org.cooder.tinylog.labelers.PropertiesSupport";
+	static final String POLICY_ANNOTATION = "org.cooder.tinylog.policies.PropertiesSupport";
+
+	private static final String REGISTRY_INTERFACE = "org.cooder.tinylog.ImplementationRegistry";
+	private static final String SERVICES_FILE = "META-INF/services/org.cooder.tinylog";
+
+	private final List<String> registries = new ArrayList<String>();
+
+	/** */
+	public RegistryProcessor() {
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
+		Map<String, Registry> packages = new LinkedHashMap<String, Registry>();
+
+		for (TypeElement annotation : annotations) {
+			String annotationName = annotation.getQualifiedName().toString();
+			String interfaceName = annotationName.substring(0, annotationName.lastIndexOf('.')) + "." + getInterfaceName(annotationName);
+			TypeElement interfaceElement = processingEnv.getElementUtils().getTypeElement(interfaceName);
+
+			for (TypeElement type : ElementFilter.typesIn(roundEnvironment.getElementsAnnotatedWith(annotation))) {
+				if (isSupported(type, interfaceElement)) {
+					String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+					Registry registry = packages.get(packageName);
+					if (registry == null) {
+						registry = new Registry(packageName);
+						packages.put(packageName, registry);
+					}
+					registry.add(annotationName, getName(type, annotation), type);
+				}
+			}
+		}
+
+		for (Registry registry : packages.values()) {
+			try {
+				registry.write();
+				registries.add(registry.getClassName());
+			} catch (IOException ex) {
+				processingEnv.getMessager().printMessage(Kind.WARNING, "Failed to generate " + registry.getClassName() + ": " + ex.getMessage());
+			}
+		}
+
+		if (roundEnvironment.processingOver() && !registries.isEmpty()) {
+			try {
+				FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICES_FILE);
+				Writer writer = file.openWriter();
+				try {
+					for (String registry : registries) {
+						writer.write(registry);
+						writer.write("\n");
+					}
+				} finally {
+					writer.close();
+				}
+			} catch (IOException ex) {
+				processingEnv.getMessager().printMessage(Kind.WARNING, "Failed to generate " + SERVICES_FILE + ": " + ex.getMessage());
+			}
+		}
+
+		return false;
+	}
+
+	private static String getInterfaceName(final String annotationName) {
+		if (WRITER_ANNOTATION.equals(annotationName)) {
+			return "Writer";
+		} else if (LABELER_ANNOTATION.equals(annotationName)) {
+			return "Labeler";
+		} else {
+			return "Policy";
+		}
+	}
+
+	private boolean isSupported(final TypeElement type, final TypeElement interfaceElement) {
+		if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+			return false;
+		}
+
+		if (interfaceElement == null || !processingEnv.getTypeUtils().isAssignable(type.asType(),
+				processingEnv.getTypeUtils().erasure(interfaceElement.asType()))) {
+			return false;
+		}
+
+		for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+			TypeElement typeElement = (TypeElement) element;
+			if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+				return false;
+			} else if (typeElement.getNestingKind() == NestingKind.LOCAL || typeElement.getNestingKind() == NestingKind.ANONYMOUS) {
+				return false;
+			} else if (typeElement.getNestingKind() == NestingKind.MEMBER && !typeElement.getModifiers().contains(Modifier.STATIC)) {
+				return false;
+			}
+		}
+
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+			if (constructor.getModifiers().contains(Modifier.PRIVATE)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static String getName(final TypeElement type, final TypeElement annotation) {
+		for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+			if (mirror.getAnnotationType().asElement().equals(annotation)) {
+				for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+					if ("name".contentEquals(entry.getKey().getSimpleName())) {
+						return (String) entry.getValue().getValue();
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	private static String quote(final String text) {
+		StringBuilder builder = new StringBuilder("\"");
+		for (int i = 0; i < text.length(); ++i) {
+			char character = text.charAt(i);
+			if (character == '"' || character == '\\') {
+				builder.append('\\').append(character);
+			} else if (character < ' ' || character > '~') {
+				builder.append(String.format("\\u%04x", (int) character));
+			} else {
+				builder.append(character);
+			}
+		}
+		return builder.append('"').toString();
+	}
+
+	/**
+	 * Registered classes of a single package.
+	 */
+	private final class Registry {
+
+		private final String packageName;
+		private final Map<String, Map<String, TypeElement>> implementations;
+
+		private Registry(final String packageName) {
+			this.packageName = packageName;
+			this.implementations = new LinkedHashMap<String, Map<String, TypeElement>>();
+			this.implementations.put(WRITER_ANNOTATION, new LinkedHashMap<String, TypeElement>());
+			this.implementations.put(LABELER_ANNOTATION, new LinkedHashMap<String, TypeElement>());
+			this.implementations.put(POLICY_ANNOTATION, new LinkedHashMap<String, TypeElement>());
+		}
+
+		private String getClassName() {
+			return packageName.length() == 0 ? REGISTRY_NAME : packageName + "." + REGISTRY_NAME;
+		}
+
+		private void add(final String annotationName, final String name, final TypeElement type) {
+			if (name != null) {
+				implementations.get(annotationName).put(name, type);
+			}
+		}
+
+		private void write() throws IOException {
+			Collection<TypeElement> types = new ArrayList<TypeElement>();
+			for (Map<String, TypeElement> map : implementations.values()) {
+				for (TypeElement type : map.values()) {
+					if (!types.contains(type)) {
+						types.add(type);
+					}
+				}
+			}
+
+			Element[] originatingElements = types.toArray(new Element[types.size()]);
+			PrintWriter writer = new PrintWriter(processingEnv.getFiler().createSourceFile(getClassName(), originatingElements).openWriter());
+			try {
+				if (packageName.length() > 0) {
+					writer.println("package " + packageName + ";");
+					writer.println();
+				}
+				writer.println("/**");
+				writer.println(" * Registry of writers, labelers and policies in this package (generated by " + RegistryProcessor.class.getName() + ").");
+				writer.println(" */");
+				writer.println("public final class " + REGISTRY_NAME + " implements " + REGISTRY_INTERFACE + " {");
+				writer.println();
+				writer.println("\t/** */");
+				writer.println("\tpublic " + REGISTRY_NAME + "() {");
+				writer.println("\t}");
+				writeFind(writer, "findWriter", implementations.get(WRITER_ANNOTATION));
+				writeFind(writer, "findLabeler", implementations.get(LABELER_ANNOTATION));
+				writeFind(writer, "findPolicy", implementations.get(POLICY_ANNOTATION));
+				writeGetConstructors(writer, types);
+				writeCreate(writer, types);
+				writer.println();
+				writer.println("}");
+			} finally {
+				writer.close();
+			}
+		}
+
+		private void writeFind(final PrintWriter writer, final String method, final Map<String, TypeElement> types) {
+			writer.println();
+			writer.println("\t@Override");
+			writer.println("\tpublic Class<?> " + method + "(final String name) {");
+			for (Map.Entry<String, TypeElement> entry : types.entrySet()) {
+				writer.println("\t\tif (" + quote(entry.getKey()) + ".equalsIgnoreCase(name)) {");
+				writer.println("\t\t\treturn " + entry.getValue().getQualifiedName() + ".class;");
+				writer.println("\t\t}");
+			}
+			writer.println("\t\treturn null;");
+			writer.println("\t}");
+		}
+
+		private void writeGetConstructors(final PrintWriter writer, final Collection<TypeElement> types) {
+			writer.println();
+			writer.println("\t@Override");
+			writer.println("\tpublic Class<?>[][] getConstructors(final Class<?> implementation) {");
+			writer.println("\t\tString name = implementation.getName();");
+			for (TypeElement type : types) {
+				writer.println("\t\tif (" + quote(getBinaryName(type)) + ".equals(name)) {");
+				writer.println("\t\t\treturn new Class<?>[][] {");
+				for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+					StringBuilder builder = new StringBuilder();
+					for (VariableElement parameter : constructor.getParameters()) {
+						builder.append(builder.length() == 0 ? " " : ", ");
+						builder.append(getTypeName(parameter.asType())).append(".class");
+					}
+					writer.println("\t\t\t\tnew Class<?>[] {" + builder + (builder.length() == 0 ? "}," : " },"));
+				}
+				writer.println("\t\t\t};");
+				writer.println("\t\t}");
+			}
+			writer.println("\t\tthrow new IllegalArgumentException(\"Unregistered class: \" + name);");
+			writer.println("\t}");
+		}
+
+		private void writeCreate(final PrintWriter writer, final Collection<TypeElement> types) {
+			writer.println();
+			writer.println("\t@Override");
+			writer.println("\t@SuppressWarnings({ \"rawtypes\", \"unchecked\" })");
+			writer.println("\tpublic Object create(final Class<?> implementation, final int constructor, final Object[] arguments) throws Exception {");
+			writer.println("\t\tString name = implementation.getName();");
+			for (TypeElement type : types) {
+				writer.println("\t\tif (" + quote(getBinaryName(type)) + ".equals(name)) {");
+				writer.println("\t\t\tswitch (constructor) {");
+				int index = 0;
+				for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+					StringBuilder builder = new StringBuilder();
+					int argument = 0;
+					for (VariableElement parameter : constructor.getParameters()) {
+						builder.append(argument == 0 ? "" : ", ");
+						builder.append("(").append(getCastName(parameter.asType())).append(") arguments[").append(argument++).append("]");
+					}
+					writer.println("\t\t\t\tcase " + index++ + ":");
+					writer.println("\t\t\t\t\treturn new " + type.getQualifiedName() + "(" + builder + ");");
+				}
+				writer.println("\t\t\t\tdefault:");
+				writer.println("\t\t\t\t\tthrow new IllegalArgumentException(\"Unknown constructor \" + constructor + \" of \" + name);");
+				writer.println("\t\t\t}");
+				writer.println("\t\t}");
+			}
+			writer.println("\t\tthrow new IllegalArgumentException(\"Unregistered class: \" + name);");
+			writer.println("\t}");
+		}
+
+		private String getBinaryName(final TypeElement type) {
+			return processingEnv.getElementUtils().getBinaryName(type).toString();
+		}
+
+		private String getTypeName(final TypeMirror type) {
+			return processingEnv.getTypeUtils().erasure(type).toString();
+		}
+
+		private String getCastName(final TypeMirror type) {
+			if (type.getKind().isPrimitive()) {
+				return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+			} else {
+				return getTypeName(type);
+			}
+		}
+
+	}
+
+}
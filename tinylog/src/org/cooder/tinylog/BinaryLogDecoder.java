@@ -0,0 +1,444 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads log entries from binary log files, which have been written by {@link org.cooder.tinylog.writers.BinaryWriter
+ * BinaryWriter}. Decoded log entries can be rendered by {@link FormatPattern}. Exceptions are restored as instances of
+ * their original classes, if these are available.
+ *
+ * <p>
+ * Binary log files can be converted into text via command line:
+ * <code>java org.cooder.tinylog.BinaryLogDecoder &lt;file&gt; [format pattern] [locale]</code>
+ * </p>
+ */
+public final class BinaryLogDecoder {
+
+	/* Binary format, must be identical to BinaryWriter */
+
+	private static final byte[] MAGIC = new byte[] { 'T', 'L', 'B', 1 };
+
+	private static final int SESSION_RECORD = 0;
+	private static final int STRING_RECORD = 1;
+	private static final int ENTRY_RECORD = 2;
+
+	private static final int DATE_FLAG = 1;
+	private static final int PROCESS_ID_FLAG = 1 << 1;
+	private static final int THREAD_FLAG = 1 << 2;
+	private static final int CONTEXT_FLAG = 1 << 3;
+	private static final int CLASS_FLAG = 1 << 4;
+	private static final int METHOD_FLAG = 1 << 5;
+	private static final int FILE_FLAG = 1 << 6;
+	private static final int LINE_FLAG = 1 << 7;
+	private static final int LEVEL_FLAG = 1 << 8;
+	private static final int TEMPLATE_FLAG = 1 << 9;
+	private static final int MESSAGE_FLAG = 1 << 10;
+	private static final int EXCEPTION_FLAG = 1 << 11;
+
+	private static final int NULL_ARGUMENT = 0;
+	private static final int STRING_ARGUMENT = 1;
+	private static final int INTEGER_ARGUMENT = 2;
+	private static final int LONG_ARGUMENT = 3;
+	private static final int DOUBLE_ARGUMENT = 4;
+	private static final int FLOAT_ARGUMENT = 5;
+	private static final int TRUE_ARGUMENT = 6;
+	private static final int FALSE_ARGUMENT = 7;
+	private static final int CHARACTER_ARGUMENT = 8;
+	private static final int SHORT_ARGUMENT = 9;
+	private static final int BYTE_ARGUMENT = 10;
+	private static final int DECIMAL_ARGUMENT = 11;
+	private static final int OTHER_ARGUMENT = 12;
+
+	/* End of binary format */
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final int MAX_CACHED_THREADS = 1024;
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private final InputStream stream;
+	private final List<String> dictionary;
+	private final Map<String, Thread> threads;
+	private long previousTimestamp;
+
+	/**
+	 * @param stream
+	 *            Binary log file to read
+	 * @throws IOException
+	 *             Failed to read or the stream doesn't contain a binary log file
+	 */
+	public BinaryLogDecoder(final InputStream stream) throws IOException {
+		this.stream = stream instanceof BufferedInputStream ? stream : new BufferedInputStream(stream, BUFFER_SIZE);
+		this.dictionary = new ArrayList<String>();
+		this.threads = new HashMap<String, Thread>();
+
+		for (byte expected : MAGIC) {
+			if (this.stream.read() != expected) {
+				throw new IOException("Unsupported binary log file format");
+			}
+		}
+	}
+
+	/**
+	 * Read the next log entry.
+	 *
+	 * @return Next log entry or <code>null</code> if the end of file has been reached
+	 * @throws IOException
+	 *             Failed to read or log file is corrupt
+	 */
+	public LogEntry read() throws IOException {
+		while (true) {
+			int type = stream.read();
+			if (type == -1) {
+				return null;
+			} else if (type == SESSION_RECORD) {
+				dictionary.clear();
+				threads.clear();
+				previousTimestamp = 0L;
+			} else if (type == STRING_RECORD) {
+				dictionary.add(readString());
+			} else if (type == ENTRY_RECORD) {
+				return readEntry();
+			} else {
+				throw new IOException("Invalid record type " + type);
+			}
+		}
+	}
+
+	/**
+	 * Close the binary log file.
+	 *
+	 * @throws IOException
+	 *             Failed to close the log file
+	 */
+	public void close() throws IOException {
+		stream.close();
+	}
+
+	/**
+	 * Convert a binary log file into text and output it to the standard output stream.
+	 *
+	 * @param arguments
+	 *            Path to the binary log file, optional format pattern and optional locale
+	 * @throws IOException
+	 *             Failed to read the binary log file or to output log entries
+	 */
+	public static void main(final String[] arguments) throws IOException {
+		if (arguments.length == 0 || arguments.length > 3) {
+			System.err.println("Usage: java " + BinaryLogDecoder.class.getName() + " <file> [format pattern] [locale]");
+			System.exit(1);
+			return;
+		}
+
+		String pattern = arguments.length > 1 ? arguments[1] : Configuration.DEFAULT_FORMAT_PATTERN;
+		Locale locale = arguments.length > 2 ? new Locale(arguments[2]) : Locale.getDefault();
+		FormatPattern formatPattern = new FormatPattern(pattern, locale, Configuration.DEFAULT_MAX_STACK_TRACE_ELEMENTS);
+
+		BinaryLogDecoder decoder = new BinaryLogDecoder(new FileInputStream(arguments[0]));
+		BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(System.out), BUFFER_SIZE);
+		try {
+			for (LogEntry logEntry = decoder.read(); logEntry != null; logEntry = decoder.read()) {
+				writer.write(formatPattern.render(logEntry));
+			}
+		} catch (EOFException ex) {
+			System.err.println("Binary log file ends with an incomplete log entry");
+		} finally {
+			decoder.close();
+			writer.flush();
+		}
+	}
+
+	private LogEntry readEntry() throws IOException {
+		int flags = (int) readVarint();
+
+		Date date = null;
+		if ((flags & DATE_FLAG) != 0) {
+			previousTimestamp += readSignedVarint();
+			date = new Date(previousTimestamp);
+		}
+
+		String processId = (flags & PROCESS_ID_FLAG) == 0 ? null : readReference();
+		Thread thread = (flags & THREAD_FLAG) == 0 ? null : readThread();
+
+		Map<String, String> context = null;
+		if ((flags & CONTEXT_FLAG) != 0) {
+			int size = (int) readVarint();
+			context = new HashMap<String, String>(size * 2);
+			for (int i = 0; i < size; ++i) {
+				String key = readReference();
+				context.put(key, readString());
+			}
+			context = Collections.unmodifiableMap(context);
+		}
+
+		String className = (flags & CLASS_FLAG) == 0 ? null : readReference();
+		String methodName = (flags & METHOD_FLAG) == 0 ? null : readReference();
+		String filename = (flags & FILE_FLAG) == 0 ? null : readReference();
+		int lineNumber = (flags & LINE_FLAG) == 0 ? -1 : (int) readSignedVarint();
+		Level level = (flags & LEVEL_FLAG) == 0 ? null : readLevel();
+
+		String template = null;
+		Object[] arguments = null;
+		String message = null;
+		if ((flags & TEMPLATE_FLAG) != 0) {
+			template = readReference();
+			arguments = new Object[(int) readVarint()];
+			for (int i = 0; i < arguments.length; ++i) {
+				arguments[i] = readArgument();
+			}
+			message = MessageFormatter.format(template, arguments);
+		}
+		if ((flags & MESSAGE_FLAG) != 0) {
+			message = readString();
+		}
+
+		Throwable exception = (flags & EXCEPTION_FLAG) == 0 ? null : readException();
+
+		LogEntry logEntry;
+		if (date == null) {
+			logEntry = new UndatedLogEntry(processId, thread, context, className, methodName, filename, lineNumber, level, message, exception);
+		} else {
+			logEntry = new LegacyLogEntry(date, processId, thread, context, className, methodName, filename, lineNumber, level, message, exception);
+		}
+		if (template != null) {
+			logEntry.setRawMessage(template, arguments);
+		}
+		return logEntry;
+	}
+
+	private Thread readThread() throws IOException {
+		String name = readReference();
+		long id = readVarint();
+
+		String key = id + ":" + name;
+		Thread thread = threads.get(key);
+		if (thread == null) {
+			if (threads.size() >= MAX_CACHED_THREADS) {
+				threads.clear();
+			}
+			thread = new DecodedThread(name == null ? "" : name, id);
+			threads.put(key, thread);
+		}
+		return thread;
+	}
+
+	private Level readLevel() throws IOException {
+		int ordinal = readByte();
+		Level[] levels = Level.values();
+		if (ordinal >= levels.length) {
+			throw new IOException("Invalid severity level " + ordinal);
+		}
+		return levels[ordinal];
+	}
+
+	private Object readArgument() throws IOException {
+		int type = readByte();
+		switch (type) {
+			case NULL_ARGUMENT:
+				return null;
+			case STRING_ARGUMENT:
+			case OTHER_ARGUMENT:
+				return readString();
+			case INTEGER_ARGUMENT:
+				return (int) readSignedVarint();
+			case LONG_ARGUMENT:
+				return readSignedVarint();
+			case DOUBLE_ARGUMENT:
+				return Double.longBitsToDouble(readFixed(8));
+			case FLOAT_ARGUMENT:
+				return Float.intBitsToFloat((int) readFixed(4));
+			case TRUE_ARGUMENT:
+				return Boolean.TRUE;
+			case FALSE_ARGUMENT:
+				return Boolean.FALSE;
+			case CHARACTER_ARGUMENT:
+				return (char) readVarint();
+			case SHORT_ARGUMENT:
+				return (short) readSignedVarint();
+			case BYTE_ARGUMENT:
+				return (byte) readSignedVarint();
+			case DECIMAL_ARGUMENT:
+				return new BigDecimal(readString());
+			default:
+				throw new IOException("Invalid argument type " + type);
+		}
+	}
+
+	private Throwable readException() throws IOException {
+		String className = readReference();
+		String message = readString();
+
+		StackTraceElement[] stackTrace = new StackTraceElement[(int) readVarint()];
+		for (int i = 0; i < stackTrace.length; ++i) {
+			String declaringClass = readReference();
+			String methodName = readReference();
+			String filename = readReference();
+			int lineNumber = (int) readSignedVarint();
+			stackTrace[i] = new StackTraceElement(declaringClass, methodName, filename, lineNumber);
+		}
+
+		Throwable exception = createException(className, message);
+		exception.setStackTrace(stackTrace);
+		if (readByte() != 0) {
+			Throwable cause = readException();
+			try {
+				exception.initCause(cause);
+			} catch (IllegalStateException ex) {
+				// Cause has been already set by the constructor of the exception
+			}
+		}
+		return exception;
+	}
+
+	private static Throwable createException(final String className, final String message) {
+		if (className != null) {
+			try {
+				Class<?> clazz = Class.forName(className, false, BinaryLogDecoder.class.getClassLoader());
+				if (Throwable.class.isAssignableFrom(clazz)) {
+					try {
+						return (Throwable) clazz.getConstructor(String.class).newInstance(message);
+					} catch (NoSuchMethodException ex) {
+						if (message == null) {
+							return (Throwable) clazz.getConstructor().newInstance();
+						}
+					}
+				}
+			} catch (Exception ex) {
+				// Original exception class is not available or cannot be instantiated
+			} catch (LinkageError error) {
+				// Original exception class is not available or cannot be initialized
+			}
+		}
+		return new DecodedException(className, message);
+	}
+
+	private String readReference() throws IOException {
+		long id = readVarint();
+		if (id == 0) {
+			return null;
+		} else if (id > dictionary.size()) {
+			throw new IOException("Undefined string reference " + id);
+		} else {
+			return dictionary.get((int) id - 1);
+		}
+	}
+
+	private String readString() throws IOException {
+		long length = readVarint();
+		if (length == 0) {
+			return null;
+		} else if (length > Integer.MAX_VALUE) {
+			throw new IOException("Invalid string length " + length);
+		} else {
+			byte[] bytes = new byte[(int) length - 1];
+			for (int offset = 0; offset < bytes.length;) {
+				int count = stream.read(bytes, offset, bytes.length - offset);
+				if (count == -1) {
+					throw new EOFException();
+				}
+				offset += count;
+			}
+			return new String(bytes, UTF_8);
+		}
+	}
+
+	private long readVarint() throws IOException {
+		long value = 0L;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int current = readByte();
+			value |= (long) (current & 0x7F) << shift;
+			if ((current & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Invalid variable length number");
+	}
+
+	private long readSignedVarint() throws IOException {
+		long value = readVarint();
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private long readFixed(final int bytes) throws IOException {
+		long value = 0L;
+		for (int i = 0; i < bytes; ++i) {
+			value = (value << 8) | readByte();
+		}
+		return value;
+	}
+
+	private int readByte() throws IOException {
+		int value = stream.read();
+		if (value == -1) {
+			throw new EOFException();
+		}
+		return value;
+	}
+
+	/**
+	 * Placeholder for a thread of a decoded log entry.
+	 */
+	private static final class DecodedThread extends Thread {
+
+		private final long id;
+
+		private DecodedThread(final String name, final long id) {
+			super(name);
+			this.id = id;
+		}
+
+		@Override
+		public long getId() {
+			return id;
+		}
+
+	}
+
+	/**
+	 * Placeholder for an exception of a decoded log entry, whose original class is not available or cannot be
+	 * instantiated. The class name of the original exception is kept as part of the message.
+	 */
+	private static final class DecodedException extends Throwable {
+
+		private static final long serialVersionUID = 1L;
+
+		private DecodedException(final String className, final String message) {
+			super(message == null ? className : className + ": " + message);
+		}
+
+		@Override
+		public Throwable fillInStackTrace() {
+			return this;
+		}
+
+	}
+
+}
@@ -34,8 +34,8 @@ import org.cooder.tinylog.writers.Writer;
 public final class Configuration {
 	
 	private static final Level DEFAULT_LEVEL = Level.INFO;
-	private static final String DEFAULT_FORMAT_PATTERN = "{date} [{thread}] {class}.{method}()\n{level}: {message}";
-	private static final int DEFAULT_MAX_STACK_TRACE_ELEMENTS = 40;
+	static final String DEFAULT_FORMAT_PATTERN = "{date} [{thread}] {class}.{method}()\n{level}: {message}";
+	static final int DEFAULT_MAX_STACK_TRACE_ELEMENTS = 40;
 
 	private final Configurator configurator;
 	
@@ -47,9 +47,20 @@ public final class Configuration {
 	private final List<Writer> writers;
 	private final WritingThread writingThread;
 	private final int maxStackTraceElements;
+	private final List<RateLimit> rateLimits;
+	private final long duplicateInterval;
+	private final OutputFilter outputFilter;
+	private final Sampling sampling;
+	private final boolean statistics;
+	private final int timingInterval;
+	private final long timingDumpInterval;
+	private final int deferredInitQueueSize;
+	private final long deferredInitTimeout;
+	private final boolean classNameRequired;
 
 	private final Map<Level, Writer[]> effectiveWriters;
 	private final Map<Level, List<Token>[]> effectiveFormatTokens;
+	private final Map<String, List<Token>> parsedFormatPatterns;
 	private final Map<Level, Set<LogEntryValue>> requiredLogEntryValues;
 	private final Map<Level, StackTraceInformation> requiredStackTraceInformation;
 
@@ -73,6 +84,52 @@ public final class Configuration {
 	 */
 	Configuration(final Configurator configurator, final Level level, final Map<String, Level> customLevels, final String formatPattern, final Locale locale,
 			final List<WriterDefinition> writerDefinitions, final WritingThread writingThread, final Integer maxStackTraceElements) {
+		this(configurator, level, customLevels, formatPattern, locale, writerDefinitions, writingThread, maxStackTraceElements,
+				Collections.<RateLimit> emptyList(), 0L, null, false, 0, 0L, 0, 0L, null);
+	}
+
+	/**
+	 * @param configurator
+	 *            Copy of based configurator
+	 * @param level
+	 *            Severity level
+	 * @param customLevels
+	 *            Custom severity levels for specific packages and classes
+	 * @param formatPattern
+	 *            Format pattern for log entries
+	 * @param locale
+	 *            Locale for format pattern
+	 * @param writerDefinitions
+	 *            Writer definitions (can be <code>empty</code> to disable any output)
+	 * @param writingThread
+	 *            Writing thread (can be <code>null</code> to write log entries synchronously)
+	 * @param maxStackTraceElements
+	 *            Limit of stack traces for exceptions
+	 * @param rateLimits
+	 *            Rate limits for outputting log entries (can be <code>empty</code> for no rate limits)
+	 * @param duplicateInterval
+	 *            Interval in milliseconds for collapsing identical log entries (0 to disable collapsing)
+	 * @param sampling
+	 *            Sampling of trace and debug log entries (can be <code>null</code> to output all log entries)
+	 * @param statistics
+	 *            <code>true</code> to record statistics of the logging pipeline, <code>false</code> to disable recording
+	 * @param timingInterval
+	 *            Measure the output phases of every n-th log entry per thread (0 to disable timing)
+	 * @param timingDumpInterval
+	 *            Interval in milliseconds for outputting the measured timing as log entry (0 to disable dumping)
+	 * @param deferredInitQueueSize
+	 *            Maximum number of log entries to buffer per writer while initializing writers in background (0 to
+	 *            initialize writers synchronously)
+	 * @param deferredInitTimeout
+	 *            Time in milliseconds after which buffered log entries are dropped (0 to keep them until the writer
+	 *            has been initialized)
+	 * @param previousConfiguration
+	 *            Previous configuration whose parsed format patterns can be reused (can be <code>null</code>)
+	 */
+	Configuration(final Configurator configurator, final Level level, final Map<String, Level> customLevels, final String formatPattern, final Locale locale,
+			final List<WriterDefinition> writerDefinitions, final WritingThread writingThread, final Integer maxStackTraceElements,
+			final List<RateLimit> rateLimits, final long duplicateInterval, final Sampling sampling, final boolean statistics, final int timingInterval,
+			final long timingDumpInterval, final int deferredInitQueueSize, final long deferredInitTimeout, final Configuration previousConfiguration) {
 		this.configurator = configurator;
 		
 		this.level = level == null ? getLevel(writerDefinitions) : level;
@@ -83,11 +140,24 @@ public final class Configuration {
 		this.writers = getWriters(writerDefinitions);
 		this.writingThread = writingThread;
 		this.maxStackTraceElements = maxStackTraceElements == null ? DEFAULT_MAX_STACK_TRACE_ELEMENTS : maxStackTraceElements;
+		this.rateLimits = Collections.unmodifiableList(new ArrayList<RateLimit>(rateLimits));
+		this.duplicateInterval = duplicateInterval;
+		this.outputFilter = OutputFilter.create(rateLimits, duplicateInterval);
+		this.sampling = sampling;
+		this.statistics = statistics;
+		this.timingInterval = timingInterval;
+		this.timingDumpInterval = timingDumpInterval;
+		this.deferredInitQueueSize = deferredInitQueueSize;
+		this.deferredInitTimeout = deferredInitTimeout;
+		this.classNameRequired = !customLevels.isEmpty() || (outputFilter != null && outputFilter.isClassNameRequired())
+				|| (sampling != null && sampling.isClassNameRequired());
 
 		this.effectiveWriters = getEffectiveWriters(writerDefinitions);
-		this.effectiveFormatTokens = getEffectiveFormatTokens(writerDefinitions, this.formatPattern, this.locale, this.maxStackTraceElements);
+		this.parsedFormatPatterns = new HashMap<String, List<Token>>();
+		this.effectiveFormatTokens = getEffectiveFormatTokens(writerDefinitions, this.formatPattern, this.locale, this.maxStackTraceElements,
+				getReusableFormatPatterns(previousConfiguration, this.locale, this.maxStackTraceElements), parsedFormatPatterns);
 		this.requiredLogEntryValues = getRequiredLogEntryValues(effectiveWriters, effectiveFormatTokens);
-		this.requiredStackTraceInformation = getRequiredStackTraceInformation(requiredLogEntryValues, customLevels);
+		this.requiredStackTraceInformation = getRequiredStackTraceInformation(requiredLogEntryValues, classNameRequired);
 	}
 
 	/**
@@ -185,6 +255,124 @@ public final class Configuration {
 		return configurator.copy();
 	}
 
+	/**
+	 * Get the rate limits for outputting log entries.
+	 *
+	 * @return Rate limits
+	 */
+	public List<RateLimit> getRateLimits() {
+		return rateLimits;
+	}
+
+	/**
+	 * Get the interval for collapsing identical log entries.
+	 *
+	 * @return Interval in milliseconds (0 if disabled)
+	 */
+	public long getDuplicateInterval() {
+		return duplicateInterval;
+	}
+
+	/**
+	 * Get the filter for rate limiting and collapsing identical log entries.
+	 *
+	 * @return Filter or <code>null</code> if all log entries are to output
+	 */
+	OutputFilter getOutputFilter() {
+		return outputFilter;
+	}
+
+	/**
+	 * Get the global sampling rate for trace and debug log entries.
+	 *
+	 * @return Sampling rate between 0 and 1 (1 if all log entries are output)
+	 */
+	public double getSamplingRate() {
+		return sampling == null ? 1d : sampling.getRate();
+	}
+
+	/**
+	 * Get the sampling rates for trace and debug log entries of specific packages and classes.
+	 *
+	 * @return Read-only map with sampling rates
+	 */
+	public Map<String, Double> getCustomSamplingRates() {
+		return sampling == null ? Collections.<String, Double> emptyMap() : sampling.getCustomRates();
+	}
+
+	/**
+	 * Get the key of the {@link LoggingContext} value, which is used for consistent sampling.
+	 *
+	 * @return Key of context value or <code>null</code> for random sampling
+	 */
+	public String getSamplingKey() {
+		return sampling == null ? null : sampling.getKey();
+	}
+
+	/**
+	 * Get the sampling of trace and debug log entries.
+	 *
+	 * @return Sampling or <code>null</code> if all log entries are to output
+	 */
+	Sampling getSampling() {
+		return sampling;
+	}
+
+	/**
+	 * Check whether statistics of the logging pipeline are recorded.
+	 *
+	 * @return <code>true</code> if statistics are enabled, <code>false</code> if not
+	 */
+	public boolean isStatisticsEnabled() {
+		return statistics;
+	}
+
+	/**
+	 * Get the sampling interval for measuring output phases.
+	 *
+	 * @return Every n-th log entry per thread is measured (0 if timing is disabled)
+	 */
+	public int getTimingInterval() {
+		return timingInterval;
+	}
+
+	/**
+	 * Get the interval for outputting the measured timing of output phases as log entry.
+	 *
+	 * @return Interval in milliseconds (0 if disabled)
+	 */
+	public long getTimingDumpInterval() {
+		return timingDumpInterval;
+	}
+
+	/**
+	 * Get the maximum number of log entries to buffer per writer while writers are initialized in background.
+	 *
+	 * @return Maximum number of buffered log entries per writer (0 if writers are initialized synchronously)
+	 */
+	public int getDeferredInitQueueSize() {
+		return deferredInitQueueSize;
+	}
+
+	/**
+	 * Get the time after which log entries, which are buffered while a writer is initialized in background, are
+	 * dropped.
+	 *
+	 * @return Timeout in milliseconds (0 if buffered log entries are kept until the writer has been initialized)
+	 */
+	public long getDeferredInitTimeout() {
+		return deferredInitTimeout;
+	}
+
+	/**
+	 * Check whether the class name of log entries is required for custom severity levels, filtering or sampling.
+	 *
+	 * @return <code>true</code> if class names are required, <code>false</code> if not
+	 */
+	boolean isClassNameRequired() {
+		return classNameRequired;
+	}
+
 	/**
 	 * Fast check if output is possible.
 	 *
@@ -193,7 +381,14 @@ public final class Configuration {
 	 * @return <code>true</code> if log entries with the defined severity level can be output, <code>false</code> if not
 	 */
 	boolean isOutputPossible(final Level level) {
-		return lowestLevel.ordinal() <= level.ordinal();
+		if (lowestLevel.ordinal() <= level.ordinal()) {
+			return true;
+		} else {
+			if (statistics) {
+				Metrics.recordDiscardedByLevel(level);
+			}
+			return false;
+		}
 	}
 
 	/**
@@ -300,9 +495,19 @@ public final class Configuration {
 		return map;
 	}
 
+	private static Map<String, List<Token>> getReusableFormatPatterns(final Configuration previousConfiguration, final Locale locale,
+			final int maxStackTraceElements) {
+		if (previousConfiguration == null || !previousConfiguration.locale.equals(locale) || previousConfiguration.maxStackTraceElements != maxStackTraceElements) {
+			return Collections.emptyMap();
+		} else {
+			return previousConfiguration.parsedFormatPatterns;
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private static Map<Level, List<Token>[]> getEffectiveFormatTokens(final List<WriterDefinition> definitions, final String globalFormatPattern,
-			final Locale locale, final int maxStackTraceElements) {
+			final Locale locale, final int maxStackTraceElements, final Map<String, List<Token>> reusableFormatPatterns,
+			final Map<String, List<Token>> parsedFormatPatterns) {
 		Map<Writer, List<Token>> cache = new HashMap<Writer, List<Token>>();
 		Tokenizer tokenizer = new Tokenizer(locale, maxStackTraceElements);
 
@@ -328,7 +533,14 @@ public final class Configuration {
 							if (formatPattern == null) {
 								formatPattern = globalFormatPattern;
 							}
-							List<Token> formatTokens = tokenizer.parse(formatPattern);
+							List<Token> formatTokens = parsedFormatPatterns.get(formatPattern);
+							if (formatTokens == null) {
+								formatTokens = reusableFormatPatterns.get(formatPattern);
+								if (formatTokens == null) {
+									formatTokens = tokenizer.parse(formatPattern);
+								}
+								parsedFormatPatterns.put(formatPattern, formatTokens);
+							}
 							formatTokensOfLevel.add(formatTokens);
 							cache.put(writer, formatTokens);
 						}
@@ -375,14 +587,14 @@ public final class Configuration {
 	}
 
 	private static Map<Level, StackTraceInformation> getRequiredStackTraceInformation(final Map<Level, Set<LogEntryValue>> requiredLogEntryValues,
-			final Map<String, Level> customLevels) {
+			final boolean classNameRequired) {
 		Map<Level, StackTraceInformation> map = new EnumMap<Level, StackTraceInformation>(Level.class);
 		for (Entry<Level, Set<LogEntryValue>> entry : requiredLogEntryValues.entrySet()) {
 			Level level = entry.getKey();
 			Set<LogEntryValue> logEntryValues = entry.getValue();
 			if (logEntryValues.contains(LogEntryValue.METHOD) || logEntryValues.contains(LogEntryValue.FILE) || logEntryValues.contains(LogEntryValue.LINE)) {
 				map.put(level, StackTraceInformation.FULL);
-			} else if (logEntryValues.contains(LogEntryValue.CLASS) || !customLevels.isEmpty()) {
+			} else if (logEntryValues.contains(LogEntryValue.CLASS) || classNameRequired) {
 				map.put(level, StackTraceInformation.CLASS_NAME);
 			} else {
 				map.put(level, StackTraceInformation.NONE);
@@ -13,28 +13,56 @@
 
 package org.cooder.tinylog;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.HttpURLConnection;
 import java.net.URL;
+import java.net.URLConnection;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
 import org.cooder.tinylog.writers.Writer;
 
 /**
- * Thread to observe a configuration file and reload changes.
+ * Thread to observe a configuration file and reload changes. Files from file system are watched via the watch service
+ * of the file system, if available. Classpath resources and URLs are polled. A configuration file is only parsed, if its
+ * content has been changed. Only changed parts of the configuration are reloaded and writers with unchanged properties
+ * are kept including their opened resources.
  */
 abstract class ConfigurationObserver extends Thread {
 
+	/**
+	 * Stream to return by {@link #openInputStream()}, if the configuration file is known to be unchanged.
+	 */
+	protected static final InputStream UNCHANGED = new ByteArrayInputStream(new byte[0]);
+
 	private static final String THREAD_NAME = "tinylog-ConfigurationObserver";
 	private static final Configuration DEFAULT_CONFIGURATION = Configurator.defaultConfig().create();
+	private static final boolean WATCH_SERVICE_AVAILABLE = isWatchServiceAvailable();
+
+	/**
+	 * Time in milliseconds without further changes, before a changed file is reloaded.
+	 */
+	private static final long DEBOUNCE_INTERVAL = 100L;
+
+	/**
+	 * Files, which have been modified within this time in milliseconds, are always reread, as a second change might
+	 * not be visible in last modification timestamp and size.
+	 */
+	private static final long RACY_INTERVAL = 2000L;
 
 	private static final Object mutex = new Object();
 	private static ConfigurationObserver activeObserver;
@@ -46,6 +74,9 @@ abstract class ConfigurationObserver extends Thread {
 
 	private volatile boolean shutdown;
 
+	private byte[] content;
+	private Properties fileProperties;
+
 	private ConfigurationObserver(final Configurator basisConfigurator, final Properties basisProperties, final String file,
 			final long interval) {
 		this.basisConfigurator = basisConfigurator;
@@ -72,12 +103,66 @@ abstract class ConfigurationObserver extends Thread {
 	static ConfigurationObserver createFileConfigurationObserver(final Configurator configurator, final Properties properties, final String file) {
 		return new ConfigurationObserver(configurator, properties, file, 1000) {
 
+			private FileWatcher watcher;
+			private boolean watching;
+			private boolean changed = true;
+			private long lastModified;
+			private long length;
+
 			@Override
 			protected InputStream openInputStream() {
-				try {
-					return new FileInputStream(file);
-				} catch (FileNotFoundException ex) {
-					return null;
+				File source = new File(file);
+				long modified = source.lastModified();
+				long size = source.length();
+				boolean unchanged = !changed && modified == lastModified && size == length && System.currentTimeMillis() - modified > RACY_INTERVAL;
+
+				changed = false;
+				lastModified = modified;
+				length = size;
+
+				if (unchanged) {
+					return UNCHANGED;
+				} else {
+					try {
+						return new FileInputStream(source);
+					} catch (FileNotFoundException ex) {
+						return null;
+					}
+				}
+			}
+
+			@Override
+			protected void waitForChanges(final long interval) throws InterruptedException {
+				if (!watching) {
+					watching = true;
+					watcher = createFileWatcher(file);
+				}
+
+				if (watcher == null) {
+					super.waitForChanges(interval);
+				} else {
+					try {
+						if (watcher.await(interval)) {
+							while (watcher.await(DEBOUNCE_INTERVAL)) {
+								// Wait until the file is not changed anymore
+							}
+							changed = true;
+						}
+					} catch (InterruptedException ex) {
+						changed = true;
+						throw ex;
+					}
+				}
+			}
+
+			@Override
+			protected void dispose() {
+				if (watcher != null) {
+					try {
+						watcher.close();
+					} catch (IOException ex) {
+						// Ignore
+					}
 				}
 			}
 
@@ -120,10 +205,28 @@ abstract class ConfigurationObserver extends Thread {
 	static ConfigurationObserver createURLConfigurationObserver(final Configurator configurator, final Properties properties, final URL url) {
 		return new ConfigurationObserver(configurator, properties, url.toString(), 60 * 1000) {
 
+			private String entityTag;
+			private long lastModified;
+
 			@Override
 			protected InputStream openInputStream() {
 				try {
-					return url.openStream();
+					URLConnection connection = url.openConnection();
+					if (connection instanceof HttpURLConnection) {
+						HttpURLConnection httpConnection = (HttpURLConnection) connection;
+						if (entityTag != null) {
+							httpConnection.setRequestProperty("If-None-Match", entityTag);
+						}
+						if (lastModified > 0L) {
+							httpConnection.setIfModifiedSince(lastModified);
+						}
+						if (httpConnection.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+							return UNCHANGED;
+						}
+						entityTag = httpConnection.getHeaderField("ETag");
+						lastModified = httpConnection.getLastModified();
+					}
+					return connection.getInputStream();
 				} catch (IOException ex) {
 					return null;
 				}
@@ -156,15 +259,20 @@ abstract class ConfigurationObserver extends Thread {
 	public final void run() {
 		Properties oldProperties = basisProperties;
 		Configurator oldConfigurator = basisConfigurator;
+		Map<String, Writer> writers = PropertiesLoader.mapWriters(basisConfigurator, basisProperties);
 		while (!shutdown) {
 			Properties properties = readProperties();
 
 			if (properties != null) {
-				Properties systemProperties = (Properties) System.getProperties().clone();
-				for (Object key : systemProperties.keySet()) {
-					String name = (String) key;
-					if (name.startsWith("tinylog.")) {
-						properties.put(key, systemProperties.getProperty(name));
+				properties = (Properties) properties.clone();
+				Properties systemProperties = System.getProperties();
+				for (Enumeration<Object> keys = systemProperties.keys(); keys.hasMoreElements();) {
+					Object key = keys.nextElement();
+					if (key instanceof String && ((String) key).startsWith("tinylog.")) {
+						String value = systemProperties.getProperty((String) key);
+						if (value != null) {
+							properties.put(key, value);
+						}
 					}
 				}
 			}
@@ -188,13 +296,16 @@ abstract class ConfigurationObserver extends Thread {
 						configurator.maxStackTraceElements(DEFAULT_CONFIGURATION.getMaxStackTraceElements());
 						PropertiesLoader.readMaxStackTraceElements(configurator, properties);
 					}
-					if (writerHasChanged(properties, oldProperties)) {
+					/* Writers are initialized with the global settings, so they cannot be reused if one of them has been changed */
+					boolean globalsHaveChanged = formatPaternHasChanged(properties, oldProperties) || localeHasChanged(properties, oldProperties)
+							|| maxStackTraceElementsHasChanged(properties, oldProperties) || writingThreadHasChanged(properties, oldProperties);
+					if (globalsHaveChanged || writerHasChanged(properties, oldProperties)) {
 						Iterator<Writer> iterator = DEFAULT_CONFIGURATION.getWriters().iterator();
 						configurator.writer(iterator.hasNext() ? iterator.next() : null);
 						while (iterator.hasNext()) {
 							configurator.addWriter(iterator.next());
 						}
-						PropertiesLoader.readWriters(configurator, properties);
+						writers = PropertiesLoader.readWriters(configurator, properties, globalsHaveChanged ? new HashMap<String, Writer>() : writers);
 					}
 					if (writingThreadHasChanged(properties, oldProperties)) {
 						WritingThread writingThread = DEFAULT_CONFIGURATION.getWritingThread();
@@ -205,6 +316,22 @@ abstract class ConfigurationObserver extends Thread {
 						}
 						PropertiesLoader.readWritingThread(configurator, properties);
 					}
+					if (outputFilterHasChanged(properties, oldProperties)) {
+						configurator.resetRateLimits().suppressDuplicates(0L);
+						PropertiesLoader.readOutputFilter(configurator, properties);
+					}
+					if (samplingHasChanged(properties, oldProperties)) {
+						configurator.resetSampling();
+						PropertiesLoader.readSampling(configurator, properties);
+					}
+					if (statisticsHasChanged(properties, oldProperties)) {
+						configurator.statistics(false).timing(0).timingDump(0L);
+						PropertiesLoader.readStatistics(configurator, properties);
+					}
+					if (deferredInitHasChanged(properties, oldProperties)) {
+						configurator.deferredInit(0).deferredInitTimeout(0L);
+						PropertiesLoader.readDeferredInit(configurator, properties);
+					}
 				}
 				configurator.activate();
 				oldConfigurator = configurator;
@@ -213,11 +340,13 @@ abstract class ConfigurationObserver extends Thread {
 			oldProperties = properties;
 
 			try {
-				sleep(interval);
+				waitForChanges(interval);
 			} catch (InterruptedException ex) {
 				// Ignore and continue
 			}
 		}
+
+		dispose();
 	}
 
 	/**
@@ -241,6 +370,47 @@ abstract class ConfigurationObserver extends Thread {
 	 */
 	protected abstract InputStream openInputStream();
 
+	/**
+	 * Wait until the configuration file might have been changed.
+	 *
+	 * @param interval
+	 *            Maximum time to wait in milliseconds
+	 * @throws InterruptedException
+	 *             Interrupted while waiting
+	 */
+	protected void waitForChanges(final long interval) throws InterruptedException {
+		sleep(interval);
+	}
+
+	/**
+	 * Release all resources after the thread has been shut down.
+	 */
+	protected void dispose() {
+		// Nothing to release by default
+	}
+
+	private static boolean isWatchServiceAvailable() {
+		try {
+			Class.forName("java.nio.file.WatchService");
+			return true;
+		} catch (ClassNotFoundException ex) {
+			return false;
+		}
+	}
+
+	private static FileWatcher createFileWatcher(final String file) {
+		if (WATCH_SERVICE_AVAILABLE) {
+			try {
+				return FileWatcher.create(file);
+			} catch (IOException ex) {
+				// Fall back to polling
+			} catch (RuntimeException ex) {
+				// Fall back to polling
+			}
+		}
+		return null;
+	}
+
 	private boolean changed(final Properties properties, final Properties oldProperties) {
 		if (oldProperties == null) {
 			return properties != null;
@@ -269,12 +439,20 @@ abstract class ConfigurationObserver extends Thread {
 			stream = openInputStream();
 			if (stream == null) {
 				InternalLogger.error("Failed to open \"{}\"", file);
-				return null;
-			} else {
-				Properties properties = new Properties();
-				properties.load(stream);
-				return properties;
+				content = null;
+				fileProperties = null;
+			} else if (stream != UNCHANGED) {
+				byte[] data = read(stream);
+				if (content == null || !Arrays.equals(content, data)) {
+					Properties properties = new Properties();
+					content = null;
+					fileProperties = null;
+					properties.load(new ByteArrayInputStream(data));
+					content = data;
+					fileProperties = properties;
+				}
 			}
+			return fileProperties;
 		} catch (IOException ex) {
 			InternalLogger.error(ex, "Failed to read properties file");
 			return null;
@@ -289,6 +467,15 @@ abstract class ConfigurationObserver extends Thread {
 		}
 	}
 
+	private static byte[] read(final InputStream stream) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		for (int count = stream.read(buffer); count >= 0; count = stream.read(buffer)) {
+			output.write(buffer, 0, count);
+		}
+		return output.toByteArray();
+	}
+
 	private boolean levelHasChanged(final Properties properties, final Properties oldProperties) {
 		return compare(properties, oldProperties, Collections.singletonList(PropertiesLoader.LEVEL_PROPERTY),
 				Collections.singletonList(PropertiesLoader.CUSTOM_LEVEL_PREFIX));
@@ -315,6 +502,27 @@ abstract class ConfigurationObserver extends Thread {
 				PropertiesLoader.WRITING_THREAD_PRIORITY_PROPERTY), Collections.<String> emptyList());
 	}
 
+	private boolean outputFilterHasChanged(final Properties properties, final Properties oldProperties) {
+		return compare(properties, oldProperties, Collections.singletonList(PropertiesLoader.DUPLICATES_PROPERTY),
+				Collections.singletonList(PropertiesLoader.RATE_LIMIT_PROPERTY));
+	}
+
+	private boolean samplingHasChanged(final Properties properties, final Properties oldProperties) {
+		return compare(properties, oldProperties, Arrays.asList(PropertiesLoader.SAMPLING_PROPERTY, PropertiesLoader.SAMPLING_KEY_PROPERTY),
+				Collections.singletonList(PropertiesLoader.CUSTOM_SAMPLING_PREFIX));
+	}
+
+	private boolean statisticsHasChanged(final Properties properties, final Properties oldProperties) {
+		return compare(properties, oldProperties,
+				Arrays.asList(PropertiesLoader.STATISTICS_PROPERTY, PropertiesLoader.TIMING_PROPERTY, PropertiesLoader.TIMING_DUMP_PROPERTY),
+				Collections.<String> emptyList());
+	}
+
+	private boolean deferredInitHasChanged(final Properties properties, final Properties oldProperties) {
+		return compare(properties, oldProperties, Arrays.asList(PropertiesLoader.DEFERRED_INIT_PROPERTY, PropertiesLoader.DEFERRED_INIT_TIMEOUT_PROPERTY),
+				Collections.<String> emptyList());
+	}
+
 	private boolean compare(final Properties a, final Properties b, final List<String> fullKeys, final List<String> startPatterns) {
 		Properties relevantA = extract(a, fullKeys, startPatterns);
 		Properties relevantB = extract(b, fullKeys, startPatterns);
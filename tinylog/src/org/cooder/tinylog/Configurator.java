@@ -56,6 +56,16 @@ public final class Configurator {
 	private final List<WriterDefinition> writers;
 	private WritingThreadData writingThreadData;
 	private Integer maxStackTraceElements;
+	private final List<RateLimit> rateLimits;
+	private long duplicateInterval;
+	private double samplingRate;
+	private final Map<String, Double> customSamplingRates;
+	private String samplingKey;
+	private boolean statistics;
+	private int timingInterval;
+	private long timingDumpInterval;
+	private int deferredInitQueueSize;
+	private long deferredInitTimeout;
 
 	/**
 	 * @param level
@@ -82,6 +92,16 @@ public final class Configurator {
 		this.writers = new ArrayList<WriterDefinition>(writers);
 		this.writingThreadData = writingThreadData;
 		this.maxStackTraceElements = maxStackTraceElements;
+		this.rateLimits = new ArrayList<RateLimit>();
+		this.duplicateInterval = 0L;
+		this.samplingRate = 1d;
+		this.customSamplingRates = new HashMap<String, Double>();
+		this.samplingKey = null;
+		this.statistics = false;
+		this.timingInterval = 0;
+		this.timingDumpInterval = 0L;
+		this.deferredInitQueueSize = 0;
+		this.deferredInitTimeout = 0L;
 	}
 
 	/**
@@ -596,6 +616,203 @@ public final class Configurator {
 		return this;
 	}
 
+	/**
+	 * Add a rate limit for outputting log entries. An already defined rate limit with the same scope will be replaced.
+	 * Log entries that exceed a rate limit are discarded.
+	 *
+	 * @param rateLimit
+	 *            Rate limit to apply
+	 * @return The current configurator
+	 */
+	public Configurator rateLimit(final RateLimit rateLimit) {
+		for (Iterator<RateLimit> iterator = rateLimits.iterator(); iterator.hasNext();) {
+			if (iterator.next().getScope() == rateLimit.getScope()) {
+				iterator.remove();
+			}
+		}
+		rateLimits.add(rateLimit);
+		return this;
+	}
+
+	/**
+	 * Remove all rate limits.
+	 *
+	 * @return The current configurator
+	 */
+	public Configurator resetRateLimits() {
+		rateLimits.clear();
+		return this;
+	}
+
+	/**
+	 * Collapse identical log entries (same message template, class and exception type). Only the first of identical log
+	 * entries will be output within the defined interval. The next log entry after the interval will be preceded by a
+	 * summary log entry with the number of discarded repetitions. If no further identical log entry arrives, the
+	 * summary will be output by a background thread.
+	 *
+	 * @param interval
+	 *            Interval in milliseconds (0 to disable collapsing)
+	 * @return The current configurator
+	 */
+	public Configurator suppressDuplicates(final long interval) {
+		this.duplicateInterval = Math.max(0L, interval);
+		return this;
+	}
+
+	/**
+	 * Set the global sampling rate for trace and debug log entries. For example, a sampling rate of 0.01 outputs about
+	 * one of hundred trace and debug log entries. Log entries with the severity level info or higher are never
+	 * sampled.
+	 *
+	 * @param rate
+	 *            Sampling rate between 0 and 1 (values outside this range will be clamped)
+	 * @return The current configurator
+	 */
+	public Configurator sample(final double rate) {
+		this.samplingRate = clampSamplingRate(rate);
+		return this;
+	}
+
+	/**
+	 * Set a custom sampling rate for trace and debug log entries of a package.
+	 *
+	 * @param packageObject
+	 *            Package
+	 * @param rate
+	 *            Sampling rate between 0 and 1 (or {@link Double#NaN} to reset it to the global sampling rate)
+	 * @return The current configurator
+	 */
+	public Configurator sample(final Package packageObject, final double rate) {
+		return sample(packageObject.getName(), rate);
+	}
+
+	/**
+	 * Set a custom sampling rate for trace and debug log entries of a class.
+	 *
+	 * @param classObject
+	 *            Class
+	 * @param rate
+	 *            Sampling rate between 0 and 1 (or {@link Double#NaN} to reset it to the global sampling rate)
+	 * @return The current configurator
+	 */
+	public Configurator sample(final Class<?> classObject, final double rate) {
+		return sample(classObject.getName(), rate);
+	}
+
+	/**
+	 * Set a custom sampling rate for trace and debug log entries of a package or class.
+	 *
+	 * @param packageOrClass
+	 *            Name of a package or class
+	 * @param rate
+	 *            Sampling rate between 0 and 1 (or {@link Double#NaN} to reset it to the global sampling rate)
+	 * @return The current configurator
+	 */
+	public Configurator sample(final String packageOrClass, final double rate) {
+		if (Double.isNaN(rate)) {
+			customSamplingRates.remove(packageOrClass);
+		} else {
+			customSamplingRates.put(packageOrClass, clampSamplingRate(rate));
+		}
+		return this;
+	}
+
+	/**
+	 * Sample consistently by a {@link LoggingContext} value like a trace ID. All trace and debug log entries with the
+	 * same context value are either output or discarded together. Log entries without this context value are sampled
+	 * randomly.
+	 *
+	 * @param key
+	 *            Key of context value (or <code>null</code> to sample randomly)
+	 * @return The current configurator
+	 */
+	public Configurator sampleBy(final String key) {
+		this.samplingKey = key;
+		return this;
+	}
+
+	/**
+	 * Reset all sampling rates and the key for consistent sampling (to output all log entries again).
+	 *
+	 * @return The current configurator
+	 */
+	public Configurator resetSampling() {
+		samplingRate = 1d;
+		customSamplingRates.clear();
+		samplingKey = null;
+		return this;
+	}
+
+	/**
+	 * Record statistics of the logging pipeline like the number of log entries per severity level, written bytes and
+	 * latencies of writers. Statistics are available via {@link Logger#getStatistics()} and the MBean
+	 * "org.cooder.tinylog:type=Statistics". Recording is disabled by default.
+	 *
+	 * @param enable
+	 *            <code>true</code> to record statistics, <code>false</code> to disable recording
+	 * @return The current configurator
+	 */
+	public Configurator statistics(final boolean enable) {
+		this.statistics = enable;
+		return this;
+	}
+
+	/**
+	 * Measure the time, which application threads spend in the phases of outputting log entries (checking levels,
+	 * walking the stack trace, formatting the message, rendering and passing to writers). Only every n-th log entry of
+	 * a thread is measured. The measured durations are available via {@link Logger#getStatistics()}. Timing is disabled
+	 * by default.
+	 *
+	 * @param interval
+	 *            Measure every n-th log entry per thread (0 to disable timing)
+	 * @return The current configurator
+	 */
+	public Configurator timing(final int interval) {
+		this.timingInterval = Math.max(0, interval);
+		return this;
+	}
+
+	/**
+	 * Output the measured timing of output phases periodically as info log entry. This has only an effect, if timing
+	 * is enabled via {@link #timing(int)}.
+	 *
+	 * @param interval
+	 *            Interval in milliseconds (0 to disable outputting)
+	 * @return The current configurator
+	 */
+	public Configurator timingDump(final long interval) {
+		this.timingDumpInterval = Math.max(0L, interval);
+		return this;
+	}
+
+	/**
+	 * Initialize new writers in background threads instead of blocking the activation of the configuration, for
+	 * example while a JDBC writer connects to its database. Log entries for writers, which are not yet initialized, are
+	 * buffered and written in order as soon as the writer is ready. If the buffer of a writer is full, further log
+	 * entries for this writer will be dropped. Writers are initialized synchronously by default.
+	 *
+	 * @param queueSize
+	 *            Maximum number of log entries to buffer per writer (0 to initialize writers synchronously)
+	 * @return The current configurator
+	 */
+	public Configurator deferredInit(final int queueSize) {
+		this.deferredInitQueueSize = Math.max(0, queueSize);
+		return this;
+	}
+
+	/**
+	 * Drop log entries, which have been buffered longer than the given time while waiting for the initialization of a
+	 * writer. This has only an effect, if writers are initialized in background via {@link #deferredInit(int)}.
+	 *
+	 * @param timeout
+	 *            Timeout in milliseconds (0 to keep buffered log entries until the writer has been initialized)
+	 * @return The current configurator
+	 */
+	public Configurator deferredInitTimeout(final long timeout) {
+		this.deferredInitTimeout = Math.max(0L, timeout);
+		return this;
+	}
+
 	/**
 	 * Activate the configuration.
 	 *
@@ -604,21 +821,40 @@ public final class Configurator {
 	 */
 	public boolean activate() {
 		synchronized (lock) {
+			WritingThread previousWritingThread = null;
 			if (activeWritingThread != null && (writingThreadData == null || !writingThreadData.covers(activeWritingThread))) {
-				activeWritingThread.shutdown();
+				previousWritingThread = activeWritingThread;
 				activeWritingThread = null;
 			}
 
-			Configuration configuration = create();
+			Configuration configuration = create(Logger.getActiveConfiguration());
 			try {
 				Logger.setConfiguration(configuration);
 			} catch (Exception ex) {
 				InternalLogger.error(ex, "Failed to activate configuration");
+				if (previousWritingThread != null) {
+					activeWritingThread = previousWritingThread;
+				}
 				return false;
 			}
 
-			if (activeWritingThread == null && configuration.getWritingThread() != null) {
-				activeWritingThread = configuration.getWritingThread();
+			WritingThread writingThread = activeWritingThread == null ? configuration.getWritingThread() : null;
+
+			if (previousWritingThread != null) {
+				if (previousWritingThread == Thread.currentThread()) {
+					previousWritingThread.shutdown();
+				} else {
+					/* Pending log entries are written before the new writing thread starts to preserve the order */
+					try {
+						previousWritingThread.drain(writingThread);
+					} catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+				}
+			}
+
+			if (writingThread != null) {
+				activeWritingThread = writingThread;
 				activeWritingThread.start();
 			}
 
@@ -626,6 +862,22 @@ public final class Configurator {
 		}
 	}
 
+	/**
+	 * Remove a writer, whose initialization has failed, from the active configuration. Like a failed synchronous
+	 * initialization, the writer will not get any further log entries.
+	 *
+	 * @param writer
+	 *            Writer to remove
+	 */
+	static void removeFailedWriter(final Writer writer) {
+		synchronized (lock) {
+			Configuration configuration = Logger.getActiveConfiguration();
+			if (configuration != null && configuration.getWriters().contains(writer)) {
+				configuration.getConfigurator().removeWriter(writer).activate();
+			}
+		}
+	}
+
 	/**
 	 * Manually shutdown of writing thread.
 	 *
@@ -760,6 +1012,19 @@ public final class Configurator {
 		}
 	}
 
+	/**
+	 * Get all defined writers.
+	 *
+	 * @return Writers in order of definition
+	 */
+	List<Writer> getWriters() {
+		List<Writer> list = new ArrayList<Writer>(writers.size());
+		for (WriterDefinition definition : writers) {
+			list.add(definition.getWriter());
+		}
+		return list;
+	}
+
 	/**
 	 * Copy the configurator.
 	 *
@@ -768,7 +1033,18 @@ public final class Configurator {
 	Configurator copy() {
 		WritingThreadData writingThreadDataCopy = writingThreadData == null ? null
 				: new WritingThreadData(writingThreadData.threadToObserve, writingThreadData.priority);
-		return new Configurator(level, customLevels, formatPattern, locale, writers, writingThreadDataCopy, maxStackTraceElements);
+		Configurator configurator = new Configurator(level, customLevels, formatPattern, locale, writers, writingThreadDataCopy, maxStackTraceElements);
+		configurator.rateLimits.addAll(rateLimits);
+		configurator.duplicateInterval = duplicateInterval;
+		configurator.samplingRate = samplingRate;
+		configurator.customSamplingRates.putAll(customSamplingRates);
+		configurator.samplingKey = samplingKey;
+		configurator.statistics = statistics;
+		configurator.timingInterval = timingInterval;
+		configurator.timingDumpInterval = timingDumpInterval;
+		configurator.deferredInitQueueSize = deferredInitQueueSize;
+		configurator.deferredInitTimeout = deferredInitTimeout;
+		return configurator;
 	}
 
 	/**
@@ -777,6 +1053,18 @@ public final class Configurator {
 	 * @return The created configuration
 	 */
 	Configuration create() {
+		return create(null);
+	}
+
+	/**
+	 * Create a configuration from the current configurator. Parsed format patterns of a previous configuration are
+	 * reused, if possible.
+	 *
+	 * @param previousConfiguration
+	 *            Previous configuration (can be <code>null</code>)
+	 * @return A new configuration
+	 */
+	Configuration create(final Configuration previousConfiguration) {
 		Configurator configurator = copy();
 
 		WritingThread writingThread;
@@ -791,7 +1079,18 @@ public final class Configurator {
 		}
 
 		return new Configuration(configurator, configurator.level, configurator.customLevels, configurator.formatPattern, configurator.locale,
-				configurator.writers, writingThread, configurator.maxStackTraceElements);
+				configurator.writers, writingThread, configurator.maxStackTraceElements, configurator.rateLimits, configurator.duplicateInterval,
+				Sampling.create(configurator.samplingRate, configurator.customSamplingRates, configurator.samplingKey), configurator.statistics,
+				configurator.timingInterval, configurator.timingDumpInterval, configurator.deferredInitQueueSize, configurator.deferredInitTimeout,
+				previousConfiguration);
+	}
+
+	private static double clampSamplingRate(final double rate) {
+		if (rate > 1d || Double.isNaN(rate)) {
+			return 1d;
+		} else {
+			return Math.max(0d, rate);
+		}
 	}
 
 	/**
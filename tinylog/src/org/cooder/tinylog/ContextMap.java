@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable array-backed map for the logging context. Modifications create new maps without changing existing ones.
+ * Therefore, captured maps can be used as snapshots without copying. As a logging context contains only a few values
+ * usually, a flat array with linear search is faster and allocates less than a hash map.
+ */
+final class ContextMap extends AbstractMap<String, String> {
+
+	/**
+	 * Empty map without any values.
+	 */
+	static final ContextMap EMPTY = new ContextMap(new String[0]);
+
+	private final String[] entries; // Alternating keys and values
+
+	private ContextMap(final String[] entries) {
+		this.entries = entries;
+	}
+
+	@Override
+	public int size() {
+		return entries.length / 2;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return entries.length == 0;
+	}
+
+	@Override
+	public boolean containsKey(final Object key) {
+		return indexOf(key) >= 0;
+	}
+
+	@Override
+	public String get(final Object key) {
+		int index = indexOf(key);
+		return index >= 0 ? entries[index + 1] : null;
+	}
+
+	@Override
+	public Set<Map.Entry<String, String>> entrySet() {
+		return new AbstractSet<Map.Entry<String, String>>() {
+
+			@Override
+			public int size() {
+				return ContextMap.this.size();
+			}
+
+			@Override
+			public Iterator<Map.Entry<String, String>> iterator() {
+				return new Iterator<Map.Entry<String, String>>() {
+
+					private int index;
+
+					@Override
+					public boolean hasNext() {
+						return index < entries.length;
+					}
+
+					@Override
+					public Map.Entry<String, String> next() {
+						if (index >= entries.length) {
+							throw new NoSuchElementException();
+						}
+						Map.Entry<String, String> entry = new SimpleImmutableEntry<String, String>(entries[index], entries[index + 1]);
+						index += 2;
+						return entry;
+					}
+
+					@Override
+					public void remove() {
+						throw new UnsupportedOperationException();
+					}
+
+				};
+			}
+
+		};
+	}
+
+	/**
+	 * Get a map with an additional or replaced value.
+	 *
+	 * @param key
+	 *            Key of mapping
+	 * @param value
+	 *            New value
+	 * @return Map with new value (this map, if the value is already mapped)
+	 */
+	ContextMap with(final String key, final String value) {
+		int index = indexOf(key);
+		if (index >= 0) {
+			if (value.equals(entries[index + 1])) {
+				return this;
+			} else {
+				String[] copy = entries.clone();
+				copy[index + 1] = value;
+				return new ContextMap(copy);
+			}
+		} else {
+			String[] copy = new String[entries.length + 2];
+			System.arraycopy(entries, 0, copy, 0, entries.length);
+			copy[entries.length] = key;
+			copy[entries.length + 1] = value;
+			return new ContextMap(copy);
+		}
+	}
+
+	/**
+	 * Get a map without a value.
+	 *
+	 * @param key
+	 *            Key of mapping
+	 * @return Map without the value (this map, if the key is not mapped)
+	 */
+	ContextMap without(final String key) {
+		int index = indexOf(key);
+		if (index < 0) {
+			return this;
+		} else if (entries.length == 2) {
+			return EMPTY;
+		} else {
+			String[] copy = new String[entries.length - 2];
+			System.arraycopy(entries, 0, copy, 0, index);
+			System.arraycopy(entries, index + 2, copy, index, entries.length - index - 2);
+			return new ContextMap(copy);
+		}
+	}
+
+	private int indexOf(final Object key) {
+		if (key == null) {
+			/* Null keys are permitted like in a hash map */
+			for (int i = 0; i < entries.length; i += 2) {
+				if (entries[i] == null) {
+					return i;
+				}
+			}
+		} else {
+			for (int i = 0; i < entries.length; i += 2) {
+				if (key.equals(entries[i])) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+}
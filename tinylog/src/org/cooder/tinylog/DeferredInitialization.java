@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.cooder.tinylog.writers.Writer;
+
+/**
+ * Initialization of writers in background threads. Log entries for writers, which are not yet initialized, are buffered
+ * in a bounded queue per writer and passed to the writer in order as soon as its initialization has been completed.
+ * Log entries, which don't fit in the queue or exceed the configured timeout, are dropped and recorded as lost entries.
+ */
+final class DeferredInitialization {
+
+	private static final String THREAD_NAME = "tinylog-WriterInitializer";
+
+	private final Map<Writer, Initializer> initializers;
+
+	private DeferredInitialization(final Map<Writer, Initializer> initializers) {
+		this.initializers = initializers;
+	}
+
+	/**
+	 * Start initializing writers in background threads. Writers of a previous deferred initialization, which are
+	 * still initializing and used by the new configuration, are taken over.
+	 *
+	 * @param configuration
+	 *            Configuration to pass to the writers
+	 * @param writers
+	 *            Writers to initialize
+	 * @param previous
+	 *            Previous deferred initialization (can be <code>null</code>)
+	 * @return Deferred initialization or <code>null</code> if there are no writers, which are not yet initialized
+	 */
+	static DeferredInitialization start(final Configuration configuration, final Collection<Writer> writers, final DeferredInitialization previous) {
+		Map<Writer, Initializer> initializers = new IdentityHashMap<Writer, Initializer>();
+
+		if (previous != null) {
+			List<Writer> activeWriters = configuration.getWriters();
+			for (Map.Entry<Writer, Initializer> entry : previous.initializers.entrySet()) {
+				if (entry.getValue().state != Initializer.READY && activeWriters.contains(entry.getKey())) {
+					initializers.put(entry.getKey(), entry.getValue());
+				}
+			}
+		}
+
+		for (Writer writer : writers) {
+			Initializer initializer = new Initializer(writer, configuration);
+			initializers.put(writer, initializer);
+			initializer.start();
+		}
+
+		return initializers.isEmpty() ? null : new DeferredInitialization(initializers);
+	}
+
+	/**
+	 * Check whether all writers have been successfully initialized. Writers, whose initialization has failed, will be
+	 * removed from the active configuration, which then gets a new deferred initialization without these writers.
+	 *
+	 * @return <code>true</code> if all writers are ready, <code>false</code> if at least one writer is still
+	 *         initializing or its initialization has failed
+	 */
+	boolean isCompleted() {
+		for (Initializer initializer : initializers.values()) {
+			if (initializer.state != Initializer.READY) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Buffer a log entry, if the writer is not yet initialized.
+	 *
+	 * @param writer
+	 *            Writer to which the log entry belongs
+	 * @param logEntry
+	 *            Log entry to output
+	 * @return <code>true</code> if the log entry has been taken over (buffered or dropped), <code>false</code> if the
+	 *         writer is ready and the log entry has to be written as usual
+	 */
+	boolean defer(final Writer writer, final LogEntry logEntry) {
+		Initializer initializer = initializers.get(writer);
+		return initializer != null && initializer.defer(logEntry);
+	}
+
+	/**
+	 * Wait until all writers are initialized (successfully or not).
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting
+	 */
+	void await() throws InterruptedException {
+		for (Initializer initializer : initializers.values()) {
+			initializer.join();
+		}
+	}
+
+	/**
+	 * Thread for initializing a single writer.
+	 */
+	private static final class Initializer extends Thread {
+
+		private static final int INITIALIZING = 0;
+		private static final int READY = 1;
+		private static final int FAILED = 2;
+
+		private final Writer writer;
+		private final Configuration configuration;
+		private final long timeout;
+		private final LogEntry[] entries;
+		private final long[] timestamps;
+		private final Object lock;
+
+		private int head;
+		private int size;
+		private int dropped;
+		private volatile int state;
+
+		private Initializer(final Writer writer, final Configuration configuration) {
+			this.writer = writer;
+			this.configuration = configuration;
+			this.timeout = configuration.getDeferredInitTimeout() * 1000000L;
+			this.entries = new LogEntry[configuration.getDeferredInitQueueSize()];
+			this.timestamps = new long[entries.length];
+			this.lock = new Object();
+			this.state = INITIALIZING;
+
+			setName(THREAD_NAME);
+			setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			boolean initialized;
+			try {
+				writer.init(configuration);
+				initialized = true;
+			} catch (Exception ex) {
+				InternalLogger.error(ex, "Failed to initialize \"{}\"", writer.getClass().getName());
+				initialized = false;
+			}
+
+			int lost;
+			synchronized (lock) {
+				expire(System.nanoTime());
+				WritingThread writingThread = configuration.getWritingThread();
+				while (size > 0) {
+					LogEntry logEntry = entries[head];
+					entries[head] = null;
+					head = (head + 1) % entries.length;
+					--size;
+
+					if (!initialized) {
+						++dropped;
+					} else if (writingThread == null) {
+						try {
+							writer.write(logEntry);
+						} catch (Exception ex) {
+							InternalLogger.error(ex, "Failed to write log entry");
+						}
+					} else {
+						writingThread.putLogEntry(writer, logEntry);
+					}
+				}
+				lost = dropped;
+				state = initialized ? READY : FAILED;
+			}
+
+			if (lost > 0) {
+				InternalLogger.warn("{} log entries have been dropped while initializing \"{}\"", lost, writer.getClass().getName());
+				Metrics.recordLostEntries(writer, lost);
+			}
+
+			if (!initialized) {
+				Configurator.removeFailedWriter(writer);
+			}
+		}
+
+		private boolean defer(final LogEntry logEntry) {
+			int currentState = state;
+			if (currentState == READY) {
+				return false;
+			} else if (currentState == FAILED) {
+				Metrics.recordLostEntries(writer, 1);
+				return true;
+			}
+
+			synchronized (lock) {
+				if (state == READY) {
+					return false;
+				} else if (state == FAILED) {
+					Metrics.recordLostEntries(writer, 1);
+					return true;
+				}
+
+				long now = System.nanoTime();
+				expire(now);
+				if (size == entries.length) {
+					++dropped;
+				} else {
+					int index = (head + size) % entries.length;
+					entries[index] = logEntry;
+					timestamps[index] = now;
+					++size;
+				}
+				return true;
+			}
+		}
+
+		private void expire(final long now) {
+			if (timeout > 0L) {
+				while (size > 0 && now - timestamps[head] > timeout) {
+					entries[head] = null;
+					head = (head + 1) % entries.length;
+					--size;
+					++dropped;
+				}
+			}
+		}
+
+	}
+
+}
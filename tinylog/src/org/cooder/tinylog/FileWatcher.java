@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watcher for changes of a single file via the watch service of the file system. This class uses the NIO.2 API and
+ * must be only loaded on Java 7 or newer.
+ */
+final class FileWatcher implements Closeable {
+
+	private final WatchService watchService;
+	private final Path fileName;
+
+	private FileWatcher(final WatchService watchService, final Path fileName) {
+		this.watchService = watchService;
+		this.fileName = fileName;
+	}
+
+	/**
+	 * Start watching a file.
+	 *
+	 * @param file
+	 *            Path to file
+	 * @return Watcher for the file
+	 * @throws IOException
+	 *             Failed to register the parent directory of the file at the watch service
+	 */
+	static FileWatcher create(final String file) throws IOException {
+		Path path = Paths.get(file).toAbsolutePath();
+		WatchService watchService = FileSystems.getDefault().newWatchService();
+		try {
+			path.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+					StandardWatchEventKinds.ENTRY_DELETE);
+		} catch (IOException ex) {
+			watchService.close();
+			throw ex;
+		} catch (RuntimeException ex) {
+			watchService.close();
+			throw ex;
+		}
+		return new FileWatcher(watchService, path.getFileName());
+	}
+
+	/**
+	 * Wait for a change of the watched file.
+	 *
+	 * @param timeout
+	 *            Maximum time to wait in milliseconds
+	 * @return <code>true</code> if the file has been changed, <code>false</code> if the timeout has elapsed without
+	 *         any change
+	 * @throws InterruptedException
+	 *             Interrupted while waiting
+	 */
+	boolean await(final long timeout) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+		for (long remaining = timeout; remaining > 0L; remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())) {
+			WatchKey key = watchService.poll(remaining, TimeUnit.MILLISECONDS);
+			if (key == null) {
+				return false;
+			}
+
+			boolean changed = false;
+			for (WatchEvent<?> event : key.pollEvents()) {
+				if (event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context())) {
+					changed = true;
+				}
+			}
+			key.reset();
+
+			if (changed) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void close() throws IOException {
+		watchService.close();
+	}
+
+}
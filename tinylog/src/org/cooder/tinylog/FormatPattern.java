@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.cooder.tinylog.writers.LogEntryValue;
+
+/**
+ * Parsed format pattern for rendering log entries outside of the logger. Usually log entries are rendered by the logger
+ * before they are passed to writers. This class is intended for writers that store raw log entries and render them
+ * later, or not at all.
+ */
+public final class FormatPattern {
+
+	private static final String NEW_LINE = EnvironmentHelper.getNewLine();
+
+	private final String pattern;
+	private final List<Token> tokens;
+	private final Set<LogEntryValue> requiredLogEntryValues;
+
+	/**
+	 * @param pattern
+	 *            Format pattern for log entries
+	 * @param locale
+	 *            Locale for formatting
+	 * @param maxStackTraceElements
+	 *            Limit of stack traces for exceptions
+	 */
+	public FormatPattern(final String pattern, final Locale locale, final int maxStackTraceElements) {
+		this.pattern = pattern;
+		this.tokens = new Tokenizer(locale, maxStackTraceElements).parse(pattern);
+		this.requiredLogEntryValues = EnumSet.noneOf(LogEntryValue.class);
+		for (Token token : tokens) {
+			requiredLogEntryValues.addAll(token.getRequiredLogEntryValues());
+		}
+	}
+
+	/**
+	 * Get the format pattern.
+	 *
+	 * @return Format pattern for log entries
+	 */
+	public String getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * Get all log entry values that are required for rendering.
+	 *
+	 * @return Required values for log entry
+	 */
+	public Set<LogEntryValue> getRequiredLogEntryValues() {
+		return EnumSet.copyOf(requiredLogEntryValues);
+	}
+
+	/**
+	 * Render a log entry. The rendered log entry will be also stored in the passed log entry and can be received via
+	 * {@link LogEntry#getRenderedLogEntry()} afterwards.
+	 *
+	 * @param logEntry
+	 *            Log entry to render
+	 * @return Rendered log entry
+	 */
+	public String render(final LogEntry logEntry) {
+		StringBuilder builder = new StringBuilder(logEntry.getException() == null ? 256 : 1024);
+		for (Token token : tokens) {
+			token.render(logEntry, builder);
+		}
+		builder.append(NEW_LINE);
+
+		String renderedLogEntry = builder.toString();
+		logEntry.setRenderedLogEntry(renderedLogEntry);
+		return renderedLogEntry;
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog;
+
+/**
+ * Registry of writers, labelers and policies that can be configured by properties. Registries are generated at build
+ * time by the annotation processor of tinylog-processor for all classes annotated with {@code PropertiesSupport} and
+ * are listed in "META-INF/services/org.cooder.tinylog". They allow to find and create writers, labelers and policies
+ * without loading any other classes than the configured ones and without reflection on constructors.
+ */
+public interface ImplementationRegistry {
+
+	/**
+	 * Find a writer by its name.
+	 *
+	 * @param name
+	 *            Name of writer (case-insensitive)
+	 * @return Writer class or {@code null} if there is no writer with the given name in this registry
+	 */
+	Class<?> findWriter(String name);
+
+	/**
+	 * Find a labeler by its name.
+	 *
+	 * @param name
+	 *            Name of labeler (case-insensitive)
+	 * @return Labeler class or {@code null} if there is no labeler with the given name in this registry
+	 */
+	Class<?> findLabeler(String name);
+
+	/**
+	 * Find a policy by its name.
+	 *
+	 * @param name
+	 *            Name of policy (case-insensitive)
+	 * @return Policy class or {@code null} if there is no policy with the given name in this registry
+	 */
+	Class<?> findPolicy(String name);
+
+	/**
+	 * Get the parameter types of all constructors of a registered class.
+	 *
+	 * @param implementation
+	 *            Registered writer, labeler or policy
+	 * @return Parameter types of all constructors in declaration order
+	 */
+	Class<?>[][] getConstructors(Class<?> implementation);
+
+	/**
+	 * Create a new instance of a registered class.
+	 *
+	 * @param implementation
+	 *            Registered writer, labeler or policy
+	 * @param constructor
+	 *            Index of constructor as returned by {@link #getConstructors(Class)}
+	 * @param arguments
+	 *            Arguments for constructor
+	 * @return Created instance
+	 * @throws Exception
+	 *             Constructor has thrown an exception
+	 */
+	Object create(Class<?> implementation, int constructor, Object[] arguments) throws Exception;
+
+}
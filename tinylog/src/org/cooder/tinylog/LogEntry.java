@@ -32,6 +32,8 @@ public abstract class LogEntry {
 	private final Level level;
 	private final String message;
 	private final Throwable exception;
+	private String messageTemplate;
+	private Object[] arguments;
 	private String renderedLogEntry;
 
 	/**
@@ -165,6 +167,26 @@ public abstract class LogEntry {
 		return message;
 	}
 
+	/**
+	 * Get the message template without inserted arguments. The message template is only available if
+	 * {@link org.cooder.tinylog.writers.LogEntryValue#RAW_MESSAGE RAW_MESSAGE} is required and the logged message is a
+	 * text.
+	 *
+	 * @return Message template or <code>null</code>
+	 */
+	public final String getMessageTemplate() {
+		return messageTemplate;
+	}
+
+	/**
+	 * Get the arguments for the message template.
+	 *
+	 * @return Arguments or <code>null</code>
+	 */
+	public final Object[] getArguments() {
+		return arguments;
+	}
+
 	/**
 	 * Get the exception of the log entry.
 	 *
@@ -193,4 +215,17 @@ public abstract class LogEntry {
 		this.renderedLogEntry = renderedLogEntry;
 	}
 
+	/**
+	 * Set the message template and its arguments.
+	 *
+	 * @param messageTemplate
+	 *            Message template without inserted arguments
+	 * @param arguments
+	 *            Arguments for the message template
+	 */
+	final void setRawMessage(final String messageTemplate, final Object[] arguments) {
+		this.messageTemplate = messageTemplate;
+		this.arguments = arguments;
+	}
+
 }
@@ -14,11 +14,15 @@
 package org.cooder.tinylog;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.cooder.tinylog.Statistics.Phase;
 import org.cooder.tinylog.runtime.RuntimeDialect;
 import org.cooder.tinylog.writers.LogEntryValue;
 import org.cooder.tinylog.writers.Writer;
@@ -41,6 +45,7 @@ public final class Logger {
 
 	private static final RuntimeDialect dialect = EnvironmentHelper.getRuntimeDialect();
 	private static volatile Configuration configuration = Configurator.defaultConfig().create();
+	private static final AtomicReference<DeferredInitialization> deferredInitialization = new AtomicReference<DeferredInitialization>();
 
 	static {
 		Configurator.init().activate();
@@ -843,6 +848,16 @@ public final class Logger {
 		return configuration.getConfigurator();
 	}
 
+	/**
+	 * Get a snapshot of the recorded statistics of the logging pipeline. Statistics are only recorded, if enabled via
+	 * {@link Configurator#statistics(boolean)}.
+	 *
+	 * @return Current statistics
+	 */
+	public static Statistics getStatistics() {
+		return Metrics.snapshot();
+	}
+
 	/**
 	 * Set a new configuration.
 	 *
@@ -854,23 +869,56 @@ public final class Logger {
 	 */
 	static void setConfiguration(final Configuration configuration) throws Exception {
 		Configuration previousConfiguration = Logger.configuration;
+		List<Writer> writers = new ArrayList<Writer>();
 
 		if (previousConfiguration == null) {
-			for (Writer writer : configuration.getWriters()) {
-				writer.init(configuration);
-			}
+			writers.addAll(configuration.getWriters());
 		} else {
 			List<Writer> newWriters = configuration.getWriters();
 			List<Writer> oldWriters = previousConfiguration.getWriters();
 
 			for (Writer writer : newWriters) {
 				if (!oldWriters.contains(writer)) {
-					writer.init(configuration);
+					writers.add(writer);
 				}
 			}
 		}
 
+		if (configuration.getDeferredInitQueueSize() > 0) {
+			deferredInitialization.set(DeferredInitialization.start(configuration, writers, deferredInitialization.get()));
+		} else {
+			for (Writer writer : writers) {
+				writer.init(configuration);
+			}
+			deferredInitialization.set(DeferredInitialization.start(configuration, Collections.<Writer> emptyList(), deferredInitialization.get()));
+		}
+
+		Metrics.configure(configuration);
+		Timing.configure(configuration);
+		OutputFilter.configure(configuration);
 		Logger.configuration = configuration;
+
+		if (previousConfiguration != null) {
+			outputRepetitions(previousConfiguration, true);
+		}
+	}
+
+	/**
+	 * Get the active configuration.
+	 *
+	 * @return Active configuration
+	 */
+	static Configuration getActiveConfiguration() {
+		return configuration;
+	}
+
+	/**
+	 * Get the initialization of writers in background, which is still in progress.
+	 *
+	 * @return Deferred initialization or <code>null</code> if all writers are initialized
+	 */
+	static DeferredInitialization getDeferredInitialization() {
+		return deferredInitialization.get();
 	}
 
 	/**
@@ -919,64 +967,194 @@ public final class Logger {
 			final Object message, final Object[] arguments) {
 		StackTraceElement stackTraceElement = null;
 		Level activeLevel = currentConfiguration.getLevel();
+		Sampling sampling = currentConfiguration.getSampling();
+		int timingInterval = currentConfiguration.getTimingInterval();
+		Timing.Recorder recorder = timingInterval == 0 ? null : Timing.start(timingInterval);
+
+		/* Sampling without class specific rates is decided before any stack trace walking or message formatting */
+		if (sampling != null && !sampling.isClassNameRequired() && !sampling.isSampled(level, null)) {
+			stop(recorder, Phase.LEVEL_CHECK);
+			return;
+		}
 
-		if (currentConfiguration.hasCustomLevels()) {
+		if (currentConfiguration.isClassNameRequired()) {
+			mark(recorder, Phase.LEVEL_CHECK);
 			boolean onlyClassName = currentConfiguration.getRequiredStackTraceInformation(level) == StackTraceInformation.CLASS_NAME;
 			stackTraceElement = onlyClassName ? asStackTraceElement(dialect.getClassName(strackTraceDepth)) : dialect.getStackTraceElement(strackTraceDepth);
-			activeLevel = currentConfiguration.getLevel(stackTraceElement.getClassName());
+			mark(recorder, Phase.STACK_TRACE);
+			if (currentConfiguration.hasCustomLevels()) {
+				activeLevel = currentConfiguration.getLevel(stackTraceElement.getClassName());
+			}
 		}
 
 		if (activeLevel.ordinal() <= level.ordinal()) {
-			try {
-				Writer[] writers = currentConfiguration.getEffectiveWriters(level);
-				LogEntry[] logEntries = createLogEntries(currentConfiguration, strackTraceDepth + 1, level, stackTraceElement, exception, message, arguments);
-				if (currentConfiguration.getWritingThread() == null) {
-					for (int i = 0; i < writers.length; ++i) {
-						try {
-							writers[i].write(logEntries[i]);
-						} catch (Exception ex) {
-							InternalLogger.error(ex, "Failed to write log entry");
-						}
-					}
-				} else {
-					for (int i = 0; i < writers.length; ++i) {
-						currentConfiguration.getWritingThread().putLogEntry(writers[i], logEntries[i]);
-					}
+			if (sampling != null && sampling.isClassNameRequired() && !sampling.isSampled(level, stackTraceElement.getClassName())) {
+				stop(recorder, Phase.LEVEL_CHECK);
+				return;
+			}
+
+			OutputFilter outputFilter = currentConfiguration.getOutputFilter();
+			if (outputFilter != null) {
+				String className = stackTraceElement == null ? null : stackTraceElement.getClassName();
+				int collapsed = outputFilter.filter(level, className, message, exception, System.nanoTime());
+				if (collapsed == OutputFilter.DISCARD) {
+					stop(recorder, Phase.LEVEL_CHECK);
+					return;
+				} else if (collapsed > 0) {
+					mark(recorder, Phase.LEVEL_CHECK);
+					write(currentConfiguration, strackTraceDepth + 1, level, stackTraceElement, null, getRepetitionMessage(collapsed, message), null,
+							recorder);
 				}
-			} catch (Exception ex) {
-				InternalLogger.error(ex, "Failed to create log entry");
 			}
+
+			mark(recorder, Phase.LEVEL_CHECK);
+			write(currentConfiguration, strackTraceDepth + 1, level, stackTraceElement, exception, message, arguments, recorder);
+			stop(recorder, Phase.DISPATCH);
+		} else {
+			if (currentConfiguration.isStatisticsEnabled()) {
+				Metrics.recordDiscardedByCustomLevel(level);
+			}
+			stop(recorder, Phase.LEVEL_CHECK);
 		}
 	}
 
 	private static void output(final Configuration currentConfiguration, final StackTraceElement stackTraceElement, final Level level,
 			final Throwable exception, final Object message, final Object[] arguments) {
 		Level activeLevel = currentConfiguration.getLevel();
+		int timingInterval = currentConfiguration.getTimingInterval();
+		Timing.Recorder recorder = timingInterval == 0 ? null : Timing.start(timingInterval);
 
 		if (currentConfiguration.hasCustomLevels()) {
 			activeLevel = currentConfiguration.getLevel(stackTraceElement.getClassName());
 		}
 
 		if (activeLevel.ordinal() <= level.ordinal()) {
-			try {
-				Writer[] writers = currentConfiguration.getEffectiveWriters(level);
-				LogEntry[] logEntries = createLogEntries(currentConfiguration, -1, level, stackTraceElement, exception, message, arguments);
-				if (currentConfiguration.getWritingThread() == null) {
-					for (int i = 0; i < writers.length; ++i) {
-						try {
-							writers[i].write(logEntries[i]);
-						} catch (Exception ex) {
-							InternalLogger.error(ex, "Failed to write log entry");
+			Sampling sampling = currentConfiguration.getSampling();
+			if (sampling != null && !sampling.isSampled(level, stackTraceElement.getClassName())) {
+				stop(recorder, Phase.LEVEL_CHECK);
+				return;
+			}
+
+			OutputFilter outputFilter = currentConfiguration.getOutputFilter();
+			if (outputFilter != null) {
+				int collapsed = outputFilter.filter(level, stackTraceElement.getClassName(), message, exception, System.nanoTime());
+				if (collapsed == OutputFilter.DISCARD) {
+					stop(recorder, Phase.LEVEL_CHECK);
+					return;
+				} else if (collapsed > 0) {
+					mark(recorder, Phase.LEVEL_CHECK);
+					write(currentConfiguration, -1, level, stackTraceElement, null, getRepetitionMessage(collapsed, message), null, recorder);
+				}
+			}
+
+			mark(recorder, Phase.LEVEL_CHECK);
+			write(currentConfiguration, -1, level, stackTraceElement, exception, message, arguments, recorder);
+			stop(recorder, Phase.DISPATCH);
+		} else {
+			if (currentConfiguration.isStatisticsEnabled()) {
+				Metrics.recordDiscardedByCustomLevel(level);
+			}
+			stop(recorder, Phase.LEVEL_CHECK);
+		}
+	}
+
+	private static void write(final Configuration currentConfiguration, final int strackTraceDepth, final Level level,
+			final StackTraceElement stackTraceElement, final Throwable exception, final Object message, final Object[] arguments,
+			final Timing.Recorder recorder) {
+		try {
+			Writer[] writers = currentConfiguration.getEffectiveWriters(level);
+			LogEntry[] logEntries = createLogEntries(currentConfiguration, strackTraceDepth < 0 ? -1 : strackTraceDepth + 1, level, stackTraceElement,
+					exception, message, arguments, recorder);
+			boolean statistics = currentConfiguration.isStatisticsEnabled();
+			if (statistics) {
+				Metrics.recordEntry(level);
+			}
+			DeferredInitialization deferred = deferredInitialization.get();
+			if (deferred != null && deferred.isCompleted()) {
+				deferredInitialization.compareAndSet(deferred, null);
+				deferred = null;
+			}
+			if (currentConfiguration.getWritingThread() == null) {
+				for (int i = 0; i < writers.length; ++i) {
+					if (deferred != null && deferred.defer(writers[i], logEntries[i])) {
+						continue;
+					}
+					try {
+						long start = statistics ? System.nanoTime() : 0L;
+						writers[i].write(logEntries[i]);
+						if (statistics) {
+							Metrics.recordWrite(writers[i], System.nanoTime() - start);
 						}
+					} catch (Exception ex) {
+						InternalLogger.error(ex, "Failed to write log entry");
 					}
-				} else {
-					for (int i = 0; i < writers.length; ++i) {
-						currentConfiguration.getWritingThread().putLogEntry(writers[i], logEntries[i]);
+				}
+			} else {
+				for (int i = 0; i < writers.length; ++i) {
+					if (deferred != null && deferred.defer(writers[i], logEntries[i])) {
+						continue;
 					}
+					currentConfiguration.getWritingThread().putLogEntry(writers[i], logEntries[i]);
 				}
-			} catch (Exception ex) {
-				InternalLogger.error(ex, "Failed to create log entry");
 			}
+		} catch (Exception ex) {
+			InternalLogger.error(ex, "Failed to create log entry");
+		}
+	}
+
+	/**
+	 * Output summaries of collapsed identical log entries, whose interval has expired without a further identical log
+	 * entry.
+	 */
+	static void outputRepetitions() {
+		Configuration currentConfiguration = configuration;
+		if (currentConfiguration != null) {
+			outputRepetitions(currentConfiguration, false);
+		}
+	}
+
+	private static void outputRepetitions(final Configuration currentConfiguration, final boolean all) {
+		OutputFilter outputFilter = currentConfiguration.getOutputFilter();
+		if (outputFilter != null) {
+			/* Class names are always available, as they are required for collapsing identical log entries */
+			for (OutputFilter.Summary summary : outputFilter.expire(System.nanoTime(), all)) {
+				write(currentConfiguration, -1, summary.getLevel(), asStackTraceElement(summary.getClassName()), null,
+						getRepetitionMessage(summary.getCollapsed(), summary.getTemplate()), null, null);
+			}
+		}
+	}
+
+	private static String getRepetitionMessage(final int collapsed, final Object message) {
+		String template = message == null || message instanceof String ? (String) message : message.getClass().getName();
+		return "Repeated " + collapsed + (collapsed == 1 ? " time: " : " times: ") + template;
+	}
+
+	/**
+	 * Assign the elapsed time since the last mark to a phase, if the current log entry is measured.
+	 *
+	 * @param recorder
+	 *            Recorder or <code>null</code> if the current log entry is not measured
+	 * @param phase
+	 *            Completed phase
+	 */
+	private static void mark(final Timing.Recorder recorder, final Phase phase) {
+		if (recorder != null) {
+			recorder.mark(phase);
+		}
+	}
+
+	/**
+	 * Complete the last phase and record all phases, if the current log entry is measured.
+	 *
+	 * @param recorder
+	 *            Recorder or <code>null</code> if the current log entry is not measured
+	 * @param phase
+	 *            Last completed phase
+	 */
+	private static void stop(final Timing.Recorder recorder, final Phase phase) {
+		if (recorder != null) {
+			recorder.mark(phase);
+			recorder.stop();
 		}
 	}
 
@@ -985,7 +1163,8 @@ public final class Logger {
 	}
 
 	private static LogEntry[] createLogEntries(final Configuration currentConfiguration, final int strackTraceDepth, final Level level,
-			final StackTraceElement createdStackTraceElement, final Throwable exception, final Object message, final Object[] arguments) {
+			final StackTraceElement createdStackTraceElement, final Throwable exception, final Object message, final Object[] arguments,
+			final Timing.Recorder recorder) {
 		Set<LogEntryValue> requiredLogEntryValues = currentConfiguration.getRequiredLogEntryValues(level);
 		List<Token>[] formatTokens = currentConfiguration.getEffectiveFormatTokens(level);
 		LogEntry[] entries = new LogEntry[formatTokens.length];
@@ -1001,6 +1180,7 @@ public final class Logger {
 		String file = null;
 		int line = -1;
 		String renderedMessage = null;
+		String messageTemplate = null;
 
 		for (LogEntryValue logEntryValue : requiredLogEntryValues) {
 			switch (logEntryValue) {
@@ -1033,9 +1213,11 @@ public final class Logger {
 
 				case CLASS:
 					if (stackTraceElement == null) {
+						mark(recorder, Phase.RENDERING);
 						boolean onlyClassName = currentConfiguration.getRequiredStackTraceInformation(level) == StackTraceInformation.CLASS_NAME;
 						stackTraceElement = onlyClassName ? asStackTraceElement(dialect.getClassName(strackTraceDepth))
 								: dialect.getStackTraceElement(strackTraceDepth);
+						mark(recorder, Phase.STACK_TRACE);
 					}
 					className = stackTraceElement.getClassName();
 					for (int index = className.indexOf("$", 0); index != -1; index = className.indexOf('$', index + 2)) {
@@ -1056,37 +1238,44 @@ public final class Logger {
 
 				case METHOD:
 					if (stackTraceElement == null) {
+						mark(recorder, Phase.RENDERING);
 						stackTraceElement = dialect.getStackTraceElement(strackTraceDepth);
+						mark(recorder, Phase.STACK_TRACE);
 					}
 					method = stackTraceElement.getMethodName();
 					break;
 
 				case FILE:
 					if (stackTraceElement == null) {
+						mark(recorder, Phase.RENDERING);
 						stackTraceElement = dialect.getStackTraceElement(strackTraceDepth);
+						mark(recorder, Phase.STACK_TRACE);
 					}
 					file = stackTraceElement.getFileName();
 					break;
 
 				case LINE:
 					if (stackTraceElement == null) {
+						mark(recorder, Phase.RENDERING);
 						stackTraceElement = dialect.getStackTraceElement(strackTraceDepth);
+						mark(recorder, Phase.STACK_TRACE);
 					}
 					line = stackTraceElement.getLineNumber();
 					break;
 
 				case MESSAGE:
-					if (message != null) {
-						if (message instanceof String) {
-							renderedMessage = MessageFormatter.format((String) message, arguments);
-						} else if (message instanceof Supplier) {
-							Object value = ((Supplier) message).get();
-							if (value != null) {
-								renderedMessage = value.toString();
-							}
-						} else {
-							renderedMessage = message.toString();
-						}
+					mark(recorder, Phase.RENDERING);
+					renderedMessage = renderMessage(message, arguments);
+					mark(recorder, Phase.MESSAGE);
+					break;
+
+				case RAW_MESSAGE:
+					if (message instanceof String) {
+						messageTemplate = (String) message;
+					} else if (renderedMessage == null) {
+						mark(recorder, Phase.RENDERING);
+						renderedMessage = renderMessage(message, arguments);
+						mark(recorder, Phase.MESSAGE);
 					}
 					break;
 
@@ -1105,6 +1294,10 @@ public final class Logger {
 				logEntry = new LegacyLogEntry((Date) timestamp, processId, thread, context, className, method, file, line, level, renderedMessage, exception);
 			}
 
+			if (messageTemplate != null) {
+				logEntry.setRawMessage(messageTemplate, arguments);
+			}
+
 			List<Token> formatTokensOfWriter = formatTokens[i];
 			if (formatTokensOfWriter != null) {
 				StringBuilder builder = new StringBuilder(exception == null ? 256 : 1024);
@@ -1118,7 +1311,21 @@ public final class Logger {
 			entries[i] = logEntry;
 		}
 
+		mark(recorder, Phase.RENDERING);
 		return entries;
 	}
 
+	private static String renderMessage(final Object message, final Object[] arguments) {
+		if (message == null) {
+			return null;
+		} else if (message instanceof String) {
+			return MessageFormatter.format((String) message, arguments);
+		} else if (message instanceof Supplier) {
+			Object value = ((Supplier) message).get();
+			return value == null ? null : value.toString();
+		} else {
+			return message.toString();
+		}
+	}
+
 }
@@ -13,8 +13,7 @@
 
 package org.cooder.tinylog;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.io.Closeable;
 import java.util.Map;
 
 /**
@@ -25,18 +24,23 @@ import java.util.Map;
  * If logging context is used in a thread from a thread pool, {@link #clear()} should be called before putting the
  * thread back to the pool.
  * </p>
+ *
+ * <p>
+ * The mapping is immutable. Modifications replace the mapping of the current thread, so log entries can keep the
+ * mapping of their creation time without copying it.
+ * </p>
  */
 public final class LoggingContext {
 
-	private static final ThreadLocal<Map<String, String>> data = new InheritableThreadLocal<Map<String, String>>() {
+	private static final ThreadLocal<ContextMap> data = new InheritableThreadLocal<ContextMap>() {
 
 		@Override
-		protected Map<String, String> initialValue() {
-			return Collections.<String, String> emptyMap();
+		protected ContextMap initialValue() {
+			return ContextMap.EMPTY;
 		}
 
 		@Override
-		protected Map<String, String> childValue(final Map<String, String> parentValue) {
+		protected ContextMap childValue(final ContextMap parentValue) {
 			return parentValue;
 		}
 
@@ -75,13 +79,31 @@ public final class LoggingContext {
 	 *            New value
 	 */
 	public static void put(final String key, final Object value) {
-		Map<String, String> map = new HashMap<String, String>(data.get());
-		if (value == null) {
-			map.remove(key);
-		} else {
-			map.put(key, value.toString());
+		ContextMap map = data.get();
+		ContextMap newMap = value == null ? map.without(key) : map.with(key, value.toString());
+		if (newMap != map) {
+			data.set(newMap);
 		}
-		data.set(Collections.<String, String> unmodifiableMap(map));
+	}
+
+	/**
+	 * Put a new context value, which will be reverted when the returned scope is closed. The previous value of the key
+	 * will be restored respectively the key will be removed, if there was no previous value.
+	 *
+	 * <p>
+	 * Example: <code>try (LoggingContext.Scope scope = LoggingContext.scope("user", name)) { ... }</code>
+	 * </p>
+	 *
+	 * @param key
+	 *            Key of mapping
+	 * @param value
+	 *            New value
+	 * @return Scope to revert the context value
+	 */
+	public static Scope scope(final String key, final Object value) {
+		Scope scope = new Scope(key, data.get().get(key));
+		put(key, value);
+		return scope;
 	}
 
 	/**
@@ -91,16 +113,41 @@ public final class LoggingContext {
 	 *            Key of mapping
 	 */
 	public static void remove(final String key) {
-		Map<String, String> map = new HashMap<String, String>(data.get());
-		map.remove(key);
-		data.set(map.isEmpty() ? Collections.<String, String> emptyMap() : Collections.<String, String> unmodifiableMap(map));
+		ContextMap map = data.get();
+		ContextMap newMap = map.without(key);
+		if (newMap != map) {
+			data.set(newMap);
+		}
 	}
 
 	/**
 	 * Remove all existing context values.
 	 */
 	public static void clear() {
-		data.set(Collections.<String, String> emptyMap());
+		data.set(ContextMap.EMPTY);
+	}
+
+	/**
+	 * Scope of a context value. Closing the scope restores the previous value.
+	 */
+	public static final class Scope implements Closeable {
+
+		private final String key;
+		private final String previousValue;
+
+		private Scope(final String key, final String previousValue) {
+			this.key = key;
+			this.previousValue = previousValue;
+		}
+
+		/**
+		 * Restore the previous context value.
+		 */
+		@Override
+		public void close() {
+			put(key, previousValue);
+		}
+
 	}
 
 }
@@ -0,0 +1,406 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.ObjectName;
+
+import org.cooder.tinylog.writers.Writer;
+
+/**
+ * Counters and histograms of the logging pipeline. Statistics are only recorded, if enabled by the active configuration
+ * (see {@link Configurator#statistics(boolean)}). Otherwise, all record methods return immediately.
+ *
+ * Counters are striped over several cells, which are selected by the current thread, and histograms use fixed power of
+ * two buckets. Therefore recording doesn't require any locks and causes hardly any contention between threads.
+ */
+public final class Metrics {
+
+	/**
+	 * Name of the statistics MBean.
+	 */
+	static final String OBJECT_NAME = "org.cooder.tinylog:type=Statistics";
+
+	private static final Level[] LEVELS = Level.values();
+
+	private static final Counter[] ENTRIES = createCounters();
+	private static final Counter[] DISCARDED_BY_LEVEL = createCounters();
+	private static final Counter[] DISCARDED_BY_CUSTOM_LEVEL = createCounters();
+	private static final AtomicInteger QUEUE_DEPTH = new AtomicInteger();
+	private static final AtomicInteger QUEUE_HIGH_WATER_MARK = new AtomicInteger();
+	private static final ConcurrentMap<Writer, WriterMetrics> WRITERS = new ConcurrentHashMap<Writer, WriterMetrics>();
+
+	private static final Object mutex = new Object();
+	private static volatile boolean enabled;
+	private static boolean registered;
+
+	private Metrics() {
+	}
+
+	/**
+	 * Check whether statistics are recorded.
+	 *
+	 * @return <code>true</code> if statistics are enabled, <code>false</code> if not
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Record the number of bytes, which a writer has written.
+	 *
+	 * @param writer
+	 *            Writer that has written the bytes
+	 * @param bytes
+	 *            Number of written bytes
+	 */
+	public static void recordBytes(final Writer writer, final int bytes) {
+		if (enabled) {
+			getWriterMetrics(writer).bytes.add(bytes);
+		}
+	}
+
+	/**
+	 * Record a rollover of a log file.
+	 *
+	 * @param writer
+	 *            Writer that has rolled its log file
+	 * @param nanos
+	 *            Duration of the rollover in nanoseconds
+	 */
+	public static void recordRollover(final Writer writer, final long nanos) {
+		if (enabled) {
+			getWriterMetrics(writer).rollovers.record(nanos);
+		}
+	}
+
+	/**
+	 * Record an executed batch.
+	 *
+	 * @param writer
+	 *            Writer that has executed the batch
+	 * @param size
+	 *            Number of log entries in the batch
+	 */
+	public static void recordBatch(final Writer writer, final int size) {
+		if (enabled) {
+			getWriterMetrics(writer).batches.record(size);
+		}
+	}
+
+	/**
+	 * Record a reestablished connection.
+	 *
+	 * @param writer
+	 *            Writer that has reconnected
+	 */
+	public static void recordReconnect(final Writer writer) {
+		if (enabled) {
+			getWriterMetrics(writer).reconnects.add(1L);
+		}
+	}
+
+	/**
+	 * Record log entries, which a writer has irrecoverably lost.
+	 *
+	 * @param writer
+	 *            Writer that has lost the log entries
+	 * @param count
+	 *            Number of lost log entries
+	 */
+	public static void recordLostEntries(final Writer writer, final int count) {
+		if (enabled) {
+			getWriterMetrics(writer).lostEntries.add(count);
+		}
+	}
+
+	/**
+	 * Record a log entry, which is passed to the writers.
+	 *
+	 * @param level
+	 *            Severity level of log entry
+	 */
+	static void recordEntry(final Level level) {
+		if (enabled) {
+			ENTRIES[level.ordinal()].add(1L);
+		}
+	}
+
+	/**
+	 * Record a log entry, which has been discarded by the fast check of the lowest active severity level.
+	 *
+	 * @param level
+	 *            Severity level of log entry
+	 */
+	static void recordDiscardedByLevel(final Level level) {
+		if (enabled) {
+			DISCARDED_BY_LEVEL[level.ordinal()].add(1L);
+		}
+	}
+
+	/**
+	 * Record a log entry, which has been discarded by the severity level of its package or class.
+	 *
+	 * @param level
+	 *            Severity level of log entry
+	 */
+	static void recordDiscardedByCustomLevel(final Level level) {
+		if (enabled) {
+			DISCARDED_BY_CUSTOM_LEVEL[level.ordinal()].add(1L);
+		}
+	}
+
+	/**
+	 * Record the duration of writing a log entry.
+	 *
+	 * @param writer
+	 *            Writer that has written the log entry
+	 * @param nanos
+	 *            Duration in nanoseconds
+	 */
+	static void recordWrite(final Writer writer, final long nanos) {
+		if (enabled) {
+			getWriterMetrics(writer).writes.record(nanos);
+		}
+	}
+
+	/**
+	 * Record the duration of flushing a writer.
+	 *
+	 * @param writer
+	 *            Flushed writer
+	 * @param nanos
+	 *            Duration in nanoseconds
+	 */
+	static void recordFlush(final Writer writer, final long nanos) {
+		if (enabled) {
+			getWriterMetrics(writer).flushes.record(nanos);
+		}
+	}
+
+	/**
+	 * Record the current number of queued log entries of the writing thread.
+	 *
+	 * @param depth
+	 *            Number of queued log entries
+	 */
+	static void recordQueueDepth(final int depth) {
+		if (enabled) {
+			QUEUE_DEPTH.set(depth);
+			for (int highWaterMark = QUEUE_HIGH_WATER_MARK.get(); depth > highWaterMark; highWaterMark = QUEUE_HIGH_WATER_MARK.get()) {
+				if (QUEUE_HIGH_WATER_MARK.compareAndSet(highWaterMark, depth)) {
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Apply the configuration. Recorded statistics of writers that are no longer used will be dropped. The statistics
+	 * MBean will be registered, when statistics or timing are enabled for the first time.
+	 *
+	 * @param configuration
+	 *            New configuration
+	 */
+	static void configure(final Configuration configuration) {
+		Collection<Writer> writers = configuration.getWriters();
+		WRITERS.keySet().retainAll(writers);
+
+		enabled = configuration.isStatisticsEnabled();
+
+		if (enabled || configuration.getTimingInterval() > 0) {
+			synchronized (mutex) {
+				if (!registered) {
+					registered = true;
+					register();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Create a snapshot of all recorded statistics.
+	 *
+	 * @return Current statistics
+	 */
+	static Statistics snapshot() {
+		Map<Writer, Statistics.WriterStatistics> writers = new IdentityHashMap<Writer, Statistics.WriterStatistics>();
+		for (Map.Entry<Writer, WriterMetrics> entry : WRITERS.entrySet()) {
+			writers.put(entry.getKey(), entry.getValue().snapshot(entry.getKey()));
+		}
+
+		return new Statistics(sum(ENTRIES), sum(DISCARDED_BY_LEVEL), sum(DISCARDED_BY_CUSTOM_LEVEL), QUEUE_DEPTH.get(), QUEUE_HIGH_WATER_MARK.get(),
+				InternalLogger.getWarningCount(), InternalLogger.getErrorCount(), writers, Timing.snapshot());
+	}
+
+	/**
+	 * Reset all recorded statistics (except the number of internal warnings and errors).
+	 */
+	static void reset() {
+		for (int i = 0; i < LEVELS.length; ++i) {
+			ENTRIES[i].reset();
+			DISCARDED_BY_LEVEL[i].reset();
+			DISCARDED_BY_CUSTOM_LEVEL[i].reset();
+		}
+		QUEUE_HIGH_WATER_MARK.set(QUEUE_DEPTH.get());
+		WRITERS.clear();
+		Timing.reset();
+	}
+
+	private static Counter[] createCounters() {
+		Counter[] counters = new Counter[LEVELS.length];
+		for (int i = 0; i < counters.length; ++i) {
+			counters[i] = new Counter();
+		}
+		return counters;
+	}
+
+	private static Map<Level, Long> sum(final Counter[] counters) {
+		Map<Level, Long> map = new EnumMap<Level, Long>(Level.class);
+		for (Level level : LEVELS) {
+			if (level != Level.OFF) {
+				map.put(level, counters[level.ordinal()].sum());
+			}
+		}
+		return map;
+	}
+
+	private static WriterMetrics getWriterMetrics(final Writer writer) {
+		WriterMetrics metrics = WRITERS.get(writer);
+		if (metrics == null) {
+			WriterMetrics created = new WriterMetrics();
+			metrics = WRITERS.putIfAbsent(writer, created);
+			if (metrics == null) {
+				metrics = created;
+			}
+		}
+		return metrics;
+	}
+
+	private static void register() {
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(new StatisticsBean(), new ObjectName(OBJECT_NAME));
+		} catch (Exception ex) {
+			InternalLogger.warn(ex, "Failed to register statistics MBean");
+		} catch (LinkageError error) {
+			/* JMX is not available on all platforms (e.g. Android) */
+			InternalLogger.warn("JMX is not supported, statistics are only available via Logger.getStatistics()");
+		}
+	}
+
+	/**
+	 * Counter, which is striped over several cells for avoiding contention between threads. Each cell is padded to an
+	 * own cache line.
+	 */
+	private static final class Counter {
+
+		private static final int STRIPES = Math.min(64, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+		private static final int PADDING = 8;
+
+		private final AtomicLongArray cells;
+
+		private Counter() {
+			cells = new AtomicLongArray(STRIPES * PADDING);
+		}
+
+		private void add(final long value) {
+			cells.addAndGet(((int) Thread.currentThread().getId() & (STRIPES - 1)) * PADDING, value);
+		}
+
+		private long sum() {
+			long sum = 0L;
+			for (int i = 0; i < STRIPES; ++i) {
+				sum += cells.get(i * PADDING);
+			}
+			return sum;
+		}
+
+		private void reset() {
+			for (int i = 0; i < STRIPES; ++i) {
+				cells.set(i * PADDING, 0L);
+			}
+		}
+
+	}
+
+	/**
+	 * Histogram with power of two buckets. Bucket 0 contains all zero values and bucket n all values between
+	 * 2<sup>n-1</sup> and 2<sup>n</sup>-1.
+	 */
+	private static final class Histogram {
+
+		private final AtomicLongArray buckets;
+		private final Counter sum;
+		private final AtomicLong maximum;
+
+		private Histogram() {
+			buckets = new AtomicLongArray(Long.SIZE + 1);
+			sum = new Counter();
+			maximum = new AtomicLong();
+		}
+
+		private void record(final long value) {
+			long positive = Math.max(0L, value);
+			buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(positive));
+			sum.add(positive);
+			for (long current = maximum.get(); positive > current; current = maximum.get()) {
+				if (maximum.compareAndSet(current, positive)) {
+					break;
+				}
+			}
+		}
+
+		private Statistics.Distribution snapshot() {
+			long[] counts = new long[buckets.length()];
+			for (int i = 0; i < counts.length; ++i) {
+				counts[i] = buckets.get(i);
+			}
+			return new Statistics.Distribution(counts, sum.sum(), maximum.get());
+		}
+
+	}
+
+	/**
+	 * All recorded statistics of a writer.
+	 */
+	private static final class WriterMetrics {
+
+		private final Counter bytes = new Counter();
+		private final Histogram writes = new Histogram();
+		private final Histogram flushes = new Histogram();
+		private final Histogram rollovers = new Histogram();
+		private final Histogram batches = new Histogram();
+		private final Counter reconnects = new Counter();
+		private final Counter lostEntries = new Counter();
+
+		private Statistics.WriterStatistics snapshot(final Writer writer) {
+			String name = writer.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(writer));
+			return new Statistics.WriterStatistics(name, bytes.sum(), writes.snapshot(), flushes.snapshot(), rollovers.snapshot(), batches.snapshot(),
+					reconnects.sum(), lostEntries.sum());
+		}
+
+	}
+
+}
@@ -0,0 +1,470 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Filter for log entries, which is applied before passing log entries to writers. Identical log entries (same message
+ * template, class and exception type) within a defined interval are collapsed, and log entries exceeding a
+ * {@link RateLimit} are discarded.
+ *
+ * All counters are updated by compare-and-set operations, so that the filter itself doesn't require any locks. The
+ * number of collapsed log entries is reported by the next identical log entry after the interval, or by a background
+ * thread, if no further identical log entry arrives.
+ */
+final class OutputFilter {
+
+	/**
+	 * Result of {@link #filter(Level, String, Object, Throwable, long)} for discarded log entries.
+	 */
+	static final int DISCARD = -1;
+
+	private static final int MAX_KEYS = 10000;
+	private static final String REPORTER_THREAD_NAME = "tinylog-RepetitionReporter";
+
+	private static final Object mutex = new Object();
+	private static Reporter reporter = null;
+
+	private final Limiter[] limiters;
+	private final long duplicateInterval;
+	private final ConcurrentMap<DuplicateKey, Repetition> repetitions;
+	private final boolean classNameRequired;
+
+	/**
+	 * @param rateLimits
+	 *            Rate limits to apply
+	 * @param duplicateInterval
+	 *            Interval in milliseconds for collapsing identical log entries (0 to disable)
+	 */
+	private OutputFilter(final List<RateLimit> rateLimits, final long duplicateInterval) {
+		this.limiters = new Limiter[rateLimits.size()];
+		boolean classScope = false;
+		for (int i = 0; i < limiters.length; ++i) {
+			RateLimit rateLimit = rateLimits.get(i);
+			limiters[i] = new Limiter(rateLimit);
+			classScope |= rateLimit.getScope() == RateLimit.Scope.CLASS;
+		}
+
+		this.duplicateInterval = duplicateInterval * 1000000L;
+		this.repetitions = duplicateInterval > 0 ? new ConcurrentHashMap<DuplicateKey, Repetition>() : null;
+		this.classNameRequired = classScope || duplicateInterval > 0;
+	}
+
+	/**
+	 * Create a filter.
+	 *
+	 * @param rateLimits
+	 *            Rate limits to apply
+	 * @param duplicateInterval
+	 *            Interval in milliseconds for collapsing identical log entries (0 to disable)
+	 * @return Created filter or <code>null</code> if nothing is to filter
+	 */
+	static OutputFilter create(final List<RateLimit> rateLimits, final long duplicateInterval) {
+		if (rateLimits.isEmpty() && duplicateInterval <= 0) {
+			return null;
+		} else {
+			return new OutputFilter(rateLimits, duplicateInterval);
+		}
+	}
+
+	/**
+	 * Start or stop the background thread for reporting collapsed log entries according to the configuration.
+	 *
+	 * @param configuration
+	 *            Active configuration
+	 */
+	static void configure(final Configuration configuration) {
+		long interval = configuration.getDuplicateInterval();
+
+		synchronized (mutex) {
+			if (reporter != null && reporter.interval != interval) {
+				reporter.shutdown();
+				if (reporter != Thread.currentThread()) {
+					try {
+						reporter.join();
+					} catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				reporter = null;
+			}
+
+			if (reporter == null && interval > 0L) {
+				reporter = new Reporter(interval);
+				reporter.start();
+			}
+		}
+	}
+
+	/**
+	 * Check whether the class name of log entries is required for filtering.
+	 *
+	 * @return <code>true</code> if class names are required, <code>false</code> if not
+	 */
+	boolean isClassNameRequired() {
+		return classNameRequired;
+	}
+
+	/**
+	 * Check a log entry.
+	 *
+	 * @param level
+	 *            Severity level of log entry
+	 * @param className
+	 *            Class name of log entry (can be <code>null</code> if not required)
+	 * @param message
+	 *            Message template or object to log
+	 * @param exception
+	 *            Exception to log (can be <code>null</code>)
+	 * @param now
+	 *            Current time in nanoseconds (as provided by {@link System#nanoTime()})
+	 * @return {@link #DISCARD} if the log entry has to be discarded, otherwise the number of collapsed identical log
+	 *         entries that have been discarded before
+	 */
+	int filter(final Level level, final String className, final Object message, final Throwable exception, final long now) {
+		Object template = message == null || message instanceof String ? message : message.getClass();
+
+		int collapsed = 0;
+		DuplicateKey key = null;
+		if (repetitions != null) {
+			key = new DuplicateKey(template, className, exception == null ? null : exception.getClass());
+			collapsed = checkRepetition(key, level, now);
+			if (collapsed == DISCARD) {
+				return DISCARD;
+			}
+		}
+
+		for (Limiter limiter : limiters) {
+			if (!limiter.acquire(level, className, template, now)) {
+				if (key != null) {
+					/* Log entry has passed the duplicate check, so it has to be counted as collapsed */
+					Repetition repetition = repetitions.get(key);
+					if (repetition != null) {
+						repetition.collapsed.addAndGet(collapsed + 1);
+					}
+				}
+				return DISCARD;
+			}
+		}
+
+		return collapsed;
+	}
+
+	/**
+	 * Take the numbers of collapsed log entries, whose interval has expired. Identical log entries, which have not
+	 * been output for a while, are removed.
+	 *
+	 * @param now
+	 *            Current time in nanoseconds (as provided by {@link System#nanoTime()})
+	 * @param all
+	 *            <code>true</code> to take the numbers of all collapsed log entries, regardless whether their interval
+	 *            has been expired
+	 * @return Summaries of collapsed log entries to output
+	 */
+	List<Summary> expire(final long now, final boolean all) {
+		if (repetitions == null) {
+			return Collections.emptyList();
+		}
+
+		List<Summary> summaries = new ArrayList<Summary>();
+		for (Map.Entry<DuplicateKey, Repetition> entry : repetitions.entrySet()) {
+			DuplicateKey key = entry.getKey();
+			Repetition repetition = entry.getValue();
+			long elapsed = now - repetition.start.get();
+			if (all || elapsed >= duplicateInterval) {
+				int collapsed = repetition.collapsed.getAndSet(0);
+				if (collapsed > 0) {
+					summaries.add(new Summary(repetition.level, key.className, key.template, collapsed));
+				} else if (elapsed >= 2 * duplicateInterval) {
+					/* A log entry might still be counted, if its interval is not evidently expired */
+					repetitions.remove(key, repetition);
+				}
+			}
+		}
+		return summaries;
+	}
+
+	private int checkRepetition(final DuplicateKey key, final Level level, final long now) {
+		Repetition repetition = repetitions.get(key);
+		if (repetition == null) {
+			if (repetitions.size() >= MAX_KEYS) {
+				trim(now);
+				if (repetitions.size() >= MAX_KEYS) {
+					/* All tracked log entries are still collapsed, so the new one cannot be tracked */
+					return 0;
+				}
+			}
+			repetition = repetitions.putIfAbsent(key, new Repetition(level, now));
+			if (repetition == null) {
+				return 0;
+			}
+		}
+
+		long start = repetition.start.get();
+		if (now - start >= duplicateInterval && repetition.start.compareAndSet(start, now)) {
+			return repetition.collapsed.getAndSet(0);
+		} else {
+			repetition.collapsed.incrementAndGet();
+			return DISCARD;
+		}
+	}
+
+	private void trim(final long now) {
+		for (Map.Entry<DuplicateKey, Repetition> entry : repetitions.entrySet()) {
+			Repetition repetition = entry.getValue();
+			if (repetition.collapsed.get() == 0 && now - repetition.start.get() >= 2 * duplicateInterval) {
+				repetitions.remove(entry.getKey(), repetition);
+			}
+		}
+	}
+
+	/**
+	 * Token buckets of a rate limit, implemented as generic cell rate algorithm. Each bucket stores the theoretical
+	 * arrival time of the next log entry, which can be updated by a single compare-and-set operation.
+	 */
+	private static final class Limiter {
+
+		private final RateLimit.Scope scope;
+		private final long interval;
+		private final long tolerance;
+		private final AtomicLong[] levels;
+		private final ConcurrentMap<Object, AtomicLong> buckets;
+
+		private Limiter(final RateLimit rateLimit) {
+			this.scope = rateLimit.getScope();
+			this.interval = rateLimit.getInterval();
+			this.tolerance = rateLimit.getBurst() * interval;
+
+			if (scope == RateLimit.Scope.LEVEL) {
+				this.levels = new AtomicLong[Level.values().length];
+				for (int i = 0; i < levels.length; ++i) {
+					levels[i] = new AtomicLong(Long.MIN_VALUE);
+				}
+				this.buckets = null;
+			} else {
+				this.levels = null;
+				this.buckets = new ConcurrentHashMap<Object, AtomicLong>();
+			}
+		}
+
+		private boolean acquire(final Level level, final String className, final Object template, final long now) {
+			AtomicLong bucket;
+			if (scope == RateLimit.Scope.LEVEL) {
+				bucket = levels[level.ordinal()];
+			} else {
+				bucket = getBucket(scope == RateLimit.Scope.CLASS ? className : template);
+			}
+
+			while (true) {
+				long arrival = bucket.get();
+				long next = Math.max(arrival, now) + interval;
+				if (next - now > tolerance) {
+					return false;
+				} else if (bucket.compareAndSet(arrival, next)) {
+					return true;
+				}
+			}
+		}
+
+		private AtomicLong getBucket(final Object key) {
+			Object nonNullKey = key == null ? Limiter.class : key;
+			AtomicLong bucket = buckets.get(nonNullKey);
+			if (bucket == null) {
+				if (buckets.size() >= MAX_KEYS) {
+					buckets.clear();
+				}
+				AtomicLong created = new AtomicLong(Long.MIN_VALUE);
+				bucket = buckets.putIfAbsent(nonNullKey, created);
+				if (bucket == null) {
+					bucket = created;
+				}
+			}
+			return bucket;
+		}
+
+	}
+
+	/**
+	 * Start time of the current interval and counter of collapsed log entries for identical log entries.
+	 */
+	private static final class Repetition {
+
+		private final Level level;
+		private final AtomicLong start;
+		private final AtomicInteger collapsed;
+
+		private Repetition(final Level level, final long start) {
+			this.level = level;
+			this.start = new AtomicLong(start);
+			this.collapsed = new AtomicInteger();
+		}
+
+	}
+
+	/**
+	 * Number of collapsed identical log entries, which has to be output.
+	 */
+	static final class Summary {
+
+		private final Level level;
+		private final String className;
+		private final Object template;
+		private final int collapsed;
+
+		private Summary(final Level level, final String className, final Object template, final int collapsed) {
+			this.level = level;
+			this.className = className;
+			this.template = template;
+			this.collapsed = collapsed;
+		}
+
+		/**
+		 * Get the severity level of the collapsed log entries.
+		 *
+		 * @return Severity level
+		 */
+		Level getLevel() {
+			return level;
+		}
+
+		/**
+		 * Get the class name of the collapsed log entries.
+		 *
+		 * @return Class name
+		 */
+		String getClassName() {
+			return className;
+		}
+
+		/**
+		 * Get the message template of the collapsed log entries. Message objects are represented by their class name.
+		 *
+		 * @return Message template (can be <code>null</code>)
+		 */
+		String getTemplate() {
+			return template instanceof Class ? ((Class<?>) template).getName() : (String) template;
+		}
+
+		/**
+		 * Get the number of collapsed log entries.
+		 *
+		 * @return Number of collapsed log entries
+		 */
+		int getCollapsed() {
+			return collapsed;
+		}
+
+	}
+
+	/**
+	 * Thread for outputting collapsed log entries, for which no further identical log entry has arrived.
+	 */
+	private static final class Reporter extends Thread {
+
+		private final long interval;
+		private final Object signal;
+		private volatile boolean shutdown;
+
+		private Reporter(final long interval) {
+			this.interval = interval;
+			this.signal = new Object();
+			setName(REPORTER_THREAD_NAME);
+			setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			while (!shutdown) {
+				synchronized (signal) {
+					try {
+						if (!shutdown) {
+							signal.wait(interval);
+						}
+					} catch (InterruptedException ex) {
+						continue;
+					}
+				}
+
+				if (!shutdown) {
+					Logger.outputRepetitions();
+				}
+			}
+		}
+
+		/**
+		 * Writers can be interrupted while writing, so the thread is woken up without interrupting it.
+		 */
+		private void shutdown() {
+			synchronized (signal) {
+				shutdown = true;
+				signal.notifyAll();
+			}
+		}
+
+	}
+
+	/**
+	 * Identity of log entries for collapsing.
+	 */
+	private static final class DuplicateKey {
+
+		private final Object template;
+		private final String className;
+		private final Class<?> exceptionClass;
+		private final int hashCode;
+
+		private DuplicateKey(final Object template, final String className, final Class<?> exceptionClass) {
+			this.template = template;
+			this.className = className;
+			this.exceptionClass = exceptionClass;
+			this.hashCode = (hash(template) * 31 + hash(className)) * 31 + hash(exceptionClass);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			} else if (obj instanceof DuplicateKey) {
+				DuplicateKey other = (DuplicateKey) obj;
+				return hashCode == other.hashCode && equal(template, other.template) && equal(className, other.className)
+						&& exceptionClass == other.exceptionClass;
+			} else {
+				return false;
+			}
+		}
+
+		private static int hash(final Object object) {
+			return object == null ? 0 : object.hashCode();
+		}
+
+		private static boolean equal(final Object first, final Object second) {
+			return first == null ? second == null : first.equals(second);
+		}
+
+	}
+
+}
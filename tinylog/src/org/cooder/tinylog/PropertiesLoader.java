@@ -21,14 +21,18 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.regex.Pattern;
 
@@ -86,6 +90,51 @@ final class PropertiesLoader {
 	 */
 	static final String WRITING_THREAD_PRIORITY_PROPERTY = WRITING_THREAD_PROPERTY + ".priority";
 
+	/**
+	 * Name prefix of properties for rate limits (followed by ".level", ".class" or ".message").
+	 */
+	static final String RATE_LIMIT_PROPERTY = TINYLOG_PREFIX + ".ratelimit";
+
+	/**
+	 * Name of property for the interval of collapsing identical log entries.
+	 */
+	static final String DUPLICATES_PROPERTY = TINYLOG_PREFIX + ".duplicates";
+
+	/**
+	 * Name of property for the global sampling rate of trace and debug log entries.
+	 */
+	static final String SAMPLING_PROPERTY = TINYLOG_PREFIX + ".sample";
+
+	/**
+	 * Name of property for the key of the context value for consistent sampling.
+	 */
+	static final String SAMPLING_KEY_PROPERTY = SAMPLING_PROPERTY + ".key";
+
+	/**
+	 * Name of property for enabling the recording of statistics.
+	 */
+	static final String STATISTICS_PROPERTY = TINYLOG_PREFIX + ".statistics";
+
+	/**
+	 * Name of property for the sampling interval of measuring output phases.
+	 */
+	static final String TIMING_PROPERTY = TINYLOG_PREFIX + ".timing";
+
+	/**
+	 * Name of property for the interval of outputting the measured timing as log entry.
+	 */
+	static final String TIMING_DUMP_PROPERTY = TIMING_PROPERTY + ".dump";
+
+	/**
+	 * Name of property for the queue size of initializing writers in background.
+	 */
+	static final String DEFERRED_INIT_PROPERTY = TINYLOG_PREFIX + ".deferredinit";
+
+	/**
+	 * Name of property for the timeout of log entries, which are buffered while initializing writers in background.
+	 */
+	static final String DEFERRED_INIT_TIMEOUT_PROPERTY = DEFERRED_INIT_PROPERTY + ".timeout";
+
 	/**
 	 * Prefix for path to services.
 	 */
@@ -96,6 +145,11 @@ final class PropertiesLoader {
 	 */
 	static final String CUSTOM_LEVEL_PREFIX = LEVEL_PROPERTY + "@";
 
+	/**
+	 * Name prefix of properties for custom sampling rates.
+	 */
+	static final String CUSTOM_SAMPLING_PREFIX = SAMPLING_PROPERTY + "@";
+
 	private PropertiesLoader() {
 	}
 
@@ -114,6 +168,10 @@ final class PropertiesLoader {
 		readMaxStackTraceElements(configurator, properties);
 		readWriters(configurator, properties);
 		readWritingThread(configurator, properties);
+		readOutputFilter(configurator, properties);
+		readSampling(configurator, properties);
+		readStatistics(configurator, properties);
+		readDeferredInit(configurator, properties);
 		return configurator;
 	}
 
@@ -199,24 +257,157 @@ final class PropertiesLoader {
 	}
 
 	/**
-	 * Load writers from properties.
+	 * Load rate limits and the interval for collapsing identical log entries from properties.
 	 *
 	 * @param configurator
 	 *            Configurator to update
 	 * @param properties
 	 *            Properties with configuration
 	 */
-	static void readWriters(final Configurator configurator, final Properties properties) {
-		Set<String> writerProperties = new TreeSet<String>(); // Sorted
-		for (Object key : properties.keySet()) {
-			String propertyName = (String) key;
-			if (propertyName.startsWith(WRITER_PROPERTY) && propertyName.indexOf('.', WRITER_PROPERTY.length()) == -1) {
-				writerProperties.add(propertyName);
+	static void readOutputFilter(final Configurator configurator, final Properties properties) {
+		for (RateLimit.Scope scope : RateLimit.Scope.values()) {
+			String definition = properties.getProperty(RATE_LIMIT_PROPERTY + "." + scope.name().toLowerCase(Locale.ENGLISH));
+			if (definition != null && definition.trim().length() > 0) {
+				try {
+					configurator.rateLimit(new RateLimit(scope, definition.trim()));
+				} catch (IllegalArgumentException ex) {
+					InternalLogger.warn("\"{}\" is an invalid rate limit", definition);
+				}
+			}
+		}
+
+		String duplicates = properties.getProperty(DUPLICATES_PROPERTY);
+		if (duplicates != null && duplicates.trim().length() > 0) {
+			try {
+				configurator.suppressDuplicates(parseInterval(duplicates));
+			} catch (NumberFormatException ex) {
+				InternalLogger.warn("\"{}\" is an invalid interval for collapsing identical log entries", duplicates);
+			}
+		}
+	}
+
+	/**
+	 * Load sampling rates and the key for consistent sampling from properties. Sampling rates can be defined as
+	 * fraction ("0.01"), as one of N ("1/100") or as percentage ("1%").
+	 *
+	 * @param configurator
+	 *            Configurator to update
+	 * @param properties
+	 *            Properties with configuration
+	 */
+	static void readSampling(final Configurator configurator, final Properties properties) {
+		Double rate = readSamplingRate(properties, SAMPLING_PROPERTY);
+		if (rate != null) {
+			configurator.sample(rate);
+		}
+
+		Enumeration<Object> keys = properties.keys();
+		while (keys.hasMoreElements()) {
+			String key = (String) keys.nextElement();
+			if (key.startsWith(CUSTOM_SAMPLING_PREFIX)) {
+				Double customRate = readSamplingRate(properties, key);
+				if (customRate != null) {
+					configurator.sample(key.substring(CUSTOM_SAMPLING_PREFIX.length()), customRate);
+				}
+			}
+		}
+
+		String samplingKey = properties.getProperty(SAMPLING_KEY_PROPERTY);
+		if (samplingKey != null && samplingKey.trim().length() > 0) {
+			configurator.sampleBy(samplingKey.trim());
+		}
+	}
+
+	/**
+	 * Load whether statistics of the logging pipeline are to record from properties.
+	 *
+	 * @param configurator
+	 *            Configurator to update
+	 * @param properties
+	 *            Properties with configuration
+	 */
+	static void readStatistics(final Configurator configurator, final Properties properties) {
+		String statistics = properties.getProperty(STATISTICS_PROPERTY);
+		if (statistics != null) {
+			configurator.statistics("true".equalsIgnoreCase(statistics.trim()));
+		}
+
+		String timing = properties.getProperty(TIMING_PROPERTY);
+		if (timing != null && timing.trim().length() > 0) {
+			try {
+				configurator.timing(Integer.parseInt(timing.trim()));
+			} catch (NumberFormatException ex) {
+				InternalLogger.warn("\"{}\" is an invalid sampling interval for timing", timing);
+			}
+		}
+
+		String dump = properties.getProperty(TIMING_DUMP_PROPERTY);
+		if (dump != null && dump.trim().length() > 0) {
+			try {
+				configurator.timingDump(parseInterval(dump));
+			} catch (NumberFormatException ex) {
+				InternalLogger.warn("\"{}\" is an invalid interval for outputting timing", dump);
+			}
+		}
+	}
+
+	/**
+	 * Load whether writers are to initialize in background from properties.
+	 *
+	 * @param configurator
+	 *            Configurator to update
+	 * @param properties
+	 *            Properties with configuration
+	 */
+	static void readDeferredInit(final Configurator configurator, final Properties properties) {
+		String queueSize = properties.getProperty(DEFERRED_INIT_PROPERTY);
+		if (queueSize != null && queueSize.trim().length() > 0) {
+			try {
+				configurator.deferredInit(Integer.parseInt(queueSize.trim()));
+			} catch (NumberFormatException ex) {
+				InternalLogger.warn("\"{}\" is an invalid queue size for initializing writers in background", queueSize);
 			}
 		}
 
+		String timeout = properties.getProperty(DEFERRED_INIT_TIMEOUT_PROPERTY);
+		if (timeout != null && timeout.trim().length() > 0) {
+			try {
+				configurator.deferredInitTimeout(parseInterval(timeout));
+			} catch (NumberFormatException ex) {
+				InternalLogger.warn("\"{}\" is an invalid timeout for buffered log entries", timeout);
+			}
+		}
+	}
+
+	/**
+	 * Load writers from properties.
+	 *
+	 * @param configurator
+	 *            Configurator to update
+	 * @param properties
+	 *            Properties with configuration
+	 */
+	static void readWriters(final Configurator configurator, final Properties properties) {
+		readWriters(configurator, properties, new HashMap<String, Writer>());
+	}
+
+	/**
+	 * Load writers from properties. Writers with unchanged properties are reused instead of creating new instances.
+	 *
+	 * @param configurator
+	 *            Configurator to update
+	 * @param properties
+	 *            Properties with configuration
+	 * @param reusableWriters
+	 *            Existing writers mapped by their properties (reused writers will be removed)
+	 * @return All created and reused writers mapped by their properties
+	 */
+	static Map<String, Writer> readWriters(final Configurator configurator, final Properties properties, final Map<String, Writer> reusableWriters) {
+		Map<String, Writer> writers = new HashMap<String, Writer>();
+		Collection<ImplementationRegistry> registries = null;
+
 		boolean first = true;
-		for (String propertyName : writerProperties) {
+		for (String propertyName : getWriterProperties(properties)) {
 			String writerName = properties.getProperty(propertyName);
 			if (writerName != null && writerName.length() > 0) {
 				if (writerName.equalsIgnoreCase("null")) {
@@ -225,8 +416,31 @@ final class PropertiesLoader {
 						first = false;
 					}
 				} else {
-					Writer writer = readWriter(properties, propertyName, writerName);
+					String key = null;
+					Writer writer = null;
+					for (int variant = 0; variant < 4 && writer == null; ++variant) {
+						boolean withLevel = (variant & 1) == 0;
+						boolean withFormat = (variant & 2) == 0;
+						key = getWriterKey(properties, propertyName, writerName, withLevel, withFormat);
+						writer = reusableWriters.get(key);
+						if (writer != null && !key.equals(getWriterKey(properties, propertyName, writerName, writer.getClass()))) {
+							/* Writer declares level or format pattern as own property, which has been changed */
+							writer = null;
+						}
+					}
+					if (writer == null) {
+						if (registries == null) {
+							registries = findRegistries();
+						}
+						writer = readWriter(properties, propertyName, writerName, registries);
+						if (writer != null) {
+							key = getWriterKey(properties, propertyName, writerName, writer.getClass());
+						}
+					} else {
+						reusableWriters.remove(key);
+					}
 					if (writer != null) {
+						writers.put(key, writer);
 						Level level = readLevel(properties, propertyName + LEVEL_PROPERTY.substring(TINYLOG_PREFIX.length()));
 						String formatPattern = readFormatPattern(properties, propertyName + FORMAT_PROPERTY.substring(TINYLOG_PREFIX.length()));
 						if (first) {
@@ -239,6 +453,39 @@ final class PropertiesLoader {
 				}
 			}
 		}
+
+		return writers;
+	}
+
+	/**
+	 * Map the writers of a configurator by their properties. Writers can be only mapped if the configurator has been
+	 * created from the passed properties and all writers could be created successfully.
+	 *
+	 * @param configurator
+	 *            Configurator with writers, which has been created from the passed properties
+	 * @param properties
+	 *            Properties with configuration
+	 * @return Writers mapped by their properties (will be empty, if writers cannot be mapped)
+	 */
+	static Map<String, Writer> mapWriters(final Configurator configurator, final Properties properties) {
+		List<String> propertyNames = new ArrayList<String>();
+		for (String propertyName : getWriterProperties(properties)) {
+			String writerName = properties.getProperty(propertyName);
+			if (writerName != null && writerName.length() > 0 && !writerName.equalsIgnoreCase("null")) {
+				propertyNames.add(propertyName);
+			}
+		}
+
+		List<Writer> writers = configurator.getWriters();
+		Map<String, Writer> map = new HashMap<String, Writer>();
+		if (!propertyNames.isEmpty() && propertyNames.size() == writers.size()) {
+			for (int i = 0; i < propertyNames.size(); ++i) {
+				String propertyName = propertyNames.get(i);
+				Writer writer = writers.get(i);
+				map.put(getWriterKey(properties, propertyName, properties.getProperty(propertyName), writer.getClass()), writer);
+			}
+		}
+		return map;
 	}
 
 	/**
@@ -283,6 +530,50 @@ final class PropertiesLoader {
 		}
 	}
 
+	private static Set<String> getWriterProperties(final Properties properties) {
+		Set<String> writerProperties = new TreeSet<String>(); // Sorted
+		for (Object key : properties.keySet()) {
+			String propertyName = (String) key;
+			if (propertyName.startsWith(WRITER_PROPERTY) && propertyName.indexOf('.', WRITER_PROPERTY.length()) == -1) {
+				writerProperties.add(propertyName);
+			}
+		}
+		return writerProperties;
+	}
+
+	private static String getWriterKey(final Properties properties, final String propertyName, final String writerName, final Class<?> writerClass) {
+		String levelName = LEVEL_PROPERTY.substring(TINYLOG_PREFIX.length() + 1);
+		String formatName = FORMAT_PROPERTY.substring(TINYLOG_PREFIX.length() + 1);
+
+		boolean withLevel = false;
+		boolean withFormat = false;
+		org.cooder.tinylog.writers.PropertiesSupport propertiesSupport = writerClass.getAnnotation(org.cooder.tinylog.writers.PropertiesSupport.class);
+		if (propertiesSupport != null) {
+			for (org.cooder.tinylog.writers.Property property : propertiesSupport.properties()) {
+				withLevel |= levelName.equals(property.name());
+				withFormat |= formatName.equals(property.name());
+			}
+		}
+
+		return getWriterKey(properties, propertyName, writerName, withLevel, withFormat);
+	}
+
+	private static String getWriterKey(final Properties properties, final String propertyName, final String writerName, final boolean withLevel,
+			final boolean withFormat) {
+		String prefix = propertyName + ".";
+		String levelProperty = prefix + LEVEL_PROPERTY.substring(TINYLOG_PREFIX.length() + 1);
+		String formatProperty = prefix + FORMAT_PROPERTY.substring(TINYLOG_PREFIX.length() + 1);
+
+		Map<String, String> writerProperties = new TreeMap<String, String>(); // Sorted
+		for (Object key : properties.keySet()) {
+			String name = (String) key;
+			if (name.startsWith(prefix) && (withLevel || !name.equals(levelProperty)) && (withFormat || !name.equals(formatProperty))) {
+				writerProperties.put(name.substring(prefix.length()), properties.getProperty(name));
+			}
+		}
+		return writerName.toLowerCase(Locale.ENGLISH) + writerProperties;
+	}
+
 	private static void setWriter(final Configurator configurator, final Writer writer, final Level level, final String formatPattern) {
 		if (level == null) {
 			if (formatPattern == null) {
@@ -315,6 +606,46 @@ final class PropertiesLoader {
 		}
 	}
 
+	private static long parseInterval(final String value) {
+		String interval = value.trim().toLowerCase(Locale.ENGLISH);
+		if (interval.endsWith("ms")) {
+			return Long.parseLong(interval.substring(0, interval.length() - 2).trim());
+		} else if (interval.endsWith("s")) {
+			return Long.parseLong(interval.substring(0, interval.length() - 1).trim()) * 1000L;
+		} else {
+			return Long.parseLong(interval);
+		}
+	}
+
+	private static Double readSamplingRate(final Properties properties, final String propertyName) {
+		String value = properties.getProperty(propertyName);
+		if (value == null || value.trim().length() == 0) {
+			return null;
+		}
+
+		String rate = value.trim();
+		double result;
+		try {
+			int index = rate.indexOf('/');
+			if (index >= 0) {
+				result = Double.parseDouble(rate.substring(0, index).trim()) / Double.parseDouble(rate.substring(index + 1).trim());
+			} else if (rate.endsWith("%")) {
+				result = Double.parseDouble(rate.substring(0, rate.length() - 1).trim()) / 100d;
+			} else {
+				result = Double.parseDouble(rate);
+			}
+		} catch (NumberFormatException ex) {
+			result = Double.NaN;
+		}
+
+		if (result >= 0d && result <= 1d) {
+			return result;
+		} else {
+			InternalLogger.warn("\"{}\" is an invalid sampling rate", value);
+			return null;
+		}
+	}
+
 	private static Level readLevel(final Properties properties, final String propertyName) {
 		String levelName = properties.getProperty(propertyName);
 		if (levelName != null && levelName.length() > 0) {
@@ -338,12 +669,25 @@ final class PropertiesLoader {
 		}
 	}
 
-	private static Writer readWriter(final Properties properties, final String propertyName, final String writerName) {
+	private static Writer readWriter(final Properties properties, final String propertyName, final String writerName,
+			final Collection<ImplementationRegistry> registries) {
+		for (ImplementationRegistry registry : registries) {
+			Class<?> implementation = registry.findWriter(writerName);
+			if (implementation != null) {
+				org.cooder.tinylog.writers.PropertiesSupport propertiesSupport = implementation.getAnnotation(org.cooder.tinylog.writers.PropertiesSupport.class);
+				Writer writer = loadWriter(properties, propertyName, propertiesSupport.properties(), implementation, registry, registries);
+				if (writer == null) {
+					InternalLogger.error("Failed to initialize {} writer", writerName);
+				}
+				return writer;
+			}
+		}
+
 		for (Class<?> implementation : findImplementations(Writer.class)) {
 			org.cooder.tinylog.writers.PropertiesSupport propertiesSupport = implementation.getAnnotation(org.cooder.tinylog.writers.PropertiesSupport.class);
 			if (propertiesSupport != null) {
 				if (writerName.equalsIgnoreCase(propertiesSupport.name())) {
-					Writer writer = loadWriter(properties, propertyName, propertiesSupport.properties(), implementation);
+					Writer writer = loadWriter(properties, propertyName, propertiesSupport.properties(), implementation, null, registries);
 					if (writer == null) {
 						InternalLogger.error("Failed to initialize {} writer", writerName);
 					}
@@ -356,6 +700,24 @@ final class PropertiesLoader {
 		return null;
 	}
 
+	private static Collection<ImplementationRegistry> findRegistries() {
+		Collection<ImplementationRegistry> registries = new ArrayList<ImplementationRegistry>();
+		for (Class<?> implementation : findImplementations(ImplementationRegistry.class)) {
+			try {
+				registries.add((ImplementationRegistry) implementation.getConstructor().newInstance());
+			} catch (NoSuchMethodException ex) {
+				InternalLogger.error("\"{}\" does not have a public default constructor", implementation.getName());
+			} catch (InstantiationException ex) {
+				InternalLogger.error(ex, "Failed to create an instance of \"{}\"", implementation.getName());
+			} catch (IllegalAccessException ex) {
+				InternalLogger.error(ex, "Failed to create an instance of \"{}\"", implementation.getName());
+			} catch (InvocationTargetException ex) {
+				InternalLogger.error(ex.getTargetException(), "Failed to create an instance of \"{}\"", implementation.getName());
+			}
+		}
+		return registries;
+	}
+
 	private static Collection<Class<?>> findImplementations(final Class<?> service) {
 		try {
 			Enumeration<URL> urls = ClassLoaderResolver
@@ -411,44 +773,30 @@ final class PropertiesLoader {
 	}
 
 	private static Writer loadWriter(final Properties properties, final String propertiesPrefix, final org.cooder.tinylog.writers.Property[] definition,
-			final Class<?> writerClass) {
-		Object[] parameters = loadParameters(properties, propertiesPrefix, definition);
+			final Class<?> writerClass, final ImplementationRegistry registry, final Collection<ImplementationRegistry> registries) {
+		Object[] parameters = loadParameters(properties, propertiesPrefix, definition, registries);
 
 		if (parameters != null) {
-			for (Constructor<?> constructor : writerClass.getDeclaredConstructors()) {
-				Class<?>[] parameterTypes = constructor.getParameterTypes();
-				if (parameterTypes.length <= definition.length) {
-					BitSet skiped = new BitSet(definition.length);
-					boolean matches = true;
-					int offset = 0;
-					for (int i = 0; i < definition.length; ++i) {
-						Class<?> parameterType = i - offset < parameterTypes.length ? parameterTypes[i - offset] : null;
-						if (parameterType == null || !areCompatible(definition[i].type(), parameterType)) {
-							if (definition[i].optional() && parameters[i] == null) {
-								skiped.set(i);
-								++offset;
-							} else {
-								matches = false;
-								break;
-							}
-						} else if (parameters[i] == null && parameterType.isPrimitive()) {
-							matches = false;
-							break;
+			if (registry != null) {
+				Class<?>[][] constructors = registry.getConstructors(writerClass);
+				for (int i = 0; i < constructors.length; ++i) {
+					Object[] arguments = matchArguments(definition, parameters, constructors[i]);
+					if (arguments != null) {
+						try {
+							return (Writer) registry.create(writerClass, i, arguments);
+						} catch (Exception ex) {
+							InternalLogger.error(ex, "Failed to create an instance of \"{}\"", writerClass.getName());
+							return null;
 						}
 					}
-					if (matches) {
+				}
+			} else {
+				for (Constructor<?> constructor : writerClass.getDeclaredConstructors()) {
+					Object[] arguments = matchArguments(definition, parameters, constructor.getParameterTypes());
+					if (arguments != null) {
 						try {
-							if (parameters.length > parameterTypes.length) {
-								List<Object> list = new ArrayList<Object>();
-								for (int i = 0; i < parameters.length; ++i) {
-									if (!skiped.get(i)) {
-										list.add(parameters[i]);
-									}
-								}
-								parameters = list.toArray();
-							}
 							constructor.setAccessible(true);
-							return (Writer) constructor.newInstance(parameters);
+							return (Writer) constructor.newInstance(arguments);
 						} catch (IllegalArgumentException ex) {
 							InternalLogger.error(ex, "Failed to create an instance of \"{}\"", writerClass.getName());
 							return null;
@@ -470,7 +818,44 @@ final class PropertiesLoader {
 		return null;
 	}
 
-	private static Object[] loadParameters(final Properties properties, final String propertiesPrefix, final org.cooder.tinylog.writers.Property[] definition) {
+	private static Object[] matchArguments(final org.cooder.tinylog.writers.Property[] definition, final Object[] parameters, final Class<?>[] parameterTypes) {
+		if (parameterTypes.length > definition.length) {
+			return null;
+		}
+
+		BitSet skiped = new BitSet(definition.length);
+		int offset = 0;
+		for (int i = 0; i < definition.length; ++i) {
+			Class<?> parameterType = i - offset < parameterTypes.length ? parameterTypes[i - offset] : null;
+			if (parameterType == null || !areCompatible(definition[i].type(), parameterType)) {
+				if (definition[i].optional() && parameters[i] == null) {
+					skiped.set(i);
+					++offset;
+				} else {
+					return null;
+				}
+			} else if (parameters[i] == null && parameterType.isPrimitive()) {
+				return null;
+			}
+		}
+
+		if (definition.length - offset != parameterTypes.length) {
+			return null;
+		} else if (offset == 0) {
+			return parameters;
+		} else {
+			List<Object> list = new ArrayList<Object>();
+			for (int i = 0; i < parameters.length; ++i) {
+				if (!skiped.get(i)) {
+					list.add(parameters[i]);
+				}
+			}
+			return list.toArray();
+		}
+	}
+
+	private static Object[] loadParameters(final Properties properties, final String propertiesPrefix, final org.cooder.tinylog.writers.Property[] definition,
+			final Collection<ImplementationRegistry> registries) {
 		Object[] parameters = new Object[definition.length];
 
 		for (int i = 0; i < definition.length; ++i) {
@@ -506,29 +891,36 @@ final class PropertiesLoader {
 				} else if (String[].class.equals(type)) {
 					parameters[i] = parseStrings(value);
 				} else if (Labeler.class.equals(type)) {
-					Object labeler = parseLabeler(value);
+					Object labeler = parseLabeler(value, registries);
 					if (labeler == null) {
 						return null;
 					} else {
 						parameters[i] = labeler;
 					}
 				} else if (Policy.class.equals(type)) {
-					Object policy = parsePolicy(value);
+					Object policy = parsePolicy(value, registries);
 					if (policy == null) {
 						return null;
 					} else {
 						parameters[i] = policy;
 					}
 				} else if (Policy[].class.equals(type)) {
-					Policy[] policies = parsePolicies(value);
+					Policy[] policies = parsePolicies(value, registries);
 					if (policies == null) {
 						return null;
 					} else {
 						parameters[i] = policies;
 					}
+				} else if (Writer.class.equals(type)) {
+					Writer writer = readWriter(properties, propertiesPrefix + "." + name, value, registries);
+					if (writer == null) {
+						return null;
+					} else {
+						parameters[i] = writer;
+					}
 				} else {
 					InternalLogger.error(
-							"\"{}\" for \"{}.{}\" is an unsupported type (String, String[], int, boolean, Labeler, Policy and Policy[] are supported)",
+							"\"{}\" for \"{}.{}\" is an unsupported type (String, String[], int, boolean, Labeler, Policy, Policy[] and Writer are supported)",
 							type.getName(), propertiesPrefix, name);
 					return null;
 				}
@@ -562,11 +954,22 @@ final class PropertiesLoader {
 		return values;
 	}
 
-	private static Labeler parseLabeler(final String string) {
+	private static Labeler parseLabeler(final String string, final Collection<ImplementationRegistry> registries) {
 		int separator = string.indexOf(':');
 		String name = separator > 0 ? string.substring(0, separator).trim() : string.trim();
 		String parameter = separator > 0 ? string.substring(separator + 1).trim() : null;
 
+		for (ImplementationRegistry registry : registries) {
+			Class<?> implementation = registry.findLabeler(name);
+			if (implementation != null) {
+				Labeler labeler = (Labeler) createInstance(registry, implementation, name, parameter);
+				if (labeler == null) {
+					InternalLogger.error("Failed to initialize {} labeler", name);
+				}
+				return labeler;
+			}
+		}
+
 		for (Class<?> implementation : findImplementations(Labeler.class)) {
 			org.cooder.tinylog.labelers.PropertiesSupport propertiesSupport = implementation.getAnnotation(org.cooder.tinylog.labelers.PropertiesSupport.class);
 			if (propertiesSupport != null) {
@@ -584,10 +987,10 @@ final class PropertiesLoader {
 		return null;
 	}
 
-	private static Policy[] parsePolicies(final String string) {
+	private static Policy[] parsePolicies(final String string, final Collection<ImplementationRegistry> registries) {
 		List<Policy> policies = new ArrayList<Policy>();
 		for (String part : string.split(Pattern.quote(","))) {
-			Policy policy = parsePolicy(part.trim());
+			Policy policy = parsePolicy(part.trim(), registries);
 			if (policy == null) {
 				return null;
 			} else {
@@ -597,11 +1000,22 @@ final class PropertiesLoader {
 		return policies.toArray(new Policy[0]);
 	}
 
-	private static Policy parsePolicy(final String string) {
+	private static Policy parsePolicy(final String string, final Collection<ImplementationRegistry> registries) {
 		int separator = string.indexOf(':');
 		String name = separator > 0 ? string.substring(0, separator).trim() : string.trim();
 		String parameter = separator > 0 ? string.substring(separator + 1).trim() : null;
 
+		for (ImplementationRegistry registry : registries) {
+			Class<?> implementation = registry.findPolicy(name);
+			if (implementation != null) {
+				Policy policy = (Policy) createInstance(registry, implementation, name, parameter);
+				if (policy == null) {
+					InternalLogger.error("Failed to initialize {} policy", name);
+				}
+				return policy;
+			}
+		}
+
 		for (Class<?> implementation : findImplementations(Policy.class)) {
 			org.cooder.tinylog.policies.PropertiesSupport propertiesSupport = implementation.getAnnotation(org.cooder.tinylog.policies.PropertiesSupport.class);
 			if (propertiesSupport != null) {
@@ -655,6 +1069,29 @@ final class PropertiesLoader {
 		}
 	}
 
+	private static Object createInstance(final ImplementationRegistry registry, final Class<?> clazz, final String name, final String parameter) {
+		Class<?>[] parameterTypes = parameter == null ? new Class<?>[0] : new Class<?>[] { String.class };
+		Class<?>[][] constructors = registry.getConstructors(clazz);
+		for (int i = 0; i < constructors.length; ++i) {
+			if (Arrays.equals(parameterTypes, constructors[i])) {
+				try {
+					return registry.create(clazz, i, parameter == null ? new Object[0] : new Object[] { parameter });
+				} catch (Exception ex) {
+					InternalLogger.error(ex, "Failed to create an instance of \"{}\"", clazz.getName());
+					return null;
+				}
+			}
+		}
+
+		if (parameter == null) {
+			InternalLogger.error("\"{}\" does not have a default constructor", clazz.getName());
+			return null;
+		} else {
+			InternalLogger.warn("{} does not support parameters", name);
+			return createInstance(registry, clazz, name, null);
+		}
+	}
+
 	private static boolean areCompatible(final Class<?> expectedType, final Class<?> foundType) {
 		return foundType.equals(expectedType)
 				|| (expectedType.equals(boolean.class) && foundType.equals(Boolean.class))
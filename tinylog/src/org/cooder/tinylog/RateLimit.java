@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket based limit for the number of log entries to output. Each severity level, class or message template
+ * (depending on the scope) has its own bucket. Log entries that exceed the limit will be discarded.
+ */
+public final class RateLimit {
+
+	/**
+	 * Defines for which log entries a shared bucket is used.
+	 */
+	public enum Scope {
+
+		/**
+		 * One bucket per severity level.
+		 */
+		LEVEL,
+
+		/**
+		 * One bucket per class.
+		 */
+		CLASS,
+
+		/**
+		 * One bucket per message template (text before inserting any arguments).
+		 */
+		MESSAGE;
+
+	}
+
+	private final Scope scope;
+	private final long entries;
+	private final TimeUnit unit;
+	private final long burst;
+
+	/**
+	 * The burst size is the number of log entries per time unit.
+	 *
+	 * @param scope
+	 *            Scope of buckets
+	 * @param entries
+	 *            Number of allowed log entries per time unit
+	 * @param unit
+	 *            Time unit
+	 * @throws IllegalArgumentException
+	 *             Number of log entries is not positive
+	 */
+	public RateLimit(final Scope scope, final long entries, final TimeUnit unit) {
+		this(scope, entries, unit, entries);
+	}
+
+	/**
+	 * @param scope
+	 *            Scope of buckets
+	 * @param entries
+	 *            Number of allowed log entries per time unit
+	 * @param unit
+	 *            Time unit
+	 * @param burst
+	 *            Maximum number of log entries, which can be output at once
+	 * @throws IllegalArgumentException
+	 *             Number of log entries or burst size is not positive
+	 */
+	public RateLimit(final Scope scope, final long entries, final TimeUnit unit, final long burst) {
+		if (entries <= 0) {
+			throw new IllegalArgumentException("Number of log entries must be positive, but is " + entries);
+		}
+		if (burst <= 0) {
+			throw new IllegalArgumentException("Burst size must be positive, but is " + burst);
+		}
+
+		this.scope = scope;
+		this.entries = entries;
+		this.unit = unit;
+		this.burst = burst;
+	}
+
+	/**
+	 * Parse a rate limit like "100/s", "6000/min, 100" or "10" (per second).
+	 *
+	 * @param scope
+	 *            Scope of buckets
+	 * @param definition
+	 *            Number of log entries per second, minute or hour and optional burst size
+	 * @throws IllegalArgumentException
+	 *             Definition is invalid
+	 */
+	RateLimit(final Scope scope, final String definition) {
+		this(scope, parseEntries(definition), parseUnit(definition), parseBurst(definition));
+	}
+
+	/**
+	 * Get the scope of buckets.
+	 *
+	 * @return Scope of buckets
+	 */
+	public Scope getScope() {
+		return scope;
+	}
+
+	/**
+	 * Get the number of allowed log entries per time unit.
+	 *
+	 * @return Number of log entries
+	 */
+	public long getEntries() {
+		return entries;
+	}
+
+	/**
+	 * Get the time unit.
+	 *
+	 * @return Time unit
+	 */
+	public TimeUnit getUnit() {
+		return unit;
+	}
+
+	/**
+	 * Get the maximum number of log entries, which can be output at once.
+	 *
+	 * @return Burst size
+	 */
+	public long getBurst() {
+		return burst;
+	}
+
+	/**
+	 * Get the interval between two log entries in nanoseconds.
+	 *
+	 * @return Interval in nanoseconds
+	 */
+	long getInterval() {
+		return Math.max(1L, unit.toNanos(1L) / entries);
+	}
+
+	private static long parseEntries(final String definition) {
+		String rate = getRate(definition);
+		int index = rate.indexOf('/');
+		try {
+			return Long.parseLong((index == -1 ? rate : rate.substring(0, index)).trim());
+		} catch (NumberFormatException ex) {
+			throw new IllegalArgumentException("Invalid rate limit \"" + definition + "\"");
+		}
+	}
+
+	private static TimeUnit parseUnit(final String definition) {
+		String rate = getRate(definition);
+		int index = rate.indexOf('/');
+		String unit = index == -1 ? "s" : rate.substring(index + 1).trim().toLowerCase(Locale.ENGLISH);
+		if ("s".equals(unit) || "sec".equals(unit) || "second".equals(unit)) {
+			return TimeUnit.SECONDS;
+		} else if ("m".equals(unit) || "min".equals(unit) || "minute".equals(unit)) {
+			return TimeUnit.MINUTES;
+		} else if ("h".equals(unit) || "hour".equals(unit)) {
+			return TimeUnit.HOURS;
+		} else {
+			throw new IllegalArgumentException("Invalid time unit in rate limit \"" + definition + "\"");
+		}
+	}
+
+	private static long parseBurst(final String definition) {
+		int index = definition.indexOf(',');
+		if (index == -1) {
+			return parseEntries(definition);
+		} else {
+			try {
+				return Long.parseLong(definition.substring(index + 1).trim());
+			} catch (NumberFormatException ex) {
+				throw new IllegalArgumentException("Invalid burst size in rate limit \"" + definition + "\"");
+			}
+		}
+	}
+
+	private static String getRate(final String definition) {
+		int index = definition.indexOf(',');
+		return index == -1 ? definition : definition.substring(0, index);
+	}
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Probabilistic sampling of trace and debug log entries. Sampling rates can be defined globally and for specific
+ * packages or classes. Log entries with the severity level info or higher are never sampled.
+ *
+ * By default, each log entry is sampled independently by a thread-local random number generator. If a key is defined,
+ * the decision is derived from the hash of the {@link LoggingContext} value for this key instead. Thus all log entries
+ * with the same context value (for example a trace ID) are either output or discarded together.
+ */
+final class Sampling {
+
+	private static final long ALWAYS = 1L << 53;
+
+	private static final ThreadLocal<long[]> seeds = new ThreadLocal<long[]>() {
+
+		@Override
+		protected long[] initialValue() {
+			long seed = mix(Thread.currentThread().getId() * 0x9E3779B97F4A7C15L + System.nanoTime());
+			return new long[] { seed == 0L ? 1L : seed };
+		}
+
+	};
+
+	private final double rate;
+	private final Map<String, Double> customRates;
+	private final String key;
+
+	private final long threshold;
+	private final Map<String, Long> customThresholds;
+
+	/**
+	 * @param rate
+	 *            Global sampling rate (1 to output all log entries)
+	 * @param customRates
+	 *            Sampling rates for specific packages and classes
+	 * @param key
+	 *            Key of the context value for consistent sampling (can be <code>null</code> for random sampling)
+	 */
+	private Sampling(final double rate, final Map<String, Double> customRates, final String key) {
+		this.rate = rate;
+		this.customRates = Collections.unmodifiableMap(new HashMap<String, Double>(customRates));
+		this.key = key;
+
+		this.threshold = toThreshold(rate);
+		this.customThresholds = new HashMap<String, Long>();
+		for (Map.Entry<String, Double> entry : customRates.entrySet()) {
+			customThresholds.put(entry.getKey(), toThreshold(entry.getValue()));
+		}
+	}
+
+	/**
+	 * Create sampling.
+	 *
+	 * @param rate
+	 *            Global sampling rate (1 to output all log entries)
+	 * @param customRates
+	 *            Sampling rates for specific packages and classes
+	 * @param key
+	 *            Key of the context value for consistent sampling (can be <code>null</code> for random sampling)
+	 * @return Created sampling or <code>null</code> if nothing is defined
+	 */
+	static Sampling create(final double rate, final Map<String, Double> customRates, final String key) {
+		if (rate >= 1d && customRates.isEmpty() && key == null) {
+			return null;
+		} else {
+			return new Sampling(rate, customRates, key);
+		}
+	}
+
+	/**
+	 * Get the global sampling rate.
+	 *
+	 * @return Sampling rate between 0 and 1
+	 */
+	double getRate() {
+		return rate;
+	}
+
+	/**
+	 * Get the sampling rates for specific packages and classes.
+	 *
+	 * @return Read-only map with sampling rates
+	 */
+	Map<String, Double> getCustomRates() {
+		return customRates;
+	}
+
+	/**
+	 * Get the key of the context value for consistent sampling.
+	 *
+	 * @return Key of context value or <code>null</code> for random sampling
+	 */
+	String getKey() {
+		return key;
+	}
+
+	/**
+	 * Check whether the class name of log entries is required for sampling.
+	 *
+	 * @return <code>true</code> if class names are required, <code>false</code> if not
+	 */
+	boolean isClassNameRequired() {
+		return !customThresholds.isEmpty();
+	}
+
+	/**
+	 * Decide whether a log entry should be output.
+	 *
+	 * @param level
+	 *            Severity level of log entry
+	 * @param className
+	 *            Class name of log entry (can be <code>null</code> if not required)
+	 * @return <code>true</code> if the log entry should be output, <code>false</code> if it should be discarded
+	 */
+	boolean isSampled(final Level level, final String className) {
+		if (level.ordinal() > Level.DEBUG.ordinal()) {
+			return true;
+		}
+
+		long limit = className == null ? threshold : getThreshold(className);
+		if (limit >= ALWAYS) {
+			return true;
+		} else if (limit <= 0L) {
+			return false;
+		}
+
+		String value = key == null ? null : LoggingContext.get(key);
+		long random = value == null ? nextRandom() : hash(value);
+		return random >>> 11 < limit;
+	}
+
+	private long getThreshold(final String className) {
+		String packageOrClass = className;
+		while (true) {
+			Long customThreshold = customThresholds.get(packageOrClass);
+			if (customThreshold != null) {
+				return customThreshold;
+			}
+			int index = packageOrClass.lastIndexOf('.');
+			if (index > 0) {
+				packageOrClass = packageOrClass.substring(0, index);
+			} else {
+				return threshold;
+			}
+		}
+	}
+
+	private static long toThreshold(final double rate) {
+		if (rate >= 1d) {
+			return ALWAYS;
+		} else if (rate > 0d) {
+			return (long) (rate * ALWAYS);
+		} else {
+			return 0L;
+		}
+	}
+
+	private static long nextRandom() {
+		long[] seed = seeds.get();
+		long value = seed[0];
+		value ^= value << 13;
+		value ^= value >>> 7;
+		value ^= value << 17;
+		seed[0] = value;
+		return value * 0x2545F4914F6CDD1DL;
+	}
+
+	private static long hash(final String value) {
+		long hash = 0xCBF29CE484222325L;
+		for (int i = 0; i < value.length(); ++i) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001B3L;
+		}
+		return mix(hash);
+	}
+
+	private static long mix(final long value) {
+		long hash = value;
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+}
@@ -0,0 +1,478 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.cooder.tinylog.writers.Writer;
+
+/**
+ * Snapshot of the statistics of the logging pipeline. Statistics are only recorded if enabled via
+ * {@link Configurator#statistics(boolean)}.
+ *
+ * @see Logger#getStatistics()
+ */
+public final class Statistics {
+
+	/**
+	 * Phases of outputting a log entry in the application thread, which are measured by sampled timing (see
+	 * {@link Configurator#timing(int)}).
+	 */
+	public enum Phase {
+
+		/**
+		 * Checking custom severity levels, sampling, rate limits and duplicates (the preceding fast check of the lowest
+		 * active severity level is too cheap to be measured).
+		 */
+		LEVEL_CHECK,
+
+		/**
+		 * Walking the stack trace for getting class, method, source file or line number.
+		 */
+		STACK_TRACE,
+
+		/**
+		 * Formatting the text message.
+		 */
+		MESSAGE,
+
+		/**
+		 * Collecting all other values and rendering the format pattern.
+		 */
+		RENDERING,
+
+		/**
+		 * Passing the log entry to writers or to the writing thread.
+		 */
+		DISPATCH,
+
+		/**
+		 * Sum of all phases.
+		 */
+		TOTAL;
+
+	}
+
+	private final Map<Level, Long> entries;
+	private final Map<Level, Long> discardedByLevel;
+	private final Map<Level, Long> discardedByCustomLevel;
+	private final int queueDepth;
+	private final int queueHighWaterMark;
+	private final long internalWarnings;
+	private final long internalErrors;
+	private final Map<Writer, WriterStatistics> writers;
+	private final Map<Phase, Distribution> timings;
+
+	/**
+	 * @param entries
+	 *            Number of log entries per severity level, which have been passed to writers
+	 * @param discardedByLevel
+	 *            Number of log entries per severity level, which have been discarded by the lowest active severity
+	 *            level
+	 * @param discardedByCustomLevel
+	 *            Number of log entries per severity level, which have been discarded by custom severity levels of
+	 *            packages or classes
+	 * @param queueDepth
+	 *            Number of log entries in the queue of the writing thread
+	 * @param queueHighWaterMark
+	 *            Maximum number of log entries in the queue of the writing thread
+	 * @param internalWarnings
+	 *            Number of internal warnings
+	 * @param internalErrors
+	 *            Number of internal errors
+	 * @param writers
+	 *            Statistics of writers
+	 * @param timings
+	 *            Durations of output phases in nanoseconds
+	 */
+	Statistics(final Map<Level, Long> entries, final Map<Level, Long> discardedByLevel, final Map<Level, Long> discardedByCustomLevel,
+			final int queueDepth, final int queueHighWaterMark, final long internalWarnings, final long internalErrors,
+			final Map<Writer, WriterStatistics> writers, final Map<Phase, Distribution> timings) {
+		this.entries = Collections.unmodifiableMap(entries);
+		this.discardedByLevel = Collections.unmodifiableMap(discardedByLevel);
+		this.discardedByCustomLevel = Collections.unmodifiableMap(discardedByCustomLevel);
+		this.queueDepth = queueDepth;
+		this.queueHighWaterMark = queueHighWaterMark;
+		this.internalWarnings = internalWarnings;
+		this.internalErrors = internalErrors;
+		this.writers = Collections.unmodifiableMap(writers);
+		this.timings = Collections.unmodifiableMap(timings);
+	}
+
+	/**
+	 * Get the number of log entries per severity level, which have been passed to writers.
+	 *
+	 * @return Number of log entries
+	 */
+	public Map<Level, Long> getEntries() {
+		return entries;
+	}
+
+	/**
+	 * Get the number of log entries per severity level, which have been discarded, because no writer and no custom
+	 * severity level is active for their severity level.
+	 *
+	 * @return Number of discarded log entries
+	 */
+	public Map<Level, Long> getDiscardedByLevel() {
+		return discardedByLevel;
+	}
+
+	/**
+	 * Get the number of log entries per severity level, which have been discarded by the severity level of their
+	 * package or class.
+	 *
+	 * @return Number of discarded log entries
+	 */
+	public Map<Level, Long> getDiscardedByCustomLevel() {
+		return discardedByCustomLevel;
+	}
+
+	/**
+	 * Get the number of log entries, which have been queued by the writing thread at the time of the last update.
+	 *
+	 * @return Number of queued log entries
+	 */
+	public int getQueueDepth() {
+		return queueDepth;
+	}
+
+	/**
+	 * Get the maximum number of log entries, which have been queued by the writing thread at the same time.
+	 *
+	 * @return Maximum number of queued log entries
+	 */
+	public int getQueueHighWaterMark() {
+		return queueHighWaterMark;
+	}
+
+	/**
+	 * Get the number of internal warnings of tinylog.
+	 *
+	 * @return Number of internal warnings
+	 */
+	public long getInternalWarnings() {
+		return internalWarnings;
+	}
+
+	/**
+	 * Get the number of internal errors of tinylog.
+	 *
+	 * @return Number of internal errors
+	 */
+	public long getInternalErrors() {
+		return internalErrors;
+	}
+
+	/**
+	 * Get the statistics of all writers, for which anything has been recorded.
+	 *
+	 * @return Statistics of writers
+	 */
+	public Map<Writer, WriterStatistics> getWriters() {
+		return writers;
+	}
+
+	/**
+	 * Get the durations of output phases in nanoseconds, which have been measured for sampled log entries. Each
+	 * phase is only recorded, if it is actually passed through.
+	 *
+	 * @return Distribution of durations per phase
+	 */
+	public Map<Phase, Distribution> getTimings() {
+		return timings;
+	}
+
+	/**
+	 * Statistics of a single writer.
+	 */
+	public static final class WriterStatistics {
+
+		private final String name;
+		private final long bytes;
+		private final Distribution writes;
+		private final Distribution flushes;
+		private final Distribution rollovers;
+		private final Distribution batches;
+		private final long reconnects;
+		private final long lostEntries;
+
+		/**
+		 * @param name
+		 *            Unique name of writer
+		 * @param bytes
+		 *            Number of written bytes
+		 * @param writes
+		 *            Durations of writing log entries in nanoseconds
+		 * @param flushes
+		 *            Durations of flushing in nanoseconds
+		 * @param rollovers
+		 *            Durations of rollovers in nanoseconds
+		 * @param batches
+		 *            Sizes of executed batches
+		 * @param reconnects
+		 *            Number of reestablished connections
+		 * @param lostEntries
+		 *            Number of irrecoverably lost log entries
+		 */
+		WriterStatistics(final String name, final long bytes, final Distribution writes, final Distribution flushes, final Distribution rollovers,
+				final Distribution batches, final long reconnects, final long lostEntries) {
+			this.name = name;
+			this.bytes = bytes;
+			this.writes = writes;
+			this.flushes = flushes;
+			this.rollovers = rollovers;
+			this.batches = batches;
+			this.reconnects = reconnects;
+			this.lostEntries = lostEntries;
+		}
+
+		/**
+		 * Get the unique name of the writer, which consists of the class name and the identity hash code.
+		 *
+		 * @return Name of writer
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Get the number of written bytes. Only writers, which encode log entries themselves, can report written bytes.
+		 *
+		 * @return Number of written bytes
+		 */
+		public long getBytes() {
+			return bytes;
+		}
+
+		/**
+		 * Get the durations of writing log entries in nanoseconds.
+		 *
+		 * @return Distribution of durations
+		 */
+		public Distribution getWrites() {
+			return writes;
+		}
+
+		/**
+		 * Get the durations of flushing in nanoseconds. Writers are only flushed by the writing thread.
+		 *
+		 * @return Distribution of durations
+		 */
+		public Distribution getFlushes() {
+			return flushes;
+		}
+
+		/**
+		 * Get the durations of rollovers in nanoseconds.
+		 *
+		 * @return Distribution of durations
+		 */
+		public Distribution getRollovers() {
+			return rollovers;
+		}
+
+		/**
+		 * Get the sizes of executed batches.
+		 *
+		 * @return Distribution of batch sizes
+		 */
+		public Distribution getBatches() {
+			return batches;
+		}
+
+		/**
+		 * Get the number of reestablished connections.
+		 *
+		 * @return Number of reconnects
+		 */
+		public long getReconnects() {
+			return reconnects;
+		}
+
+		/**
+		 * Get the number of log entries, which couldn't be written and have been irrecoverably lost.
+		 *
+		 * @return Number of lost log entries
+		 */
+		public long getLostEntries() {
+			return lostEntries;
+		}
+
+	}
+
+	/**
+	 * Distribution of recorded values like durations or sizes. Values are counted in logarithmic buckets, which are
+	 * optionally divided into linear sub-buckets. Therefore percentiles are upper bounds. Without sub-buckets, they can
+	 * be up to twice as high as the exact percentiles.
+	 */
+	public static final class Distribution {
+
+		private final int precision;
+		private final long[] buckets;
+		private final long count;
+		private final long sum;
+		private final long maximum;
+
+		/**
+		 * @param buckets
+		 *            Number of values per power of two bucket
+		 * @param sum
+		 *            Sum of all values
+		 * @param maximum
+		 *            Highest value
+		 */
+		Distribution(final long[] buckets, final long sum, final long maximum) {
+			this(0, buckets, sum, maximum);
+		}
+
+		/**
+		 * @param precision
+		 *            Number of bits for linear sub-buckets per power of two (0 for pure power of two buckets)
+		 * @param buckets
+		 *            Number of values per bucket (see {@link #index(long, int)})
+		 * @param sum
+		 *            Sum of all values
+		 * @param maximum
+		 *            Highest value
+		 */
+		Distribution(final int precision, final long[] buckets, final long sum, final long maximum) {
+			long count = 0L;
+			for (long value : buckets) {
+				count += value;
+			}
+
+			this.precision = precision;
+			this.buckets = buckets;
+			this.count = count;
+			this.sum = sum;
+			this.maximum = maximum;
+		}
+
+		/**
+		 * Get the bucket for a value. Values below 2<sup>precision</sup> have their own buckets. Larger values are
+		 * assigned to one of 2<sup>precision</sup> linear sub-buckets of their power of two.
+		 *
+		 * @param value
+		 *            Positive value
+		 * @param precision
+		 *            Number of bits for linear sub-buckets
+		 * @return Index of bucket
+		 */
+		static int index(final long value, final int precision) {
+			if (value < 1L << precision) {
+				return (int) value;
+			} else {
+				int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+				return ((exponent - precision + 1) << precision) + (int) ((value >>> (exponent - precision)) & ((1L << precision) - 1L));
+			}
+		}
+
+		/**
+		 * Get the highest value, which can be assigned to a bucket.
+		 *
+		 * @param index
+		 *            Index of bucket
+		 * @param precision
+		 *            Number of bits for linear sub-buckets
+		 * @return Highest value of bucket
+		 */
+		static long upperBound(final int index, final int precision) {
+			if (index < 1 << precision) {
+				return index;
+			} else {
+				int shift = (index >> precision) - 1;
+				long lower = ((1L << precision) + (index & ((1 << precision) - 1))) << shift;
+				return lower + ((1L << shift) - 1L);
+			}
+		}
+
+		/**
+		 * Get the number of recorded values.
+		 *
+		 * @return Number of values
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * Get the sum of all recorded values.
+		 *
+		 * @return Sum of values
+		 */
+		public long getSum() {
+			return sum;
+		}
+
+		/**
+		 * Get the highest recorded value.
+		 *
+		 * @return Highest value or 0 if nothing has been recorded
+		 */
+		public long getMaximum() {
+			return maximum;
+		}
+
+		/**
+		 * Get the arithmetic mean of all recorded values.
+		 *
+		 * @return Mean value or 0 if nothing has been recorded
+		 */
+		public double getMean() {
+			return count == 0L ? 0d : (double) sum / count;
+		}
+
+		/**
+		 * Get the upper bound of the median.
+		 *
+		 * @return Upper bound of median
+		 */
+		public long getMedian() {
+			return getPercentile(0.5d);
+		}
+
+		/**
+		 * Get the upper bound of the 99th percentile.
+		 *
+		 * @return Upper bound of 99th percentile
+		 */
+		public long getPercentile99() {
+			return getPercentile(0.99d);
+		}
+
+		/**
+		 * Get the upper bound of a percentile.
+		 *
+		 * @param percentile
+		 *            Percentile between 0 and 1 (e.g. 0.999 for the 99.9th percentile)
+		 * @return Upper bound of percentile or 0 if nothing has been recorded
+		 */
+		public long getPercentile(final double percentile) {
+			long rank = (long) Math.ceil(count * Math.max(0d, Math.min(1d, percentile)));
+			long accumulated = 0L;
+			for (int i = 0; i < buckets.length; ++i) {
+				accumulated += buckets[i];
+				if (accumulated >= rank && accumulated > 0L) {
+					return Math.min(upperBound(i, precision), maximum);
+				}
+			}
+			return 0L;
+		}
+
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MBean for publishing the recorded statistics via JMX.
+ */
+final class StatisticsBean implements StatisticsMXBean {
+
+	@Override
+	public Map<Level, Long> getEntries() {
+		return Metrics.snapshot().getEntries();
+	}
+
+	@Override
+	public Map<Level, Long> getDiscardedByLevel() {
+		return Metrics.snapshot().getDiscardedByLevel();
+	}
+
+	@Override
+	public Map<Level, Long> getDiscardedByCustomLevel() {
+		return Metrics.snapshot().getDiscardedByCustomLevel();
+	}
+
+	@Override
+	public int getQueueDepth() {
+		return Metrics.snapshot().getQueueDepth();
+	}
+
+	@Override
+	public int getQueueHighWaterMark() {
+		return Metrics.snapshot().getQueueHighWaterMark();
+	}
+
+	@Override
+	public long getInternalWarnings() {
+		return Metrics.snapshot().getInternalWarnings();
+	}
+
+	@Override
+	public long getInternalErrors() {
+		return Metrics.snapshot().getInternalErrors();
+	}
+
+	@Override
+	public List<Statistics.WriterStatistics> getWriters() {
+		return new ArrayList<Statistics.WriterStatistics>(Metrics.snapshot().getWriters().values());
+	}
+
+	@Override
+	public Map<Statistics.Phase, Statistics.Distribution> getTimings() {
+		return Metrics.snapshot().getTimings();
+	}
+
+	@Override
+	public void reset() {
+		Metrics.reset();
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Management interface for the statistics of the logging pipeline. The MBean is registered as
+ * "org.cooder.tinylog:type=Statistics", when statistics are enabled for the first time.
+ *
+ * @see Statistics
+ */
+public interface StatisticsMXBean {
+
+	/**
+	 * Get the number of log entries per severity level, which have been passed to writers.
+	 *
+	 * @return Number of log entries
+	 */
+	Map<Level, Long> getEntries();
+
+	/**
+	 * Get the number of log entries per severity level, which have been discarded by the lowest active severity
+	 * level.
+	 *
+	 * @return Number of discarded log entries
+	 */
+	Map<Level, Long> getDiscardedByLevel();
+
+	/**
+	 * Get the number of log entries per severity level, which have been discarded by custom severity levels.
+	 *
+	 * @return Number of discarded log entries
+	 */
+	Map<Level, Long> getDiscardedByCustomLevel();
+
+	/**
+	 * Get the number of log entries in the queue of the writing thread.
+	 *
+	 * @return Number of queued log entries
+	 */
+	int getQueueDepth();
+
+	/**
+	 * Get the maximum number of log entries in the queue of the writing thread.
+	 *
+	 * @return Maximum number of queued log entries
+	 */
+	int getQueueHighWaterMark();
+
+	/**
+	 * Get the number of internal warnings.
+	 *
+	 * @return Number of internal warnings
+	 */
+	long getInternalWarnings();
+
+	/**
+	 * Get the number of internal errors.
+	 *
+	 * @return Number of internal errors
+	 */
+	long getInternalErrors();
+
+	/**
+	 * Get the statistics of all writers.
+	 *
+	 * @return Statistics of writers
+	 */
+	List<Statistics.WriterStatistics> getWriters();
+
+	/**
+	 * Get the durations of output phases in nanoseconds.
+	 *
+	 * @return Distribution of durations per phase
+	 */
+	Map<Statistics.Phase, Statistics.Distribution> getTimings();
+
+	/**
+	 * Reset all recorded statistics (except the number of internal warnings and errors).
+	 */
+	void reset();
+
+}
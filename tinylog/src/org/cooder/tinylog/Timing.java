@@ -0,0 +1,328 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog;
+
+import java.lang.ref.WeakReference;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.cooder.tinylog.Statistics.Distribution;
+import org.cooder.tinylog.Statistics.Phase;
+
+/**
+ * Sampled timing of the output phases in application threads. Only every n-th log entry of a thread is measured. Each
+ * thread records into its own histograms, which are merged only when creating a snapshot. The histograms have eight
+ * linear sub-buckets per power of two, so that percentiles are at most 12.5% too high.
+ */
+final class Timing {
+
+	private static final int PRECISION = 3;
+	private static final long MAX_NANOS = (1L << 36) - 1L; // ~ 69 seconds
+	private static final int BUCKETS = Distribution.index(MAX_NANOS, PRECISION) + 1;
+	private static final Phase[] PHASES = Phase.values();
+	private static final int TOTAL = Phase.TOTAL.ordinal();
+
+	private static final String DUMPER_THREAD_NAME = "tinylog-TimingDumper";
+
+	private static final Queue<Recorder> recorders = new ConcurrentLinkedQueue<Recorder>();
+	private static final ThreadLocal<Recorder> localRecorder = new ThreadLocal<Recorder>() {
+
+		@Override
+		protected Recorder initialValue() {
+			Recorder recorder = new Recorder(Thread.currentThread());
+			synchronized (mutex) {
+				/* Applications can start many short-living threads without ever creating a snapshot */
+				retireTerminatedThreads();
+				recorders.add(recorder);
+			}
+			return recorder;
+		}
+
+	};
+
+	private static final Object mutex = new Object();
+	private static final Recorder retired = new Recorder(null);
+	private static Dumper dumper;
+
+	private Timing() {
+	}
+
+	/**
+	 * Start measuring, if the current log entry of this thread is sampled.
+	 *
+	 * @param interval
+	 *            Measure every n-th log entry
+	 * @return Recorder for measuring or <code>null</code> if the current log entry is not to measure
+	 */
+	static Recorder start(final int interval) {
+		Recorder recorder = localRecorder.get();
+		if (--recorder.countdown > 0) {
+			return null;
+		} else {
+			recorder.countdown = interval;
+			recorder.last = System.nanoTime();
+			return recorder;
+		}
+	}
+
+	/**
+	 * Apply the configuration. The thread for dumping the timing into the log will be started, stopped or restarted
+	 * if necessary.
+	 *
+	 * @param configuration
+	 *            New configuration
+	 */
+	static void configure(final Configuration configuration) {
+		long interval = configuration.getTimingInterval() > 0 ? configuration.getTimingDumpInterval() : 0L;
+
+		synchronized (mutex) {
+			if (dumper != null && dumper.interval != interval) {
+				dumper.shutdown();
+				dumper = null;
+			}
+
+			if (dumper == null && interval > 0L) {
+				dumper = new Dumper(interval);
+				dumper.start();
+			}
+		}
+	}
+
+	/**
+	 * Merge the histograms of all threads.
+	 *
+	 * @return Durations in nanoseconds per output phase
+	 */
+	static Map<Phase, Distribution> snapshot() {
+		long[][] buckets = new long[PHASES.length][BUCKETS];
+		long[] sums = new long[PHASES.length];
+		long[] maxima = new long[PHASES.length];
+
+		synchronized (mutex) {
+			retireTerminatedThreads();
+			for (Recorder recorder : recorders) {
+				recorder.addTo(buckets, sums, maxima);
+			}
+			retired.addTo(buckets, sums, maxima);
+		}
+
+		Map<Phase, Distribution> distributions = new EnumMap<Phase, Distribution>(Phase.class);
+		for (Phase phase : PHASES) {
+			int index = phase.ordinal();
+			distributions.put(phase, new Distribution(PRECISION, buckets[index], sums[index], maxima[index]));
+		}
+		return distributions;
+	}
+
+	/**
+	 * Reset the histograms of all threads.
+	 */
+	static void reset() {
+		synchronized (mutex) {
+			for (Recorder recorder : recorders) {
+				recorder.clear();
+			}
+			retired.clear();
+		}
+	}
+
+	/**
+	 * Merge the histograms of terminated threads into the retired histograms and remove their recorders. The caller
+	 * has to hold the mutex.
+	 */
+	private static void retireTerminatedThreads() {
+		for (Iterator<Recorder> iterator = recorders.iterator(); iterator.hasNext();) {
+			Recorder recorder = iterator.next();
+			Thread thread = recorder.thread.get();
+			if (thread == null || !thread.isAlive()) {
+				recorder.moveTo(retired);
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Create a human readable summary of the median, 99th percentile and maximum of all measured phases.
+	 *
+	 * @param distributions
+	 *            Durations in nanoseconds per output phase
+	 * @return Summary text
+	 */
+	static String summarize(final Map<Phase, Distribution> distributions) {
+		StringBuilder builder = new StringBuilder();
+		builder.append("Timing of ").append(distributions.get(Phase.TOTAL).getCount());
+		builder.append(" sampled log entries in ns (median / 99th percentile / maximum):");
+
+		boolean first = true;
+		for (Map.Entry<Phase, Distribution> entry : distributions.entrySet()) {
+			Distribution distribution = entry.getValue();
+			if (distribution.getCount() > 0L) {
+				builder.append(first ? " " : ", ");
+				builder.append(entry.getKey().name().toLowerCase(Locale.ENGLISH).replace('_', ' ')).append(" ");
+				builder.append(distribution.getMedian()).append(" / ");
+				builder.append(distribution.getPercentile99()).append(" / ");
+				builder.append(distribution.getMaximum());
+				first = false;
+			}
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Histograms of a single thread. Only the owning thread measures and records, but other threads can read and
+	 * reset the histograms at any time.
+	 */
+	static final class Recorder {
+
+		private final WeakReference<Thread> thread;
+		private final AtomicLongArray buckets;
+		private final AtomicLongArray sums;
+		private final AtomicLongArray maxima;
+
+		private final long[] durations;
+		private int passed;
+		private long last;
+		private int countdown;
+
+		private Recorder(final Thread thread) {
+			this.thread = new WeakReference<Thread>(thread);
+			this.buckets = new AtomicLongArray(PHASES.length * BUCKETS);
+			this.sums = new AtomicLongArray(PHASES.length);
+			this.maxima = new AtomicLongArray(PHASES.length);
+			this.durations = new long[PHASES.length];
+			this.countdown = 1;
+		}
+
+		/**
+		 * Assign the elapsed time since the last mark to a phase.
+		 *
+		 * @param phase
+		 *            Completed phase
+		 */
+		void mark(final Phase phase) {
+			long now = System.nanoTime();
+			durations[phase.ordinal()] += now - last;
+			passed |= 1 << phase.ordinal();
+			last = now;
+		}
+
+		/**
+		 * Record all passed phases of the measured log entry.
+		 */
+		void stop() {
+			long total = 0L;
+			for (int i = 0; i < TOTAL; ++i) {
+				if ((passed & 1 << i) != 0) {
+					record(i, durations[i]);
+					total += durations[i];
+					durations[i] = 0L;
+				}
+			}
+			record(TOTAL, total);
+			passed = 0;
+		}
+
+		private void record(final int phase, final long nanos) {
+			long value = Math.max(0L, Math.min(MAX_NANOS, nanos));
+			buckets.incrementAndGet(phase * BUCKETS + Distribution.index(value, PRECISION));
+			sums.addAndGet(phase, value);
+			if (value > maxima.get(phase)) {
+				maxima.set(phase, value);
+			}
+		}
+
+		private void addTo(final long[][] totalBuckets, final long[] totalSums, final long[] totalMaxima) {
+			for (int phase = 0; phase < PHASES.length; ++phase) {
+				for (int i = 0; i < BUCKETS; ++i) {
+					totalBuckets[phase][i] += buckets.get(phase * BUCKETS + i);
+				}
+				totalSums[phase] += sums.get(phase);
+				totalMaxima[phase] = Math.max(totalMaxima[phase], maxima.get(phase));
+			}
+		}
+
+		private void moveTo(final Recorder target) {
+			for (int i = 0; i < buckets.length(); ++i) {
+				target.buckets.addAndGet(i, buckets.get(i));
+			}
+			for (int phase = 0; phase < PHASES.length; ++phase) {
+				target.sums.addAndGet(phase, sums.get(phase));
+				target.maxima.set(phase, Math.max(target.maxima.get(phase), maxima.get(phase)));
+			}
+		}
+
+		private void clear() {
+			for (int i = 0; i < buckets.length(); ++i) {
+				buckets.set(i, 0L);
+			}
+			for (int phase = 0; phase < PHASES.length; ++phase) {
+				sums.set(phase, 0L);
+				maxima.set(phase, 0L);
+			}
+		}
+
+	}
+
+	/**
+	 * Thread for dumping the timing periodically into the log. A summary is only output, if new log entries have been
+	 * measured since the last dump.
+	 */
+	private static final class Dumper extends Thread {
+
+		private final long interval;
+		private volatile boolean shutdown;
+
+		private Dumper(final long interval) {
+			this.interval = interval;
+			setName(DUMPER_THREAD_NAME);
+			setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			/* The own log entries with the summary must not be measured */
+			localRecorder.get().countdown = Integer.MAX_VALUE;
+
+			long count = 0L;
+			while (!shutdown) {
+				try {
+					sleep(interval);
+				} catch (InterruptedException ex) {
+					continue;
+				}
+
+				Map<Phase, Distribution> distributions = snapshot();
+				long total = distributions.get(Phase.TOTAL).getCount();
+				if (total != count && !shutdown) {
+					count = total;
+					Logger.info(summarize(distributions));
+				}
+			}
+		}
+
+		private void shutdown() {
+			shutdown = true;
+			interrupt();
+		}
+
+	}
+
+}
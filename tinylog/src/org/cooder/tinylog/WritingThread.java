@@ -15,6 +15,7 @@ package org.cooder.tinylog;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import org.cooder.tinylog.writers.Writer;
@@ -30,6 +31,8 @@ final class WritingThread extends Thread {
 	private final String nameOfThreadToObserve;
 	private final Thread threadToObserve;
 	private volatile boolean shutdown;
+	private WritingThread successor;
+	private boolean drained;
 
 	/**
 	 * This thread will automatically shutdown, if the observed thread is dead.
@@ -77,7 +80,14 @@ final class WritingThread extends Thread {
 	 *            Log entry to write
 	 */
 	public synchronized void putLogEntry(final Writer writer, final LogEntry logEntry) {
-		entries.add(new WritingTask(writer, logEntry));
+		if (successor != null) {
+			successor.putLogEntry(writer, logEntry);
+		} else if (drained) {
+			write(Collections.singletonList(new WritingTask(writer, logEntry)));
+		} else {
+			entries.add(new WritingTask(writer, logEntry));
+			Metrics.recordQueueDepth(entries.size());
+		}
 	}
 
 	@Override
@@ -87,28 +97,7 @@ final class WritingThread extends Thread {
 
 			List<WritingTask> writingTasks = getWritingTasks();
 			while (writingTasks != null) {
-				Collection<Writer> writers = new ArrayList<Writer>();
-
-				for (WritingTask writingTask : writingTasks) {
-					try {
-						Writer writer = writingTask.writer;
-						writer.write(writingTask.logEntry);
-						if (!writers.contains(writer)) {
-							writers.add(writer);
-						}
-					} catch (Exception ex) {
-						InternalLogger.error(ex, "Failed to write log entry");
-					}
-				}
-
-				for (Writer writer : writers) {
-					try {
-						writer.flush();
-					} catch (Exception ex) {
-						InternalLogger.error(ex, "Failed to flush writer");
-					}
-				}
-
+				write(writingTasks);
 				writingTasks = getWritingTasks();
 			}
 
@@ -132,6 +121,40 @@ final class WritingThread extends Thread {
 		interrupt();
 	}
 
+	/**
+	 * Shutdown this thread and wait until it has written all pending log entries and has been terminated. Log entries,
+	 * which are put after draining has been started, will be handed over to the successor. The successor must not be
+	 * started before this method returns, as both threads could write to the same writers otherwise.
+	 *
+	 * @param successor
+	 *            Writing thread that takes over this thread (can be <code>null</code> to write remaining log entries
+	 *            synchronously)
+	 * @throws InterruptedException
+	 *             Interrupted while waiting
+	 */
+	void drain(final WritingThread successor) throws InterruptedException {
+		synchronized (this) {
+			this.successor = successor;
+		}
+
+		shutdown();
+		join();
+
+		synchronized (this) {
+			List<WritingTask> writingTasks = getWritingTasks();
+			if (writingTasks != null) {
+				if (successor == null) {
+					write(writingTasks);
+				} else {
+					for (WritingTask writingTask : writingTasks) {
+						successor.putLogEntry(writingTask.writer, writingTask.logEntry);
+					}
+				}
+			}
+			drained = true;
+		}
+	}
+
 	private static Thread getThread(final String name) {
 		ThreadGroup root = getRootThreadGroup(Thread.currentThread().getThreadGroup());
 
@@ -161,12 +184,46 @@ final class WritingThread extends Thread {
 		return getRootThreadGroup(parent);
 	}
 
+	private static void write(final List<WritingTask> writingTasks) {
+		Collection<Writer> writers = new ArrayList<Writer>();
+		boolean statistics = Metrics.isEnabled();
+
+		for (WritingTask writingTask : writingTasks) {
+			try {
+				Writer writer = writingTask.writer;
+				long start = statistics ? System.nanoTime() : 0L;
+				writer.write(writingTask.logEntry);
+				if (statistics) {
+					Metrics.recordWrite(writer, System.nanoTime() - start);
+				}
+				if (!writers.contains(writer)) {
+					writers.add(writer);
+				}
+			} catch (Exception ex) {
+				InternalLogger.error(ex, "Failed to write log entry");
+			}
+		}
+
+		for (Writer writer : writers) {
+			try {
+				long start = statistics ? System.nanoTime() : 0L;
+				writer.flush();
+				if (statistics) {
+					Metrics.recordFlush(writer, System.nanoTime() - start);
+				}
+			} catch (Exception ex) {
+				InternalLogger.error(ex, "Failed to flush writer");
+			}
+		}
+	}
+
 	private synchronized List<WritingTask> getWritingTasks() {
 		if (entries.isEmpty()) {
 			return null;
 		} else {
 			List<WritingTask> entriesToWrite = entries;
 			entries = new ArrayList<WritingTask>();
+			Metrics.recordQueueDepth(0);
 			return entriesToWrite;
 		}
 	}
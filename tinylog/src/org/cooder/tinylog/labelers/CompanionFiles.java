@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog.labelers;
+
+import java.io.File;
+
+import org.cooder.tinylog.InternalLogger;
+
+/**
+ * Renames and deletes companion files of log files.
+ *
+ * @see CompanionLabeler
+ */
+final class CompanionFiles {
+
+	private CompanionFiles() {
+	}
+
+	/**
+	 * Get the companion file of a log file.
+	 *
+	 * @param file
+	 *            Log file
+	 * @param suffix
+	 *            Suffix of companion files (can be <code>null</code>)
+	 * @return Companion file or <code>null</code> if there are no companion files
+	 */
+	static File get(final File file, final String suffix) {
+		return suffix == null ? null : new File(file.getPath() + suffix);
+	}
+
+	/**
+	 * Rename the companion file of a log file that has been renamed. An outdated companion file of the target will be
+	 * deleted, even if the log file has no companion file.
+	 *
+	 * @param source
+	 *            Original log file
+	 * @param target
+	 *            Renamed log file
+	 * @param suffix
+	 *            Suffix of companion files (can be <code>null</code>)
+	 */
+	static void rename(final File source, final File target, final String suffix) {
+		if (suffix != null) {
+			File sourceCompanion = get(source, suffix);
+			File targetCompanion = get(target, suffix);
+			delete(targetCompanion);
+			if (sourceCompanion.exists() && !sourceCompanion.renameTo(targetCompanion)) {
+				InternalLogger.warn("Failed to rename \"{}\" to \"{}\"", sourceCompanion, targetCompanion);
+			}
+		}
+	}
+
+	/**
+	 * Delete the companion file of a log file.
+	 *
+	 * @param file
+	 *            Log file
+	 * @param suffix
+	 *            Suffix of companion files (can be <code>null</code>)
+	 */
+	static void delete(final File file, final String suffix) {
+		if (suffix != null) {
+			delete(get(file, suffix));
+		}
+	}
+
+	private static void delete(final File companion) {
+		if (companion.exists() && !companion.delete()) {
+			InternalLogger.warn("Failed to delete \"{}\"", companion);
+		}
+	}
+
+}
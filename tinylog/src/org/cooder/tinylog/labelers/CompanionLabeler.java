@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog.labelers;
+
+/**
+ * A labeler that keeps companion files like indexes together with their log files. A companion file has the same path
+ * as its log file plus an additional suffix. It will be renamed and deleted whenever the labeler renames or deletes the
+ * log file.
+ */
+public interface CompanionLabeler extends Labeler {
+
+	/**
+	 * Set the suffix of companion files.
+	 *
+	 * @param suffix
+	 *            Suffix that is appended to the path of a log file (e.g. ".idx") or <code>null</code> for no companion
+	 *            files
+	 */
+	void setCompanionSuffix(String suffix);
+
+}
@@ -17,16 +17,29 @@ import java.io.File;
 import java.io.IOException;
 
 import org.cooder.tinylog.Configuration;
+import org.cooder.tinylog.InternalLogger;
 
 /**
  * Numbers the backups sequentially: "0" for the newest, "1" for the second newest etc.
  */
 @PropertiesSupport(name = "count")
-public final class CountLabeler implements Labeler {
+public final class CountLabeler implements RetainingLabeler, CompanionLabeler {
 
+	private Retention retention;
+	private String companionSuffix;
 	private String filenameWithoutExtension;
 	private String filenameExtension;
 
+	@Override
+	public void setRetention(final Retention retention) {
+		this.retention = retention;
+	}
+
+	@Override
+	public void setCompanionSuffix(final String suffix) {
+		this.companionSuffix = suffix;
+	}
+
 	@Override
 	public void init(final Configuration configuration) {
 		// Do nothing
@@ -51,6 +64,9 @@ public final class CountLabeler implements Labeler {
 	public File roll(final File file, final int maxBackups) throws IOException {
 		if (file.exists()) {
 			roll(file, 0, maxBackups);
+			if (retention != null) {
+				purge(maxBackups);
+			}
 		}
 		return file;
 	}
@@ -64,10 +80,35 @@ public final class CountLabeler implements Labeler {
 			if (!sourceFile.renameTo(targetFile)) {
 				throw new IOException("Failed to rename \"" + sourceFile + "\" to \"" + targetFile + "\"");
 			}
+			CompanionFiles.rename(sourceFile, targetFile, companionSuffix);
 		} else {
 			if (!sourceFile.delete()) {
 				throw new IOException("Failed to delete \"" + sourceFile + "\"");
 			}
+			CompanionFiles.delete(sourceFile, companionSuffix);
+		}
+	}
+
+	private void purge(final int maxBackups) {
+		long now = System.currentTimeMillis();
+		long totalSize = 0L;
+		boolean retained = true;
+
+		for (int number = 0; number < maxBackups; ++number) {
+			File backup = new File(filenameWithoutExtension + "." + number + filenameExtension);
+			if (!backup.exists()) {
+				break;
+			}
+
+			totalSize += backup.length();
+			retained = retained && retention.isRetained(totalSize, backup.lastModified(), now);
+			if (!retained) {
+				if (backup.delete()) {
+					CompanionFiles.delete(backup, companionSuffix);
+				} else {
+					InternalLogger.warn("Failed to delete \"{}\"", backup);
+				}
+			}
 		}
 	}
 
@@ -17,7 +17,7 @@ import java.io.File;
 import java.util.Comparator;
 
 /**
- * Compares files by the date of last modification.
+ * Compares files by the date of last modification. Files with the same date are compared by their names.
  */
 final class LogFileComparator implements Comparator<File> {
 
@@ -40,7 +40,7 @@ final class LogFileComparator implements Comparator<File> {
 		} else if (diff > 0) {
 			return +1;
 		} else {
-			return 0;
+			return file2.getName().compareTo(file1.getName());
 		}
 	}
 
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.labelers;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Set;
+
+import org.cooder.tinylog.InternalLogger;
+
+/**
+ * In-memory index of backups, ordered from newest to oldest. The index is kept up to date by the labeler, so that
+ * rolling doesn't require listing and sorting all files again. Changes of the labeler itself are already known by the
+ * index. Only if backups have been added or deleted by someone else, for example by another process that shares the
+ * directory, the directory will be scanned again.
+ */
+final class LogFileIndex {
+
+	/**
+	 * Directories, which have been modified within this time in milliseconds, are always scanned again, as a further
+	 * change might not be visible in the last modification timestamp.
+	 */
+	private static final long RACY_INTERVAL = 2000L;
+
+	private final LinkedList<Entry> entries;
+	private final File directory;
+	private final FileFilter filter;
+	private final String companionSuffix;
+
+	private long directoryModified;
+	private long scanned;
+
+	/**
+	 * @param directory
+	 *            Directory to scan for existing backups
+	 * @param filter
+	 *            Filter for backups
+	 * @param companionSuffix
+	 *            Suffix of companion files, which will be deleted together with backups (can be <code>null</code>)
+	 */
+	LogFileIndex(final File directory, final FileFilter filter, final String companionSuffix) {
+		this.entries = new LinkedList<Entry>();
+		this.directory = directory;
+		this.filter = filter;
+		this.companionSuffix = companionSuffix;
+
+		scan();
+	}
+
+	/**
+	 * Scan the directory again, if backups have been added or deleted by someone else since the last refresh. Backups
+	 * of other processes will be indexed and deleted backups removed from the index.
+	 *
+	 * @param currentFile
+	 *            Current log file, which has been created by the writer and is not a backup
+	 */
+	void refresh(final File currentFile) {
+		long modified = directory.lastModified();
+		if (modified != directoryModified || scanned - modified < RACY_INTERVAL) {
+			if (isUpToDate(currentFile.getName())) {
+				directoryModified = modified;
+				scanned = System.currentTimeMillis();
+			} else {
+				scan();
+			}
+		}
+	}
+
+	/**
+	 * Get the number of indexed backups.
+	 *
+	 * @return Number of backups
+	 */
+	int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Add a file as newest backup. Nothing will be added if the file doesn't exist.
+	 *
+	 * @param file
+	 *            Rolled log file
+	 */
+	void add(final File file) {
+		File absoluteFile = file.getAbsoluteFile();
+		remove(absoluteFile);
+		if (absoluteFile.isFile()) {
+			entries.addFirst(new Entry(absoluteFile));
+		}
+	}
+
+	/**
+	 * Remove a file from the index (for example because it is the current log file again).
+	 *
+	 * @param file
+	 *            File to remove
+	 */
+	void remove(final File file) {
+		File absoluteFile = file.getAbsoluteFile();
+		for (Iterator<Entry> iterator = entries.iterator(); iterator.hasNext();) {
+			if (iterator.next().file.equals(absoluteFile)) {
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Delete all backups that exceed the maximum number of backups or the retention.
+	 *
+	 * @param maxBackups
+	 *            Maximum number of backups to store
+	 * @param retention
+	 *            Limits for total size and age of backups (can be <code>null</code>)
+	 */
+	void purge(final int maxBackups, final Retention retention) {
+		long now = System.currentTimeMillis();
+		long totalSize = 0L;
+		int count = 0;
+
+		for (Iterator<Entry> iterator = entries.iterator(); iterator.hasNext();) {
+			Entry entry = iterator.next();
+			totalSize += entry.size;
+			if (count < maxBackups && (retention == null || retention.isRetained(totalSize, entry.lastModified, now))) {
+				++count;
+			} else if (entry.file.delete() || !entry.file.exists()) {
+				CompanionFiles.delete(entry.file, companionSuffix);
+				iterator.remove();
+			} else {
+				InternalLogger.warn("Failed to delete \"{}\"", entry.file);
+			}
+		}
+	}
+
+	private boolean isUpToDate(final String currentName) {
+		String[] names = directory.list();
+		if (names == null) {
+			return entries.isEmpty();
+		}
+
+		Set<String> indexed = new HashSet<String>();
+		for (Entry entry : entries) {
+			indexed.add(entry.file.getName());
+		}
+
+		for (String name : names) {
+			if (!name.equals(currentName) && filter.accept(new File(directory, name))
+					&& (companionSuffix == null || !name.endsWith(companionSuffix)) && !indexed.remove(name)) {
+				return false;
+			}
+		}
+
+		return indexed.isEmpty();
+	}
+
+	private void scan() {
+		directoryModified = directory.lastModified();
+		scanned = System.currentTimeMillis();
+		entries.clear();
+
+		File[] files = directory.listFiles(filter);
+		if (files != null) {
+			Arrays.sort(files, LogFileComparator.getInstance());
+			for (File file : files) {
+				if (companionSuffix == null || !file.getName().endsWith(companionSuffix)) {
+					entries.add(new Entry(file.getAbsoluteFile()));
+				}
+			}
+		}
+	}
+
+	private static final class Entry {
+
+		private final File file;
+		private final long size;
+		private final long lastModified;
+
+		private Entry(final File file) {
+			this.file = file;
+			this.size = file.length();
+			this.lastModified = file.lastModified();
+		}
+
+	}
+
+}
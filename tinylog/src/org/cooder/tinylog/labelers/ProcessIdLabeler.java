@@ -15,7 +15,6 @@ package org.cooder.tinylog.labelers;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Arrays;
 
 import org.cooder.tinylog.Configuration;
 import org.cooder.tinylog.EnvironmentHelper;
@@ -25,10 +24,12 @@ import org.cooder.tinylog.InternalLogger;
  * Add the process ID (PID) to log files.
  */
 @PropertiesSupport(name = "pid")
-public final class ProcessIdLabeler implements Labeler {
+public final class ProcessIdLabeler implements RetainingLabeler, CompanionLabeler {
 
 	private final String pid;
-	private LogFileFilter logFileFilter;
+	private Retention retention;
+	private String companionSuffix;
+	private LogFileIndex index;
 
 	/**
 	 */
@@ -45,6 +46,16 @@ public final class ProcessIdLabeler implements Labeler {
 		return pid;
 	}
 
+	@Override
+	public void setRetention(final Retention retention) {
+		this.retention = retention;
+	}
+
+	@Override
+	public void setCompanionSuffix(final String suffix) {
+		this.companionSuffix = suffix;
+	}
+
 	@Override
 	public void init(final Configuration configuration) {
 		// Nothing to do
@@ -52,38 +63,36 @@ public final class ProcessIdLabeler implements Labeler {
 
 	@Override
 	public File getLogFile(final File baseFile) {
-		String directory = baseFile.getAbsoluteFile().getParent();
+		File directory = baseFile.getAbsoluteFile().getParentFile();
 		String name = baseFile.getName();
-		int index = name.indexOf('.', 1);
-		if (index > 0) {
-			String filenameWithoutExtension = name.substring(0, index);
-			String filenameExtension = name.substring(index);
-			logFileFilter = new LogFileFilter(filenameWithoutExtension, filenameExtension);
-			return new File(directory, filenameWithoutExtension + "." + pid + filenameExtension);
+		int position = name.indexOf('.', 1);
+		File file;
+		if (position > 0) {
+			String filenameWithoutExtension = name.substring(0, position);
+			String filenameExtension = name.substring(position);
+			index = new LogFileIndex(directory, new LogFileFilter(filenameWithoutExtension, filenameExtension), companionSuffix);
+			file = new File(directory, filenameWithoutExtension + "." + pid + filenameExtension);
 		} else {
-			logFileFilter = new LogFileFilter(name, "");
-			return new File(directory, name + "." + pid);
+			index = new LogFileIndex(directory, new LogFileFilter(name, ""), companionSuffix);
+			file = new File(directory, name + "." + pid);
 		}
+		index.remove(file);
+		return file;
 	}
 
 	@Override
 	public File roll(final File file, final int maxBackups) throws IOException {
 		if (file.exists()) {
-			if (!file.delete()) {
+			if (file.delete()) {
+				CompanionFiles.delete(file, companionSuffix);
+			} else {
 				InternalLogger.warn("Failed to delete \"{}\"", file);
 			}
 		}
 
-		File[] files = file.getAbsoluteFile().getParentFile().listFiles(logFileFilter);
-		if (files != null && files.length > maxBackups) {
-			Arrays.sort(files, LogFileComparator.getInstance());
-			for (int i = maxBackups; i < files.length; ++i) {
-				File backup = files[i];
-				if (!backup.delete()) {
-					InternalLogger.warn("Failed to delete \"{}\"", backup);
-				}
-			}
-		}
+		index.refresh(file);
+		index.remove(file);
+		index.purge(maxBackups, retention);
 
 		return file;
 	}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.labelers;
+
+/**
+ * A labeler that supports deleting backups by a {@link Retention} in addition to the maximum number of backups. The
+ * retention will be enforced each time the log file is rolled.
+ */
+public interface RetainingLabeler extends Labeler {
+
+	/**
+	 * Set the limits for keeping backups.
+	 *
+	 * @param retention
+	 *            Limits for the total size and age of backups or <code>null</code> for no limits
+	 */
+	void setRetention(Retention retention);
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.labelers;
+
+import java.util.Locale;
+
+/**
+ * Limits for keeping backups in addition to the maximum number of backups: the total size of all backups and the
+ * maximum age of a backup. The oldest backups will be deleted first if a limit is exceeded.
+ *
+ * @see RetainingLabeler
+ */
+public final class Retention {
+
+	private final long maxSize;
+	private final long maxAge;
+
+	/**
+	 * @param maxSize
+	 *            Maximum total size of all backups in bytes (0 for no limit)
+	 * @param maxAge
+	 *            Maximum age of a backup in milliseconds (0 for no limit)
+	 * @throws IllegalArgumentException
+	 *             if maxSize or maxAge is &lt; 0
+	 */
+	public Retention(final long maxSize, final long maxAge) throws IllegalArgumentException {
+		if (maxSize < 0L) {
+			throw new IllegalArgumentException("maxSize must be >= 0");
+		}
+		if (maxAge < 0L) {
+			throw new IllegalArgumentException("maxAge must be >= 0");
+		}
+
+		this.maxSize = maxSize;
+		this.maxAge = maxAge;
+	}
+
+	/**
+	 * String parameters for {@link org.cooder.tinylog.writers.RollingFileWriter RollingFileWriter}.
+	 *
+	 * @param maxSize
+	 *            Maximum total size of all backups with byte unit (e.g. 512MB) or <code>null</code> for no limit
+	 * @param maxAge
+	 *            Maximum age of a backup with time unit "d", "h", "m" or "s" (e.g. 30d) or <code>null</code> for no
+	 *            limit
+	 * @throws IllegalArgumentException
+	 *             if maxSize or maxAge is not a positive number
+	 */
+	public Retention(final String maxSize, final String maxAge) throws IllegalArgumentException {
+		this.maxSize = maxSize == null ? 0L : parseSize(maxSize.trim());
+		this.maxAge = maxAge == null ? 0L : parseAge(maxAge.trim().toLowerCase(Locale.ENGLISH));
+	}
+
+	/**
+	 * Get the maximum total size of all backups.
+	 *
+	 * @return Maximum size in bytes or 0 if unlimited
+	 */
+	public long getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Get the maximum age of a backup.
+	 *
+	 * @return Maximum age in milliseconds or 0 if unlimited
+	 */
+	public long getMaxAge() {
+		return maxAge;
+	}
+
+	/**
+	 * Check if a backup can be kept.
+	 *
+	 * @param totalSize
+	 *            Total size of this backup and all newer backups in bytes
+	 * @param lastModified
+	 *            Time of last modification of this backup
+	 * @param now
+	 *            Current time in milliseconds
+	 * @return <code>true</code> if the backup can be kept, <code>false</code> if it has to be deleted
+	 */
+	boolean isRetained(final long totalSize, final long lastModified, final long now) {
+		return (maxSize == 0L || totalSize <= maxSize) && (maxAge == 0L || now - lastModified <= maxAge);
+	}
+
+	private static long parseSize(final String size) {
+		long bytes;
+		try {
+			if (size.endsWith("GB")) {
+				bytes = Long.parseLong(size.substring(0, size.length() - 2).trim()) * 1024L * 1024L * 1024L;
+			} else if (size.endsWith("MB")) {
+				bytes = Long.parseLong(size.substring(0, size.length() - 2).trim()) * 1024L * 1024L;
+			} else if (size.endsWith("KB")) {
+				bytes = Long.parseLong(size.substring(0, size.length() - 2).trim()) * 1024L;
+			} else {
+				bytes = Long.parseLong(size);
+			}
+		} catch (NumberFormatException ex) {
+			throw new IllegalArgumentException("Size \"" + size + "\" is not numeric");
+		}
+		if (bytes <= 0L) {
+			throw new IllegalArgumentException("Size must be > 0, but is " + bytes);
+		}
+		return bytes;
+	}
+
+	private static long parseAge(final String age) {
+		long factor;
+		String number;
+		if (age.endsWith("d")) {
+			factor = 24L * 60L * 60L * 1000L;
+			number = age.substring(0, age.length() - 1);
+		} else if (age.endsWith("h")) {
+			factor = 60L * 60L * 1000L;
+			number = age.substring(0, age.length() - 1);
+		} else if (age.endsWith("m")) {
+			factor = 60L * 1000L;
+			number = age.substring(0, age.length() - 1);
+		} else if (age.endsWith("s")) {
+			factor = 1000L;
+			number = age.substring(0, age.length() - 1);
+		} else {
+			factor = 24L * 60L * 60L * 1000L;
+			number = age;
+		}
+
+		long millis;
+		try {
+			millis = Long.parseLong(number.trim()) * factor;
+		} catch (NumberFormatException ex) {
+			throw new IllegalArgumentException("Age \"" + age + "\" is not numeric");
+		}
+		if (millis <= 0L) {
+			throw new IllegalArgumentException("Age must be > 0, but is " + age);
+		}
+		return millis;
+	}
+
+}
@@ -19,7 +19,6 @@ import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
 import java.util.Date;
 import java.util.Locale;
 
@@ -31,14 +30,16 @@ import org.cooder.tinylog.InternalLogger;
  * Adds a timestamp to the real log file and the backups.
  */
 @PropertiesSupport(name = "timestamp")
-public final class TimestampLabeler implements Labeler {
+public final class TimestampLabeler implements RetainingLabeler, CompanionLabeler {
 
 	private static final String DEFAULT_TIMESTAMP_PATTERN = "yyyy-MM-dd HH-mm-ss";
 
 	private final String pattern;
 	private TimestampFormatter formatter;
 
-	private LogFileFilter logFileFilter;
+	private Retention retention;
+	private String companionSuffix;
+	private LogFileIndex index;
 
 	private String directory;
 	private String filenameWithoutExtension;
@@ -61,6 +62,16 @@ public final class TimestampLabeler implements Labeler {
 		this.pattern = pattern;
 	}
 
+	@Override
+	public void setRetention(final Retention retention) {
+		this.retention = retention;
+	}
+
+	@Override
+	public void setCompanionSuffix(final String suffix) {
+		this.companionSuffix = suffix;
+	}
+
 	@Override
 	public void init(final Configuration configuration) {
 		if (pattern.contains("SSSS") || pattern.contains("n") || pattern.contains("N")) {
@@ -79,34 +90,31 @@ public final class TimestampLabeler implements Labeler {
 	public File getLogFile(final File baseFile) {
 		directory = baseFile.getAbsoluteFile().getParent();
 		String name = baseFile.getName();
-		int index = name.indexOf('.', 1);
-		if (index > 0) {
-			filenameWithoutExtension = name.substring(0, index);
-			filenameExtension = name.substring(index);
+		int position = name.indexOf('.', 1);
+		if (position > 0) {
+			filenameWithoutExtension = name.substring(0, position);
+			filenameExtension = name.substring(position);
 		} else {
 			filenameWithoutExtension = name;
 			filenameExtension = "";
 		}
 
-		logFileFilter = new LogFileFilter(filenameWithoutExtension, filenameExtension);
+		index = new LogFileIndex(new File(directory), new LogFileFilter(filenameWithoutExtension, filenameExtension), companionSuffix);
 
-		return createFile();
+		File file = createFile();
+		index.remove(file);
+		return file;
 	}
 
 	@Override
 	public File roll(final File file, final int maxBackups) {
-		File[] files = file.getAbsoluteFile().getParentFile().listFiles(logFileFilter);
-		if (files != null && files.length > maxBackups) {
-			Arrays.sort(files, LogFileComparator.getInstance());
-			for (int i = maxBackups; i < files.length; ++i) {
-				File backup = files[i];
-				if (!backup.delete()) {
-					InternalLogger.warn("Failed to delete \"{}\"", backup);
-				}
-			}
-		}
+		index.refresh(file);
+		index.add(file);
+		index.purge(maxBackups, retention);
 
-		return createFile();
+		File newFile = createFile();
+		index.remove(newFile);
+		return newFile;
 	}
 
 	private File createFile() {
@@ -14,9 +14,10 @@
 package org.cooder.tinylog.policies;
 
 import java.io.File;
-import java.io.FileReader;
+import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.LineNumberReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -30,6 +31,9 @@ public final class CountPolicy implements Policy {
 
 	private static final Pattern NEW_LINE_PATTERN = Pattern.compile("\r\n|\\\\r\\\\n|\n|\\\\n|\r|\\\\r");
 
+	private static final int BUFFER_SIZE = 1024 * 1024;
+	private static final long MIN_PART_SIZE = 16L * 1024L * 1024L;
+
 	private final long limit;
 	private long lines;
 	private long count;
@@ -83,14 +87,9 @@ public final class CountPolicy implements Policy {
 	@Override
 	public boolean check(final File logFile) throws IOException {
 		if (logFile.exists()) {
-			LineNumberReader reader = new LineNumberReader(new FileReader(logFile));
-			try {
-				reader.skip(Long.MAX_VALUE);
-				count = reader.getLineNumber() / lines;
-				return count <= limit;
-			} finally {
-				reader.close();
-			}
+			long parts = Math.min(Runtime.getRuntime().availableProcessors(), logFile.length() / MIN_PART_SIZE);
+			count = countLines(logFile, (int) Math.max(1L, parts)) / lines;
+			return count <= limit;
 		} else {
 			return true;
 		}
@@ -107,4 +106,130 @@ public final class CountPolicy implements Policy {
 		count = 0L;
 	}
 
+	/**
+	 * Count all line breaks in a file. Line breaks are counted in the same way as {@link java.io.LineNumberReader
+	 * LineNumberReader} does, but the bytes are scanned directly without decoding characters. Large files can be split
+	 * into multiple parts, which will be scanned in parallel.
+	 *
+	 * @param file
+	 *            File to scan
+	 * @param parts
+	 *            Number of parts to scan in parallel (must be &gt; 0)
+	 * @return Number of found line breaks
+	 *
+	 * @throws IOException
+	 *             Failed to read file
+	 */
+	static long countLines(final File file, final int parts) throws IOException {
+		FileInputStream stream = new FileInputStream(file);
+		try {
+			FileChannel channel = stream.getChannel();
+			long size = channel.size();
+			if (parts <= 1 || size < parts) {
+				return countLines(channel, 0L, size);
+			}
+
+			long partSize = size / parts;
+			LineCounter[] counters = new LineCounter[parts];
+			for (int i = 0; i < parts; ++i) {
+				long start = i * partSize;
+				long end = i == parts - 1 ? size : start + partSize;
+				counters[i] = new LineCounter(channel, start, end);
+				counters[i].start();
+			}
+
+			long lines = 0L;
+			for (LineCounter counter : counters) {
+				lines += counter.getResult();
+			}
+			return lines;
+		} finally {
+			stream.close();
+		}
+	}
+
+	private static long countLines(final FileChannel channel, final long start, final long end) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate((int) Math.max(1L, Math.min(BUFFER_SIZE, end - start)));
+		byte[] data = buffer.array();
+
+		byte previous = 0;
+		if (start > 0L) {
+			buffer.limit(1);
+			if (channel.read(buffer, start - 1L) > 0) {
+				previous = data[0];
+			}
+		}
+
+		long lines = 0L;
+		long position = start;
+		while (position < end) {
+			buffer.clear();
+			buffer.limit((int) Math.min(data.length, end - position));
+			int read = channel.read(buffer, position);
+			if (read <= 0) {
+				break;
+			}
+			for (int i = 0; i < read; ++i) {
+				byte current = data[i];
+				if (current == '\r' || (current == '\n' && previous != '\r')) {
+					++lines;
+				}
+				previous = current;
+			}
+			position += read;
+		}
+		return lines;
+	}
+
+	private static final class LineCounter extends Thread {
+
+		private final FileChannel channel;
+		private final long start;
+		private final long end;
+
+		private long lines;
+		private IOException exception;
+
+		private LineCounter(final FileChannel channel, final long start, final long end) {
+			this.channel = channel;
+			this.start = start;
+			this.end = end;
+			setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			try {
+				lines = countLines(channel, start, end);
+			} catch (IOException ex) {
+				exception = ex;
+			}
+		}
+
+		private long getResult() throws IOException {
+			boolean finished;
+			boolean interrupted = false;
+			do {
+				try {
+					join();
+					finished = true;
+				} catch (InterruptedException ex) {
+					finished = false;
+					interrupted = true;
+				}
+			} while (!finished);
+
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+
+			if (exception == null) {
+				return lines;
+			} else {
+				throw exception;
+			}
+		}
+
+	}
+
 }
@@ -69,6 +69,15 @@ public final class SizePolicy implements Policy {
 		this.size = 0L;
 	}
 
+	/**
+	 * Get the maximum size of a log file.
+	 *
+	 * @return Maximum size of a log file in bytes
+	 */
+	public long getMaxSize() {
+		return maxSize;
+	}
+
 	@Override
 	public void init(final Configuration configuration) {
 		// Do nothing
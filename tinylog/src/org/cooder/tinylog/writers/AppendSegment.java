@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.writers;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buffer for log entries that can be filled by multiple threads without locking. Each thread reserves a region by an
+ * atomic compare-and-set and copies its data in parallel to other threads. A single thread seals the segment and drains
+ * it as soon as all reserved regions are completely copied.
+ *
+ * <p>
+ * The number of entries, the number of bytes and the sealed flag are packed into a single long value, so that entry
+ * index and byte offset are always reserved together. Therefore entries are stored in the same order as their bytes.
+ * </p>
+ */
+final class AppendSegment {
+
+	private static final long SEALED = Long.MIN_VALUE;
+	private static final long SIZE_MASK = 0xFFFFFFFFL;
+
+	private final byte[] data;
+	private final String[] entries;
+	private final int[] offsets;
+	private final long[] tags;
+
+	private final AtomicLong state;
+	private final AtomicInteger completed;
+
+	/**
+	 * @param capacity
+	 *            Maximum number of bytes
+	 * @param maxEntries
+	 *            Maximum number of log entries
+	 * @param open
+	 *            <code>true</code> to accept log entries immediately, <code>false</code> to create a sealed segment
+	 */
+	AppendSegment(final int capacity, final int maxEntries, final boolean open) {
+		this.data = new byte[capacity];
+		this.entries = new String[maxEntries];
+		this.offsets = new int[maxEntries];
+		this.tags = new long[maxEntries];
+		this.state = new AtomicLong(open ? 0L : SEALED);
+		this.completed = new AtomicInteger();
+	}
+
+	/**
+	 * Get the maximum number of bytes, which can be stored in this segment.
+	 *
+	 * @return Capacity in bytes
+	 */
+	int getCapacity() {
+		return data.length;
+	}
+
+	/**
+	 * Try to append a log entry. This method can be called concurrently by multiple threads.
+	 *
+	 * @param entry
+	 *            Rendered log entry
+	 * @param bytes
+	 *            Encoded log entry
+	 * @return <code>true</code> if successful, <code>false</code> if the segment is full or sealed
+	 */
+	boolean append(final String entry, final byte[] bytes) {
+		return append(entry, bytes, 0L);
+	}
+
+	/**
+	 * Try to append a log entry with additional information for draining. This method can be called concurrently by
+	 * multiple threads.
+	 *
+	 * @param entry
+	 *            Rendered log entry
+	 * @param bytes
+	 *            Encoded log entry
+	 * @param tag
+	 *            Additional information, which can be received via {@link #getTag(int)}
+	 * @return <code>true</code> if successful, <code>false</code> if the segment is full or sealed
+	 */
+	boolean append(final String entry, final byte[] bytes, final long tag) {
+		while (true) {
+			long current = state.get();
+			if (current < 0L) {
+				return false;
+			}
+
+			int size = (int) (current & SIZE_MASK);
+			int index = (int) (current >>> 32);
+			if (index >= entries.length || bytes.length > data.length - size) {
+				return false;
+			}
+
+			if (state.compareAndSet(current, ((long) (index + 1) << 32) | (size + bytes.length))) {
+				System.arraycopy(bytes, 0, data, size, bytes.length);
+				entries[index] = entry;
+				offsets[index] = size;
+				tags[index] = tag;
+				completed.incrementAndGet();
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Determine whether there are any reserved log entries.
+	 *
+	 * @return <code>true</code> if no log entries are stored, otherwise <code>false</code>
+	 */
+	boolean isEmpty() {
+		return (state.get() & ~SEALED) == 0L;
+	}
+
+	/**
+	 * Seal the segment. Afterwards, no further log entries can be appended.
+	 */
+	void seal() {
+		while (true) {
+			long current = state.get();
+			if (current < 0L || state.compareAndSet(current, current | SEALED)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Wait until all reserved log entries of a sealed segment are completely copied.
+	 *
+	 * @return Number of stored log entries
+	 */
+	int await() {
+		int count = (int) ((state.get() & ~SEALED) >>> 32);
+		while (completed.get() < count) {
+			Thread.yield();
+		}
+		return count;
+	}
+
+	/**
+	 * Get the number of stored bytes of a sealed segment.
+	 *
+	 * @return Number of bytes
+	 */
+	int getSize() {
+		return (int) (state.get() & SIZE_MASK);
+	}
+
+	/**
+	 * Get the stored bytes. Only bytes until {@link #getSize()} are valid.
+	 *
+	 * @return Byte array with all log entries
+	 */
+	byte[] getData() {
+		return data;
+	}
+
+	/**
+	 * Get a rendered log entry.
+	 *
+	 * @param index
+	 *            Index of log entry
+	 * @return Rendered log entry
+	 */
+	String getEntry(final int index) {
+		return entries[index];
+	}
+
+	/**
+	 * Get the byte offset of a log entry.
+	 *
+	 * @param index
+	 *            Index of log entry
+	 * @return Offset in {@link #getData()}
+	 */
+	int getOffset(final int index) {
+		return offsets[index];
+	}
+
+	/**
+	 * Get the additional information of a log entry.
+	 *
+	 * @param index
+	 *            Index of log entry
+	 * @return Tag as passed to {@link #append(String, byte[], long)}
+	 */
+	long getTag(final int index) {
+		return tags[index];
+	}
+
+	/**
+	 * Release all references to stored log entries. The segment stays sealed.
+	 */
+	void release() {
+		Arrays.fill(entries, null);
+	}
+
+	/**
+	 * Discard all stored log entries and accept new log entries.
+	 */
+	void open() {
+		completed.set(0);
+		state.set(0L);
+	}
+
+}
@@ -0,0 +1,756 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog.writers;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.cooder.tinylog.Configuration;
+import org.cooder.tinylog.EnvironmentHelper;
+import org.cooder.tinylog.FormatPattern;
+import org.cooder.tinylog.LogEntry;
+import org.cooder.tinylog.Metrics;
+import org.cooder.tinylog.Supplier;
+
+/**
+ * Writes log entries in a compact binary format to a file. Instead of rendering text, class names, thread names and
+ * message templates are written only once into a dictionary and referenced by IDs afterwards, timestamps are stored
+ * as deltas, and arguments are stored as raw values. Binary log files can be converted into text by
+ * {@link org.cooder.tinylog.BinaryLogDecoder BinaryLogDecoder} using any format pattern.
+ *
+ * <p>
+ * A binary log file starts with the magic bytes "TLB" followed by the format version. Afterwards it consists of
+ * records, each starting with a type byte. A session record resets the dictionary and the base for timestamps. It is
+ * written whenever the writer is initialized, so that appending to existing files is possible. A string record adds the
+ * next entry to the dictionary. An entry record contains a log entry. Numbers are stored as variable length integers.
+ * </p>
+ *
+ * <p>
+ * Before appending, an existing file is scanned once. An incomplete last record, for example from a crashed
+ * application, is truncated. Otherwise, the decoder would misinterpret the following session.
+ * </p>
+ *
+ * <p>
+ * Arguments are stored when log entries are written. Mutable arguments can therefore have changed in the meantime if a
+ * writing thread is used. Dates are stored with millisecond precision.
+ * </p>
+ */
+@PropertiesSupport(name = "binary", properties = { @Property(name = "filename", type = String.class),
+		@Property(name = "buffered", type = boolean.class, optional = true),
+		@Property(name = "append", type = boolean.class, optional = true),
+		@Property(name = "format", type = String.class, optional = true) })
+public final class BinaryWriter implements Writer {
+
+	/* Binary format, must be identical to BinaryLogDecoder */
+
+	private static final byte[] MAGIC = new byte[] { 'T', 'L', 'B', 1 };
+
+	private static final int SESSION_RECORD = 0;
+	private static final int STRING_RECORD = 1;
+	private static final int ENTRY_RECORD = 2;
+
+	private static final int DATE_FLAG = 1;
+	private static final int PROCESS_ID_FLAG = 1 << 1;
+	private static final int THREAD_FLAG = 1 << 2;
+	private static final int CONTEXT_FLAG = 1 << 3;
+	private static final int CLASS_FLAG = 1 << 4;
+	private static final int METHOD_FLAG = 1 << 5;
+	private static final int FILE_FLAG = 1 << 6;
+	private static final int LINE_FLAG = 1 << 7;
+	private static final int LEVEL_FLAG = 1 << 8;
+	private static final int TEMPLATE_FLAG = 1 << 9;
+	private static final int MESSAGE_FLAG = 1 << 10;
+	private static final int EXCEPTION_FLAG = 1 << 11;
+
+	private static final int NULL_ARGUMENT = 0;
+	private static final int STRING_ARGUMENT = 1;
+	private static final int INTEGER_ARGUMENT = 2;
+	private static final int LONG_ARGUMENT = 3;
+	private static final int DOUBLE_ARGUMENT = 4;
+	private static final int FLOAT_ARGUMENT = 5;
+	private static final int TRUE_ARGUMENT = 6;
+	private static final int FALSE_ARGUMENT = 7;
+	private static final int CHARACTER_ARGUMENT = 8;
+	private static final int SHORT_ARGUMENT = 9;
+	private static final int BYTE_ARGUMENT = 10;
+	private static final int DECIMAL_ARGUMENT = 11;
+	private static final int OTHER_ARGUMENT = 12;
+
+	private static final int MAX_CAUSES = 16;
+
+	/* End of binary format */
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final int MAX_DICTIONARY_SIZE = 64 * 1024;
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private static final Set<LogEntryValue> ALL_RAW_VALUES = EnumSet.of(LogEntryValue.DATE, LogEntryValue.PROCESS_ID, LogEntryValue.THREAD,
+			LogEntryValue.CONTEXT, LogEntryValue.CLASS, LogEntryValue.METHOD, LogEntryValue.FILE, LogEntryValue.LINE, LogEntryValue.LEVEL,
+			LogEntryValue.RAW_MESSAGE, LogEntryValue.EXCEPTION);
+
+	private final String filename;
+	private final boolean buffered;
+	private final boolean append;
+	private final String formatPattern;
+	private final Set<LogEntryValue> requiredLogEntryValues;
+
+	private OutputStream stream;
+	private Map<String, Integer> dictionary;
+	private long previousTimestamp;
+	private Buffer definitions;
+	private Buffer entry;
+
+	/**
+	 * @param filename
+	 *            Filename of the log file
+	 */
+	public BinaryWriter(final String filename) {
+		this(filename, false, false, null);
+	}
+
+	/**
+	 * @param filename
+	 *            Filename of the log file
+	 * @param buffered
+	 *            Buffered writing
+	 */
+	public BinaryWriter(final String filename, final boolean buffered) {
+		this(filename, buffered, false, null);
+	}
+
+	/**
+	 * @param filename
+	 *            Filename of the log file
+	 * @param buffered
+	 *            Buffered writing
+	 * @param append
+	 *            Continuing existing file
+	 */
+	public BinaryWriter(final String filename, final boolean buffered, final boolean append) {
+		this(filename, buffered, append, null);
+	}
+
+	/**
+	 * @param filename
+	 *            Filename of the log file
+	 * @param buffered
+	 *            Buffered writing
+	 * @param append
+	 *            Continuing existing file
+	 * @param formatPattern
+	 *            Only values of log entries that are used by this format pattern will be stored (<code>null</code> to
+	 *            store all values)
+	 */
+	public BinaryWriter(final String filename, final boolean buffered, final boolean append, final String formatPattern) {
+		this.filename = PathResolver.resolve(filename);
+		this.buffered = buffered;
+		this.append = append;
+		this.formatPattern = formatPattern;
+		this.requiredLogEntryValues = getRequiredLogEntryValues(formatPattern);
+	}
+
+	/**
+	 * Helper constructor with wrapper class parameters for {@link org.cooder.tinylog.PropertiesLoader PropertiesLoader}.
+	 *
+	 * @param filename
+	 *            Filename of the log file
+	 * @param buffered
+	 *            Buffered writing
+	 * @param append
+	 *            Continuing existing file
+	 * @param formatPattern
+	 *            Only values of log entries that are used by this format pattern will be stored (<code>null</code> to
+	 *            store all values)
+	 */
+	BinaryWriter(final String filename, final Boolean buffered, final Boolean append, final String formatPattern) {
+		this.filename = filename;
+		this.buffered = buffered == null ? false : buffered;
+		this.append = append == null ? false : append;
+		this.formatPattern = formatPattern;
+		this.requiredLogEntryValues = getRequiredLogEntryValues(formatPattern);
+	}
+
+	@Override
+	public Set<LogEntryValue> getRequiredLogEntryValues() {
+		return requiredLogEntryValues;
+	}
+
+	/**
+	 * Get the filename of the log file.
+	 *
+	 * @return Filename of the log file
+	 */
+	public String getFilename() {
+		return filename;
+	}
+
+	/**
+	 * Determine whether buffered writing is enabled.
+	 *
+	 * @return <code>true</code> if buffered writing is enabled, otherwise <code>false</code>
+	 */
+	public boolean isBuffered() {
+		return buffered;
+	}
+
+	/**
+	 * Determine whether appending is enabled.
+	 *
+	 * @return <code>true</code> if appending is enabled, otherwise <code>false</code>
+	 */
+	public boolean isAppending() {
+		return append;
+	}
+
+	/**
+	 * Get the format pattern that defines the values of log entries to store.
+	 *
+	 * @return Format pattern or <code>null</code> if all values are stored
+	 */
+	public String getFormatPattern() {
+		return formatPattern;
+	}
+
+	@Override
+	public void init(final Configuration configuration) throws IOException {
+		File file = new File(filename);
+		EnvironmentHelper.makeDirectories(file);
+		if (append && file.length() > 0) {
+			truncateIncompleteRecord(file);
+		}
+		boolean continued = append && file.length() > 0;
+
+		FileOutputStream fileStream = new FileOutputStream(file, append);
+		if (buffered) {
+			stream = new BufferedOutputStream(fileStream, BUFFER_SIZE);
+		} else {
+			stream = fileStream;
+		}
+
+		dictionary = new HashMap<String, Integer>();
+		definitions = new Buffer();
+		entry = new Buffer();
+
+		synchronized (stream) {
+			if (!continued) {
+				stream.write(MAGIC);
+			}
+			startSession();
+		}
+
+		VMShutdownHook.register(this);
+	}
+
+	@Override
+	public void write(final LogEntry logEntry) throws IOException {
+		synchronized (stream) {
+			if (dictionary.size() >= MAX_DICTIONARY_SIZE) {
+				startSession();
+			}
+
+			definitions.reset();
+			entry.reset();
+			encode(logEntry);
+
+			if (definitions.size > 0) {
+				stream.write(definitions.data, 0, definitions.size);
+			}
+			stream.write(entry.data, 0, entry.size);
+			Metrics.recordBytes(this, definitions.size + entry.size);
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (buffered) {
+			synchronized (stream) {
+				stream.flush();
+			}
+		}
+	}
+
+	/**
+	 * Close the log file.
+	 *
+	 * @throws IOException
+	 *             Failed to close the log file
+	 */
+	@Override
+	public void close() throws IOException {
+		synchronized (stream) {
+			VMShutdownHook.unregister(this);
+			stream.close();
+		}
+	}
+
+	private static Set<LogEntryValue> getRequiredLogEntryValues(final String formatPattern) {
+		if (formatPattern == null) {
+			return EnumSet.copyOf(ALL_RAW_VALUES);
+		} else {
+			Set<LogEntryValue> values = new FormatPattern(formatPattern, Locale.getDefault(), 0).getRequiredLogEntryValues();
+			if (values.remove(LogEntryValue.PRECISE_DATE)) {
+				values.add(LogEntryValue.DATE);
+			}
+			if (values.remove(LogEntryValue.MESSAGE)) {
+				values.add(LogEntryValue.RAW_MESSAGE);
+			}
+			values.remove(LogEntryValue.RENDERED_LOG_ENTRY);
+			values.add(LogEntryValue.LEVEL);
+			return values;
+		}
+	}
+
+	private static void truncateIncompleteRecord(final File file) throws IOException {
+		long length;
+		RecordScanner scanner = new RecordScanner(new FileInputStream(file));
+		try {
+			length = scanner.scan();
+		} finally {
+			scanner.close();
+		}
+
+		if (length < file.length()) {
+			RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+			try {
+				randomAccessFile.setLength(length);
+			} finally {
+				randomAccessFile.close();
+			}
+		}
+	}
+
+	private void startSession() throws IOException {
+		dictionary.clear();
+		previousTimestamp = 0L;
+		stream.write(SESSION_RECORD);
+	}
+
+	private void encode(final LogEntry logEntry) {
+		Date date = requiredLogEntryValues.contains(LogEntryValue.DATE) ? logEntry.getDate() : null;
+		String processId = logEntry.getProcessId();
+		Thread thread = logEntry.getThread();
+		Map<String, String> context = logEntry.getContext();
+		String className = logEntry.getClassName();
+		String methodName = logEntry.getMethodName();
+		String file = logEntry.getFilename();
+		String template = logEntry.getMessageTemplate();
+		String message = logEntry.getMessage();
+		Throwable exception = logEntry.getException();
+
+		int flags = 0;
+		flags |= date == null ? 0 : DATE_FLAG;
+		flags |= processId == null ? 0 : PROCESS_ID_FLAG;
+		flags |= thread == null ? 0 : THREAD_FLAG;
+		flags |= context == null || context.isEmpty() ? 0 : CONTEXT_FLAG;
+		flags |= className == null ? 0 : CLASS_FLAG;
+		flags |= methodName == null ? 0 : METHOD_FLAG;
+		flags |= file == null ? 0 : FILE_FLAG;
+		flags |= requiredLogEntryValues.contains(LogEntryValue.LINE) ? LINE_FLAG : 0;
+		flags |= logEntry.getLevel() == null ? 0 : LEVEL_FLAG;
+		flags |= template == null ? 0 : TEMPLATE_FLAG;
+		flags |= message == null ? 0 : MESSAGE_FLAG;
+		flags |= exception == null ? 0 : EXCEPTION_FLAG;
+
+		entry.writeByte(ENTRY_RECORD);
+		entry.writeVarint(flags);
+
+		if ((flags & DATE_FLAG) != 0) {
+			long timestamp = date.getTime();
+			entry.writeSignedVarint(timestamp - previousTimestamp);
+			previousTimestamp = timestamp;
+		}
+		if ((flags & PROCESS_ID_FLAG) != 0) {
+			writeReference(processId);
+		}
+		if ((flags & THREAD_FLAG) != 0) {
+			writeReference(thread.getName());
+			entry.writeVarint(thread.getId());
+		}
+		if ((flags & CONTEXT_FLAG) != 0) {
+			entry.writeVarint(context.size());
+			for (Map.Entry<String, String> mapping : context.entrySet()) {
+				writeReference(mapping.getKey());
+				entry.writeString(mapping.getValue());
+			}
+		}
+		if ((flags & CLASS_FLAG) != 0) {
+			writeReference(className);
+		}
+		if ((flags & METHOD_FLAG) != 0) {
+			writeReference(methodName);
+		}
+		if ((flags & FILE_FLAG) != 0) {
+			writeReference(file);
+		}
+		if ((flags & LINE_FLAG) != 0) {
+			entry.writeSignedVarint(logEntry.getLineNumber());
+		}
+		if ((flags & LEVEL_FLAG) != 0) {
+			entry.writeByte(logEntry.getLevel().ordinal());
+		}
+		if ((flags & TEMPLATE_FLAG) != 0) {
+			writeReference(template);
+			Object[] arguments = logEntry.getArguments();
+			if (arguments == null) {
+				entry.writeVarint(0);
+			} else {
+				entry.writeVarint(arguments.length);
+				for (Object argument : arguments) {
+					writeArgument(argument);
+				}
+			}
+		}
+		if ((flags & MESSAGE_FLAG) != 0) {
+			entry.writeString(message);
+		}
+		if ((flags & EXCEPTION_FLAG) != 0) {
+			writeException(exception);
+		}
+	}
+
+	private void writeReference(final String text) {
+		if (text == null) {
+			entry.writeVarint(0);
+		} else {
+			Integer id = dictionary.get(text);
+			if (id == null) {
+				id = dictionary.size();
+				dictionary.put(text, id);
+				definitions.writeByte(STRING_RECORD);
+				definitions.writeString(text);
+			}
+			entry.writeVarint(id + 1);
+		}
+	}
+
+	private void writeArgument(final Object value) {
+		Object argument = value instanceof Supplier ? ((Supplier<?>) value).get() : value;
+
+		if (argument == null) {
+			entry.writeByte(NULL_ARGUMENT);
+		} else if (argument instanceof String) {
+			entry.writeByte(STRING_ARGUMENT);
+			entry.writeString((String) argument);
+		} else if (argument instanceof Integer) {
+			entry.writeByte(INTEGER_ARGUMENT);
+			entry.writeSignedVarint((Integer) argument);
+		} else if (argument instanceof Long) {
+			entry.writeByte(LONG_ARGUMENT);
+			entry.writeSignedVarint((Long) argument);
+		} else if (argument instanceof Double) {
+			entry.writeByte(DOUBLE_ARGUMENT);
+			entry.writeFixed(Double.doubleToLongBits((Double) argument), 8);
+		} else if (argument instanceof Float) {
+			entry.writeByte(FLOAT_ARGUMENT);
+			entry.writeFixed(Float.floatToIntBits((Float) argument), 4);
+		} else if (argument instanceof Boolean) {
+			entry.writeByte((Boolean) argument ? TRUE_ARGUMENT : FALSE_ARGUMENT);
+		} else if (argument instanceof Character) {
+			entry.writeByte(CHARACTER_ARGUMENT);
+			entry.writeVarint((Character) argument);
+		} else if (argument instanceof Short) {
+			entry.writeByte(SHORT_ARGUMENT);
+			entry.writeSignedVarint((Short) argument);
+		} else if (argument instanceof Byte) {
+			entry.writeByte(BYTE_ARGUMENT);
+			entry.writeSignedVarint((Byte) argument);
+		} else if (argument instanceof BigDecimal || argument instanceof BigInteger) {
+			entry.writeByte(DECIMAL_ARGUMENT);
+			entry.writeString(argument.toString());
+		} else {
+			entry.writeByte(OTHER_ARGUMENT);
+			entry.writeString(argument.toString());
+		}
+	}
+
+	private void writeException(final Throwable exception) {
+		Throwable current = exception;
+		for (int i = 0; i <= MAX_CAUSES; ++i) {
+			writeReference(current.getClass().getName());
+			entry.writeString(current.getMessage());
+
+			StackTraceElement[] stackTrace = current.getStackTrace();
+			entry.writeVarint(stackTrace.length);
+			for (StackTraceElement element : stackTrace) {
+				writeReference(element.getClassName());
+				writeReference(element.getMethodName());
+				writeReference(element.getFileName());
+				entry.writeSignedVarint(element.getLineNumber());
+			}
+
+			Throwable cause = current.getCause();
+			if (cause == null || cause == current || i == MAX_CAUSES) {
+				entry.writeByte(0);
+				return;
+			} else {
+				entry.writeByte(1);
+				current = cause;
+			}
+		}
+	}
+
+	/**
+	 * Reader for skipping all records of an existing binary log file to find the end of the last complete record.
+	 */
+	private static final class RecordScanner {
+
+		private final InputStream stream;
+		private final byte[] skipBuffer;
+		private long position;
+
+		private RecordScanner(final InputStream stream) {
+			this.stream = new BufferedInputStream(stream, BUFFER_SIZE);
+			this.skipBuffer = new byte[BUFFER_SIZE];
+		}
+
+		/**
+		 * Skip all complete records.
+		 *
+		 * @return Position after the last complete record
+		 * @throws IOException
+		 *             Failed to read the log file
+		 */
+		private long scan() throws IOException {
+			long end = 0L;
+			try {
+				for (byte expected : MAGIC) {
+					if (readByte() != expected) {
+						/* Not a binary log file, nothing to repair */
+						return Long.MAX_VALUE;
+					}
+				}
+				end = position;
+
+				for (int type = stream.read(); type != -1; type = stream.read()) {
+					++position;
+					if (type == STRING_RECORD) {
+						skipString();
+					} else if (type == ENTRY_RECORD) {
+						skipEntry();
+					} else if (type != SESSION_RECORD) {
+						/* Corrupt content can't be repaired by truncating */
+						return Long.MAX_VALUE;
+					}
+					end = position;
+				}
+			} catch (EOFException ex) {
+				/* Last record is incomplete */
+			}
+			return end;
+		}
+
+		private void close() throws IOException {
+			stream.close();
+		}
+
+		private void skipEntry() throws IOException {
+			long flags = readVarint();
+			if ((flags & DATE_FLAG) != 0) {
+				readVarint();
+			}
+			if ((flags & PROCESS_ID_FLAG) != 0) {
+				readVarint();
+			}
+			if ((flags & THREAD_FLAG) != 0) {
+				readVarint();
+				readVarint();
+			}
+			if ((flags & CONTEXT_FLAG) != 0) {
+				for (long count = readVarint(); count > 0; --count) {
+					readVarint();
+					skipString();
+				}
+			}
+			if ((flags & CLASS_FLAG) != 0) {
+				readVarint();
+			}
+			if ((flags & METHOD_FLAG) != 0) {
+				readVarint();
+			}
+			if ((flags & FILE_FLAG) != 0) {
+				readVarint();
+			}
+			if ((flags & LINE_FLAG) != 0) {
+				readVarint();
+			}
+			if ((flags & LEVEL_FLAG) != 0) {
+				readByte();
+			}
+			if ((flags & TEMPLATE_FLAG) != 0) {
+				readVarint();
+				for (long count = readVarint(); count > 0; --count) {
+					skipArgument();
+				}
+			}
+			if ((flags & MESSAGE_FLAG) != 0) {
+				skipString();
+			}
+			if ((flags & EXCEPTION_FLAG) != 0) {
+				skipException();
+			}
+		}
+
+		private void skipArgument() throws IOException {
+			int type = readByte();
+			if (type == STRING_ARGUMENT || type == DECIMAL_ARGUMENT || type == OTHER_ARGUMENT) {
+				skipString();
+			} else if (type == DOUBLE_ARGUMENT) {
+				skipBytes(8);
+			} else if (type == FLOAT_ARGUMENT) {
+				skipBytes(4);
+			} else if (type == INTEGER_ARGUMENT || type == LONG_ARGUMENT || type == CHARACTER_ARGUMENT || type == SHORT_ARGUMENT
+					|| type == BYTE_ARGUMENT) {
+				readVarint();
+			}
+		}
+
+		private void skipException() throws IOException {
+			do {
+				readVarint();
+				skipString();
+				for (long count = readVarint(); count > 0; --count) {
+					readVarint();
+					readVarint();
+					readVarint();
+					readVarint();
+				}
+			} while (readByte() != 0);
+		}
+
+		private void skipString() throws IOException {
+			long length = readVarint();
+			if (length > 0) {
+				skipBytes(length - 1);
+			}
+		}
+
+		private void skipBytes(final long count) throws IOException {
+			/* InputStream.skip() might skip beyond the end of file and can't be used for detecting incomplete records */
+			for (long remaining = count; remaining > 0;) {
+				int read = stream.read(skipBuffer, 0, (int) Math.min(remaining, skipBuffer.length));
+				if (read == -1) {
+					throw new EOFException();
+				}
+				position += read;
+				remaining -= read;
+			}
+		}
+
+		private long readVarint() throws IOException {
+			long value = 0L;
+			int shift = 0;
+			for (int current = readByte(); true; current = readByte()) {
+				if (shift < 64) {
+					value |= (long) (current & 0x7F) << shift;
+					shift += 7;
+				}
+				if ((current & 0x80) == 0) {
+					return value;
+				}
+			}
+		}
+
+		private int readByte() throws IOException {
+			int value = stream.read();
+			if (value == -1) {
+				throw new EOFException();
+			}
+			++position;
+			return value;
+		}
+
+	}
+
+	/**
+	 * Growable byte array for encoding records.
+	 */
+	private static final class Buffer {
+
+		private byte[] data;
+		private int size;
+
+		private Buffer() {
+			data = new byte[1024];
+		}
+
+		private void reset() {
+			size = 0;
+		}
+
+		private void writeByte(final int value) {
+			ensureCapacity(1);
+			data[size++] = (byte) value;
+		}
+
+		private void writeVarint(final long value) {
+			ensureCapacity(10);
+			long remaining = value;
+			while ((remaining & ~0x7FL) != 0) {
+				data[size++] = (byte) ((remaining & 0x7F) | 0x80);
+				remaining >>>= 7;
+			}
+			data[size++] = (byte) remaining;
+		}
+
+		private void writeSignedVarint(final long value) {
+			writeVarint((value << 1) ^ (value >> 63));
+		}
+
+		private void writeFixed(final long value, final int bytes) {
+			ensureCapacity(bytes);
+			for (int i = bytes - 1; i >= 0; --i) {
+				data[size++] = (byte) (value >>> (i * 8));
+			}
+		}
+
+		private void writeString(final String text) {
+			if (text == null) {
+				writeVarint(0);
+			} else {
+				byte[] bytes = text.getBytes(UTF_8);
+				writeVarint(bytes.length + 1);
+				ensureCapacity(bytes.length);
+				System.arraycopy(bytes, 0, data, size, bytes.length);
+				size += bytes.length;
+			}
+		}
+
+		private void ensureCapacity(final int bytes) {
+			if (size + bytes > data.length) {
+				data = Arrays.copyOf(data, Math.max(data.length * 2, size + bytes));
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.writers;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+import org.cooder.tinylog.EnvironmentHelper;
+
+/**
+ * Address of a {@link LogCollector}. Supported are Unix domain sockets ("unix:/path/to/socket") on Java 16 and higher,
+ * and TCP sockets ("host:port" or just "port" for the loopback interface).
+ */
+final class CollectorAddress {
+
+	private static final String UNIX_PREFIX = "unix:";
+
+	private final String address;
+	private final File socketFile;
+	private final String host;
+	private final int port;
+
+	private volatile SocketAddress resolvedAddress;
+
+	/**
+	 * @param address
+	 *            Address as "unix:/path/to/socket", "host:port" or "port"
+	 * @throws IllegalArgumentException
+	 *             Address is invalid
+	 */
+	CollectorAddress(final String address) {
+		this.address = address;
+
+		if (address.startsWith(UNIX_PREFIX)) {
+			String path = address.substring(UNIX_PREFIX.length()).trim();
+			if (path.length() == 0) {
+				throw new IllegalArgumentException("Path of Unix domain socket is missing in \"" + address + "\"");
+			}
+			this.socketFile = new File(PathResolver.resolve(path));
+			this.host = null;
+			this.port = -1;
+		} else {
+			int index = address.lastIndexOf(':');
+			String portString = index == -1 ? address.trim() : address.substring(index + 1).trim();
+			try {
+				this.port = Integer.parseInt(portString);
+			} catch (NumberFormatException ex) {
+				throw new IllegalArgumentException("Invalid port in \"" + address + "\"");
+			}
+			if (port <= 0 || port > 0xFFFF) {
+				throw new IllegalArgumentException("Invalid port in \"" + address + "\"");
+			}
+			this.socketFile = null;
+			this.host = index == -1 ? null : address.substring(0, index).trim();
+		}
+	}
+
+	/**
+	 * Determine whether this is the address of a Unix domain socket.
+	 *
+	 * @return <code>true</code> for Unix domain sockets, <code>false</code> for TCP sockets
+	 */
+	boolean isUnixDomain() {
+		return socketFile != null;
+	}
+
+	/**
+	 * Get the socket file of a Unix domain socket.
+	 *
+	 * @return Socket file or <code>null</code> for TCP sockets
+	 */
+	File getSocketFile() {
+		return socketFile;
+	}
+
+	/**
+	 * Open a blocking connection to this address.
+	 *
+	 * @return Connected socket channel
+	 * @throws IOException
+	 *             Failed to connect or Unix domain sockets are not supported
+	 */
+	SocketChannel connect() throws IOException {
+		SocketChannel channel = open();
+		try {
+			channel.configureBlocking(true);
+			channel.finishConnect();
+			return channel;
+		} catch (IOException ex) {
+			channel.close();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Open a non-blocking channel and start connecting to this address. This method doesn't wait for the connection.
+	 * The connection has to be completed by {@link SocketChannel#finishConnect()}.
+	 *
+	 * @return Non-blocking socket channel, which might be still connecting
+	 * @throws IOException
+	 *             Failed to connect or Unix domain sockets are not supported
+	 */
+	SocketChannel open() throws IOException {
+		SocketChannel channel;
+		if (isUnixDomain()) {
+			channel = (SocketChannel) invoke(getMethod(SocketChannel.class, "open", loadClass("java.net.ProtocolFamily")), null, getUnixFamily());
+		} else {
+			channel = SocketChannel.open();
+		}
+
+		try {
+			channel.configureBlocking(false);
+			channel.connect(toSocketAddress());
+			return channel;
+		} catch (IOException ex) {
+			channel.close();
+			throw ex;
+		} catch (RuntimeException ex) {
+			channel.close();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Open a server socket channel that is bound to this address. An existing socket file of a Unix domain socket will
+	 * be replaced.
+	 *
+	 * @return Bound server socket channel
+	 * @throws IOException
+	 *             Failed to bind or Unix domain sockets are not supported
+	 */
+	ServerSocketChannel bind() throws IOException {
+		if (isUnixDomain()) {
+			Object family = getUnixFamily();
+			ServerSocketChannel channel = (ServerSocketChannel) invoke(getMethod(ServerSocketChannel.class, "open", loadClass("java.net.ProtocolFamily")), null,
+					family);
+			try {
+				EnvironmentHelper.makeDirectories(socketFile);
+				socketFile.delete();
+				invoke(getMethod(ServerSocketChannel.class, "bind", SocketAddress.class), channel, toSocketAddress());
+				return channel;
+			} catch (IOException ex) {
+				channel.close();
+				throw ex;
+			}
+		} else {
+			ServerSocketChannel channel = ServerSocketChannel.open();
+			try {
+				channel.socket().setReuseAddress(true);
+				channel.socket().bind(toSocketAddress());
+				return channel;
+			} catch (IOException ex) {
+				channel.close();
+				throw ex;
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return address;
+	}
+
+	private SocketAddress toSocketAddress() throws IOException {
+		if (resolvedAddress == null) {
+			if (isUnixDomain()) {
+				resolvedAddress = (SocketAddress) invoke(getMethod(loadClass("java.net.UnixDomainSocketAddress"), "of", String.class), null,
+						socketFile.getPath());
+			} else if (host == null || host.length() == 0) {
+				resolvedAddress = new InetSocketAddress(InetAddress.getByName(null), port);
+			} else {
+				/* Host names are resolved only once, as a lookup can block for a long time */
+				InetSocketAddress socketAddress = new InetSocketAddress(host, port);
+				if (socketAddress.isUnresolved()) {
+					throw new IOException("Unknown host \"" + host + "\"");
+				}
+				resolvedAddress = socketAddress;
+			}
+		}
+		return resolvedAddress;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object getUnixFamily() throws IOException {
+		try {
+			return Enum.valueOf((Class) loadClass("java.net.StandardProtocolFamily"), "UNIX");
+		} catch (IllegalArgumentException ex) {
+			throw new IOException("Unix domain sockets are not supported");
+		}
+	}
+
+	private static Class<?> loadClass(final String name) throws IOException {
+		try {
+			return Class.forName(name);
+		} catch (ClassNotFoundException ex) {
+			throw new IOException("Unix domain sockets are not supported");
+		}
+	}
+
+	private static Method getMethod(final Class<?> clazz, final String name, final Class<?> parameterType) throws IOException {
+		try {
+			return clazz.getMethod(name, parameterType);
+		} catch (NoSuchMethodException ex) {
+			throw new IOException("Unix domain sockets are not supported");
+		}
+	}
+
+	private static Object invoke(final Method method, final Object object, final Object argument) throws IOException {
+		try {
+			return method.invoke(object, argument);
+		} catch (IllegalAccessException ex) {
+			throw new IOException("Unix domain sockets are not supported");
+		} catch (InvocationTargetException ex) {
+			Throwable cause = ex.getTargetException();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else {
+				throw new IOException(cause.getMessage(), cause);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.writers;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.cooder.tinylog.Configuration;
+import org.cooder.tinylog.EnvironmentHelper;
+import org.cooder.tinylog.InternalLogger;
+import org.cooder.tinylog.LogEntry;
+import org.cooder.tinylog.Metrics;
+
+/**
+ * Sends log entries to a {@link LogCollector}, which writes the log entries of multiple processes into a single file.
+ *
+ * Log entries are sent via a non-blocking channel from a bounded buffer. If the collector is not available or cannot
+ * keep up, log entries will be written to a local fallback file instead. The connection to an unavailable collector is
+ * retried periodically. Logging threads never wait for a connection. Log entries are written to the fallback file until
+ * the connection has been established.
+ */
+@PropertiesSupport(name = "collector", properties = { @Property(name = "address", type = String.class),
+		@Property(name = "fallback", type = String.class, optional = true) })
+public final class CollectorWriter implements Writer {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final long RECONNECT_INTERVAL = 1000L; // in milliseconds
+	private static final long CONNECT_TIMEOUT = 1000L; // in milliseconds
+
+	private final CollectorAddress address;
+	private final File fallback;
+	private final Object mutex;
+
+	private final byte[] buffer;
+	private int frameStart;
+	private int sent;
+	private int filled;
+
+	private SocketChannel channel;
+	private boolean connecting;
+	private long connectDeadline;
+	private long nextConnect;
+	private OutputStream fallbackStream;
+	private boolean lossReported;
+
+	/**
+	 * @param address
+	 *            Address of the collector as "unix:/path/to/socket" (Java 16 or higher), "host:port" or "port"
+	 * @throws IllegalArgumentException
+	 *             Address is invalid
+	 */
+	public CollectorWriter(final String address) {
+		this(address, null);
+	}
+
+	/**
+	 * @param address
+	 *            Address of the collector as "unix:/path/to/socket" (Java 16 or higher), "host:port" or "port"
+	 * @param fallback
+	 *            Filename of the local log file to use if the collector is not available (can be <code>null</code>)
+	 * @throws IllegalArgumentException
+	 *             Address is invalid
+	 */
+	public CollectorWriter(final String address, final String fallback) {
+		this.address = new CollectorAddress(address);
+		this.fallback = fallback == null ? null : new File(PathResolver.resolve(fallback));
+		this.mutex = new Object();
+		this.buffer = new byte[BUFFER_SIZE];
+	}
+
+	@Override
+	public Set<LogEntryValue> getRequiredLogEntryValues() {
+		return EnumSet.of(LogEntryValue.RENDERED_LOG_ENTRY);
+	}
+
+	/**
+	 * Get the address of the collector.
+	 *
+	 * @return Address of the collector
+	 */
+	public String getAddress() {
+		return address.toString();
+	}
+
+	/**
+	 * Get the filename of the local fallback file.
+	 *
+	 * @return Filename of the fallback file or <code>null</code> if not defined
+	 */
+	public String getFallback() {
+		return fallback == null ? null : fallback.getPath();
+	}
+
+	/**
+	 * Determine whether the writer is currently connected to the collector.
+	 *
+	 * @return <code>true</code> if connected, <code>false</code> if log entries are written to the fallback file
+	 */
+	public boolean isConnected() {
+		synchronized (mutex) {
+			return channel != null && !connecting;
+		}
+	}
+
+	@Override
+	public void init(final Configuration configuration) {
+		synchronized (mutex) {
+			connect();
+			if (connecting) {
+				awaitConnection();
+			}
+			if (channel == null) {
+				InternalLogger.warn("Log collector \"{}\" is not available. Log entries will be written to the fallback file until the collector is available.",
+						address);
+			}
+		}
+		VMShutdownHook.register(this);
+	}
+
+	@Override
+	public void write(final LogEntry logEntry) throws IOException {
+		byte[] data = logEntry.getRenderedLogEntry().getBytes();
+		Metrics.recordBytes(this, data.length);
+
+		synchronized (mutex) {
+			if (channel == null && System.currentTimeMillis() >= nextConnect) {
+				connect();
+			} else if (connecting) {
+				finishConnect();
+			}
+
+			if (channel != null && !connecting) {
+				try {
+					if (enqueue(data)) {
+						return;
+					}
+				} catch (IOException ex) {
+					disconnect(ex);
+				}
+			}
+
+			writeFallback(data, 0, data.length);
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		synchronized (mutex) {
+			if (channel != null && !connecting && sent < filled) {
+				try {
+					channel.configureBlocking(true);
+					while (sent < filled) {
+						send();
+					}
+					channel.configureBlocking(false);
+				} catch (IOException ex) {
+					disconnect(ex);
+				}
+			}
+
+			if (fallbackStream != null) {
+				fallbackStream.flush();
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		synchronized (mutex) {
+			VMShutdownHook.unregister(this);
+			try {
+				flush();
+			} finally {
+				try {
+					if (channel != null) {
+						channel.close();
+						channel = null;
+					}
+				} finally {
+					if (fallbackStream != null) {
+						fallbackStream.close();
+						fallbackStream = null;
+					}
+				}
+			}
+		}
+	}
+
+	private void connect() {
+		try {
+			channel = address.open();
+			connecting = true;
+			connectDeadline = System.currentTimeMillis() + CONNECT_TIMEOUT;
+			finishConnect();
+		} catch (IOException ex) {
+			closeChannel();
+			nextConnect = System.currentTimeMillis() + RECONNECT_INTERVAL;
+		}
+	}
+
+	private void finishConnect() {
+		try {
+			if (channel.finishConnect()) {
+				connecting = false;
+				return;
+			} else if (System.currentTimeMillis() < connectDeadline) {
+				return;
+			}
+		} catch (IOException ex) {
+			// Collector is not available
+		}
+
+		closeChannel();
+		nextConnect = System.currentTimeMillis() + RECONNECT_INTERVAL;
+	}
+
+	private void awaitConnection() {
+		try {
+			Selector selector = Selector.open();
+			try {
+				channel.register(selector, SelectionKey.OP_CONNECT);
+				selector.select(Math.max(1L, connectDeadline - System.currentTimeMillis()));
+			} finally {
+				selector.close();
+			}
+		} catch (IOException ex) {
+			// Connection will be checked below
+		}
+
+		connectDeadline = System.currentTimeMillis();
+		finishConnect();
+	}
+
+	private void disconnect(final IOException exception) throws IOException {
+		InternalLogger.warn(exception, "Lost connection to log collector \"{}\"", address);
+		closeChannel();
+		nextConnect = System.currentTimeMillis() + RECONNECT_INTERVAL;
+
+		/* The collector discards incomplete log entries, so a partially sent log entry is written completely */
+		int position = frameStart;
+		while (position < filled) {
+			int length = readInt(buffer, position);
+			writeFallback(buffer, position + 4, length);
+			position += 4 + length;
+		}
+		frameStart = 0;
+		sent = 0;
+		filled = 0;
+	}
+
+	private void closeChannel() {
+		connecting = false;
+		if (channel != null) {
+			try {
+				channel.close();
+			} catch (IOException ex) {
+				// Ignore
+			}
+			channel = null;
+		}
+	}
+
+	private boolean enqueue(final byte[] data) throws IOException {
+		int size = 4 + data.length;
+
+		if (filled + size > buffer.length) {
+			send();
+			compact();
+		}
+
+		if (filled + size <= buffer.length) {
+			writeInt(buffer, filled, data.length);
+			System.arraycopy(data, 0, buffer, filled + 4, data.length);
+			filled += size;
+			send();
+			return true;
+		} else if (size > buffer.length && filled == 0) {
+			ByteBuffer frame = ByteBuffer.allocate(size);
+			frame.putInt(data.length).put(data).flip();
+			channel.configureBlocking(true);
+			while (frame.hasRemaining()) {
+				channel.write(frame);
+			}
+			channel.configureBlocking(false);
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	private void send() throws IOException {
+		if (sent < filled) {
+			sent += channel.write(ByteBuffer.wrap(buffer, sent, filled - sent));
+
+			while (frameStart + 4 <= sent && frameStart + 4 + readInt(buffer, frameStart) <= sent) {
+				frameStart += 4 + readInt(buffer, frameStart);
+			}
+
+			if (frameStart == filled) {
+				frameStart = 0;
+				sent = 0;
+				filled = 0;
+			}
+		}
+	}
+
+	private void compact() {
+		if (frameStart > 0) {
+			System.arraycopy(buffer, frameStart, buffer, 0, filled - frameStart);
+			filled -= frameStart;
+			sent -= frameStart;
+			frameStart = 0;
+		}
+	}
+
+	private void writeFallback(final byte[] data, final int offset, final int length) throws IOException {
+		if (fallback == null) {
+			if (!lossReported) {
+				InternalLogger.warn("No fallback file is defined for log collector \"{}\". Therefore log entries will be lost.", address);
+				lossReported = true;
+			}
+		} else {
+			if (fallbackStream == null) {
+				EnvironmentHelper.makeDirectories(fallback);
+				fallbackStream = new FileOutputStream(fallback, true);
+			}
+			fallbackStream.write(data, offset, length);
+		}
+	}
+
+	private static int readInt(final byte[] data, final int offset) {
+		return (data[offset] & 0xFF) << 24 | (data[offset + 1] & 0xFF) << 16 | (data[offset + 2] & 0xFF) << 8 | data[offset + 3] & 0xFF;
+	}
+
+	private static void writeInt(final byte[] data, final int offset, final int value) {
+		data[offset] = (byte) (value >>> 24);
+		data[offset + 1] = (byte) (value >>> 16);
+		data[offset + 2] = (byte) (value >>> 8);
+		data[offset + 3] = (byte) value;
+	}
+
+}
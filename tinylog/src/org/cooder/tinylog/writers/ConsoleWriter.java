@@ -13,27 +13,54 @@
 
 package org.cooder.tinylog.writers;
 
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.EnumSet;
 import java.util.Set;
 
 import org.cooder.tinylog.Configuration;
+import org.cooder.tinylog.InternalLogger;
 import org.cooder.tinylog.Level;
 import org.cooder.tinylog.LogEntry;
+import org.cooder.tinylog.Metrics;
 
 /**
  * Writes log entries to the console.
+ *
+ * In buffered mode, encoded log entries are collected and written directly via file channels to the standard output
+ * and error streams, bypassing the synchronized and auto-flushing {@link PrintStream PrintStreams} of {@link System}.
+ * Buffered log entries are written when flushing or at the latest 100 milliseconds after the last output. For the
+ * latter, a daemon thread checks the buffers periodically from initialization until closing the writer.
  */
-@PropertiesSupport(name = "console", properties = { @Property(name = "stream", type = String.class, optional = true) })
+@PropertiesSupport(name = "console", properties = { @Property(name = "stream", type = String.class, optional = true),
+		@Property(name = "buffered", type = boolean.class, optional = true) })
 public final class ConsoleWriter implements Writer {
 
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final long FLUSH_INTERVAL = 100L; // in milliseconds
+	private static final String FLUSHER_THREAD_NAME = "tinylog-ConsoleFlusher";
+
 	private final PrintStream err;
 	private final PrintStream out;
+	private final ChannelBuffer errBuffer;
+	private final ChannelBuffer outBuffer;
+	private Flusher flusher;
 
 	/** */
 	public ConsoleWriter() {
-		err = System.err;
-		out = System.out;
+		this(false);
+	}
+
+	/**
+	 * @param buffered
+	 *            Write log entries buffered via file channels instead of {@link System.out} and {@link System.err}
+	 */
+	public ConsoleWriter(final boolean buffered) {
+		this(null, buffered);
 	}
 
 	/**
@@ -43,6 +70,8 @@ public final class ConsoleWriter implements Writer {
 	public ConsoleWriter(final PrintStream stream) {
 		err = stream;
 		out = stream;
+		errBuffer = null;
+		outBuffer = null;
 	}
 
 	/**
@@ -50,6 +79,18 @@ public final class ConsoleWriter implements Writer {
 	 *            Name of system print stream for outputting log entries ("out" for {@link System.out} or "err" for {@link System.err})
 	 */
 	ConsoleWriter(final String stream) {
+		this(stream, false);
+	}
+
+	/**
+	 * Helper constructor with wrapper class parameters for {@link org.cooder.tinylog.PropertiesLoader PropertiesLoader}.
+	 *
+	 * @param stream
+	 *            Name of system print stream for outputting log entries ("out" for {@link System.out} or "err" for {@link System.err})
+	 * @param buffered
+	 *            Write log entries buffered via file channels instead of {@link System.out} and {@link System.err}
+	 */
+	ConsoleWriter(final String stream, final Boolean buffered) {
 		if (stream == null) {
 			err = System.err;
 			out = System.out;
@@ -62,6 +103,31 @@ public final class ConsoleWriter implements Writer {
 		} else {
 			throw new IllegalArgumentException("Stream must be \"out\" or \"err\", \"" + stream + "\" is not a valid stream name");
 		}
+
+		if (buffered != null && buffered) {
+			ChannelBuffer errChannel = new ChannelBuffer(System.err, new FileOutputStream(FileDescriptor.err));
+			ChannelBuffer outChannel = new ChannelBuffer(System.out, new FileOutputStream(FileDescriptor.out));
+			errBuffer = err == System.err ? errChannel : outChannel;
+			outBuffer = out == System.out ? outChannel : errChannel;
+		} else {
+			errBuffer = null;
+			outBuffer = null;
+		}
+	}
+
+	/**
+	 * Constructor for buffered writing to given file streams.
+	 *
+	 * @param err
+	 *            Stream for warnings and errors
+	 * @param out
+	 *            Stream for all other log entries
+	 */
+	ConsoleWriter(final FileOutputStream err, final FileOutputStream out) {
+		this.err = null;
+		this.out = null;
+		this.errBuffer = new ChannelBuffer(null, err);
+		this.outBuffer = err == out ? errBuffer : new ChannelBuffer(null, out);
 	}
 
 	@Override
@@ -71,22 +137,91 @@ public final class ConsoleWriter implements Writer {
 
 	@Override
 	public void init(final Configuration configuration) {
-		// Do nothing
+		if (outBuffer != null) {
+			VMShutdownHook.register(this);
+			synchronized (this) {
+				if (flusher == null) {
+					flusher = new Flusher(this);
+					flusher.start();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Determine whether buffered writing is enabled.
+	 *
+	 * @return <code>true</code> if buffered writing is enabled, otherwise <code>false</code>
+	 */
+	public boolean isBuffered() {
+		return outBuffer != null;
 	}
 
 	@Override
 	public void write(final LogEntry logEntry) {
-		getPrintStream(logEntry.getLevel()).print(logEntry.getRenderedLogEntry());
+		if (outBuffer == null) {
+			getPrintStream(logEntry.getLevel()).print(logEntry.getRenderedLogEntry());
+		} else {
+			ChannelBuffer buffer = getChannelBuffer(logEntry.getLevel());
+			byte[] data = logEntry.getRenderedLogEntry().getBytes();
+			Metrics.recordBytes(this, data.length);
+			synchronized (this) {
+				try {
+					buffer.write(data);
+					long now = System.currentTimeMillis();
+					if (now - buffer.lastFlush >= FLUSH_INTERVAL) {
+						buffer.flush(now);
+					}
+				} catch (IOException ex) {
+					InternalLogger.error(ex, "Failed to write to console");
+				}
+			}
+		}
 	}
 
 	@Override
 	public void flush() {
-		// Do nothing
+		if (outBuffer != null) {
+			synchronized (this) {
+				long now = System.currentTimeMillis();
+				try {
+					errBuffer.flush(now);
+					outBuffer.flush(now);
+				} catch (IOException ex) {
+					InternalLogger.error(ex, "Failed to write to console");
+				}
+			}
+		}
 	}
 
 	@Override
 	public void close() {
-		// Do nothing
+		if (outBuffer != null) {
+			VMShutdownHook.unregister(this);
+			synchronized (this) {
+				if (flusher != null) {
+					flusher.shutdown();
+					flusher = null;
+				}
+			}
+			flush();
+		}
+	}
+
+	private void flushOutdatedBuffers() {
+		synchronized (this) {
+			long now = System.currentTimeMillis();
+			try {
+				if (now - errBuffer.lastFlush >= FLUSH_INTERVAL) {
+					errBuffer.flush(now);
+				}
+				if (now - outBuffer.lastFlush >= FLUSH_INTERVAL) {
+					outBuffer.flush(now);
+				}
+			} catch (IOException ex) {
+				InternalLogger.error(ex, "Failed to write to console");
+			}
+		}
 	}
 
 	private PrintStream getPrintStream(final Level level) {
@@ -97,4 +232,98 @@ public final class ConsoleWriter implements Writer {
 		}
 	}
 
+	private ChannelBuffer getChannelBuffer(final Level level) {
+		if (level == Level.ERROR || level == Level.WARNING) {
+			return errBuffer;
+		} else {
+			return outBuffer;
+		}
+	}
+
+	/**
+	 * Thread for writing buffered log entries, which are older than the flush interval, without waiting for further log
+	 * entries.
+	 */
+	private static final class Flusher extends Thread {
+
+		private final ConsoleWriter writer;
+		private volatile boolean shutdown;
+
+		private Flusher(final ConsoleWriter writer) {
+			this.writer = writer;
+			setName(FLUSHER_THREAD_NAME);
+			setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			while (!shutdown) {
+				try {
+					sleep(FLUSH_INTERVAL);
+				} catch (InterruptedException ex) {
+					continue;
+				}
+
+				writer.flushOutdatedBuffers();
+			}
+		}
+
+		private void shutdown() {
+			shutdown = true;
+			interrupt();
+		}
+
+	}
+
+	/**
+	 * Buffer for writing to a file channel. The channel will be never closed, as closing would close the standard
+	 * output or error stream.
+	 */
+	private static final class ChannelBuffer {
+
+		private final PrintStream printStream;
+		private final FileChannel channel;
+		private final ByteBuffer buffer;
+		private long lastFlush;
+
+		private ChannelBuffer(final PrintStream printStream, final FileOutputStream stream) {
+			this.printStream = printStream;
+			this.channel = stream.getChannel();
+			this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+			this.lastFlush = System.currentTimeMillis();
+		}
+
+		private void write(final byte[] data) throws IOException {
+			if (data.length > buffer.remaining()) {
+				flush(lastFlush);
+			}
+
+			if (data.length > buffer.capacity()) {
+				writeFully(ByteBuffer.wrap(data));
+			} else {
+				buffer.put(data);
+			}
+		}
+
+		private void flush(final long now) throws IOException {
+			lastFlush = now;
+			if (buffer.position() > 0) {
+				if (printStream != null) {
+					/* Keep the order of output, which has been printed directly */
+					printStream.flush();
+				}
+				buffer.flip();
+				writeFully(buffer);
+				buffer.clear();
+			}
+		}
+
+		private void writeFully(final ByteBuffer data) throws IOException {
+			while (data.hasRemaining()) {
+				channel.write(data);
+			}
+		}
+
+	}
+
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.writers;
+
+import java.util.Locale;
+
+import org.cooder.tinylog.Level;
+
+/**
+ * Defines which log entries must be on disk before writing returns and how forcing log files to disk is batched.
+ * Concurrently written log entries are forced together as a group commit after a maximum delay or as soon as enough
+ * bytes are pending.
+ *
+ * <p>
+ * Format for properties: <code>&lt;level&gt;[: &lt;delay&gt;ms[, &lt;bytes&gt;]]</code>, for example "error", "all" or
+ * "warning: 5ms, 256KB". "all" is equivalent to "trace".
+ * </p>
+ */
+public final class Durability {
+
+	/**
+	 * Default maximum delay for collecting log entries before forcing in milliseconds.
+	 */
+	public static final long DEFAULT_DELAY = 10L;
+
+	/**
+	 * Default number of pending bytes that forces immediately.
+	 */
+	public static final long DEFAULT_BYTES = 1024L * 1024L;
+
+	private final Level level;
+	private final long delay;
+	private final long bytes;
+
+	/**
+	 * @param level
+	 *            Log entries with this severity level or higher will be durable when writing returns
+	 * @param delay
+	 *            Maximum delay for collecting log entries before forcing in milliseconds (0 for forcing immediately)
+	 * @param bytes
+	 *            Number of pending bytes that forces immediately
+	 * @throws IllegalArgumentException
+	 *             if level is <code>null</code> or {@link Level#OFF}, delay is &lt; 0 or bytes is &lt;= 0
+	 */
+	public Durability(final Level level, final long delay, final long bytes) throws IllegalArgumentException {
+		if (level == null || level == Level.OFF) {
+			throw new IllegalArgumentException("A severity level from TRACE to ERROR is required");
+		}
+		if (delay < 0L) {
+			throw new IllegalArgumentException("delay must be >= 0");
+		}
+		if (bytes <= 0L) {
+			throw new IllegalArgumentException("bytes must be > 0");
+		}
+
+		this.level = level;
+		this.delay = delay;
+		this.bytes = bytes;
+	}
+
+	/**
+	 * String parameter for {@link org.cooder.tinylog.PropertiesLoader PropertiesLoader}.
+	 *
+	 * @param durability
+	 *            Definition like "error" or "all: 5ms, 256KB"
+	 * @throws IllegalArgumentException
+	 *             if the definition is invalid
+	 */
+	Durability(final String durability) throws IllegalArgumentException {
+		String levelName = durability;
+		String parameters = null;
+		int index = durability.indexOf(':');
+		if (index >= 0) {
+			levelName = durability.substring(0, index);
+			parameters = durability.substring(index + 1);
+		}
+
+		levelName = levelName.trim().toUpperCase(Locale.ENGLISH);
+		if ("ALL".equals(levelName)) {
+			this.level = Level.TRACE;
+		} else {
+			try {
+				this.level = Level.valueOf(levelName);
+			} catch (IllegalArgumentException ex) {
+				throw new IllegalArgumentException("\"" + levelName + "\" is not a valid severity level for durability");
+			}
+			if (this.level == Level.OFF) {
+				throw new IllegalArgumentException("A severity level from TRACE to ERROR is required for durability");
+			}
+		}
+
+		long parsedDelay = DEFAULT_DELAY;
+		long parsedBytes = DEFAULT_BYTES;
+		if (parameters != null) {
+			String[] values = parameters.split(",");
+			parsedDelay = parseDelay(values[0].trim());
+			if (values.length > 1) {
+				parsedBytes = parseBytes(values[1].trim());
+			}
+		}
+		this.delay = parsedDelay;
+		this.bytes = parsedBytes;
+	}
+
+	/**
+	 * Get the minimum severity level of log entries that must be durable when writing returns.
+	 *
+	 * @return Minimum severity level
+	 */
+	public Level getLevel() {
+		return level;
+	}
+
+	/**
+	 * Get the maximum delay for collecting log entries before forcing the log file to disk.
+	 *
+	 * @return Delay in milliseconds
+	 */
+	public long getDelay() {
+		return delay;
+	}
+
+	/**
+	 * Get the number of pending bytes that forces the log file to disk immediately.
+	 *
+	 * @return Number of bytes
+	 */
+	public long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Check if writing of a log entry must wait until it is durable.
+	 *
+	 * @param level
+	 *            Severity level of log entry
+	 * @return <code>true</code> if the log entry must be durable, otherwise <code>false</code>
+	 */
+	boolean isRequired(final Level level) {
+		return level != null && level.ordinal() >= this.level.ordinal();
+	}
+
+	private static long parseDelay(final String delay) {
+		try {
+			long value = Long.parseLong(delay.endsWith("ms") ? delay.substring(0, delay.length() - 2).trim() : delay);
+			if (value < 0L) {
+				throw new IllegalArgumentException("Delay must be >= 0, but is " + value);
+			}
+			return value;
+		} catch (NumberFormatException ex) {
+			throw new IllegalArgumentException("Delay \"" + delay + "\" is not numeric");
+		}
+	}
+
+	private static long parseBytes(final String bytes) {
+		long value;
+		try {
+			if (bytes.endsWith("MB")) {
+				value = Long.parseLong(bytes.substring(0, bytes.length() - 2).trim()) * 1024L * 1024L;
+			} else if (bytes.endsWith("KB")) {
+				value = Long.parseLong(bytes.substring(0, bytes.length() - 2).trim()) * 1024L;
+			} else {
+				value = Long.parseLong(bytes);
+			}
+		} catch (NumberFormatException ex) {
+			throw new IllegalArgumentException("Size \"" + bytes + "\" is not numeric");
+		}
+		if (value <= 0L) {
+			throw new IllegalArgumentException("Size must be > 0, but is " + value);
+		}
+		return value;
+	}
+
+}
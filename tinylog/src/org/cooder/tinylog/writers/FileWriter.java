@@ -18,12 +18,15 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
 import java.util.EnumSet;
 import java.util.Set;
 
 import org.cooder.tinylog.Configuration;
 import org.cooder.tinylog.EnvironmentHelper;
 import org.cooder.tinylog.LogEntry;
+import org.cooder.tinylog.Metrics;
 
 /**
  * Writes log entries to a file.
@@ -31,7 +34,8 @@ import org.cooder.tinylog.LogEntry;
 @PropertiesSupport(name = "file", properties = { @Property(name = "filename", type = String.class),
 		@Property(name = "buffered", type = boolean.class, optional = true),
 		@Property(name = "append", type = boolean.class, optional = true),
-		@Property(name = "clazz", type = String.class, optional = true) })
+		@Property(name = "clazz", type = String.class, optional = true),
+		@Property(name = "durability", type = String.class, optional = true) })
 public final class FileWriter implements Writer {
 
 	private static final int BUFFER_SIZE = 64 * 1024;
@@ -40,7 +44,10 @@ public final class FileWriter implements Writer {
 	private final boolean buffered;
 	private final boolean append;
 	private final String clazz;
+	private final Durability durability;
 	private OutputStream stream;
+	private FileChannel channel;
+	private GroupCommit groupCommit;
 
 	/**
 	 * @param filename
@@ -83,10 +90,27 @@ public final class FileWriter implements Writer {
 	 * 			  package or class for output
 	 */
 	public FileWriter(final String filename, final boolean buffered, final boolean append, final String clazz) {
+		this(filename, buffered, append, clazz, null);
+	}
+
+	/**
+	 * @param filename
+	 *            Filename of the log file
+	 * @param buffered
+	 *            Buffered writing
+	 * @param append
+	 *            Continuing existing file
+	 * @param clazz
+	 *            package or class for output
+	 * @param durability
+	 *            Log entries that must be forced to disk before writing returns (<code>null</code> for never forcing)
+	 */
+	public FileWriter(final String filename, final boolean buffered, final boolean append, final String clazz, final Durability durability) {
 		this.filename = PathResolver.resolve(filename);
 		this.buffered = buffered;
 		this.append = append;
 		this.clazz = clazz;
+		this.durability = durability;
 	}
 
 	/**
@@ -101,17 +125,24 @@ public final class FileWriter implements Writer {
 	 *            Continuing existing file
 	 * @param clazz
 	 *            package or class for output
+	 * @param durability
+	 *            Log entries that must be forced to disk before writing returns (e.g. "error" or "all: 5ms, 256KB")
 	 */
-	FileWriter(final String filename, final Boolean buffered, final Boolean append, final String clazz) {
+	FileWriter(final String filename, final Boolean buffered, final Boolean append, final String clazz, final String durability) {
 		this.filename = filename;
 		this.buffered = buffered == null ? false : buffered;
 		this.append = append == null ? false : append;
 		this.clazz = clazz;
+		this.durability = durability == null ? null : new Durability(durability);
 	}
 
 	@Override
 	public Set<LogEntryValue> getRequiredLogEntryValues() {
-		return EnumSet.of(LogEntryValue.RENDERED_LOG_ENTRY, LogEntryValue.CLASS);
+		if (durability == null) {
+			return EnumSet.of(LogEntryValue.RENDERED_LOG_ENTRY, LogEntryValue.CLASS);
+		} else {
+			return EnumSet.of(LogEntryValue.LEVEL, LogEntryValue.RENDERED_LOG_ENTRY, LogEntryValue.CLASS);
+		}
 	}
 
 	/**
@@ -152,15 +183,44 @@ public final class FileWriter implements Writer {
 		return clazz;
 	}
 
+	/**
+	 * Get the definition of log entries that must be forced to disk before writing returns.
+	 *
+	 * @return Durability or <code>null</code> if log entries are never forced to disk
+	 */
+	public Durability getDurability() {
+		return durability;
+	}
+
 	@Override
 	public void init(final Configuration configuration) throws IOException {
 		File file = new File(filename);
 		EnvironmentHelper.makeDirectories(file);
 
+		FileOutputStream fileStream = new FileOutputStream(file, append);
 		if (buffered) {
-			stream = new BufferedOutputStream(new FileOutputStream(file, append), BUFFER_SIZE);
+			stream = new BufferedOutputStream(fileStream, BUFFER_SIZE);
 		} else {
-			stream = new FileOutputStream(file, append);
+			stream = fileStream;
+		}
+
+		if (durability != null) {
+			channel = fileStream.getChannel();
+			groupCommit = new GroupCommit(durability, new GroupCommit.Target() {
+
+				@Override
+				public void sync() throws IOException {
+					synchronized (stream) {
+						stream.flush();
+					}
+					try {
+						channel.force(false);
+					} catch (ClosedChannelException ex) {
+						// Log file has been forced on closing
+					}
+				}
+
+			});
 		}
 
 		VMShutdownHook.register(this);
@@ -174,8 +234,20 @@ public final class FileWriter implements Writer {
 			return;
 		}
 
-		synchronized (stream) {
-			stream.write(data);
+		Metrics.recordBytes(this, data.length);
+		if (groupCommit == null) {
+			synchronized (stream) {
+				stream.write(data);
+			}
+		} else {
+			long ticket;
+			synchronized (stream) {
+				stream.write(data);
+				ticket = groupCommit.register(data.length);
+			}
+			if (durability.isRequired(logEntry.getLevel())) {
+				groupCommit.await(ticket);
+			}
 		}
 	}
 
@@ -198,7 +270,15 @@ public final class FileWriter implements Writer {
 	public void close() throws IOException {
 		synchronized (stream) {
 			VMShutdownHook.unregister(this);
-			stream.close();
+			try {
+				if (groupCommit != null) {
+					stream.flush();
+					channel.force(false);
+					groupCommit.synced();
+				}
+			} finally {
+				stream.close();
+			}
 		}
 	}
 
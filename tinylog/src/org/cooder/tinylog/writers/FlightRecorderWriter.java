@@ -0,0 +1,392 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.writers;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.cooder.tinylog.Configuration;
+import org.cooder.tinylog.FormatPattern;
+import org.cooder.tinylog.InternalLogger;
+import org.cooder.tinylog.Level;
+import org.cooder.tinylog.LogEntry;
+
+/**
+ * Keeps the latest log entries in memory and passes them to another writer only if a log entry with the trigger
+ * severity level (error by default) is written or {@link #dump()} is called. This allows to collect trace and debug log
+ * entries as context for failures without writing all of them.
+ *
+ * <p>
+ * Capturing a log entry stores only a reference in a preallocated ring buffer. Log entries are rendered for the
+ * delegate writer not until they are dumped. The ring buffer can be shared by all threads or separated per thread.
+ * </p>
+ */
+@PropertiesSupport(name = "flightrecorder", properties = { @Property(name = "delegate", type = Writer.class),
+		@Property(name = "size", type = int.class, optional = true), @Property(name = "perthread", type = boolean.class, optional = true),
+		@Property(name = "trigger", type = String.class, optional = true), @Property(name = "dump.format", type = String.class, optional = true) })
+public final class FlightRecorderWriter implements Writer {
+
+	private static final int DEFAULT_SIZE = 1000;
+	private static final Level DEFAULT_TRIGGER = Level.ERROR;
+
+	private static final Set<LogEntryValue> ALL_RAW_VALUES = EnumSet.of(LogEntryValue.DATE, LogEntryValue.PROCESS_ID, LogEntryValue.THREAD,
+			LogEntryValue.CONTEXT, LogEntryValue.CLASS, LogEntryValue.METHOD, LogEntryValue.FILE, LogEntryValue.LINE, LogEntryValue.LEVEL,
+			LogEntryValue.MESSAGE, LogEntryValue.EXCEPTION);
+
+	private final Writer delegate;
+	private final int size;
+	private final boolean perThread;
+	private final Level trigger;
+	private final String formatPattern;
+
+	private final boolean renderingRequired;
+	private final Set<LogEntryValue> requiredLogEntryValues;
+
+	private boolean threadSeparated;
+	private FormatPattern renderer;
+	private Slot[] slots;
+	private AtomicLong counter;
+	private long dumped;
+	private ThreadLocal<Ring> rings;
+
+	/**
+	 * Keeps the latest 1000 log entries of all threads and dumps them on errors. The global format pattern is used
+	 * for rendering.
+	 *
+	 * @param delegate
+	 *            Writer to output dumped log entries
+	 */
+	public FlightRecorderWriter(final Writer delegate) {
+		this(delegate, DEFAULT_SIZE, false, DEFAULT_TRIGGER, null);
+	}
+
+	/**
+	 * Keeps the latest log entries of all threads and dumps them on errors. The global format pattern is used for
+	 * rendering.
+	 *
+	 * @param delegate
+	 *            Writer to output dumped log entries
+	 * @param size
+	 *            Maximum number of log entries to keep
+	 */
+	public FlightRecorderWriter(final Writer delegate, final int size) {
+		this(delegate, size, false, DEFAULT_TRIGGER, null);
+	}
+
+	/**
+	 * Dumps log entries on errors. The global format pattern is used for rendering.
+	 *
+	 * @param delegate
+	 *            Writer to output dumped log entries
+	 * @param size
+	 *            Maximum number of log entries to keep (per thread if separated)
+	 * @param perThread
+	 *            <code>true</code> to keep log entries separately for each thread, <code>false</code> to share one buffer
+	 *            for all threads
+	 */
+	public FlightRecorderWriter(final Writer delegate, final int size, final boolean perThread) {
+		this(delegate, size, perThread, DEFAULT_TRIGGER, null);
+	}
+
+	/**
+	 * @param delegate
+	 *            Writer to output dumped log entries
+	 * @param size
+	 *            Maximum number of log entries to keep (per thread if separated)
+	 * @param perThread
+	 *            <code>true</code> to keep log entries separately for each thread, <code>false</code> to share one buffer
+	 *            for all threads
+	 * @param trigger
+	 *            Log entries with this or a higher severity level trigger a dump
+	 * @param formatPattern
+	 *            Format pattern for rendering dumped log entries (<code>null</code> to use the global format pattern)
+	 * @throws IllegalArgumentException
+	 *             Size is not positive
+	 */
+	public FlightRecorderWriter(final Writer delegate, final int size, final boolean perThread, final Level trigger, final String formatPattern) {
+		if (size <= 0) {
+			throw new IllegalArgumentException("Size must be positive, but is " + size);
+		}
+
+		this.delegate = delegate;
+		this.size = size;
+		this.perThread = perThread;
+		this.trigger = trigger == null ? DEFAULT_TRIGGER : trigger;
+		this.formatPattern = formatPattern;
+
+		Set<LogEntryValue> delegateValues = delegate.getRequiredLogEntryValues();
+		this.renderingRequired = delegateValues != null && delegateValues.contains(LogEntryValue.RENDERED_LOG_ENTRY);
+		this.requiredLogEntryValues = EnumSet.of(LogEntryValue.LEVEL);
+		if (delegateValues != null) {
+			requiredLogEntryValues.addAll(delegateValues);
+			requiredLogEntryValues.remove(LogEntryValue.RENDERED_LOG_ENTRY);
+		}
+		if (renderingRequired) {
+			if (formatPattern == null) {
+				/* Global format pattern is unknown until initialization */
+				requiredLogEntryValues.addAll(ALL_RAW_VALUES);
+			} else {
+				requiredLogEntryValues.addAll(new FormatPattern(formatPattern, Locale.getDefault(), 0).getRequiredLogEntryValues());
+			}
+		}
+	}
+
+	/**
+	 * Helper constructor with wrapper class parameters for {@link org.cooder.tinylog.PropertiesLoader PropertiesLoader}.
+	 *
+	 * @param delegate
+	 *            Writer to output dumped log entries
+	 * @param size
+	 *            Maximum number of log entries to keep (per thread if separated)
+	 * @param perThread
+	 *            <code>true</code> to keep log entries separately for each thread, <code>false</code> to share one buffer
+	 *            for all threads
+	 * @param trigger
+	 *            Name of the severity level that triggers a dump
+	 * @param formatPattern
+	 *            Format pattern for rendering dumped log entries (<code>null</code> to use the global format pattern)
+	 * @throws IllegalArgumentException
+	 *             Size is not positive or trigger is not a valid severity level
+	 */
+	FlightRecorderWriter(final Writer delegate, final Integer size, final Boolean perThread, final String trigger, final String formatPattern) {
+		this(delegate, size == null ? DEFAULT_SIZE : size, perThread != null && perThread,
+				trigger == null ? DEFAULT_TRIGGER : Level.valueOf(trigger.trim().toUpperCase(Locale.ENGLISH)), formatPattern);
+	}
+
+	@Override
+	public Set<LogEntryValue> getRequiredLogEntryValues() {
+		return requiredLogEntryValues;
+	}
+
+	/**
+	 * Get the writer for outputting dumped log entries.
+	 *
+	 * @return Delegate writer
+	 */
+	public Writer getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * Get the maximum number of log entries to keep.
+	 *
+	 * @return Maximum number of log entries (per thread if separated)
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Determine whether log entries are kept separately for each thread.
+	 *
+	 * @return <code>true</code> if separated per thread, <code>false</code> if shared by all threads
+	 */
+	public boolean isPerThread() {
+		return perThread;
+	}
+
+	/**
+	 * Get the severity level that triggers a dump.
+	 *
+	 * @return Log entries with this or a higher severity level trigger a dump
+	 */
+	public Level getTrigger() {
+		return trigger;
+	}
+
+	/**
+	 * Get the format pattern for rendering dumped log entries.
+	 *
+	 * @return Format pattern or <code>null</code> if the global format pattern is used
+	 */
+	public String getFormatPattern() {
+		return formatPattern;
+	}
+
+	@Override
+	public void init(final Configuration configuration) throws Exception {
+		if (renderingRequired) {
+			String pattern = formatPattern == null ? configuration.getFormatPattern() : formatPattern;
+			renderer = new FormatPattern(pattern, configuration.getLocale(), configuration.getMaxStackTraceElements());
+		}
+
+		threadSeparated = perThread;
+		if (perThread && configuration.getWritingThread() != null) {
+			InternalLogger.warn("Flight recorder cannot separate log entries per thread if the writing thread is enabled, a shared buffer will be used");
+			threadSeparated = false;
+		}
+
+		if (threadSeparated) {
+			rings = new ThreadLocal<Ring>() {
+
+				@Override
+				protected Ring initialValue() {
+					return new Ring(size);
+				}
+
+			};
+		} else {
+			slots = new Slot[size];
+			for (int i = 0; i < size; ++i) {
+				slots[i] = new Slot();
+			}
+			counter = new AtomicLong();
+		}
+
+		delegate.init(configuration);
+	}
+
+	@Override
+	public void write(final LogEntry logEntry) throws Exception {
+		if (logEntry.getLevel().ordinal() >= trigger.ordinal()) {
+			dump(logEntry);
+		} else if (threadSeparated) {
+			rings.get().add(logEntry);
+		} else {
+			long sequence = counter.getAndIncrement();
+			Slot slot = slots[(int) (sequence % size)];
+			for (long current = slot.claimed.get(); current < sequence; current = slot.claimed.get()) {
+				if (slot.claimed.compareAndSet(current, sequence)) {
+					/* Previous claimant might not have stored its log entry yet */
+					while (slot.published != current) {
+						Thread.yield();
+					}
+					slot.logEntry = logEntry;
+					slot.published = sequence;
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Output all kept log entries via the delegate writer. If log entries are kept separately for each thread, only
+	 * the log entries of the current thread will be output.
+	 *
+	 * @throws Exception
+	 *             Failed to write log entries
+	 */
+	public void dump() throws Exception {
+		dump(null);
+	}
+
+	@Override
+	public void flush() throws Exception {
+		delegate.flush();
+	}
+
+	/**
+	 * Close the delegate writer. Kept log entries, which have not been dumped, are discarded.
+	 *
+	 * @throws Exception
+	 *             Failed to close the delegate writer
+	 */
+	@Override
+	public void close() throws Exception {
+		delegate.close();
+	}
+
+	private synchronized void dump(final LogEntry triggeringLogEntry) throws Exception {
+		if (threadSeparated) {
+			Ring ring = rings.get();
+			for (LogEntry logEntry = ring.poll(); logEntry != null; logEntry = ring.poll()) {
+				output(logEntry);
+			}
+		} else {
+			long end = counter.get();
+			for (long sequence = Math.max(dumped, end - size); sequence < end; ++sequence) {
+				Slot slot = slots[(int) (sequence % size)];
+				/* Sequence is already claimed, but the log entry might not be published yet */
+				while (slot.published < sequence) {
+					Thread.yield();
+				}
+				if (slot.published == sequence) {
+					LogEntry logEntry = slot.logEntry;
+					/* Log entry is only valid if the slot has not been claimed for a newer one meanwhile */
+					if (slot.claimed.get() == sequence) {
+						output(logEntry);
+					}
+				}
+			}
+			dumped = end;
+		}
+
+		if (triggeringLogEntry != null) {
+			output(triggeringLogEntry);
+		}
+	}
+
+	private void output(final LogEntry logEntry) throws Exception {
+		if (renderer != null) {
+			renderer.render(logEntry);
+		}
+		delegate.write(logEntry);
+	}
+
+	/**
+	 * Preallocated slot of the shared ring buffer. A log entry is published by storing it before its sequence number.
+	 */
+	private static final class Slot {
+
+		private final AtomicLong claimed;
+		private volatile long published;
+		private volatile LogEntry logEntry;
+
+		private Slot() {
+			claimed = new AtomicLong(-1L);
+			published = -1L;
+		}
+
+	}
+
+	/**
+	 * Ring buffer for log entries of a single thread.
+	 */
+	private static final class Ring {
+
+		private final LogEntry[] entries;
+		private int start;
+		private int count;
+
+		private Ring(final int size) {
+			entries = new LogEntry[size];
+		}
+
+		private void add(final LogEntry logEntry) {
+			int index = (start + count) % entries.length;
+			entries[index] = logEntry;
+			if (count < entries.length) {
+				++count;
+			} else {
+				start = (start + 1) % entries.length;
+			}
+		}
+
+		private LogEntry poll() {
+			if (count == 0) {
+				return null;
+			} else {
+				LogEntry logEntry = entries[start];
+				entries[start] = null;
+				start = (start + 1) % entries.length;
+				--count;
+				return logEntry;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.writers;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+/**
+ * Batches forcing of written data to disk. Writers register the number of written bytes and receive a ticket. Threads
+ * that have to wait for durability block until their ticket is synced. The first waiting thread becomes the leader,
+ * collects further writes until the delay expires or enough bytes are pending and then syncs all of them at once.
+ */
+final class GroupCommit {
+
+	private final long delay;
+	private final long bytes;
+	private final Target target;
+
+	private long written;
+	private long synced;
+	private boolean syncing;
+
+	/**
+	 * @param durability
+	 *            Delay and number of bytes for batching
+	 * @param target
+	 *            Log file to sync
+	 */
+	GroupCommit(final Durability durability, final Target target) {
+		this.delay = durability.getDelay();
+		this.bytes = durability.getBytes();
+		this.target = target;
+	}
+
+	/**
+	 * Register written bytes. Must be called in the same order in which the bytes have been written.
+	 *
+	 * @param count
+	 *            Number of written bytes
+	 * @return Ticket for {@link #await(long)}
+	 */
+	synchronized long register(final int count) {
+		written += count;
+		if (syncing && written - synced >= bytes) {
+			notifyAll();
+		}
+		return written;
+	}
+
+	/**
+	 * Get the ticket for all bytes registered so far.
+	 *
+	 * @return Ticket for {@link #await(long)}
+	 */
+	synchronized long getTicket() {
+		return written;
+	}
+
+	/**
+	 * Mark all registered bytes as synced (for example because the log file has been synced and closed).
+	 */
+	synchronized void synced() {
+		synced = written;
+		notifyAll();
+	}
+
+	/**
+	 * Block until all bytes up to the ticket are forced to disk.
+	 *
+	 * @param ticket
+	 *            Ticket from {@link #register(int)} or {@link #getTicket()}
+	 * @throws IOException
+	 *             Failed to force the log file or interrupted while waiting
+	 */
+	void await(final long ticket) throws IOException {
+		while (true) {
+			long position;
+			synchronized (this) {
+				while (synced < ticket && syncing) {
+					waitForSync(0L);
+				}
+				if (synced >= ticket) {
+					return;
+				}
+
+				syncing = true;
+				try {
+					long deadline = System.currentTimeMillis() + delay;
+					for (long remaining = delay; remaining > 0L && written - synced < bytes; remaining = deadline - System.currentTimeMillis()) {
+						waitForSync(remaining);
+					}
+				} catch (IOException ex) {
+					syncing = false;
+					notifyAll();
+					throw ex;
+				}
+				position = written;
+			}
+
+			boolean success = false;
+			try {
+				target.sync();
+				success = true;
+			} finally {
+				synchronized (this) {
+					syncing = false;
+					if (success && position > synced) {
+						synced = position;
+					}
+					notifyAll();
+				}
+			}
+		}
+	}
+
+	private void waitForSync(final long timeout) throws InterruptedIOException {
+		try {
+			wait(timeout);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for log file to be forced to disk");
+		}
+	}
+
+	/**
+	 * Log file, which can be forced to disk.
+	 */
+	interface Target {
+
+		/**
+		 * Write all buffered data and force the log file to disk.
+		 *
+		 * @throws IOException
+		 *             Failed to force the log file
+		 */
+		void sync() throws IOException;
+
+	}
+
+}
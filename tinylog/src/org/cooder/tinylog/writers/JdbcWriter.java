@@ -13,16 +13,21 @@
 
 package org.cooder.tinylog.writers;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Deque;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Locale;
@@ -39,6 +44,7 @@ import org.cooder.tinylog.EnvironmentHelper;
 import org.cooder.tinylog.InternalLogger;
 import org.cooder.tinylog.Level;
 import org.cooder.tinylog.LogEntry;
+import org.cooder.tinylog.Metrics;
 
 /**
  * Writes log entries to a SQL database.
@@ -46,10 +52,14 @@ import org.cooder.tinylog.LogEntry;
 @PropertiesSupport(name = "jdbc", properties = { @Property(name = "url", type = String.class), @Property(name = "table", type = String.class),
 		@Property(name = "columns", type = String[].class, optional = true), @Property(name = "values", type = String[].class),
 		@Property(name = "batch", type = boolean.class, optional = true), @Property(name = "username", type = String.class, optional = true),
-		@Property(name = "password", type = String.class, optional = true), @Property(name = "reconnect", type = int.class, optional = true) })
+		@Property(name = "password", type = String.class, optional = true), @Property(name = "reconnect", type = int.class, optional = true),
+		@Property(name = "batchsize", type = int.class, optional = true), @Property(name = "flush", type = int.class, optional = true),
+		@Property(name = "buffer", type = int.class, optional = true), @Property(name = "workers", type = int.class, optional = true),
+		@Property(name = "bulk", type = int.class, optional = true) })
 public final class JdbcWriter implements Writer {
 
-	private static final int MAX_BATCH_SIZE = 128;
+	private static final int DEFAULT_BATCH_SIZE = 128;
+	private static final int QUEUED_BATCHES_PER_WORKER = 4;
 	private static final String NEW_LINE = EnvironmentHelper.getNewLine();
 
 	private final String url;
@@ -61,15 +71,24 @@ public final class JdbcWriter implements Writer {
 	private final String username;
 	private final String password;
 	private final long interval;
+	private final int batchSize;
+	private final long flushInterval;
+	private final int bufferSize;
+	private final int workerCount;
+	private final int bulkSize;
 
 	private final Object lock = new Object();
+	private final Deque<LogEntry> retained = new ArrayDeque<LogEntry>();
 
 	private String sql;
-	private volatile Connection connection;
-	private PreparedStatement statement;
-	private int batchCount;
-
-	private long lostTimestamp;
+	private Inserter inserter;
+	private Flusher flusher;
+	private List<Worker> workers;
+	private Deque<LogEntry> queue;
+	private long queueTimestamp;
+	private boolean flushRequested;
+	private boolean closed;
+	private int lost;
 
 	/**
 	 * @param url
@@ -283,15 +302,108 @@ public final class JdbcWriter implements Writer {
 	 */
 	public JdbcWriter(final String url, final String table, final List<String> columns, final List<Value> values, final boolean batch, final String username,
 			final String password, final int reconnect) {
+		this(url, table, columns, values, batch, username, password, reconnect, DEFAULT_BATCH_SIZE, 0, 0, 0);
+	}
+
+	/**
+	 * @param url
+	 *            JDBC connection URL
+	 * @param table
+	 *            Name of table
+	 * @param columns
+	 *            Columns of table to use for insert
+	 * @param values
+	 *            Values to insert
+	 * @param batch
+	 *            <code>true</code> for collecting SQL statements and execute them in a batch process,
+	 *            <code>false</code> to execute SQL statements immediately (default)
+	 * @param username
+	 *            User name for database log in
+	 * @param password
+	 *            Password for database log in
+	 * @param reconnect
+	 *            Seconds between two reconnecting tries to database if connecting is broken (-1 disables reconnecting)
+	 * @param batchSize
+	 *            Maximum number of SQL statements in a batch process (default is 128)
+	 * @param flush
+	 *            Maximum milliseconds to collect SQL statements for a batch process (0 disables time based flushing)
+	 * @param buffer
+	 *            Maximum number of log entries to keep while the database connection is broken, for inserting them
+	 *            after reconnecting (0 disables buffering)
+	 * @param workers
+	 *            Number of threads with separate database connections for inserting log entries asynchronously (0
+	 *            inserts log entries synchronously)
+	 * @throws IllegalArgumentException
+	 *             Batch size is not positive or flush interval, buffer size or number of workers is negative
+	 */
+	public JdbcWriter(final String url, final String table, final List<String> columns, final List<Value> values, final boolean batch, final String username,
+			final String password, final int reconnect, final int batchSize, final int flush, final int buffer, final int workers) {
+		this(url, table, columns, values, batch, username, password, reconnect, batchSize, flush, buffer, workers, 0);
+	}
+
+	/**
+	 * @param url
+	 *            JDBC connection URL
+	 * @param table
+	 *            Name of table
+	 * @param columns
+	 *            Columns of table to use for insert
+	 * @param values
+	 *            Values to insert
+	 * @param batch
+	 *            <code>true</code> for collecting SQL statements and execute them in a batch process,
+	 *            <code>false</code> to execute SQL statements immediately (default)
+	 * @param username
+	 *            User name for database log in
+	 * @param password
+	 *            Password for database log in
+	 * @param reconnect
+	 *            Seconds between two reconnecting tries to database if connecting is broken (-1 disables reconnecting)
+	 * @param batchSize
+	 *            Maximum number of SQL statements in a batch process (default is 128)
+	 * @param flush
+	 *            Maximum milliseconds to collect SQL statements for a batch process (0 disables time based flushing)
+	 * @param buffer
+	 *            Maximum number of log entries to keep while the database connection is broken, for inserting them
+	 *            after reconnecting (0 disables buffering)
+	 * @param workers
+	 *            Number of threads with separate database connections for inserting log entries asynchronously (0
+	 *            inserts log entries synchronously)
+	 * @param bulk
+	 *            Number of rows per multi-row insert statement (0 inserts one row per statement), bulk inserting
+	 *            implies batch mode
+	 * @throws IllegalArgumentException
+	 *             Batch size is not positive or flush interval, buffer size, number of workers or number of rows per
+	 *             insert statement is negative
+	 */
+	public JdbcWriter(final String url, final String table, final List<String> columns, final List<Value> values, final boolean batch, final String username,
+			final String password, final int reconnect, final int batchSize, final int flush, final int buffer, final int workers, final int bulk) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("Batch size must be positive, but is " + batchSize);
+		} else if (flush < 0) {
+			throw new IllegalArgumentException("Flush interval must not be negative, but is " + flush);
+		} else if (buffer < 0) {
+			throw new IllegalArgumentException("Buffer size must not be negative, but is " + buffer);
+		} else if (workers < 0) {
+			throw new IllegalArgumentException("Number of workers must not be negative, but is " + workers);
+		} else if (bulk < 0) {
+			throw new IllegalArgumentException("Number of rows per insert statement must not be negative, but is " + bulk);
+		}
+
 		this.url = url;
 		this.table = table;
 		this.columns = columns;
 		this.values = values;
 		this.requiredLogEntryValues = calculateRequiredLogEntryValues(values);
-		this.batchMode = batch;
+		this.batchMode = batch || bulk > 0;
 		this.username = username;
 		this.password = password;
 		this.interval = reconnect * 1000L;
+		this.batchSize = batchSize;
+		this.flushInterval = flush;
+		this.bufferSize = buffer;
+		this.workerCount = workers;
+		this.bulkSize = bulk;
 	}
 
 	/**
@@ -379,6 +491,45 @@ public final class JdbcWriter implements Writer {
 		this(url, table, columns == null ? null : Arrays.asList(columns), renderValues(values), batch, username, password, reconnect);
 	}
 
+	/**
+	 * Helper constructor with wrapper class parameters for {@link org.cooder.tinylog.PropertiesLoader PropertiesLoader}.
+	 *
+	 * @param url
+	 *            JDBC connection URL
+	 * @param table
+	 *            Name of table
+	 * @param columns
+	 *            Columns of table to use for insert
+	 * @param values
+	 *            Values to insert
+	 * @param batch
+	 *            <code>true</code> for collecting SQL statements and execute them in a batch process,
+	 *            <code>false</code> to execute SQL statements immediately (default)
+	 * @param username
+	 *            User name for database log in
+	 * @param password
+	 *            Password for database log in
+	 * @param reconnect
+	 *            Seconds between two reconnecting tries to database if connecting is broken (-1 disables reconnecting)
+	 * @param batchSize
+	 *            Maximum number of SQL statements in a batch process
+	 * @param flush
+	 *            Maximum milliseconds to collect SQL statements for a batch process
+	 * @param buffer
+	 *            Maximum number of log entries to keep while the database connection is broken
+	 * @param workers
+	 *            Number of threads with separate database connections for inserting log entries asynchronously
+	 * @param bulk
+	 *            Number of rows per multi-row insert statement
+	 */
+	JdbcWriter(final String url, final String table, final String[] columns, final String[] values, final Boolean batch, final String username,
+			final String password, final Integer reconnect, final Integer batchSize, final Integer flush, final Integer buffer, final Integer workers,
+			final Integer bulk) {
+		this(url, table, columns == null ? null : Arrays.asList(columns), renderValues(values), batch != null && batch, username, password,
+				reconnect == null ? -1 : reconnect, batchSize == null ? DEFAULT_BATCH_SIZE : batchSize, flush == null ? 0 : flush, buffer == null ? 0 : buffer,
+				workers == null ? 0 : workers, bulk == null ? 0 : bulk);
+	}
+
 	/**
 	 * Get the JDBC connection URL to database.
 	 *
@@ -452,6 +603,55 @@ public final class JdbcWriter implements Writer {
 		return interval;
 	}
 
+	/**
+	 * Get the maximum number of SQL statements in a batch process.
+	 *
+	 * @return Maximum number of SQL statements in a batch process
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Get the maximum time span in milliseconds for collecting SQL statements for a batch process. 0 means that batch
+	 * processes are only executed if they are full or flushed.
+	 *
+	 * @return Maximum milliseconds for collecting SQL statements
+	 */
+	public long getFlushInterval() {
+		return flushInterval;
+	}
+
+	/**
+	 * Get the maximum number of log entries, which are kept while the database connection is broken. These log entries
+	 * will be inserted after reestablishing the connection. If the buffer is full, the oldest log entries will be lost.
+	 *
+	 * @return Maximum number of buffered log entries
+	 */
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * Get the number of threads, which insert log entries asynchronously with separate database connections. 0 means
+	 * that log entries are inserted synchronously.
+	 *
+	 * @return Number of insert workers
+	 */
+	public int getWorkers() {
+		return workerCount;
+	}
+
+	/**
+	 * Get the number of rows per multi-row insert statement. 0 means that each row is inserted by a separate
+	 * statement.
+	 *
+	 * @return Number of rows per insert statement
+	 */
+	public int getBulkSize() {
+		return bulkSize;
+	}
+
 	@Override
 	public Set<LogEntryValue> getRequiredLogEntryValues() {
 		return requiredLogEntryValues;
@@ -463,46 +663,88 @@ public final class JdbcWriter implements Writer {
 			throw new SQLException("Number of columns and values must be equal, but columns = " + columns.size() + " and values = " + values.size());
 		}
 
-		connect();
+		if (workerCount == 0) {
+			inserter = new Inserter();
+			inserter.connect();
+			if (batchMode && flushInterval > 0) {
+				flusher = new Flusher();
+				flusher.start();
+			}
+		} else {
+			List<Worker> created = new ArrayList<Worker>(workerCount);
+			try {
+				for (int i = 0; i < workerCount; ++i) {
+					Inserter workerInserter = new Inserter();
+					workerInserter.connect();
+					created.add(new Worker(workerInserter, i + 1));
+				}
+			} finally {
+				if (created.size() < workerCount) {
+					for (Worker worker : created) {
+						worker.inserter.close();
+					}
+				}
+			}
+
+			queue = new ArrayDeque<LogEntry>();
+			workers = created;
+			for (Worker worker : workers) {
+				worker.start();
+			}
+		}
+
 		VMShutdownHook.register(this);
 	}
 
 	@Override
 	public void write(final LogEntry logEntry) throws SQLException {
-		repairConnectionIfBroken();
-
 		synchronized (lock) {
-			if (connection != null) {
-				if (batchMode) {
+			if (workers == null) {
+				inserter.repairConnectionIfBroken();
+				inserter.write(logEntry);
+			} else if (!closed) {
+				int capacity = workerCount * batchSize * QUEUED_BATCHES_PER_WORKER;
+				while (queue.size() >= capacity && !closed) {
 					try {
-						if (batchCount >= MAX_BATCH_SIZE) {
-							executeBatch();
-						}
-						fillStatement(statement, values, logEntry);
-						statement.addBatch();
-						++batchCount;
-					} catch (SQLException ex) {
-						failed(ex);
-					}
-				} else {
-					try {
-						fillStatement(statement, values, logEntry);
-						statement.executeUpdate();
-					} catch (SQLException ex) {
-						failed(ex);
+						lock.wait();
+					} catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+						break;
 					}
 				}
+
+				if (queue.isEmpty()) {
+					queueTimestamp = System.currentTimeMillis();
+				}
+				queue.add(logEntry);
+
+				/* Workers only have to be woken up if they have something to do */
+				int size = queue.size();
+				if (!batchMode || size >= batchSize || (size == 1 && flushInterval > 0)) {
+					lock.notifyAll();
+				}
 			}
 		}
 	}
 
+	/**
+	 * Execute the current batch process. If insert workers are used, they will execute their batch processes
+	 * asynchronously and this method returns immediately.
+	 *
+	 * @throws SQLException
+	 *             Failed to execute batch process
+	 */
 	@Override
 	public void flush() throws SQLException {
-		if (batchMode) {
-			synchronized (lock) {
-				if (connection != null && batchCount > 0) {
-					executeBatch();
+		synchronized (lock) {
+			if (workers == null) {
+				if (hasRetainedLogEntries()) {
+					inserter.repairConnectionIfBroken();
 				}
+				inserter.execute();
+			} else if (!queue.isEmpty() || hasRetainedLogEntries()) {
+				flushRequested = true;
+				lock.notifyAll();
 			}
 		}
 	}
@@ -512,9 +754,34 @@ public final class JdbcWriter implements Writer {
 		VMShutdownHook.unregister(this);
 
 		synchronized (lock) {
-			if (connection != null) {
-				flush();
-				connection.close();
+			if (workers == null) {
+				if (flusher != null) {
+					flusher.shutdown();
+				}
+				if (inserter != null) {
+					inserter.close();
+				}
+			} else {
+				closed = true;
+				lock.notifyAll();
+			}
+		}
+
+		if (workers != null) {
+			try {
+				for (Worker worker : workers) {
+					worker.join();
+				}
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		synchronized (retained) {
+			if (!retained.isEmpty()) {
+				InternalLogger.warn("{} buffered log entries could not be inserted into database", retained.size());
+				Metrics.recordLostEntries(this, retained.size());
+				retained.clear();
 			}
 		}
 	}
@@ -648,6 +915,25 @@ public final class JdbcWriter implements Writer {
 		return builder.toString();
 	}
 
+	/**
+	 * Render a multi-row insert statement by repeating the values clause of a single-row insert statement.
+	 *
+	 * @param sql
+	 *            Single-row insert statement
+	 * @param rows
+	 *            Number of rows
+	 * @return Multi-row insert statement
+	 */
+	private static String renderBulkSql(final String sql, final int rows) {
+		String row = sql.substring(sql.lastIndexOf('('));
+		StringBuilder builder = new StringBuilder(sql.length() + (row.length() + 2) * (rows - 1));
+		builder.append(sql);
+		for (int i = 1; i < rows; ++i) {
+			builder.append(", ").append(row);
+		}
+		return builder.toString();
+	}
+
 	private static String getNameOfClass(final String fullyQualifiedClassName) {
 		int dotIndex = fullyQualifiedClassName.lastIndexOf('.');
 		if (dotIndex < 0) {
@@ -708,74 +994,76 @@ public final class JdbcWriter implements Writer {
 		}
 	}
 
-	private static void fillStatement(final PreparedStatement statement, final List<Value> values, final LogEntry logEntry) throws SQLException {
+	private static void fillStatement(final PreparedStatement statement, final int offset, final List<Value> values, final LogEntry logEntry)
+			throws SQLException {
 		for (int i = 0; i < values.size(); ++i) {
+			int index = offset + i + 1;
 			switch (values.get(i)) {
 				case DATE:
-					statement.setTimestamp(i + 1, logEntry.getTimestamp());
+					statement.setTimestamp(index, logEntry.getTimestamp());
 					break;
 				case PROCESS_ID:
-					statement.setString(i + 1, logEntry.getProcessId());
+					statement.setString(index, logEntry.getProcessId());
 					break;
 				case THREAD_NAME:
-					statement.setString(i + 1, logEntry.getThread().getName());
+					statement.setString(index, logEntry.getThread().getName());
 					break;
 				case THREAD_ID:
-					statement.setLong(i + 1, logEntry.getThread().getId());
+					statement.setLong(index, logEntry.getThread().getId());
 					break;
 				case CONTEXT:
 					Map<String, String> context = logEntry.getContext();
 					if (context == null || context.isEmpty()) {
-						statement.setNull(i + 1, Types.VARCHAR);
+						statement.setNull(index, Types.VARCHAR);
 					} else {
-						statement.setString(i + 1, formatMap(context));
+						statement.setString(index, formatMap(context));
 					}
 					break;
 				case CLASS:
-					statement.setString(i + 1, logEntry.getClassName());
+					statement.setString(index, logEntry.getClassName());
 					break;
 				case CLASS_NAME:
-					statement.setString(i + 1, getNameOfClass(logEntry.getClassName()));
+					statement.setString(index, getNameOfClass(logEntry.getClassName()));
 					break;
 				case PACKAGE:
-					statement.setString(i + 1, getPackageOfClass(logEntry.getClassName()));
+					statement.setString(index, getPackageOfClass(logEntry.getClassName()));
 					break;
 				case METHOD:
 					if (logEntry.getMethodName() == null) {
-						statement.setNull(i + 1, Types.VARCHAR);
+						statement.setNull(index, Types.VARCHAR);
 					} else {
-						statement.setString(i + 1, logEntry.getMethodName());
+						statement.setString(index, logEntry.getMethodName());
 					}
 					break;
 				case FILE:
 					if (logEntry.getFilename() == null) {
-						statement.setNull(i + 1, Types.VARCHAR);
+						statement.setNull(index, Types.VARCHAR);
 					} else {
-						statement.setString(i + 1, logEntry.getFilename());
+						statement.setString(index, logEntry.getFilename());
 					}
 					break;
 				case LINE:
 					if (logEntry.getLineNumber() < 0) {
-						statement.setNull(i + 1, Types.VARCHAR);
+						statement.setNull(index, Types.VARCHAR);
 					} else {
-						statement.setInt(i + 1, logEntry.getLineNumber());
+						statement.setInt(index, logEntry.getLineNumber());
 					}
 					break;
 				case LEVEL:
-					statement.setString(i + 1, logEntry.getLevel().name());
+					statement.setString(index, logEntry.getLevel().name());
 					break;
 				case MESSAGE:
 					if (logEntry.getMessage() == null) {
-						statement.setNull(i + 1, Types.VARCHAR);
+						statement.setNull(index, Types.VARCHAR);
 					} else {
-						statement.setString(i + 1, logEntry.getMessage());
+						statement.setString(index, logEntry.getMessage());
 					}
 					break;
 				case EXCEPTION:
 					if (logEntry.getException() == null) {
-						statement.setNull(i + 1, Types.VARCHAR);
+						statement.setNull(index, Types.VARCHAR);
 					} else {
-						statement.setString(i + 1, formatException(logEntry.getException()));
+						statement.setString(index, formatException(logEntry.getException()));
 					}
 					break;
 				case RENDERED_LOG_ENTRY:
@@ -783,7 +1071,7 @@ public final class JdbcWriter implements Writer {
 					if (renderedLogEntry.endsWith(NEW_LINE)) {
 						renderedLogEntry = renderedLogEntry.substring(0, renderedLogEntry.length() - NEW_LINE.length());
 					}
-					statement.setString(i + 1, renderedLogEntry);
+					statement.setString(index, renderedLogEntry);
 					break;
 				default:
 					InternalLogger.warn("Unknown value type: \"{}\"", values.get(i));
@@ -792,68 +1080,113 @@ public final class JdbcWriter implements Writer {
 		}
 	}
 
-	private void connect() throws SQLException, NamingException {
+	private Connection openConnection() throws SQLException, NamingException {
 		if (url.toLowerCase(Locale.ENGLISH).startsWith("java:")) {
 			DataSource source = (DataSource) new InitialContext().lookup(url);
 			if (username == null) {
-				connection = source.getConnection();
+				return source.getConnection();
 			} else {
-				connection = source.getConnection(username, password);
+				return source.getConnection(username, password);
 			}
 		} else {
 			if (username == null) {
-				connection = DriverManager.getConnection(url);
+				return DriverManager.getConnection(url);
 			} else {
-				connection = DriverManager.getConnection(url, username, password);
+				return DriverManager.getConnection(url, username, password);
 			}
 		}
-
-		if (sql == null) {
-			sql = renderSql(connection, table, columns, values);
-		}
-
-		statement = connection.prepareStatement(sql);
-
-		if (batchMode) {
-			batchCount = 0;
-		}
 	}
 
-	private void executeBatch() throws SQLException {
-		statement.executeBatch();
-		batchCount = 0;
+	private boolean hasRetainedLogEntries() {
+		synchronized (retained) {
+			return !retained.isEmpty();
+		}
 	}
 
-	private void repairConnectionIfBroken() {
-		if (connection == null && interval >= 0) {
-			synchronized (lock) {
-				if (connection == null && System.currentTimeMillis() >= lostTimestamp + interval) {
-					try {
-						connect();
-						InternalLogger.error("Broken database connection has been reestablished");
-					} catch (SQLException ex) {
-						connection = null;
-						lostTimestamp = System.currentTimeMillis();
-					} catch (NamingException ex) {
-						connection = null;
-						lostTimestamp = System.currentTimeMillis();
+	/**
+	 * Keep log entries, which couldn't be inserted, for inserting them after reestablishing the database connection.
+	 * If the buffer is full, the oldest log entries will be discarded. Without buffer, all passed log entries are lost.
+	 *
+	 * @param logEntries
+	 *            Log entries to keep
+	 */
+	private void retain(final List<LogEntry> logEntries) {
+		if (bufferSize > 0 && interval >= 0) {
+			synchronized (retained) {
+				for (LogEntry logEntry : logEntries) {
+					if (retained.size() >= bufferSize) {
+						retained.removeFirst();
+						Metrics.recordLostEntries(this, 1);
+						++lost;
 					}
+					retained.addLast(logEntry);
 				}
 			}
+		} else {
+			Metrics.recordLostEntries(this, logEntries.size());
 		}
 	}
 
-	private void failed(final SQLException exception) {
-		lostTimestamp = System.currentTimeMillis();
+	/**
+	 * Take all kept log entries for inserting them.
+	 *
+	 * @return Kept log entries in chronological order
+	 */
+	private List<LogEntry> takeRetained() {
+		synchronized (retained) {
+			if (lost > 0) {
+				InternalLogger.warn("Buffer for broken database connection has been exceeded, {} log entries have been lost", lost);
+				lost = 0;
+			}
 
-		InternalLogger.error(exception, "Database connection is broken");
+			List<LogEntry> logEntries = new ArrayList<LogEntry>(retained);
+			retained.clear();
+			return logEntries;
+		}
+	}
 
-		try {
-			connection.close();
-		} catch (SQLException ex) {
-			// Ignore
-		} finally {
-			connection = null;
+	/**
+	 * Wait for log entries to insert by an insert worker. A batch is handed out if it is full or the flush interval is
+	 * exceeded. Without batch mode, all queued log entries are handed out immediately.
+	 *
+	 * @return Log entries to insert (can be empty), or <code>null</code> if the writer has been closed
+	 * @throws InterruptedException
+	 *             Worker has been interrupted while waiting
+	 */
+	private List<LogEntry> take() throws InterruptedException {
+		synchronized (lock) {
+			while (true) {
+				int size = queue.size();
+				if (size > 0) {
+					long now = System.currentTimeMillis();
+					long remaining = flushInterval == 0 ? Long.MAX_VALUE : queueTimestamp + flushInterval - now;
+					if (!batchMode || size >= batchSize || remaining <= 0 || flushRequested || closed) {
+						List<LogEntry> logEntries = new ArrayList<LogEntry>(Math.min(size, batchSize));
+						while (logEntries.size() < batchSize && !queue.isEmpty()) {
+							logEntries.add(queue.removeFirst());
+						}
+						if (queue.isEmpty()) {
+							flushRequested = false;
+						} else {
+							queueTimestamp = now;
+						}
+						lock.notifyAll();
+						return logEntries;
+					} else if (remaining == Long.MAX_VALUE) {
+						lock.wait();
+					} else {
+						lock.wait(remaining);
+					}
+				} else if (closed) {
+					return null;
+				} else if (flushRequested) {
+					/* Gives the worker the opportunity to reconnect and to insert kept log entries */
+					flushRequested = false;
+					return Collections.emptyList();
+				} else {
+					lock.wait();
+				}
+			}
 		}
 	}
 
@@ -957,4 +1290,318 @@ public final class JdbcWriter implements Writer {
 
 	}
 
+	/**
+	 * Database connection with a prepared insert statement. Log entries of the current batch process are kept until
+	 * the batch process has been executed successfully. In bulk mode, log entries are only collected and inserted by
+	 * multi-row insert statements, which are prepared once per number of rows.
+	 */
+	private final class Inserter {
+
+		private final List<LogEntry> batch;
+		private final Map<Integer, PreparedStatement> bulkStatements;
+
+		private Connection connection;
+		private PreparedStatement statement;
+		private long batchTimestamp;
+		private long lostTimestamp;
+
+		private Inserter() {
+			batch = new ArrayList<LogEntry>();
+			bulkStatements = bulkSize > 0 ? new HashMap<Integer, PreparedStatement>() : null;
+		}
+
+		private void connect() throws SQLException, NamingException {
+			Connection created = openConnection();
+			try {
+				if (sql == null) {
+					sql = renderSql(created, table, columns, values);
+				}
+				statement = created.prepareStatement(sql);
+			} catch (SQLException ex) {
+				try {
+					created.close();
+				} catch (SQLException ex2) {
+					// Ignore
+				}
+				throw ex;
+			}
+
+			connection = created;
+			batch.clear();
+			if (bulkStatements != null) {
+				bulkStatements.clear();
+				bulkStatements.put(1, statement);
+			}
+		}
+
+		private void write(final LogEntry logEntry) {
+			if (connection == null) {
+				retain(Collections.singletonList(logEntry));
+			} else if (batchMode) {
+				if (bulkStatements == null) {
+					try {
+						fillStatement(statement, 0, values, logEntry);
+						statement.addBatch();
+					} catch (SQLException ex) {
+						failed(ex, logEntry);
+						return;
+					}
+				}
+
+				long now = System.currentTimeMillis();
+				if (batch.isEmpty()) {
+					batchTimestamp = now;
+				}
+				batch.add(logEntry);
+
+				if (batch.size() >= batchSize || (flushInterval > 0 && now - batchTimestamp >= flushInterval)) {
+					execute();
+				}
+			} else {
+				try {
+					fillStatement(statement, 0, values, logEntry);
+					statement.executeUpdate();
+				} catch (SQLException ex) {
+					failed(ex, logEntry);
+				}
+			}
+		}
+
+		/**
+		 * Execute the current batch process if the flush interval is exceeded.
+		 *
+		 * @return Milliseconds until the flush interval of the current batch process will be exceeded
+		 */
+		private long executeIfOutdated() {
+			if (!batch.isEmpty()) {
+				long remaining = batchTimestamp + flushInterval - System.currentTimeMillis();
+				if (remaining > 0) {
+					return remaining;
+				}
+				execute();
+			}
+			return flushInterval;
+		}
+
+		private void execute() {
+			if (connection != null && !batch.isEmpty()) {
+				if (bulkStatements == null) {
+					try {
+						statement.executeBatch();
+						Metrics.recordBatch(JdbcWriter.this, batch.size());
+						batch.clear();
+					} catch (SQLException ex) {
+						if (ex instanceof BatchUpdateException) {
+							removeInserted(((BatchUpdateException) ex).getUpdateCounts(), 1);
+						}
+						failed(ex, null);
+					}
+				} else {
+					executeBulk();
+				}
+			}
+		}
+
+		private void executeBulk() {
+			int size = batch.size();
+			int inserted = 0;
+			try {
+				if (size >= bulkSize) {
+					PreparedStatement bulkStatement = getBulkStatement(bulkSize);
+					for (int index = 0; size - index >= bulkSize; index += bulkSize) {
+						fillBulkStatement(bulkStatement, index, bulkSize);
+						bulkStatement.addBatch();
+					}
+					bulkStatement.executeBatch();
+					inserted = size - size % bulkSize;
+				}
+
+				/* Remaining rows are inserted in chunks with a power of two as size for limiting the number of prepared statements */
+				for (int rows = Integer.highestOneBit(size - inserted); inserted < size; rows >>= 1) {
+					if (size - inserted >= rows) {
+						PreparedStatement bulkStatement = getBulkStatement(rows);
+						fillBulkStatement(bulkStatement, inserted, rows);
+						bulkStatement.executeUpdate();
+						inserted += rows;
+					}
+				}
+
+				Metrics.recordBatch(JdbcWriter.this, size);
+				batch.clear();
+			} catch (SQLException ex) {
+				if (ex instanceof BatchUpdateException) {
+					/* Can only be thrown by the batch of full multi-row insert statements */
+					removeInserted(((BatchUpdateException) ex).getUpdateCounts(), bulkSize);
+				} else {
+					batch.subList(0, inserted).clear();
+				}
+				failed(ex, null);
+			}
+		}
+
+		/**
+		 * Remove all log entries from the current batch process, which have been inserted by a partially failed batch
+		 * execution. Depending on the JDBC driver, the update counts end at the first failed statement or mark failed
+		 * statements.
+		 *
+		 * @param updateCounts
+		 *            Update counts of executed statements
+		 * @param rows
+		 *            Number of log entries per statement
+		 */
+		private void removeInserted(final int[] updateCounts, final int rows) {
+			if (updateCounts != null) {
+				for (int i = Math.min(updateCounts.length, batch.size() / rows) - 1; i >= 0; --i) {
+					if (updateCounts[i] != Statement.EXECUTE_FAILED) {
+						batch.subList(i * rows, (i + 1) * rows).clear();
+					}
+				}
+			}
+		}
+
+		private PreparedStatement getBulkStatement(final int rows) throws SQLException {
+			PreparedStatement bulkStatement = bulkStatements.get(rows);
+			if (bulkStatement == null) {
+				bulkStatement = connection.prepareStatement(renderBulkSql(sql, rows));
+				bulkStatements.put(rows, bulkStatement);
+			}
+			return bulkStatement;
+		}
+
+		private void fillBulkStatement(final PreparedStatement bulkStatement, final int start, final int rows) throws SQLException {
+			for (int i = 0; i < rows; ++i) {
+				fillStatement(bulkStatement, i * values.size(), values, batch.get(start + i));
+			}
+		}
+
+		private void repairConnectionIfBroken() {
+			if (connection == null && interval >= 0 && System.currentTimeMillis() >= lostTimestamp + interval) {
+				try {
+					connect();
+					InternalLogger.error("Broken database connection has been reestablished");
+					Metrics.recordReconnect(JdbcWriter.this);
+				} catch (SQLException ex) {
+					lostTimestamp = System.currentTimeMillis();
+					return;
+				} catch (NamingException ex) {
+					lostTimestamp = System.currentTimeMillis();
+					return;
+				}
+
+				for (LogEntry logEntry : takeRetained()) {
+					write(logEntry);
+				}
+				execute();
+			}
+		}
+
+		private void failed(final SQLException exception, final LogEntry logEntry) {
+			lostTimestamp = System.currentTimeMillis();
+
+			InternalLogger.error(exception, "Database connection is broken");
+
+			try {
+				connection.close();
+			} catch (SQLException ex) {
+				// Ignore
+			} finally {
+				connection = null;
+			}
+
+			if (logEntry != null) {
+				batch.add(logEntry);
+			}
+			retain(batch);
+			batch.clear();
+		}
+
+		private void close() throws SQLException {
+			if (connection != null) {
+				execute();
+				if (connection != null) {
+					connection.close();
+					connection = null;
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Thread for executing batch processes of synchronous inserting as soon as the flush interval is exceeded, even if
+	 * no further log entries are written.
+	 */
+	private final class Flusher extends Thread {
+
+		private volatile boolean shutdown;
+
+		private Flusher() {
+			super("tinylog-jdbc-flusher");
+			setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			long delay = flushInterval;
+			while (!shutdown) {
+				try {
+					sleep(delay);
+				} catch (InterruptedException ex) {
+					continue;
+				}
+
+				synchronized (lock) {
+					delay = shutdown ? 0L : inserter.executeIfOutdated();
+				}
+			}
+		}
+
+		private void shutdown() {
+			shutdown = true;
+			interrupt();
+		}
+
+	}
+
+	/**
+	 * Thread for inserting log entries asynchronously with its own database connection.
+	 */
+	private final class Worker extends Thread {
+
+		private final Inserter inserter;
+
+		private Worker(final Inserter inserter, final int number) {
+			super("tinylog-jdbc-" + number);
+			this.inserter = inserter;
+			setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			try {
+				for (List<LogEntry> logEntries = take(); logEntries != null; logEntries = take()) {
+					try {
+						inserter.repairConnectionIfBroken();
+						for (LogEntry logEntry : logEntries) {
+							inserter.write(logEntry);
+						}
+						inserter.execute();
+					} catch (RuntimeException ex) {
+						/* Worker must survive, otherwise logging threads would block as soon as the queue is full */
+						InternalLogger.error(ex, "Failed to insert log entries");
+					}
+				}
+			} catch (InterruptedException ex) {
+				// Stop inserting
+			}
+
+			try {
+				inserter.close();
+			} catch (SQLException ex) {
+				InternalLogger.error(ex, "Failed to close database connection");
+			}
+		}
+
+	}
+
 }
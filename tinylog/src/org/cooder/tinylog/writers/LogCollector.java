@@ -0,0 +1,305 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.writers;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+import org.cooder.tinylog.EnvironmentHelper;
+import org.cooder.tinylog.InternalLogger;
+
+/**
+ * Collector for log entries of multiple processes. The log entries are received from {@link CollectorWriter
+ * CollectorWriters} and written by a single thread into a fully buffered log file.
+ *
+ * <p>
+ * The collector can be started as standalone process: <code>java org.cooder.tinylog.writers.LogCollector
+ * &lt;address&gt; &lt;filename&gt;</code>
+ * </p>
+ */
+public final class LogCollector {
+
+	/**
+	 * Maximum size of a single encoded log entry.
+	 */
+	static final int MAX_ENTRY_SIZE = 16 * 1024 * 1024;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final int FLUSH_INTERVAL = 100; // in milliseconds
+
+	private final CollectorAddress address;
+	private final File file;
+
+	private volatile boolean running;
+	private Selector selector;
+	private ServerSocketChannel server;
+	private OutputStream stream;
+	private Thread thread;
+
+	/**
+	 * @param address
+	 *            Address as "unix:/path/to/socket" (Java 16 or higher), "host:port" or "port"
+	 * @param filename
+	 *            Filename of the log file
+	 * @throws IllegalArgumentException
+	 *             Address is invalid
+	 */
+	public LogCollector(final String address, final String filename) {
+		this.address = new CollectorAddress(address);
+		this.file = new File(PathResolver.resolve(filename));
+	}
+
+	/**
+	 * Start receiving and writing log entries.
+	 *
+	 * @throws IOException
+	 *             Failed to bind the address or to open the log file
+	 */
+	public synchronized void start() throws IOException {
+		EnvironmentHelper.makeDirectories(file);
+		stream = new BufferedOutputStream(new FileOutputStream(file, true), BUFFER_SIZE);
+		try {
+			selector = Selector.open();
+			server = address.bind();
+			server.configureBlocking(false);
+			server.register(selector, SelectionKey.OP_ACCEPT);
+		} catch (IOException ex) {
+			release();
+			throw ex;
+		}
+
+		running = true;
+		thread = new Thread("tinylog-collector") {
+
+			@Override
+			public void run() {
+				receive();
+			}
+
+		};
+		thread.start();
+	}
+
+	/**
+	 * Stop receiving log entries. All received log entries will be written before this method returns.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the receiving thread
+	 */
+	public synchronized void stop() throws InterruptedException {
+		if (running) {
+			running = false;
+			selector.wakeup();
+			thread.join();
+		}
+	}
+
+	/**
+	 * Start a collector as standalone process.
+	 *
+	 * @param arguments
+	 *            Address and filename of the log file
+	 * @throws IOException
+	 *             Failed to start collector
+	 */
+	public static void main(final String[] arguments) throws IOException {
+		if (arguments.length != 2) {
+			System.err.println("Usage: java " + LogCollector.class.getName() + " <address> <filename>");
+			System.exit(-1);
+		} else {
+			final LogCollector collector = new LogCollector(arguments[0], arguments[1]);
+			collector.start();
+			Runtime.getRuntime().addShutdownHook(new Thread() {
+
+				@Override
+				public void run() {
+					try {
+						collector.stop();
+					} catch (InterruptedException ex) {
+						// Ignore
+					}
+				}
+
+			});
+		}
+	}
+
+	private void receive() {
+		long lastFlush = System.currentTimeMillis();
+		try {
+			while (running) {
+				int selected = selector.select(FLUSH_INTERVAL);
+				if (selected > 0) {
+					for (SelectionKey key : selector.selectedKeys()) {
+						if (key.isValid() && key.isAcceptable()) {
+							accept();
+						} else if (key.isValid() && key.isReadable()) {
+							read(key);
+						}
+					}
+					selector.selectedKeys().clear();
+				}
+
+				long now = System.currentTimeMillis();
+				if (selected == 0 || now - lastFlush >= FLUSH_INTERVAL) {
+					stream.flush();
+					lastFlush = now;
+				}
+			}
+
+			/* Receive remaining log entries of all connections, including not yet accepted connections */
+			while (accept()) {
+				continue;
+			}
+			for (SelectionKey key : selector.keys()) {
+				if (key.channel() instanceof SocketChannel) {
+					drain(key);
+				}
+			}
+		} catch (IOException ex) {
+			InternalLogger.error(ex, "Failed to receive log entries");
+		} finally {
+			release();
+		}
+	}
+
+	private boolean accept() throws IOException {
+		SocketChannel channel = server.accept();
+		if (channel == null) {
+			return false;
+		} else {
+			channel.configureBlocking(false);
+			channel.register(selector, SelectionKey.OP_READ, ByteBuffer.allocate(BUFFER_SIZE));
+			return true;
+		}
+	}
+
+	private void read(final SelectionKey key) throws IOException {
+		SocketChannel channel = (SocketChannel) key.channel();
+		ByteBuffer buffer = (ByteBuffer) key.attachment();
+
+		int read;
+		try {
+			read = channel.read(buffer);
+		} catch (IOException ex) {
+			read = -1;
+		}
+
+		if (read < 0) {
+			close(key);
+		} else {
+			buffer = process(key, buffer);
+			if (buffer == null) {
+				InternalLogger.warn("Received invalid data from a log producer, connection will be closed");
+				close(key);
+			}
+		}
+	}
+
+	private void drain(final SelectionKey key) throws IOException {
+		ByteBuffer buffer = (ByteBuffer) key.attachment();
+		SocketChannel channel = (SocketChannel) key.channel();
+		while (buffer != null) {
+			int read;
+			try {
+				read = channel.read(buffer);
+			} catch (IOException ex) {
+				read = -1;
+			}
+			if (read <= 0) {
+				break;
+			}
+			buffer = process(key, buffer);
+		}
+		close(key);
+	}
+
+	/**
+	 * Write all complete log entries of a buffer. Incomplete log entries remain in the buffer.
+	 *
+	 * @return Buffer to use for further reading or <code>null</code> if the received data is invalid
+	 */
+	private ByteBuffer process(final SelectionKey key, final ByteBuffer buffer) throws IOException {
+		buffer.flip();
+		while (buffer.remaining() >= 4) {
+			int length = buffer.getInt(buffer.position());
+			if (length < 0 || length > MAX_ENTRY_SIZE) {
+				return null;
+			} else if (buffer.remaining() - 4 >= length) {
+				stream.write(buffer.array(), buffer.position() + 4, length);
+				buffer.position(buffer.position() + 4 + length);
+			} else {
+				break;
+			}
+		}
+
+		if (buffer.remaining() >= 4 && buffer.getInt(buffer.position()) + 4 > buffer.capacity()) {
+			ByteBuffer enlarged = ByteBuffer.allocate(buffer.getInt(buffer.position()) + 4);
+			enlarged.put(buffer);
+			key.attach(enlarged);
+			return enlarged;
+		} else {
+			buffer.compact();
+			return buffer;
+		}
+	}
+
+	private static void close(final SelectionKey key) {
+		key.cancel();
+		try {
+			key.channel().close();
+		} catch (IOException ex) {
+			// Ignore
+		}
+	}
+
+	private void release() {
+		if (selector != null) {
+			for (SelectionKey key : selector.keys()) {
+				close(key);
+			}
+			try {
+				selector.close();
+			} catch (IOException ex) {
+				InternalLogger.error(ex, "Failed to close selector");
+			}
+		}
+
+		if (server != null) {
+			try {
+				server.close();
+			} catch (IOException ex) {
+				InternalLogger.error(ex, "Failed to close server socket");
+			}
+			if (address.isUnixDomain()) {
+				address.getSocketFile().delete();
+			}
+		}
+
+		try {
+			stream.close();
+		} catch (IOException ex) {
+			InternalLogger.error(ex, "Failed to close \"{}\"", file.getPath());
+		}
+	}
+
+}
@@ -86,6 +86,12 @@ public enum LogEntryValue {
 	 */
 	MESSAGE,
 
+	/**
+	 * The message template and its arguments without formatting. Messages that are not a text template will be
+	 * provided as already formatted message instead.
+	 */
+	RAW_MESSAGE,
+
 	/**
 	 * The exception of the log entry.
 	 *
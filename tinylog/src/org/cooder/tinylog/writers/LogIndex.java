@@ -0,0 +1,339 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog.writers;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.cooder.tinylog.Level;
+
+/**
+ * Sparse index of a log file, which has been written by {@link RollingFileWriter} with enabled indexing. The index
+ * allows to seek directly to a time range or to log entries with severity level {@link #INDEXED_LEVEL ERROR} or
+ * higher without reading the entire log file. Index and log file are read via memory mapping.
+ *
+ * <p>
+ * The index file has the same path as the log file plus the suffix ".idx". It starts with the magic bytes "TLI"
+ * followed by the format version. Afterwards it consists of records of 24 bytes: the timestamp in milliseconds (8
+ * bytes), the byte offset of the indexed log entry in the log file (8 bytes), the length of the log entry in bytes (4
+ * bytes) and the ordinal of its severity level (4 bytes). Recorded timestamps never decrease. Each timestamp is the
+ * maximum timestamp of all log entries up to and including the indexed log entry.
+ * </p>
+ *
+ * <p>
+ * Index files can be searched via command line:
+ * <code>java org.cooder.tinylog.writers.LogIndex &lt;log file&gt; &lt;from&gt; [to]</code> outputs all log entries in
+ * a time range (dates as "yyyy-MM-dd HH:mm:ss" or milliseconds since epoch), and
+ * <code>java org.cooder.tinylog.writers.LogIndex &lt;log file&gt; --level ERROR</code> outputs all indexed log entries
+ * with the given or a higher severity level.
+ * </p>
+ */
+public final class LogIndex {
+
+	/**
+	 * Log entries with this or a higher severity level are always indexed.
+	 */
+	public static final Level INDEXED_LEVEL = Level.ERROR;
+
+	static final String SUFFIX = ".idx";
+	static final byte[] MAGIC = new byte[] { 'T', 'L', 'I', 1 };
+	static final int RECORD_SIZE = 24;
+
+	private static final int MAX_MAPPING_SIZE = 64 * 1024 * 1024;
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final String[] DATE_PATTERNS = new String[] { "yyyy-MM-dd HH:mm:ss.SSS", "yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd'T'HH:mm:ss",
+		"yyyy-MM-dd HH:mm", "yyyy-MM-dd" };
+
+	private final RandomAccessFile logFile;
+	private final ByteBuffer records;
+	private final int size;
+
+	/**
+	 * Open the index of a log file. The index is read as it is at the time of opening. Records that are added
+	 * afterwards will not be considered.
+	 *
+	 * @param logFile
+	 *            Indexed log file
+	 * @throws IOException
+	 *             Failed to open log file or index, or index is invalid
+	 */
+	public LogIndex(final File logFile) throws IOException {
+		File indexFile = getIndexFile(logFile);
+		RandomAccessFile index = new RandomAccessFile(indexFile, "r");
+		try {
+			long length = index.length();
+			if (length < MAGIC.length) {
+				throw new IOException("Invalid log index \"" + indexFile + "\"");
+			}
+
+			/* A partially written record at the end will be ignored */
+			this.size = (int) Math.min(Integer.MAX_VALUE / RECORD_SIZE, (length - MAGIC.length) / RECORD_SIZE);
+			MappedByteBuffer buffer = index.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, MAGIC.length + (long) size * RECORD_SIZE);
+
+			byte[] magic = new byte[MAGIC.length];
+			buffer.get(magic);
+			if (!Arrays.equals(MAGIC, magic)) {
+				throw new IOException("Invalid log index \"" + indexFile + "\"");
+			}
+			this.records = buffer.slice();
+		} finally {
+			index.close();
+		}
+
+		this.logFile = new RandomAccessFile(logFile, "r");
+	}
+
+	/**
+	 * Get the index file of a log file.
+	 *
+	 * @param logFile
+	 *            Log file
+	 * @return Index file
+	 */
+	public static File getIndexFile(final File logFile) {
+		return new File(logFile.getPath() + SUFFIX);
+	}
+
+	/**
+	 * Get the number of records.
+	 *
+	 * @return Number of records
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Get the timestamp of a record. This is the maximum timestamp of all log entries up to and including the indexed
+	 * log entry.
+	 *
+	 * @param record
+	 *            Index of record
+	 * @return Timestamp in milliseconds
+	 */
+	public long getTimestamp(final int record) {
+		return records.getLong(record * RECORD_SIZE);
+	}
+
+	/**
+	 * Get the position of the indexed log entry in the log file.
+	 *
+	 * @param record
+	 *            Index of record
+	 * @return Byte offset in log file
+	 */
+	public long getOffset(final int record) {
+		return records.getLong(record * RECORD_SIZE + 8);
+	}
+
+	/**
+	 * Get the length of the indexed log entry.
+	 *
+	 * @param record
+	 *            Index of record
+	 * @return Number of bytes
+	 */
+	public int getLength(final int record) {
+		return records.getInt(record * RECORD_SIZE + 16);
+	}
+
+	/**
+	 * Get the severity level of the indexed log entry.
+	 *
+	 * @param record
+	 *            Index of record
+	 * @return Severity level
+	 */
+	public Level getLevel(final int record) {
+		return Level.values()[records.getInt(record * RECORD_SIZE + 20)];
+	}
+
+	/**
+	 * Find the position in the log file from which all log entries with the given or a later timestamp follow. Log
+	 * entries with earlier timestamps can be located after this position as well.
+	 *
+	 * @param timestamp
+	 *            Timestamp in milliseconds
+	 * @return Byte offset in log file
+	 */
+	public long findStart(final long timestamp) {
+		/* Last record with an earlier timestamp */
+		int record = search(timestamp) - 1;
+		return record < 0 ? 0L : getOffset(record);
+	}
+
+	/**
+	 * Find the position in the log file up to which all log entries with the given or an earlier timestamp are stored.
+	 * Log entries of concurrent threads can be stored in a slightly different order than their timestamps. Therefore a
+	 * few such log entries could follow this position.
+	 *
+	 * @param timestamp
+	 *            Timestamp in milliseconds
+	 * @return Byte offset in log file
+	 * @throws IOException
+	 *             Failed to get the size of the log file
+	 */
+	public long findEnd(final long timestamp) throws IOException {
+		/* First record with a later timestamp */
+		int record = search(timestamp + 1);
+		return record < size ? getOffset(record) : logFile.length();
+	}
+
+	/**
+	 * Find all records of log entries with the given or a higher severity level. All log entries with severity level
+	 * {@link #INDEXED_LEVEL} or higher are indexed. Log entries with lower severity levels are only found if they are
+	 * indexed by chance.
+	 *
+	 * @param level
+	 *            Minimum severity level
+	 * @return Indexes of found records in ascending order
+	 */
+	public int[] findRecords(final Level level) {
+		int[] found = new int[size];
+		int count = 0;
+		for (int record = 0; record < size; ++record) {
+			if (records.getInt(record * RECORD_SIZE + 20) >= level.ordinal()) {
+				found[count++] = record;
+			}
+		}
+		return Arrays.copyOf(found, count);
+	}
+
+	/**
+	 * Copy a region of the log file.
+	 *
+	 * @param start
+	 *            Byte offset of first byte to copy
+	 * @param end
+	 *            Byte offset after the last byte to copy (will be limited to the size of the log file)
+	 * @param output
+	 *            Target for copied bytes
+	 * @throws IOException
+	 *             Failed to read from log file or to write to output stream
+	 */
+	public void copy(final long start, final long end, final OutputStream output) throws IOException {
+		FileChannel channel = logFile.getChannel();
+		long limit = Math.min(end, channel.size());
+		byte[] buffer = new byte[BUFFER_SIZE];
+
+		for (long position = start; position < limit;) {
+			int mappingSize = (int) Math.min(MAX_MAPPING_SIZE, limit - position);
+			MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, position, mappingSize);
+			while (mapping.hasRemaining()) {
+				int length = Math.min(buffer.length, mapping.remaining());
+				mapping.get(buffer, 0, length);
+				output.write(buffer, 0, length);
+			}
+			position += mappingSize;
+		}
+	}
+
+	/**
+	 * Close the log file.
+	 *
+	 * @throws IOException
+	 *             Failed to close the log file
+	 */
+	public void close() throws IOException {
+		logFile.close();
+	}
+
+	/**
+	 * Output log entries of a time range or with a minimum severity level to the standard output stream.
+	 *
+	 * @param arguments
+	 *            Path to the log file, and either start and optional end of the time range or "--level" and the minimum
+	 *            severity level
+	 * @throws IOException
+	 *             Failed to read from log file or index
+	 */
+	public static void main(final String[] arguments) throws IOException {
+		if (arguments.length < 2 || arguments.length > 3 || ("--level".equals(arguments[1]) && arguments.length != 3)) {
+			System.err.println("Usage: java " + LogIndex.class.getName() + " <log file> <from> [to]");
+			System.err.println("       java " + LogIndex.class.getName() + " <log file> --level <level>");
+			System.exit(1);
+			return;
+		}
+
+		LogIndex index = new LogIndex(new File(arguments[0]));
+		OutputStream output = new BufferedOutputStream(System.out, BUFFER_SIZE);
+		try {
+			if ("--level".equals(arguments[1])) {
+				Level level = Level.valueOf(arguments[2].trim().toUpperCase(Locale.ENGLISH));
+				for (int record : index.findRecords(level)) {
+					long offset = index.getOffset(record);
+					index.copy(offset, offset + index.getLength(record), output);
+				}
+			} else {
+				long start = index.findStart(parseTimestamp(arguments[1]));
+				long end = arguments.length > 2 ? index.findEnd(parseTimestamp(arguments[2])) : Long.MAX_VALUE;
+				index.copy(start, end, output);
+			}
+		} finally {
+			index.close();
+			output.flush();
+		}
+	}
+
+	/**
+	 * Binary search for the first record with the given or a later timestamp.
+	 *
+	 * @param timestamp
+	 *            Timestamp in milliseconds
+	 * @return Index of found record or number of records if there is none
+	 */
+	private int search(final long timestamp) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (getTimestamp(middle) < timestamp) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private static long parseTimestamp(final String text) {
+		for (String pattern : DATE_PATTERNS) {
+			SimpleDateFormat format = new SimpleDateFormat(pattern, Locale.ROOT);
+			format.setLenient(false);
+			try {
+				return format.parse(text).getTime();
+			} catch (ParseException ex) {
+				// Try next pattern
+			}
+		}
+
+		try {
+			return Long.parseLong(text);
+		} catch (NumberFormatException ex) {
+			throw new IllegalArgumentException("Invalid date \"" + text + "\"");
+		}
+	}
+
+}
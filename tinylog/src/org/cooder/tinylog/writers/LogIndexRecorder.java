@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog.writers;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.cooder.tinylog.Level;
+
+/**
+ * Appends records to the sparse index of a log file while log entries are written. A record is added for the first log
+ * entry of each second, for the first log entry after a defined number of not indexed log entries and for each log
+ * entry with severity level {@link LogIndex#INDEXED_LEVEL ERROR} or higher.
+ *
+ * @see LogIndex
+ */
+final class LogIndexRecorder {
+
+	private static final int BUFFER_SIZE = 8 * 1024;
+
+	private final int interval;
+	private final OutputStream stream;
+	private final byte[] record;
+
+	private long offset;
+	private long lastTimestamp;
+	private long lastSecond;
+	private int unindexed;
+
+	/**
+	 * @param logFile
+	 *            Log file to index
+	 * @param append
+	 *            <code>true</code> if log entries are appended to an existing log file, <code>false</code> if the log
+	 *            file is new
+	 * @param buffered
+	 *            Buffered writing
+	 * @param interval
+	 *            Maximum number of log entries between two records
+	 * @throws IOException
+	 *             Failed to open the index file
+	 */
+	LogIndexRecorder(final File logFile, final boolean append, final boolean buffered, final int interval) throws IOException {
+		File indexFile = LogIndex.getIndexFile(logFile);
+		boolean continued = append && indexFile.length() > 0;
+
+		FileOutputStream fileStream = new FileOutputStream(indexFile, continued);
+		this.stream = buffered ? new BufferedOutputStream(fileStream, BUFFER_SIZE) : fileStream;
+		this.interval = interval;
+		this.record = new byte[LogIndex.RECORD_SIZE];
+		this.offset = append ? logFile.length() : 0L;
+		this.lastTimestamp = Long.MIN_VALUE;
+		this.lastSecond = Long.MIN_VALUE;
+
+		if (!continued) {
+			stream.write(LogIndex.MAGIC);
+		}
+	}
+
+	/**
+	 * Record a log entry, which will be written at the current end of the log file.
+	 *
+	 * @param timestamp
+	 *            Timestamp of log entry in milliseconds
+	 * @param level
+	 *            Severity level of log entry
+	 * @param length
+	 *            Number of bytes of the log entry
+	 * @throws IOException
+	 *             Failed to write to the index file
+	 */
+	void record(final long timestamp, final Level level, final int length) throws IOException {
+		long second = timestamp / 1000L;
+		boolean indexed = unindexed >= interval || second != lastSecond || level.ordinal() >= LogIndex.INDEXED_LEVEL.ordinal();
+
+		/* Recorded timestamps are the maximum of all log entries so far, so that the index can be searched by binary search */
+		lastTimestamp = Math.max(lastTimestamp, timestamp);
+
+		if (indexed) {
+			lastSecond = second;
+			unindexed = 0;
+
+			putLong(0, lastTimestamp);
+			putLong(8, offset);
+			putInt(16, length);
+			putInt(20, level.ordinal());
+			stream.write(record);
+		} else {
+			++unindexed;
+		}
+
+		offset += length;
+	}
+
+	/**
+	 * Write buffered records to the index file.
+	 *
+	 * @throws IOException
+	 *             Failed to write to the index file
+	 */
+	void flush() throws IOException {
+		stream.flush();
+	}
+
+	/**
+	 * Close the index file.
+	 *
+	 * @throws IOException
+	 *             Failed to close the index file
+	 */
+	void close() throws IOException {
+		stream.close();
+	}
+
+	private void putLong(final int position, final long value) {
+		putInt(position, (int) (value >>> 32));
+		putInt(position + 4, (int) value);
+	}
+
+	private void putInt(final int position, final int value) {
+		record[position] = (byte) (value >>> 24);
+		record[position + 1] = (byte) (value >>> 16);
+		record[position + 2] = (byte) (value >>> 8);
+		record[position + 3] = (byte) value;
+	}
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.writers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Output stream for a log file, whose disk space is reserved in advance. The reserved space is filled with zero bytes,
+ * which will be trimmed when closing the stream. Files that have not been closed properly can be trimmed by
+ * {@link #trim(File)}.
+ */
+final class PreallocatedFileOutputStream extends OutputStream {
+
+	private static final int BLOCK_SIZE = 64 * 1024;
+
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+
+	/**
+	 * @param file
+	 *            Log file to open
+	 * @param append
+	 *            <code>true</code> to continue an existing (trimmed) file, <code>false</code> to start a new file
+	 * @param size
+	 *            Number of bytes to reserve for the log file
+	 * @throws IOException
+	 *             Failed to open the log file or to reserve disk space
+	 */
+	PreallocatedFileOutputStream(final File file, final boolean append, final long size) throws IOException {
+		this.file = new RandomAccessFile(file, "rw");
+		try {
+			this.channel = this.file.getChannel();
+
+			long position;
+			if (append) {
+				position = channel.size();
+			} else {
+				position = 0L;
+				channel.truncate(0L);
+			}
+
+			allocate(channel, position, size);
+			channel.position(position);
+		} catch (IOException ex) {
+			this.file.close();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Remove the trailing zero bytes of a reserved but not trimmed log file.
+	 *
+	 * @param file
+	 *            Log file to trim
+	 * @throws IOException
+	 *             Failed to read or truncate the log file
+	 */
+	static void trim(final File file) throws IOException {
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+		try {
+			FileChannel channel = randomAccessFile.getChannel();
+			long end = findLogicalEnd(channel);
+			if (end < channel.size()) {
+				channel.truncate(end);
+			}
+		} finally {
+			randomAccessFile.close();
+		}
+	}
+
+	/**
+	 * Get the channel of the log file.
+	 *
+	 * @return File channel
+	 */
+	FileChannel getChannel() {
+		return channel;
+	}
+
+	@Override
+	public void write(final int b) throws IOException {
+		write(new byte[] { (byte) b }, 0, 1);
+	}
+
+	@Override
+	public void write(final byte[] data, final int offset, final int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(data, offset, length);
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			if (channel.isOpen()) {
+				channel.truncate(channel.position());
+			}
+		} finally {
+			file.close();
+		}
+	}
+
+	private static void allocate(final FileChannel channel, final long start, final long end) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate((int) Math.max(0L, Math.min(BLOCK_SIZE, end - start)));
+		long position = start;
+		while (position < end) {
+			buffer.clear();
+			buffer.limit((int) Math.min(buffer.capacity(), end - position));
+			position += channel.write(buffer, position);
+		}
+	}
+
+	private static long findLogicalEnd(final FileChannel channel) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(BLOCK_SIZE);
+		byte[] data = buffer.array();
+
+		long end = channel.size();
+		while (end > 0L) {
+			long start = Math.max(0L, end - BLOCK_SIZE);
+			buffer.clear();
+			buffer.limit((int) (end - start));
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer, start + buffer.position()) < 0) {
+					return end;
+				}
+			}
+			for (int i = buffer.limit() - 1; i >= 0; --i) {
+				if (data[i] != 0) {
+					return start + i + 1;
+				}
+			}
+			end = start;
+		}
+		return 0L;
+	}
+
+}
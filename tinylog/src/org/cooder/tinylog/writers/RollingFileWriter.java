@@ -18,6 +18,8 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -26,34 +28,56 @@ import java.util.Set;
 
 import org.cooder.tinylog.Configuration;
 import org.cooder.tinylog.EnvironmentHelper;
+import org.cooder.tinylog.InternalLogger;
+import org.cooder.tinylog.Level;
 import org.cooder.tinylog.LogEntry;
+import org.cooder.tinylog.Metrics;
+import org.cooder.tinylog.labelers.CompanionLabeler;
 import org.cooder.tinylog.labelers.CountLabeler;
 import org.cooder.tinylog.labelers.Labeler;
+import org.cooder.tinylog.labelers.RetainingLabeler;
+import org.cooder.tinylog.labelers.Retention;
 import org.cooder.tinylog.policies.Policy;
+import org.cooder.tinylog.policies.SizePolicy;
 import org.cooder.tinylog.policies.StartupPolicy;
 
 /**
  * Writes log entries to a file like {@link org.cooder.tinylog.writers.FileWriter FileWriter} but keeps backups of old
- * logging files.
+ * logging files. Optionally, a sparse {@link LogIndex} is written alongside each log file.
  */
 @PropertiesSupport(name = "rollingfile", properties = { @Property(name = "filename", type = String.class), @Property(name = "backups", type = int.class),
 		@Property(name = "buffered", type = boolean.class, optional = true), @Property(name = "label", type = Labeler.class, optional = true),
 		@Property(name = "policies", type = Policy[].class, optional = true),
-		@Property(name = "clazz", type = String.class, optional = true) })
+		@Property(name = "clazz", type = String.class, optional = true), @Property(name = "preallocate", type = boolean.class, optional = true),
+		@Property(name = "totalsize", type = String.class, optional = true), @Property(name = "maxage", type = String.class, optional = true),
+		@Property(name = "concurrent", type = boolean.class, optional = true), @Property(name = "durability", type = String.class, optional = true),
+		@Property(name = "index", type = int.class, optional = true) })
 public final class RollingFileWriter implements Writer {
 
 	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final int SEGMENT_ENTRIES = 4 * 1024;
+	private static final int LEVEL_BITS = 3;
 
 	private final String filename;
 	private final int backups;
 	private final boolean buffered;
+	private final boolean concurrent;
+	private final long preallocation;
 	private final Labeler labeler;
+	private final Retention retention;
+	private final Durability durability;
 	private final List<? extends Policy> policies;
+	private final int indexInterval;
 	private String clazz;
 
 	private final Object mutex;
 	private File file;
 	private OutputStream stream;
+	private FileChannel channel;
+	private GroupCommit groupCommit;
+	private volatile AppendSegment segment;
+	private AppendSegment spare;
+	private LogIndexRecorder index;
 
 	/**
 	 * Rolling log files once at startup.
@@ -207,18 +231,197 @@ public final class RollingFileWriter implements Writer {
 	 */
 	public RollingFileWriter(final String filename, final int backups, final boolean buffered, 
 			final Labeler labeler,  final String clazz, final Policy... policies) {
+		this(filename, backups, buffered, false, labeler, clazz, policies);
+	}
+
+	/**
+	 * @param filename
+	 *            Filename of the log file
+	 * @param backups
+	 *            Number of backups
+	 * @param buffered
+	 *            Buffered writing
+	 * @param preallocate
+	 *            Reserve the disk space for each log file in advance (requires a {@link SizePolicy})
+	 * @param labeler
+	 *            Labeler for naming backups
+	 * @param clazz
+	 *            package or class for output
+	 * @param policies
+	 *            Rollover strategies
+	 */
+	public RollingFileWriter(final String filename, final int backups, final boolean buffered, final boolean preallocate,
+			final Labeler labeler, final String clazz, final Policy... policies) {
+		this(filename, backups, buffered, preallocate, labeler, null, clazz, policies);
+	}
+
+	/**
+	 * @param filename
+	 *            Filename of the log file
+	 * @param backups
+	 *            Number of backups
+	 * @param buffered
+	 *            Buffered writing
+	 * @param preallocate
+	 *            Reserve the disk space for each log file in advance (requires a {@link SizePolicy})
+	 * @param labeler
+	 *            Labeler for naming backups
+	 * @param retention
+	 *            Limits for the total size and age of backups (requires a {@link RetainingLabeler})
+	 * @param clazz
+	 *            package or class for output
+	 * @param policies
+	 *            Rollover strategies
+	 */
+	public RollingFileWriter(final String filename, final int backups, final boolean buffered, final boolean preallocate,
+			final Labeler labeler, final Retention retention, final String clazz, final Policy... policies) {
+		this(filename, backups, buffered, preallocate, false, labeler, retention, clazz, policies);
+	}
+
+	/**
+	 * @param filename
+	 *            Filename of the log file
+	 * @param backups
+	 *            Number of backups
+	 * @param buffered
+	 *            Buffered writing
+	 * @param preallocate
+	 *            Reserve the disk space for each log file in advance (requires a {@link SizePolicy})
+	 * @param concurrent
+	 *            Append log entries without locking into a shared buffer, which will be written on flushing or if full
+	 * @param labeler
+	 *            Labeler for naming backups
+	 * @param retention
+	 *            Limits for the total size and age of backups (requires a {@link RetainingLabeler})
+	 * @param clazz
+	 *            package or class for output
+	 * @param policies
+	 *            Rollover strategies
+	 */
+	public RollingFileWriter(final String filename, final int backups, final boolean buffered, final boolean preallocate, final boolean concurrent,
+			final Labeler labeler, final Retention retention, final String clazz, final Policy... policies) {
+		this(filename, backups, buffered, preallocate, concurrent, labeler, retention, null, clazz, policies);
+	}
+
+	/**
+	 * @param filename
+	 *            Filename of the log file
+	 * @param backups
+	 *            Number of backups
+	 * @param buffered
+	 *            Buffered writing
+	 * @param preallocate
+	 *            Reserve the disk space for each log file in advance (requires a {@link SizePolicy})
+	 * @param concurrent
+	 *            Append log entries without locking into a shared buffer, which will be written on flushing or if full
+	 * @param labeler
+	 *            Labeler for naming backups
+	 * @param retention
+	 *            Limits for the total size and age of backups (requires a {@link RetainingLabeler})
+	 * @param durability
+	 *            Log entries that must be forced to disk before writing returns (<code>null</code> for never forcing)
+	 * @param clazz
+	 *            package or class for output
+	 * @param policies
+	 *            Rollover strategies
+	 */
+	public RollingFileWriter(final String filename, final int backups, final boolean buffered, final boolean preallocate, final boolean concurrent,
+			final Labeler labeler, final Retention retention, final Durability durability, final String clazz, final Policy... policies) {
+		this(filename, backups, buffered, preallocate, concurrent, labeler, retention, durability, 0, clazz, policies);
+	}
+
+	/**
+	 * @param filename
+	 *            Filename of the log file
+	 * @param backups
+	 *            Number of backups
+	 * @param buffered
+	 *            Buffered writing
+	 * @param preallocate
+	 *            Reserve the disk space for each log file in advance (requires a {@link SizePolicy})
+	 * @param concurrent
+	 *            Append log entries without locking into a shared buffer, which will be written on flushing or if full
+	 * @param labeler
+	 *            Labeler for naming backups
+	 * @param retention
+	 *            Limits for the total size and age of backups (requires a {@link RetainingLabeler})
+	 * @param durability
+	 *            Log entries that must be forced to disk before writing returns (<code>null</code> for never forcing)
+	 * @param indexInterval
+	 *            Maximum number of log entries between two records of the sparse {@link LogIndex} (0 for writing no
+	 *            index)
+	 * @param clazz
+	 *            package or class for output
+	 * @param policies
+	 *            Rollover strategies
+	 */
+	public RollingFileWriter(final String filename, final int backups, final boolean buffered, final boolean preallocate, final boolean concurrent,
+			final Labeler labeler, final Retention retention, final Durability durability, final int indexInterval, final String clazz,
+			final Policy... policies) {
 		this.mutex = new Object();
 		this.filename = PathResolver.resolve(filename);
 		this.backups = Math.max(0, backups);
 		this.buffered = buffered;
+		this.concurrent = concurrent;
 		this.labeler = labeler == null ? new CountLabeler() : labeler;
 		this.clazz = clazz;
 		this.policies = policies == null || policies.length == 0 ? Arrays.asList(new StartupPolicy()) : Arrays.asList(policies);
+		this.preallocation = preallocate ? getPreallocation(this.policies) : 0L;
+		this.retention = retention == null ? null : applyRetention(this.labeler, retention);
+		this.durability = durability;
+		this.indexInterval = Math.max(0, indexInterval);
+		if (this.indexInterval > 0) {
+			applyCompanionSuffix(this.labeler);
+		}
+	}
+
+	/**
+	 * Helper constructor with wrapper class parameters for {@link org.cooder.tinylog.PropertiesLoader PropertiesLoader}.
+	 *
+	 * @param filename
+	 *            Filename of the log file
+	 * @param backups
+	 *            Number of backups
+	 * @param buffered
+	 *            Buffered writing
+	 * @param labeler
+	 *            Labeler for naming backups
+	 * @param policies
+	 *            Rollover strategies
+	 * @param clazz
+	 *            package or class for output
+	 * @param preallocate
+	 *            Reserve the disk space for each log file in advance (requires a {@link SizePolicy})
+	 * @param totalSize
+	 *            Maximum total size of all backups with byte unit (e.g 512MB)
+	 * @param maxAge
+	 *            Maximum age of a backup with time unit (e.g 30d)
+	 * @param concurrent
+	 *            Append log entries without locking into a shared buffer, which will be written on flushing or if full
+	 * @param durability
+	 *            Log entries that must be forced to disk before writing returns (e.g. "error" or "all: 5ms, 256KB")
+	 * @param index
+	 *            Maximum number of log entries between two records of the sparse {@link LogIndex}
+	 */
+	RollingFileWriter(final String filename, final int backups, final Boolean buffered, final Labeler labeler, final Policy[] policies,
+			final String clazz, final Boolean preallocate, final String totalSize, final String maxAge, final Boolean concurrent, final String durability,
+			final Integer index) {
+		this(filename, backups, buffered == null ? false : buffered, preallocate == null ? false : preallocate, concurrent == null ? false : concurrent,
+				labeler, totalSize == null && maxAge == null ? null : new Retention(totalSize, maxAge), durability == null ? null : new Durability(durability),
+				index == null ? 0 : index, clazz, policies);
 	}
 
 	@Override
 	public Set<LogEntryValue> getRequiredLogEntryValues() {
-		return EnumSet.of(LogEntryValue.RENDERED_LOG_ENTRY, LogEntryValue.CLASS);
+		Set<LogEntryValue> values = EnumSet.of(LogEntryValue.RENDERED_LOG_ENTRY, LogEntryValue.CLASS);
+		if (durability != null) {
+			values.add(LogEntryValue.LEVEL);
+		}
+		if (indexInterval > 0) {
+			values.add(LogEntryValue.DATE);
+			values.add(LogEntryValue.LEVEL);
+		}
+		return values;
 	}
 
 	/**
@@ -241,6 +444,24 @@ public final class RollingFileWriter implements Writer {
 		return buffered;
 	}
 
+	/**
+	 * Determine whether log entries are appended without locking.
+	 *
+	 * @return <code>true</code> if concurrent appending is enabled, otherwise <code>false</code>
+	 */
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Determine whether the disk space for log files is reserved in advance.
+	 *
+	 * @return <code>true</code> if log files are preallocated, otherwise <code>false</code>
+	 */
+	public boolean isPreallocating() {
+		return preallocation > 0L;
+	}
+
 	/**
 	 * Get the maximum number of backups.
 	 *
@@ -259,6 +480,33 @@ public final class RollingFileWriter implements Writer {
 		return labeler;
 	}
 	
+	/**
+	 * Get the limits for the total size and age of backups.
+	 *
+	 * @return Limits for backups or <code>null</code> if only the number of backups is limited
+	 */
+	public Retention getRetention() {
+		return retention;
+	}
+
+	/**
+	 * Get the definition of log entries that must be forced to disk before writing returns.
+	 *
+	 * @return Durability or <code>null</code> if log entries are never forced to disk
+	 */
+	public Durability getDurability() {
+		return durability;
+	}
+
+	/**
+	 * Get the maximum number of log entries between two records of the sparse index.
+	 *
+	 * @return Maximum number of log entries or 0 if no index is written
+	 */
+	public int getIndexInterval() {
+		return indexInterval;
+	}
+
 	/**
 	 * Get package or class for output.
 	 * 
@@ -295,6 +543,10 @@ public final class RollingFileWriter implements Writer {
 		labeler.init(configuration);
 		file = labeler.getLogFile(baseFile);
 
+		if (preallocation > 0L && file.isFile()) {
+			PreallocatedFileOutputStream.trim(file);
+		}
+
 		for (Policy policy : policies) {
 			policy.init(configuration);
 		}
@@ -306,10 +558,34 @@ public final class RollingFileWriter implements Writer {
 			}
 		}
 
-		if (buffered) {
-			stream = new BufferedOutputStream(new FileOutputStream(file, true), BUFFER_SIZE);
-		} else {
-			stream = new FileOutputStream(file, true);
+		if (indexInterval > 0) {
+			index = new LogIndexRecorder(file, true, buffered, indexInterval);
+		}
+		stream = openStream(file, true);
+
+		if (concurrent) {
+			segment = new AppendSegment(BUFFER_SIZE, SEGMENT_ENTRIES, true);
+			spare = new AppendSegment(BUFFER_SIZE, SEGMENT_ENTRIES, false);
+		}
+
+		if (durability != null) {
+			groupCommit = new GroupCommit(durability, new GroupCommit.Target() {
+
+				@Override
+				public void sync() throws IOException {
+					FileChannel current;
+					synchronized (mutex) {
+						stream.flush();
+						current = channel;
+					}
+					try {
+						current.force(false);
+					} catch (ClosedChannelException ex) {
+						// Log file has been forced on rolling or closing
+					}
+				}
+
+			});
 		}
 
 		VMShutdownHook.register(this);
@@ -324,26 +600,62 @@ public final class RollingFileWriter implements Writer {
 		
 		String rendered = logEntry.getRenderedLogEntry();
 		byte[] data = rendered.getBytes();
-		
-		synchronized (mutex) {
-			if (!checkPolicies(rendered)) {
-				stream.close();
-				file = labeler.roll(file, backups);
-				if (buffered) {
-					stream = new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE);
-				} else {
-					stream = new FileOutputStream(file);
+		Metrics.recordBytes(this, data.length);
+
+		long ticket;
+		if (concurrent) {
+			append(rendered, data, index == null ? 0L : getTag(logEntry));
+			if (groupCommit == null || !durability.isRequired(logEntry.getLevel())) {
+				return;
+			}
+			synchronized (mutex) {
+				if (!segment.isEmpty()) {
+					drain(swap());
+				}
+				ticket = groupCommit.getTicket();
+			}
+		} else {
+			synchronized (mutex) {
+				if (!checkPolicies(rendered)) {
+					roll();
+				}
+				if (index != null) {
+					index.record(logEntry.getDate().getTime(), logEntry.getLevel(), data.length);
 				}
+				stream.write(data);
+				if (groupCommit == null) {
+					return;
+				}
+				ticket = groupCommit.register(data.length);
+			}
+			if (!durability.isRequired(logEntry.getLevel())) {
+				return;
 			}
-			stream.write(data);
 		}
+
+		groupCommit.await(ticket);
 	}
 
 	@Override
 	public void flush() throws IOException {
-		if (buffered) {
+		if (concurrent) {
+			synchronized (mutex) {
+				if (!segment.isEmpty()) {
+					drain(swap());
+				}
+				if (buffered) {
+					stream.flush();
+					if (index != null) {
+						index.flush();
+					}
+				}
+			}
+		} else if (buffered) {
 			synchronized (mutex) {
 				stream.flush();
+				if (index != null) {
+					index.flush();
+				}
 			}
 		}
 	}
@@ -358,7 +670,176 @@ public final class RollingFileWriter implements Writer {
 	public void close() throws IOException {
 		synchronized (mutex) {
 			VMShutdownHook.unregister(this);
-			stream.close();
+			try {
+				if (concurrent) {
+					drain(swap());
+				}
+				if (groupCommit != null) {
+					stream.flush();
+					channel.force(false);
+					groupCommit.synced();
+				}
+			} finally {
+				stream.close();
+				if (index != null) {
+					index.close();
+				}
+			}
+		}
+	}
+
+	private static long getPreallocation(final List<? extends Policy> policies) {
+		long size = 0L;
+		for (Policy policy : policies) {
+			if (policy instanceof SizePolicy) {
+				long maxSize = ((SizePolicy) policy).getMaxSize();
+				size = size == 0L ? maxSize : Math.min(size, maxSize);
+			}
+		}
+		if (size == 0L) {
+			InternalLogger.warn("Log files can be preallocated only in combination with a size policy. Therefore \"preallocate\" will be ignored.");
+		}
+		return size;
+	}
+
+	private static Retention applyRetention(final Labeler labeler, final Retention retention) {
+		if (labeler instanceof RetainingLabeler) {
+			((RetainingLabeler) labeler).setRetention(retention);
+			return retention;
+		} else {
+			InternalLogger.warn("Labeler \"{}\" doesn't support a retention by total size or age. Therefore \"totalsize\" and \"maxage\" will be ignored.",
+					labeler.getClass().getName());
+			return null;
+		}
+	}
+
+	private static void applyCompanionSuffix(final Labeler labeler) {
+		if (labeler instanceof CompanionLabeler) {
+			((CompanionLabeler) labeler).setCompanionSuffix(LogIndex.SUFFIX);
+		} else {
+			InternalLogger.warn("Labeler \"{}\" doesn't support companion files. Therefore index files will not be kept for backups.",
+					labeler.getClass().getName());
+		}
+	}
+
+	private static long getTag(final LogEntry logEntry) {
+		return logEntry.getDate().getTime() << LEVEL_BITS | logEntry.getLevel().ordinal();
+	}
+
+	private void record(final long tag, final int length) throws IOException {
+		index.record(tag >> LEVEL_BITS, Level.values()[(int) (tag & ((1 << LEVEL_BITS) - 1))], length);
+	}
+
+	private OutputStream openStream(final File file, final boolean append) throws IOException {
+		OutputStream output;
+		if (preallocation > 0L) {
+			PreallocatedFileOutputStream preallocatedStream = new PreallocatedFileOutputStream(file, append, preallocation);
+			channel = preallocatedStream.getChannel();
+			output = preallocatedStream;
+		} else {
+			FileOutputStream fileStream = new FileOutputStream(file, append);
+			channel = fileStream.getChannel();
+			output = fileStream;
+		}
+		return buffered ? new BufferedOutputStream(output, BUFFER_SIZE) : output;
+	}
+
+	private void append(final String rendered, final byte[] data, final long tag) throws IOException {
+		while (true) {
+			AppendSegment current = segment;
+			if (current.append(rendered, data, tag)) {
+				return;
+			}
+
+			synchronized (mutex) {
+				if (data.length > current.getCapacity()) {
+					drain(swap());
+					if (!checkPolicies(rendered)) {
+						roll();
+					}
+					if (index != null) {
+						record(tag, data.length);
+					}
+					stream.write(data);
+					if (groupCommit != null) {
+						groupCommit.register(data.length);
+					}
+					return;
+				} else if (segment == current) {
+					drain(swap());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Seals the current segment and replaces it by the spare segment. Must be called within the mutex.
+	 *
+	 * @return Sealed segment
+	 */
+	private AppendSegment swap() {
+		AppendSegment sealed = segment;
+		sealed.seal();
+		spare.open();
+		segment = spare;
+		spare = sealed;
+		return sealed;
+	}
+
+	/**
+	 * Writes all log entries of a sealed segment. Rolling is done at the boundaries of log entries, which violate a
+	 * policy. Must be called within the mutex.
+	 *
+	 * @param sealed
+	 *            Segment to write
+	 * @throws IOException
+	 *             Failed to write or roll the log file
+	 */
+	private void drain(final AppendSegment sealed) throws IOException {
+		try {
+			int count = sealed.await();
+			byte[] data = sealed.getData();
+			int start = 0;
+			for (int i = 0; i < count; ++i) {
+				int offset = sealed.getOffset(i);
+				if (!checkPolicies(sealed.getEntry(i))) {
+					stream.write(data, start, offset - start);
+					roll();
+					start = offset;
+				}
+				if (index != null) {
+					int end = i + 1 < count ? sealed.getOffset(i + 1) : sealed.getSize();
+					record(sealed.getTag(i), end - offset);
+				}
+			}
+			stream.write(data, start, sealed.getSize() - start);
+			if (groupCommit != null) {
+				groupCommit.register(sealed.getSize());
+			}
+		} finally {
+			sealed.release();
+		}
+	}
+
+	private void roll() throws IOException {
+		boolean statistics = Metrics.isEnabled();
+		long start = statistics ? System.nanoTime() : 0L;
+		if (groupCommit != null) {
+			stream.flush();
+			channel.force(false);
+			groupCommit.synced();
+		}
+		stream.close();
+		if (index != null) {
+			index.close();
+		}
+		file = labeler.roll(file, backups);
+		if (index != null) {
+			index = new LogIndexRecorder(file, false, buffered, indexInterval);
+		}
+		stream = openStream(file, false);
+		if (statistics) {
+			Metrics.recordRollover(this, System.nanoTime() - start);
 		}
 	}
 
@@ -25,20 +25,28 @@ import org.cooder.tinylog.Configuration;
 import org.cooder.tinylog.EnvironmentHelper;
 import org.cooder.tinylog.InternalLogger;
 import org.cooder.tinylog.LogEntry;
+import org.cooder.tinylog.Metrics;
 
 /**
  * Writes log entries to a shared file.
  *
- * Multiple instances of a program are allowed to log into the same file.
+ * Multiple instances of a program are allowed to log into the same file. Each write is done while holding the file
+ * lock, as appending is not guaranteed to be atomic on all file systems (for example on network file systems). In
+ * buffered mode, log entries are collected and written as batch with a single file lock.
  */
 @PropertiesSupport(name = "sharedfile", properties = { @Property(name = "filename", type = String.class),
-		@Property(name = "append", type = boolean.class, optional = true) })
+		@Property(name = "append", type = boolean.class, optional = true), @Property(name = "buffered", type = boolean.class, optional = true) })
 public final class SharedFileWriter implements Writer {
 
+	private static final int BUFFER_SIZE = 64 * 1024;
+
 	private final File file;
 	private final boolean append;
+	private final boolean buffered;
 	private final Object mutex;
 	private FileOutputStream stream;
+	private byte[] buffer;
+	private int position;
 
 	/**
 	 * @param filename
@@ -55,8 +63,21 @@ public final class SharedFileWriter implements Writer {
 	 *            Continuing existing file
 	 */
 	public SharedFileWriter(final String filename, final boolean append) {
+		this(filename, append, false);
+	}
+
+	/**
+	 * @param filename
+	 *            Filename of the log file
+	 * @param append
+	 *            Continuing existing file
+	 * @param buffered
+	 *            Collect log entries and write them as batch with a single file lock on flushing or if the buffer is full
+	 */
+	public SharedFileWriter(final String filename, final boolean append, final boolean buffered) {
 		this.file = new File(PathResolver.resolve(filename));
 		this.mutex = new Object();
+		this.buffered = buffered;
 		
 		if (append || EnvironmentHelper.isWindows()) {
 			this.append = append;
@@ -66,6 +87,20 @@ public final class SharedFileWriter implements Writer {
 		}
 	}
 
+	/**
+	 * Helper constructor with wrapper class parameters for {@link org.cooder.tinylog.PropertiesLoader PropertiesLoader}.
+	 *
+	 * @param filename
+	 *            Filename of the log file
+	 * @param append
+	 *            Continuing existing file
+	 * @param buffered
+	 *            Collect log entries and write them as batch with a single file lock on flushing or if the buffer is full
+	 */
+	SharedFileWriter(final String filename, final Boolean append, final Boolean buffered) {
+		this(filename, append == null ? false : append, buffered == null ? false : buffered);
+	}
+
 	@Override
 	public Set<LogEntryValue> getRequiredLogEntryValues() {
 		return EnumSet.of(LogEntryValue.RENDERED_LOG_ENTRY);
@@ -89,6 +124,15 @@ public final class SharedFileWriter implements Writer {
 		return append;
 	}
 
+	/**
+	 * Determine whether buffered writing is enabled.
+	 *
+	 * @return <code>true</code> if buffered writing is enabled, otherwise <code>false</code>
+	 */
+	public boolean isBuffered() {
+		return buffered;
+	}
+
 	@Override
 	public void init(final Configuration configuration) throws IOException {
 		if (file.isFile()) {
@@ -100,27 +144,47 @@ public final class SharedFileWriter implements Writer {
 		}
 
 		stream = new FileOutputStream(file, true);
+		if (buffered) {
+			buffer = new byte[BUFFER_SIZE];
+			position = 0;
+		}
+
 		VMShutdownHook.register(this);
 	}
 
 	@Override
 	public void write(final LogEntry logEntry) throws IOException {
-		FileChannel channel = stream.getChannel();
 		byte[] data = logEntry.getRenderedLogEntry().getBytes();
+		Metrics.recordBytes(this, data.length);
 
 		synchronized (mutex) {
-			FileLock lock = channel.lock();
-			try {
-				stream.write(data);
-			} finally {
-				lock.release();
+			if (buffered) {
+				if (data.length > buffer.length - position) {
+					writeLocked(buffer, position);
+					position = 0;
+				}
+				if (data.length >= buffer.length) {
+					writeLocked(data, data.length);
+				} else {
+					System.arraycopy(data, 0, buffer, position, data.length);
+					position += data.length;
+				}
+			} else {
+				writeLocked(data, data.length);
 			}
 		}
 	}
 
 	@Override
-	public void flush() {
-		// Do nothing
+	public void flush() throws IOException {
+		if (buffered) {
+			synchronized (mutex) {
+				if (position > 0) {
+					writeLocked(buffer, position);
+					position = 0;
+				}
+			}
+		}
 	}
 
 	/**
@@ -133,7 +197,24 @@ public final class SharedFileWriter implements Writer {
 	public void close() throws IOException {
 		synchronized (mutex) {
 			VMShutdownHook.unregister(this);
-			stream.close();
+			try {
+				if (buffered && position > 0) {
+					writeLocked(buffer, position);
+					position = 0;
+				}
+			} finally {
+				stream.close();
+			}
+		}
+	}
+
+	private void writeLocked(final byte[] data, final int length) throws IOException {
+		FileChannel channel = stream.getChannel();
+		FileLock lock = channel.lock();
+		try {
+			stream.write(data, 0, length);
+		} finally {
+			lock.release();
 		}
 	}
 
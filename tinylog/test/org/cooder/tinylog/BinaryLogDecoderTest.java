@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Locale;
+
+import org.cooder.tinylog.util.FileHelper;
+import org.cooder.tinylog.util.LogEntryBuilder;
+import org.cooder.tinylog.writers.BinaryWriter;
+import org.junit.Test;
+
+/**
+ * Tests for the decoder of binary log files.
+ *
+ * @see BinaryLogDecoder
+ */
+public class BinaryLogDecoderTest extends AbstractTinylogTest {
+
+	/**
+	 * Test rendering decoded log entries with a format pattern.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testRendering() throws IOException {
+		File file = createLogFile();
+
+		BinaryLogDecoder decoder = new BinaryLogDecoder(new FileInputStream(file));
+		FormatPattern formatPattern = new FormatPattern("{class_name}.{method}() {level}: {message}", Locale.ROOT, 1);
+		String newLine = EnvironmentHelper.getNewLine();
+		assertEquals("Service.start() INFO: Started in 12 ms" + newLine, formatPattern.render(decoder.read()));
+		assertEquals("Service.stop() ERROR: Failed: java.io.IOException: Closed" + newLine + "\tat a.b.Service.stop(Service.java:20)" + newLine
+				+ "\t..." + newLine, formatPattern.render(decoder.read()));
+		decoder.close();
+
+		file.delete();
+	}
+
+	/**
+	 * Test restoring exceptions of decoded log entries.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testExceptions() throws IOException {
+		File file = FileHelper.createTemporaryFile("bin");
+
+		BinaryWriter writer = new BinaryWriter(file.getAbsolutePath());
+		writer.init(null);
+		writer.write(new LogEntryBuilder().level(Level.ERROR).exception(new IllegalStateException(new CustomException())).create());
+		writer.close();
+
+		BinaryLogDecoder decoder = new BinaryLogDecoder(new FileInputStream(file));
+		Throwable exception = decoder.read().getException();
+		assertEquals(IllegalStateException.class, exception.getClass());
+		assertEquals(CustomException.class.getName() + ": Custom", exception.getMessage());
+		assertEquals(CustomException.class.getName() + ": Custom", exception.getCause().getMessage());
+		assertNotEquals(CustomException.class, exception.getCause().getClass());
+		decoder.close();
+
+		file.delete();
+	}
+
+	/**
+	 * Test converting a binary log file into text via command line.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testMain() throws IOException {
+		File file = createLogFile();
+
+		BinaryLogDecoder.main(new String[] { file.getAbsolutePath(), "{date:yyyy-MM-dd} {level}: {message}" });
+		assertEquals("2017-07-14 INFO: Started in 12 ms", getOutputStream().nextLine());
+		assertEquals("2017-07-14 ERROR: Failed: java.io.IOException: Closed", getOutputStream().nextLine());
+		assertEquals("\tat a.b.Service.stop(Service.java:20)", getOutputStream().nextLine());
+		assertEquals("\tat a.b.Main.main(Main.java:10)", getOutputStream().nextLine());
+
+		file.delete();
+	}
+
+	/**
+	 * Test reading a file that is not a binary log file.
+	 */
+	@Test
+	public final void testInvalidFile() {
+		try {
+			new BinaryLogDecoder(new ByteArrayInputStream("Hello World".getBytes()));
+			fail("IOException expected");
+		} catch (IOException ex) {
+			assertEquals("Unsupported binary log file format", ex.getMessage());
+		}
+	}
+
+	/**
+	 * Test reading a binary log file whose last log entry is incomplete.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testTruncatedFile() throws IOException {
+		File file = createLogFile();
+		byte[] content = Files.readAllBytes(file.toPath());
+		file.delete();
+
+		BinaryLogDecoder decoder = new BinaryLogDecoder(new ByteArrayInputStream(Arrays.copyOf(content, content.length - 5)));
+		assertEquals("Started in 12 ms", decoder.read().getMessage());
+		try {
+			decoder.read();
+			fail("EOFException expected");
+		} catch (EOFException ex) {
+			// Expected
+		}
+		decoder.close();
+	}
+
+	private static File createLogFile() throws IOException {
+		File file = FileHelper.createTemporaryFile("bin");
+
+		IOException exception = new IOException("Closed");
+		exception.setStackTrace(new StackTraceElement[] { new StackTraceElement("a.b.Service", "stop", "Service.java", 20),
+			new StackTraceElement("a.b.Main", "main", "Main.java", 10) });
+
+		BinaryWriter writer = new BinaryWriter(file.getAbsolutePath());
+		writer.init(null);
+		Date date = new Date(1500033600000L);
+		writer.write(new LogEntryBuilder().date(date).className("a.b.Service").method("start").level(Level.INFO).rawMessage("Started in {} ms", 12)
+				.create());
+		writer.write(new LogEntryBuilder().date(date).className("a.b.Service").method("stop").level(Level.ERROR).rawMessage("Failed")
+				.exception(exception).create());
+		writer.close();
+
+		return file;
+	}
+
+	private static final class CustomException extends Exception {
+
+		private static final long serialVersionUID = 1L;
+
+		private CustomException() {
+			super("Custom");
+		}
+
+	}
+
+}
@@ -13,14 +13,17 @@
 
 package org.cooder.tinylog;
 
+import static org.hamcrest.number.OrderingComparison.greaterThan;
 import static org.hamcrest.number.OrderingComparison.lessThan;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 import static org.cooder.tinylog.hamcrest.CollectionMatchers.sameTypes;
 import static org.cooder.tinylog.hamcrest.CollectionMatchers.types;
 import static org.cooder.tinylog.hamcrest.StringMatchers.matchesPattern;
@@ -28,13 +31,21 @@ import static org.cooder.tinylog.hamcrest.StringMatchers.matchesPattern;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import com.sun.net.httpserver.HttpServer;
+
+import mockit.Invocation;
 import mockit.Mock;
 import mockit.MockUp;
 
@@ -170,21 +181,21 @@ public class ConfigurationObserverTest extends AbstractTinylogTest {
 		assertThat(observer.getPriority(), lessThan(Thread.NORM_PRIORITY));
 		assertTrue(observer.isDaemon());
 
-		int threadCount = Thread.activeCount();
+		int threadCount = countThreads();
 		assertNull(ConfigurationObserver.getActiveObserver());
 
 		observer.start();
 
 		assertSame(observer, ConfigurationObserver.getActiveObserver());
 		assertTrue(observer.isAlive());
-		assertEquals(threadCount + 1, Thread.activeCount());
+		assertEquals(threadCount + 1, countThreads());
 
 		observer.shutdown();
 		observer.join();
 
 		assertNull(ConfigurationObserver.getActiveObserver());
 		assertFalse(observer.isAlive());
-		assertEquals(threadCount, Thread.activeCount());
+		assertEquals(threadCount, countThreads());
 	}
 
 	/**
@@ -357,6 +368,86 @@ public class ConfigurationObserverTest extends AbstractTinylogTest {
 		}
 	}
 
+	/**
+	 * Test reading of sampling rates.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 * @throws InterruptedException
+	 *             Test failed
+	 */
+	@Test
+	public final void testSampling() throws IOException, InterruptedException {
+		observer.start();
+
+		try {
+			/* Test new sampling rates */
+
+			FileHelper.write(file, "tinylog.sample=0.5", "tinylog.sample@a=0.1", "tinylog.sample.key=trace");
+			waitForCompleteCycle();
+			Configuration currentConfiguration = Logger.getConfiguration().create();
+			assertEquals(0.5d, currentConfiguration.getSamplingRate(), 0d);
+			assertEquals(Collections.singletonMap("a", 0.1d), currentConfiguration.getCustomSamplingRates());
+			assertEquals("trace", currentConfiguration.getSamplingKey());
+
+			/* Test remove sampling */
+
+			FileHelper.write(file, "");
+			waitForCompleteCycle();
+			currentConfiguration = Logger.getConfiguration().create();
+			assertEquals(1d, currentConfiguration.getSamplingRate(), 0d);
+			assertEquals(0, currentConfiguration.getCustomSamplingRates().size());
+			assertNull(currentConfiguration.getSamplingKey());
+		} finally {
+			observer.shutdown();
+			observer.join();
+		}
+	}
+
+	/**
+	 * Test reading of rate limits and interval for collapsing identical log entries.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 * @throws InterruptedException
+	 *             Test failed
+	 */
+	@Test
+	public final void testOutputFilter() throws IOException, InterruptedException {
+		observer.start();
+
+		try {
+			/* Test new rate limit and interval */
+
+			FileHelper.write(file, "tinylog.ratelimit.level=100/s", "tinylog.duplicates=1s");
+			waitForCompleteCycle();
+			Configuration currentConfiguration = Logger.getConfiguration().create();
+			assertEquals(1, currentConfiguration.getRateLimits().size());
+			assertEquals(100L, currentConfiguration.getRateLimits().get(0).getEntries());
+			assertEquals(1000L, currentConfiguration.getDuplicateInterval());
+
+			/* Test changed rate limit */
+
+			FileHelper.write(file, "tinylog.ratelimit.level=50/s", "tinylog.duplicates=1s");
+			waitForCompleteCycle();
+			currentConfiguration = Logger.getConfiguration().create();
+			assertEquals(1, currentConfiguration.getRateLimits().size());
+			assertEquals(50L, currentConfiguration.getRateLimits().get(0).getEntries());
+			assertEquals(1000L, currentConfiguration.getDuplicateInterval());
+
+			/* Test remove rate limit and interval */
+
+			FileHelper.write(file, "");
+			waitForCompleteCycle();
+			currentConfiguration = Logger.getConfiguration().create();
+			assertEquals(0, currentConfiguration.getRateLimits().size());
+			assertEquals(0L, currentConfiguration.getDuplicateInterval());
+		} finally {
+			observer.shutdown();
+			observer.join();
+		}
+	}
+
 	/**
 	 * Test reading of writer.
 	 *
@@ -477,6 +568,20 @@ public class ConfigurationObserverTest extends AbstractTinylogTest {
 			assertEquals(logFile.getAbsolutePath(), fileWriter.getFilename());
 			assertTrue(fileWriter.isBuffered());
 			fileWriter.close();
+
+			/* Test change global format pattern, which writers have been initialized with */
+
+			FileHelper.write(file, "tinylog.writer2=file", "tinylog.writer2.filename=" + logFile.getAbsolutePath(), "tinylog.writer2.buffered=true",
+					"tinylog.writerNew=console", "tinylog.format={message}");
+			waitForCompleteCycle();
+			currentConfiguration = Logger.getConfiguration().create();
+			writers = currentConfiguration.getWriters();
+			assertThat(writers, types(FileWriter.class, ConsoleWriter.class));
+			assertNotSame(fileWriter, writers.get(0));
+			fileWriter = (FileWriter) writers.get(0);
+			assertEquals(logFile.getAbsolutePath(), fileWriter.getFilename());
+			assertTrue(fileWriter.isBuffered());
+			fileWriter.close();
 		} finally {
 			observer.shutdown();
 			observer.join();
@@ -617,21 +722,151 @@ public class ConfigurationObserverTest extends AbstractTinylogTest {
 		assertSame(DEFAULT_CONFIGURATION.getWritingThread(), currentConfiguration.getWritingThread());
 	}
 
-	private void waitForCompleteCycle() throws InterruptedException {
-		while (observer.getState() == Thread.State.RUNNABLE) {
-			Thread.sleep(10);
+	/**
+	 * Test that a configuration file will be only parsed, if its content has been changed.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 * @throws InterruptedException
+	 *             Test failed
+	 */
+	@Test
+	public final void testUnchangedContent() throws IOException, InterruptedException {
+		final AtomicInteger counter = new AtomicInteger();
+		new MockUp<Properties>() {
+			@Mock
+			public void load(final Invocation invocation, final InputStream inStream) throws IOException {
+				counter.incrementAndGet();
+				invocation.proceed(inStream);
+			}
+		};
+
+		FileHelper.write(file, "tinylog.level=warning");
+		observer.start();
+
+		try {
+			waitForCompleteCycle();
+			assertEquals(Level.WARNING, Logger.getConfiguration().create().getLevel());
+			assertEquals(1, counter.get());
+
+			/* Test rewriting the same content */
+
+			FileHelper.write(file, "tinylog.level=warning");
+			waitForCompleteCycle();
+			assertEquals(Level.WARNING, Logger.getConfiguration().create().getLevel());
+			assertEquals(1, counter.get());
+
+			/* Test changing the content */
+
+			FileHelper.write(file, "tinylog.level=error");
+			waitForCompleteCycle();
+			assertEquals(Level.ERROR, Logger.getConfiguration().create().getLevel());
+			assertEquals(2, counter.get());
+		} finally {
+			observer.shutdown();
+			observer.join();
+		}
+	}
+
+	/**
+	 * Test that HTTP URLs will be requested conditionally and an unmodified configuration file will not be transferred
+	 * again.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 * @throws InterruptedException
+	 *             Test failed
+	 */
+	@Test
+	public final void testConditionalRequest() throws IOException, InterruptedException {
+		assumeTrue("url".equals(initializer.toString()));
+
+		final String[] content = new String[] { "tinylog.level=warning", "\"1\"" };
+		final AtomicInteger transferred = new AtomicInteger();
+		final AtomicInteger unmodified = new AtomicInteger();
+
+		HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/tinylog.properties", exchange -> {
+			synchronized (content) {
+				if (content[1].equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+					unmodified.incrementAndGet();
+					exchange.sendResponseHeaders(304, -1);
+				} else {
+					transferred.incrementAndGet();
+					byte[] data = content[0].getBytes(StandardCharsets.ISO_8859_1);
+					exchange.getResponseHeaders().set("ETag", content[1]);
+					exchange.sendResponseHeaders(200, data.length);
+					try (OutputStream stream = exchange.getResponseBody()) {
+						stream.write(data);
+					}
+				}
+				exchange.close();
+			}
+		});
+		server.start();
+
+		try {
+			URL url = new URL("http", "localhost", server.getAddress().getPort(), "/tinylog.properties");
+			observer = ConfigurationObserver.createURLConfigurationObserver(Configurator.defaultConfig(), new Properties(), url);
+			observer.start();
+
+			try {
+				waitForCompleteCycle();
+				waitForCompleteCycle();
+				assertEquals(Level.WARNING, Logger.getConfiguration().create().getLevel());
+				assertEquals(1, transferred.get());
+				assertThat(unmodified.get(), greaterThan(0));
+
+				/* Test modified configuration */
+
+				synchronized (content) {
+					content[0] = "tinylog.level=error";
+					content[1] = "\"2\"";
+				}
+				waitForCompleteCycle();
+				assertEquals(Level.ERROR, Logger.getConfiguration().create().getLevel());
+				assertEquals(2, transferred.get());
+			} finally {
+				observer.shutdown();
+				observer.join();
+			}
+		} finally {
+			server.stop(0);
 		}
+	}
+
+	private void waitForCompleteCycle() throws InterruptedException {
+		waitForIdleObserver();
 
 		if (observer.getState() == Thread.State.TIMED_WAITING) {
 			observer.interrupt();
 			Thread.sleep(10);
-			while (observer.getState() == Thread.State.RUNNABLE) {
-				Thread.sleep(10);
-			}
+			waitForIdleObserver();
 			Thread.sleep(10);
 		}
 	}
 
+	private void waitForIdleObserver() throws InterruptedException {
+		/* Observer can be woken up by file system events and reload the configuration at any time */
+		Thread.State state = observer.getState();
+		while (state != Thread.State.TIMED_WAITING && state != Thread.State.TERMINATED) {
+			Thread.sleep(10);
+			state = observer.getState();
+		}
+	}
+
+	private static int countThreads() {
+		/* Watch services of the JRE might use own threads, which are stopped asynchronously */
+		Thread[] threads = new Thread[Thread.activeCount() * 2];
+		int count = 0;
+		for (Thread thread : Arrays.copyOf(threads, Thread.enumerate(threads))) {
+			if (!"FileSystemWatcher".equals(thread.getName())) {
+				++count;
+			}
+		}
+		return count;
+	}
+
 	private abstract static class ConfigurationObserverInitializer {
 
 		private File file;
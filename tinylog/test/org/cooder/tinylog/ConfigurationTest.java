@@ -20,7 +20,9 @@ import static org.hamcrest.Matchers.emptyArray;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.cooder.tinylog.hamcrest.ArrayMatchers.containsCollectionWithSizes;
@@ -243,6 +245,24 @@ public class ConfigurationTest extends AbstractTinylogTest {
 		assertThat(configuration.getEffectiveWriters(Level.ERROR), sameContentInArray(dummyWriter, consoleWriter));
 	}
 
+	/**
+	 * Test reusing parsed format patterns of a previous configuration.
+	 */
+	@Test
+	public final void testReuseFormatTokens() {
+		Configurator configurator = Configurator.defaultConfig().writer(new ConsoleWriter()).formatPattern("{level}: {message}").locale(Locale.ROOT);
+		Configuration first = configurator.create();
+
+		Configuration second = configurator.level(Level.WARNING).create(first);
+		assertSame(first.getEffectiveFormatTokens(Level.ERROR)[0], second.getEffectiveFormatTokens(Level.ERROR)[0]);
+
+		Configuration third = configurator.locale(Locale.GERMANY).create(second);
+		assertNotSame(second.getEffectiveFormatTokens(Level.ERROR)[0], third.getEffectiveFormatTokens(Level.ERROR)[0]);
+
+		Configuration fourth = configurator.formatPattern("{message}").create(third);
+		assertNotSame(third.getEffectiveFormatTokens(Level.ERROR)[0], fourth.getEffectiveFormatTokens(Level.ERROR)[0]);
+	}
+
 	/**
 	 * Test calculating the effective format tokens.
 	 */
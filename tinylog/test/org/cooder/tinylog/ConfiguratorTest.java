@@ -45,12 +45,14 @@ import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.UnknownHostException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.After;
 import org.junit.Before;
@@ -848,6 +850,160 @@ public class ConfiguratorTest extends AbstractTinylogTest {
 		assertEquals(Integer.MAX_VALUE, configuration.getMaxStackTraceElements());
 	}
 
+	/**
+	 * Test setting rate limits.
+	 */
+	@Test
+	public final void testRateLimits() {
+		Configuration configuration = Configurator.defaultConfig().create();
+		assertThat(configuration.getRateLimits(), empty());
+		assertNull(configuration.getOutputFilter());
+
+		RateLimit levelLimit = new RateLimit(RateLimit.Scope.LEVEL, 100, TimeUnit.SECONDS);
+		RateLimit classLimit = new RateLimit(RateLimit.Scope.CLASS, 10, TimeUnit.SECONDS);
+		configuration = Configurator.defaultConfig().rateLimit(levelLimit).rateLimit(classLimit).create();
+		assertEquals(Arrays.asList(levelLimit, classLimit), configuration.getRateLimits());
+		assertNotNull(configuration.getOutputFilter());
+
+		/* Rate limit with the same scope will be replaced */
+		RateLimit otherLevelLimit = new RateLimit(RateLimit.Scope.LEVEL, 50, TimeUnit.SECONDS);
+		configuration = Configurator.defaultConfig().rateLimit(levelLimit).rateLimit(classLimit).rateLimit(otherLevelLimit).create();
+		assertEquals(Arrays.asList(classLimit, otherLevelLimit), configuration.getRateLimits());
+
+		configuration = Configurator.defaultConfig().rateLimit(levelLimit).resetRateLimits().create();
+		assertThat(configuration.getRateLimits(), empty());
+		assertNull(configuration.getOutputFilter());
+
+		/* Rate limits are copied */
+		Configurator configurator = Configurator.defaultConfig().rateLimit(levelLimit);
+		Configurator copy = configurator.copy();
+		configurator.resetRateLimits();
+		assertEquals(Collections.singletonList(levelLimit), copy.create().getRateLimits());
+	}
+
+	/**
+	 * Test enabling and disabling the recording of statistics.
+	 */
+	@Test
+	public final void testStatistics() {
+		Configurator configurator = Configurator.defaultConfig();
+		assertFalse(configurator.create().isStatisticsEnabled());
+
+		configurator.statistics(true);
+		assertTrue(configurator.create().isStatisticsEnabled());
+		assertTrue(configurator.copy().create().isStatisticsEnabled());
+
+		configurator.statistics(false);
+		assertFalse(configurator.create().isStatisticsEnabled());
+	}
+
+	/**
+	 * Test setting the sampling interval for timing and the interval for outputting the timing.
+	 */
+	@Test
+	public final void testTiming() {
+		Configurator configurator = Configurator.defaultConfig();
+		assertEquals(0, configurator.create().getTimingInterval());
+		assertEquals(0L, configurator.create().getTimingDumpInterval());
+
+		configurator.timing(100).timingDump(60000L);
+		assertEquals(100, configurator.create().getTimingInterval());
+		assertEquals(60000L, configurator.create().getTimingDumpInterval());
+		assertEquals(100, configurator.copy().create().getTimingInterval());
+		assertEquals(60000L, configurator.copy().create().getTimingDumpInterval());
+
+		configurator.timing(-1).timingDump(-1L);
+		assertEquals(0, configurator.create().getTimingInterval());
+		assertEquals(0L, configurator.create().getTimingDumpInterval());
+	}
+
+	/**
+	 * Test enabling the initialization of writers in background.
+	 */
+	@Test
+	public final void testDeferredInit() {
+		Configurator configurator = Configurator.defaultConfig();
+		assertEquals(0, configurator.create().getDeferredInitQueueSize());
+		assertEquals(0L, configurator.create().getDeferredInitTimeout());
+
+		configurator.deferredInit(1000).deferredInitTimeout(30000L);
+		assertEquals(1000, configurator.create().getDeferredInitQueueSize());
+		assertEquals(30000L, configurator.create().getDeferredInitTimeout());
+		assertEquals(1000, configurator.copy().create().getDeferredInitQueueSize());
+		assertEquals(30000L, configurator.copy().create().getDeferredInitTimeout());
+
+		configurator.deferredInit(-1).deferredInitTimeout(-1L);
+		assertEquals(0, configurator.create().getDeferredInitQueueSize());
+		assertEquals(0L, configurator.create().getDeferredInitTimeout());
+	}
+
+	/**
+	 * Test setting sampling rates.
+	 */
+	@Test
+	public final void testSampling() {
+		Configuration configuration = Configurator.defaultConfig().create();
+		assertEquals(1d, configuration.getSamplingRate(), 0d);
+		assertTrue(configuration.getCustomSamplingRates().isEmpty());
+		assertNull(configuration.getSamplingKey());
+		assertNull(configuration.getSampling());
+
+		configuration = Configurator.defaultConfig().sample(0.01d).create();
+		assertEquals(0.01d, configuration.getSamplingRate(), 0d);
+		assertNotNull(configuration.getSampling());
+		assertFalse(configuration.isClassNameRequired());
+
+		configuration = Configurator.defaultConfig().sample(2d).create();
+		assertEquals(1d, configuration.getSamplingRate(), 0d);
+		configuration = Configurator.defaultConfig().sample(-1d).create();
+		assertEquals(0d, configuration.getSamplingRate(), 0d);
+
+		configuration = Configurator.defaultConfig().sample("a", 0.5d).sample(ConfiguratorTest.class.getPackage(), 0.1d)
+				.sample(ConfiguratorTest.class, 0.2d).create();
+		Map<String, Double> rates = new HashMap<String, Double>();
+		rates.put("a", 0.5d);
+		rates.put(ConfiguratorTest.class.getPackage().getName(), 0.1d);
+		rates.put(ConfiguratorTest.class.getName(), 0.2d);
+		assertEquals(rates, configuration.getCustomSamplingRates());
+		assertTrue(configuration.isClassNameRequired());
+
+		configuration = Configurator.defaultConfig().sample("a", 0.5d).sample("a", Double.NaN).create();
+		assertTrue(configuration.getCustomSamplingRates().isEmpty());
+
+		configuration = Configurator.defaultConfig().sampleBy("trace").create();
+		assertEquals("trace", configuration.getSamplingKey());
+
+		configuration = Configurator.defaultConfig().sample(0.5d).sample("a", 0.5d).sampleBy("trace").resetSampling().create();
+		assertEquals(1d, configuration.getSamplingRate(), 0d);
+		assertTrue(configuration.getCustomSamplingRates().isEmpty());
+		assertNull(configuration.getSamplingKey());
+
+		/* Sampling is copied */
+		configuration = Configurator.defaultConfig().sample(0.5d).sample("a", 0.1d).sampleBy("trace").copy().create();
+		assertEquals(0.5d, configuration.getSamplingRate(), 0d);
+		assertEquals(Collections.singletonMap("a", 0.1d), configuration.getCustomSamplingRates());
+		assertEquals("trace", configuration.getSamplingKey());
+	}
+
+	/**
+	 * Test setting interval for collapsing identical log entries.
+	 */
+	@Test
+	public final void testSuppressDuplicates() {
+		Configuration configuration = Configurator.defaultConfig().create();
+		assertEquals(0L, configuration.getDuplicateInterval());
+
+		configuration = Configurator.defaultConfig().suppressDuplicates(1000L).create();
+		assertEquals(1000L, configuration.getDuplicateInterval());
+		assertNotNull(configuration.getOutputFilter());
+
+		configuration = Configurator.defaultConfig().suppressDuplicates(-1L).create();
+		assertEquals(0L, configuration.getDuplicateInterval());
+		assertNull(configuration.getOutputFilter());
+
+		assertEquals(1000L, Configurator.defaultConfig().suppressDuplicates(1000L).copy().create().getDuplicateInterval());
+	}
+
 	/**
 	 * Tests for writing thread data.
 	 *
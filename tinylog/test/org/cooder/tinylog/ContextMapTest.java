@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+/**
+ * Tests for context map.
+ *
+ * @see ContextMap
+ */
+public class ContextMapTest extends AbstractTinylogTest {
+
+	/**
+	 * Test adding, replacing and removing values.
+	 */
+	@Test
+	public final void testModifications() {
+		ContextMap empty = ContextMap.EMPTY;
+		assertTrue(empty.isEmpty());
+		assertEquals(Collections.emptyMap(), empty);
+
+		ContextMap first = empty.with("a", "1");
+		ContextMap second = first.with("b", "2");
+		assertEquals(Collections.singletonMap("a", "1"), first);
+		assertEquals(2, second.size());
+		assertEquals("1", second.get("a"));
+		assertEquals("2", second.get("b"));
+		assertNull(second.get("c"));
+		assertNull(second.get(null));
+		assertTrue(second.containsKey("b"));
+		assertFalse(second.containsKey("c"));
+
+		ContextMap replaced = second.with("a", "3");
+		assertEquals("3", replaced.get("a"));
+		assertEquals("1", second.get("a"));
+		assertSame(replaced, replaced.with("a", "3"));
+
+		ContextMap removed = replaced.without("a");
+		assertEquals(Collections.singletonMap("b", "2"), removed);
+		assertSame(removed, removed.without("a"));
+		assertSame(ContextMap.EMPTY, removed.without("b"));
+	}
+
+	/**
+	 * Test that a null key is mapped only once and can be replaced and removed like any other key.
+	 */
+	@Test
+	public final void testNullKey() {
+		ContextMap first = ContextMap.EMPTY.with(null, "1").with("a", "2");
+		assertEquals(2, first.size());
+		assertEquals("1", first.get(null));
+		assertTrue(first.containsKey(null));
+
+		ContextMap replaced = first.with(null, "3");
+		assertEquals(2, replaced.size());
+		assertEquals("3", replaced.get(null));
+		assertSame(replaced, replaced.with(null, "3"));
+
+		Map<String, String> expected = new HashMap<String, String>();
+		expected.put(null, "3");
+		expected.put("a", "2");
+		assertEquals(expected, replaced);
+
+		ContextMap removed = replaced.without(null);
+		assertEquals(Collections.singletonMap("a", "2"), removed);
+		assertFalse(removed.containsKey(null));
+	}
+
+	/**
+	 * Test that context maps can be compared with other maps and iterated.
+	 */
+	@Test
+	public final void testMapContract() {
+		Map<String, String> expected = new HashMap<String, String>();
+		expected.put("a", "1");
+		expected.put("b", "2");
+		expected.put("c", "3");
+
+		ContextMap map = ContextMap.EMPTY.with("a", "1").with("b", "2").with("c", "3");
+		assertEquals(expected, map);
+		assertEquals(expected.hashCode(), map.hashCode());
+		assertEquals(expected.entrySet(), map.entrySet());
+
+		Iterator<Map.Entry<String, String>> iterator = map.entrySet().iterator();
+		iterator.next();
+		iterator.next();
+		iterator.next();
+		assertFalse(iterator.hasNext());
+		try {
+			iterator.next();
+			fail("NoSuchElementException expected");
+		} catch (NoSuchElementException ex) {
+			// Expected
+		}
+	}
+
+	/**
+	 * Test that context maps cannot be modified via the map interface.
+	 */
+	@Test(expected = UnsupportedOperationException.class)
+	public final void testReadOnly() {
+		ContextMap.EMPTY.with("a", "1").entrySet().iterator().remove();
+	}
+
+}
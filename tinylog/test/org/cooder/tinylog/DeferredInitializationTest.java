@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.cooder.tinylog.writers.LogEntryValue;
+import org.cooder.tinylog.writers.Writer;
+import org.junit.Test;
+
+/**
+ * Tests for initializing writers in background.
+ *
+ * @see DeferredInitialization
+ */
+public class DeferredInitializationTest extends AbstractTinylogTest {
+
+	/**
+	 * Test that log entries are buffered until the writer is initialized and written afterwards in order.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for initialization
+	 */
+	@Test
+	public final void testReplayInOrder() throws InterruptedException {
+		BlockingWriter writer = new BlockingWriter(false);
+		Configurator.defaultConfig().writer(writer).deferredInit(10).activate();
+
+		Logger.info("1");
+		Logger.info("2");
+		Logger.info("3");
+		assertEquals(Collections.emptyList(), writer.getMessages());
+
+		writer.release();
+		Logger.getDeferredInitialization().await();
+		assertEquals(Arrays.asList("1", "2", "3"), writer.getMessages());
+
+		Logger.info("4");
+		assertEquals(Arrays.asList("1", "2", "3", "4"), writer.getMessages());
+		assertNull(Logger.getDeferredInitialization());
+	}
+
+	/**
+	 * Test that log entries are buffered for a writing thread as well.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for initialization
+	 */
+	@Test
+	public final void testWritingThread() throws InterruptedException {
+		BlockingWriter writer = new BlockingWriter(false);
+		Configurator.defaultConfig().writer(writer).writingThread(null).deferredInit(10).activate();
+
+		Logger.info("1");
+		Logger.info("2");
+
+		writer.release();
+		Logger.getDeferredInitialization().await();
+		Logger.info("3");
+
+		Configurator.shutdownWritingThread(true);
+		assertEquals(Arrays.asList("1", "2", "3"), writer.getMessages());
+	}
+
+	/**
+	 * Test that log entries are dropped and counted if the queue is full.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for initialization
+	 */
+	@Test
+	public final void testFullQueue() throws InterruptedException {
+		BlockingWriter writer = new BlockingWriter(false);
+		Configurator.defaultConfig().writer(writer).deferredInit(2).statistics(true).activate();
+		Metrics.reset();
+
+		for (int i = 1; i <= 5; ++i) {
+			Logger.info(Integer.toString(i));
+		}
+
+		writer.release();
+		Logger.getDeferredInitialization().await();
+		assertEquals(Arrays.asList("1", "2"), writer.getMessages());
+		assertEquals("LOGGER WARNING: 3 log entries have been dropped while initializing \"" + BlockingWriter.class.getName() + "\"",
+				getErrorStream().nextLine());
+		assertEquals(3L, Logger.getStatistics().getWriters().get(writer).getLostEntries());
+	}
+
+	/**
+	 * Test that log entries are dropped and counted if they have been buffered longer than the timeout.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting
+	 */
+	@Test
+	public final void testTimeout() throws InterruptedException {
+		BlockingWriter writer = new BlockingWriter(false);
+		Configurator.defaultConfig().writer(writer).deferredInit(10).deferredInitTimeout(50L).activate();
+
+		Logger.info("1");
+		Logger.info("2");
+		Thread.sleep(100L);
+		Logger.info("3");
+
+		writer.release();
+		Logger.getDeferredInitialization().await();
+		assertEquals(Arrays.asList("3"), writer.getMessages());
+		assertEquals("LOGGER WARNING: 2 log entries have been dropped while initializing \"" + BlockingWriter.class.getName() + "\"",
+				getErrorStream().nextLine());
+	}
+
+	/**
+	 * Test that buffered log entries are dropped and the writer is removed from the active configuration if its
+	 * initialization fails.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for initialization
+	 */
+	@Test
+	public final void testFailedInitialization() throws InterruptedException {
+		BlockingWriter writer = new BlockingWriter(true);
+		Configurator.defaultConfig().writer(writer).deferredInit(10).activate();
+
+		Logger.info("1");
+
+		writer.release();
+		DeferredInitialization deferredInitialization = Logger.getDeferredInitialization();
+		deferredInitialization.await();
+		assertEquals("LOGGER ERROR: Failed to initialize \"" + BlockingWriter.class.getName() + "\" (" + UnsupportedOperationException.class.getName() + ")",
+				getErrorStream().nextLine());
+		assertEquals("LOGGER WARNING: 1 log entries have been dropped while initializing \"" + BlockingWriter.class.getName() + "\"",
+				getErrorStream().nextLine());
+
+		assertThat(Logger.getConfiguration().create().getWriters(), not(hasItem((Writer) writer)));
+		assertNull(Logger.getDeferredInitialization());
+
+		Logger.info("2");
+		assertEquals(Collections.emptyList(), writer.getMessages());
+	}
+
+	/**
+	 * Test that writers are initialized synchronously by default.
+	 */
+	@Test
+	public final void testSynchronousByDefault() {
+		BlockingWriter writer = new BlockingWriter(false);
+		writer.release();
+		Configurator.defaultConfig().writer(writer).activate();
+		assertTrue(writer.initialized);
+		assertNull(Logger.getDeferredInitialization());
+
+		Logger.info("1");
+		assertEquals(Arrays.asList("1"), writer.getMessages());
+	}
+
+	/**
+	 * Writer that blocks its initialization until it gets released.
+	 */
+	private static final class BlockingWriter implements Writer {
+
+		private final boolean failing;
+		private final CountDownLatch latch;
+		private final List<String> messages;
+		private volatile boolean initialized;
+
+		private BlockingWriter(final boolean failing) {
+			this.failing = failing;
+			this.latch = new CountDownLatch(1);
+			this.messages = new ArrayList<String>();
+		}
+
+		@Override
+		public Set<LogEntryValue> getRequiredLogEntryValues() {
+			return EnumSet.of(LogEntryValue.MESSAGE);
+		}
+
+		@Override
+		public void init(final Configuration configuration) throws Exception {
+			latch.await();
+			if (failing) {
+				throw new UnsupportedOperationException();
+			}
+			initialized = true;
+		}
+
+		@Override
+		public synchronized void write(final LogEntry logEntry) {
+			if (!initialized) {
+				throw new IllegalStateException("Not initialized");
+			}
+			messages.add(logEntry.getMessage());
+		}
+
+		@Override
+		public void flush() {
+			// Nothing to do
+		}
+
+		@Override
+		public void close() {
+			// Nothing to do
+		}
+
+		private void release() {
+			latch.countDown();
+		}
+
+		private synchronized List<String> getMessages() {
+			return new ArrayList<String>(messages);
+		}
+
+	}
+
+}
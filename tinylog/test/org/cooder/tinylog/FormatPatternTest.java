@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import java.util.Locale;
+
+import org.cooder.tinylog.util.LogEntryBuilder;
+import org.cooder.tinylog.writers.LogEntryValue;
+import org.junit.Test;
+
+/**
+ * Tests for format patterns.
+ *
+ * @see FormatPattern
+ */
+public class FormatPatternTest extends AbstractTinylogTest {
+
+	/**
+	 * Test getting the format pattern and the required log entry values.
+	 */
+	@Test
+	public final void testRequiredLogEntryValues() {
+		FormatPattern formatPattern = new FormatPattern("{thread} {level}", Locale.ROOT, 0);
+		assertEquals("{thread} {level}", formatPattern.getPattern());
+		assertThat(formatPattern.getRequiredLogEntryValues(), containsInAnyOrder(LogEntryValue.THREAD, LogEntryValue.LEVEL));
+
+		formatPattern = new FormatPattern("Hello", Locale.ROOT, 0);
+		assertThat(formatPattern.getRequiredLogEntryValues(), empty());
+	}
+
+	/**
+	 * Test rendering log entries.
+	 */
+	@Test
+	public final void testRendering() {
+		FormatPattern formatPattern = new FormatPattern("{class_name}: {message}", Locale.ROOT, 0);
+
+		LogEntry logEntry = new LogEntryBuilder().className("a.b.C").message("Hello").create();
+		String expected = "C: Hello" + EnvironmentHelper.getNewLine();
+		assertEquals(expected, formatPattern.render(logEntry));
+		assertEquals(expected, logEntry.getRenderedLogEntry());
+	}
+
+}
@@ -17,6 +17,7 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.core.StringContains.containsString;
 import static org.hamcrest.core.StringEndsWith.endsWith;
 import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -27,10 +28,13 @@ import static org.cooder.tinylog.hamcrest.StringMatchers.matchesPattern;
 
 import java.lang.reflect.Field;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 import org.cooder.tinylog.util.NullWriter;
@@ -1194,6 +1198,114 @@ public class LoggerTest extends AbstractTinylogTest {
 				+ "\tat org.cooder.tinylog.LoggerTest.testExceptions\\(LoggerTest.java:\\d*\\)" + newLine));
 	}
 
+	/**
+	 * Test discarding log entries that exceed a rate limit.
+	 */
+	@Test
+	public final void testRateLimit() {
+		StoreWriter writer = new StoreWriter(LogEntryValue.LEVEL, LogEntryValue.MESSAGE);
+		Configurator.defaultConfig().writer(writer).level(Level.INFO).rateLimit(new RateLimit(RateLimit.Scope.LEVEL, 1, TimeUnit.MINUTES)).activate();
+
+		Logger.info("First");
+		LogEntry logEntry = writer.consumeLogEntry();
+		assertEquals(Level.INFO, logEntry.getLevel());
+		assertEquals("First", logEntry.getMessage());
+
+		Logger.info("Second");
+		assertNull(writer.consumeLogEntry());
+
+		Logger.warn("Third");
+		logEntry = writer.consumeLogEntry();
+		assertEquals(Level.WARNING, logEntry.getLevel());
+		assertEquals("Third", logEntry.getMessage());
+	}
+
+	/**
+	 * Test collapsing identical log entries.
+	 *
+	 * @throws InterruptedException
+	 *             Test failed
+	 */
+	@Test
+	public final void testSuppressDuplicates() throws InterruptedException {
+		ListWriter writer = new ListWriter();
+		Configurator.defaultConfig().writer(writer).level(Level.INFO).suppressDuplicates(100L).activate();
+
+		Logger.info("Value: {}", 0);
+		Logger.info("Value: {}", 1);
+		Logger.info("Value: {}", 2);
+		assertEquals(1, writer.logEntries.size());
+		assertEquals(LoggerTest.class.getName(), writer.logEntries.get(0).getClassName());
+		assertEquals("Value: 0", writer.logEntries.get(0).getMessage());
+
+		/* Summary is output before the next log entry after the interval */
+		Thread.sleep(150L);
+		Logger.info("Value: {}", 3);
+		assertEquals(3, writer.logEntries.size());
+		assertEquals("Repeated 2 times: Value: {}", writer.logEntries.get(1).getMessage());
+		assertEquals("Value: 3", writer.logEntries.get(2).getMessage());
+
+		/* Summary is output in background, if no further log entry arrives */
+		Logger.info("Value: {}", 4);
+		Thread.sleep(300L);
+		assertEquals(4, writer.logEntries.size());
+		assertEquals(Level.INFO, writer.logEntries.get(3).getLevel());
+		assertEquals(LoggerTest.class.getName(), writer.logEntries.get(3).getClassName());
+		assertEquals("Repeated 1 time: Value: {}", writer.logEntries.get(3).getMessage());
+	}
+
+	/**
+	 * Test sampling of trace and debug log entries.
+	 */
+	@Test
+	public final void testSampling() {
+		StoreWriter writer = new StoreWriter(LogEntryValue.LEVEL, LogEntryValue.MESSAGE);
+		Configurator.defaultConfig().writer(writer).level(Level.TRACE).sample(0d).activate();
+
+		Logger.trace("Hello");
+		assertNull(writer.consumeLogEntry());
+		Logger.debug("Hello");
+		assertNull(writer.consumeLogEntry());
+		Logger.info("Hello");
+		assertEquals(Level.INFO, writer.consumeLogEntry().getLevel());
+
+		Configurator.currentConfig().sample(1d).sample(LoggerTest.class, 0d).activate();
+		Logger.debug("Hello");
+		assertNull(writer.consumeLogEntry());
+
+		Configurator.currentConfig().sample("org.cooder", 1d).sample(LoggerTest.class, Double.NaN).activate();
+		Logger.debug("Hello");
+		assertEquals(Level.DEBUG, writer.consumeLogEntry().getLevel());
+	}
+
+	/**
+	 * Test passing unformatted message templates and arguments to writers.
+	 */
+	@Test
+	public final void testRawMessage() {
+		StoreWriter writer = new StoreWriter(LogEntryValue.RAW_MESSAGE);
+		Configurator.defaultConfig().writer(writer).level(Level.INFO).activate();
+
+		Logger.info("Hello {}!", "World");
+		LogEntry logEntry = writer.consumeLogEntry();
+		assertNull(logEntry.getMessage());
+		assertEquals("Hello {}!", logEntry.getMessageTemplate());
+		assertArrayEquals(new Object[] { "World" }, logEntry.getArguments());
+
+		Logger.info(42);
+		logEntry = writer.consumeLogEntry();
+		assertEquals("42", logEntry.getMessage());
+		assertNull(logEntry.getMessageTemplate());
+
+		writer = new StoreWriter(LogEntryValue.MESSAGE, LogEntryValue.RAW_MESSAGE);
+		Configurator.defaultConfig().writer(writer).level(Level.INFO).activate();
+
+		Logger.info("Hello {}!", "World");
+		logEntry = writer.consumeLogEntry();
+		assertEquals("Hello World!", logEntry.getMessage());
+		assertEquals("Hello {}!", logEntry.getMessageTemplate());
+	}
+
 	/**
 	 * Test getting and setting configuration.
 	 *
@@ -1272,6 +1384,21 @@ public class LoggerTest extends AbstractTinylogTest {
 
 	}
 
+	private static final class ListWriter extends NullWriter {
+
+		private final List<LogEntry> logEntries = Collections.synchronizedList(new ArrayList<LogEntry>());
+
+		public ListWriter() {
+			super(EnumSet.of(LogEntryValue.CLASS, LogEntryValue.MESSAGE));
+		}
+
+		@Override
+		public void write(final LogEntry logEntry) {
+			logEntries.add(logEntry);
+		}
+
+	}
+
 	private static final class DummyWriter extends NullWriter {
 
 		private int numberOfInits = 0;
@@ -16,7 +16,9 @@ package org.cooder.tinylog;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -68,6 +70,88 @@ public class LoggingContextTest extends AbstractTinylogTest {
 		assertNull(LoggingContext.get("pi"));
 	}
 
+	/**
+	 * Test that captured mappings are not affected by later changes.
+	 */
+	@Test
+	public final void testSnapshots() {
+		LoggingContext.put("number", 42);
+		Map<String, String> snapshot = LoggingContext.getMapping();
+
+		LoggingContext.put("number", 42);
+		assertSame(snapshot, LoggingContext.getMapping());
+
+		LoggingContext.put("number", 43);
+		LoggingContext.put("pi", Math.PI);
+		assertEquals(singletonMap("number", "42"), snapshot);
+
+		LoggingContext.remove("number");
+		LoggingContext.clear();
+		assertEquals(singletonMap("number", "42"), snapshot);
+	}
+
+	/**
+	 * Test reverting context values by closing scopes.
+	 */
+	@Test
+	public final void testScopes() {
+		LoggingContext.put("user", "alice");
+
+		LoggingContext.Scope outer = LoggingContext.scope("user", "bob");
+		try {
+			assertEquals("bob", LoggingContext.get("user"));
+
+			LoggingContext.Scope inner = LoggingContext.scope("request", 1);
+			try {
+				assertEquals(doubletonMap("user", "bob", "request", "1"), LoggingContext.getMapping());
+			} finally {
+				inner.close();
+			}
+
+			assertEquals(singletonMap("user", "bob"), LoggingContext.getMapping());
+		} finally {
+			outer.close();
+		}
+
+		assertEquals(singletonMap("user", "alice"), LoggingContext.getMapping());
+
+		LoggingContext.Scope scope = LoggingContext.scope("user", null);
+		try {
+			assertEquals(emptyMap(), LoggingContext.getMapping());
+		} finally {
+			scope.close();
+		}
+
+		assertEquals(singletonMap("user", "alice"), LoggingContext.getMapping());
+
+		LoggingContext.clear();
+	}
+
+	/**
+	 * Test reverting context values by using scopes as resources of try-with-resources statements.
+	 */
+	@Test
+	public final void testScopesWithResources() {
+		LoggingContext.put("user", "alice");
+
+		try (LoggingContext.Scope scope = LoggingContext.scope("user", "bob")) {
+			assertNotNull(scope);
+			assertEquals("bob", LoggingContext.get("user"));
+		}
+
+		assertEquals(singletonMap("user", "alice"), LoggingContext.getMapping());
+
+		try (LoggingContext.Scope scope = LoggingContext.scope("request", 1)) {
+			assertNotNull(scope);
+			assertEquals(doubletonMap("user", "alice", "request", "1"), LoggingContext.getMapping());
+			throw new IllegalStateException();
+		} catch (IllegalStateException ex) {
+			assertEquals(singletonMap("user", "alice"), LoggingContext.getMapping());
+		}
+
+		LoggingContext.clear();
+	}
+
 	/**
 	 * Test if changes in one thread will not influence other already existing threads.
 	 *
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.cooder.tinylog.util.NullWriter;
+import org.cooder.tinylog.util.StoreWriter;
+import org.cooder.tinylog.writers.LogEntryValue;
+import org.junit.Test;
+
+/**
+ * Tests for recording statistics of the logging pipeline.
+ *
+ * @see Metrics
+ * @see Statistics
+ */
+public class MetricsTest extends AbstractTinylogTest {
+
+	/**
+	 * Test that nothing is recorded if statistics are disabled.
+	 */
+	@Test
+	public final void testDisabled() {
+		StoreWriter writer = new StoreWriter(LogEntryValue.LEVEL, LogEntryValue.MESSAGE);
+		Configurator.defaultConfig().writer(writer).level(Level.INFO).activate();
+		assertFalse(Metrics.isEnabled());
+		Metrics.reset();
+
+		Logger.debug("Hello!");
+		Logger.info("Hello!");
+		assertNotNull(writer.consumeLogEntry());
+
+		Statistics statistics = Logger.getStatistics();
+		assertEquals(0L, (long) statistics.getEntries().get(Level.INFO));
+		assertEquals(0L, (long) statistics.getDiscardedByLevel().get(Level.DEBUG));
+		assertTrue(statistics.getWriters().isEmpty());
+	}
+
+	/**
+	 * Test counting output and discarded log entries per severity level.
+	 */
+	@Test
+	public final void testEntries() {
+		StoreWriter writer = new StoreWriter(LogEntryValue.LEVEL, LogEntryValue.MESSAGE);
+		Configurator.defaultConfig().writer(writer).level(Level.INFO).level("a.b", Level.DEBUG).statistics(true).activate();
+		assertTrue(Metrics.isEnabled());
+		Metrics.reset();
+
+		Logger.trace("Hello!");
+		Logger.debug("Hello!");
+		Logger.info("Hello!");
+		assertNotNull(writer.consumeLogEntry());
+		Logger.info("Hello!");
+		assertNotNull(writer.consumeLogEntry());
+		Logger.error("Hello!");
+		assertNotNull(writer.consumeLogEntry());
+
+		Statistics statistics = Logger.getStatistics();
+		assertEquals(0L, (long) statistics.getEntries().get(Level.DEBUG));
+		assertEquals(2L, (long) statistics.getEntries().get(Level.INFO));
+		assertEquals(1L, (long) statistics.getEntries().get(Level.ERROR));
+		assertEquals(1L, (long) statistics.getDiscardedByLevel().get(Level.TRACE));
+		assertEquals(0L, (long) statistics.getDiscardedByLevel().get(Level.DEBUG));
+		assertEquals(1L, (long) statistics.getDiscardedByCustomLevel().get(Level.DEBUG));
+		assertFalse(statistics.getEntries().containsKey(Level.OFF));
+
+		Statistics.WriterStatistics writerStatistics = statistics.getWriters().get(writer);
+		assertEquals(3L, writerStatistics.getWrites().getCount());
+		assertEquals(0L, writerStatistics.getFlushes().getCount());
+		assertEquals(0L, writerStatistics.getBytes());
+	}
+
+	/**
+	 * Test recording the queue and flushes of the writing thread.
+	 */
+	@Test
+	public final void testWritingThread() {
+		NullWriter writer = new NullWriter();
+		Configurator.defaultConfig().writer(writer).writingThread(null).statistics(true).activate();
+		Metrics.reset();
+
+		for (int i = 0; i < 100; ++i) {
+			Logger.info("Hello!");
+		}
+		Configurator.shutdownWritingThread(true);
+
+		Statistics statistics = Logger.getStatistics();
+		assertEquals(0, statistics.getQueueDepth());
+		assertThat(statistics.getQueueHighWaterMark(), greaterThan(0));
+
+		Statistics.WriterStatistics writerStatistics = statistics.getWriters().get(writer);
+		assertEquals(100L, writerStatistics.getWrites().getCount());
+		assertThat(writerStatistics.getFlushes().getCount(), greaterThanOrEqualTo(1L));
+	}
+
+	/**
+	 * Test that statistics of writers, which are no longer used, will be dropped.
+	 */
+	@Test
+	public final void testReconfiguration() {
+		NullWriter first = new NullWriter();
+		Configurator.defaultConfig().writer(first).statistics(true).activate();
+		Logger.info("Hello!");
+		assertTrue(Logger.getStatistics().getWriters().containsKey(first));
+
+		NullWriter second = new NullWriter();
+		Configurator.defaultConfig().writer(second).statistics(true).activate();
+		Logger.info("Hello!");
+		assertFalse(Logger.getStatistics().getWriters().containsKey(first));
+		assertTrue(Logger.getStatistics().getWriters().containsKey(second));
+	}
+
+	/**
+	 * Test counting internal warnings and errors.
+	 */
+	@Test
+	public final void testInternalLogger() {
+		long warnings = Logger.getStatistics().getInternalWarnings();
+		long errors = Logger.getStatistics().getInternalErrors();
+
+		InternalLogger.warn("Test");
+		assertEquals("LOGGER WARNING: Test", getErrorStream().nextLine());
+		InternalLogger.error("Test");
+		assertEquals("LOGGER ERROR: Test", getErrorStream().nextLine());
+		InternalLogger.error("Test");
+		assertFalse(getErrorStream().hasLines());
+
+		assertEquals(warnings + 1L, Logger.getStatistics().getInternalWarnings());
+		assertEquals(errors + 2L, Logger.getStatistics().getInternalErrors());
+	}
+
+	/**
+	 * Test calculating percentiles from power of two buckets.
+	 */
+	@Test
+	public final void testDistribution() {
+		long[] buckets = new long[Long.SIZE + 1];
+		Statistics.Distribution distribution = new Statistics.Distribution(buckets, 0L, 0L);
+		assertEquals(0L, distribution.getCount());
+		assertEquals(0d, distribution.getMean(), 0d);
+		assertEquals(0L, distribution.getMedian());
+
+		buckets[1] = 1; // 1
+		buckets[3] = 98; // 4 - 7
+		buckets[11] = 1; // 1024 - 2047
+		distribution = new Statistics.Distribution(buckets, 1 + 98 * 5 + 1500, 1500L);
+		assertEquals(100L, distribution.getCount());
+		assertEquals(1991L, distribution.getSum());
+		assertEquals(19.91d, distribution.getMean(), 0.001d);
+		assertEquals(1L, distribution.getPercentile(0.01d));
+		assertEquals(7L, distribution.getMedian());
+		assertEquals(7L, distribution.getPercentile99());
+		assertEquals(1500L, distribution.getPercentile(1d));
+		assertEquals(1500L, distribution.getMaximum());
+	}
+
+	/**
+	 * Test publishing statistics via JMX.
+	 *
+	 * @throws Exception
+	 *             Failed to access MBean
+	 */
+	@Test
+	public final void testMBean() throws Exception {
+		NullWriter writer = new NullWriter();
+		Configurator.defaultConfig().writer(writer).statistics(true).activate();
+		Metrics.reset();
+
+		Logger.info("Hello!");
+		Logger.debug("Hello!");
+
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(Metrics.OBJECT_NAME);
+		assertTrue(server.isRegistered(name));
+
+		TabularData entries = (TabularData) server.getAttribute(name, "Entries");
+		assertEquals(1L, entries.get(new Object[] { Level.INFO.name() }).get("value"));
+		TabularData discarded = (TabularData) server.getAttribute(name, "DiscardedByLevel");
+		assertEquals(1L, discarded.get(new Object[] { Level.DEBUG.name() }).get("value"));
+
+		CompositeData[] writers = (CompositeData[]) server.getAttribute(name, "Writers");
+		assertEquals(1, writers.length);
+		assertEquals(1L, ((CompositeData) writers[0].get("writes")).get("count"));
+
+		server.invoke(name, "reset", new Object[0], new String[0]);
+		assertEquals(0L, (long) Logger.getStatistics().getEntries().get(Level.INFO));
+	}
+
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog;
+
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests for the output filter.
+ *
+ * @see OutputFilter
+ */
+public class OutputFilterTest extends AbstractTinylogTest {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1L);
+	private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1L);
+
+	/**
+	 * Test that no filter will be created if nothing is to filter.
+	 */
+	@Test
+	public final void testCreation() {
+		assertNull(OutputFilter.create(Collections.<RateLimit> emptyList(), 0L));
+
+		OutputFilter filter = OutputFilter.create(Arrays.asList(new RateLimit(RateLimit.Scope.LEVEL, 1, TimeUnit.SECONDS)), 0L);
+		assertFalse(filter.isClassNameRequired());
+
+		filter = OutputFilter.create(Arrays.asList(new RateLimit(RateLimit.Scope.CLASS, 1, TimeUnit.SECONDS)), 0L);
+		assertTrue(filter.isClassNameRequired());
+
+		filter = OutputFilter.create(Collections.<RateLimit> emptyList(), 1000L);
+		assertTrue(filter.isClassNameRequired());
+	}
+
+	/**
+	 * Test rate limit per severity level including burst and refilling.
+	 */
+	@Test
+	public final void testLevelScope() {
+		OutputFilter filter = OutputFilter.create(Arrays.asList(new RateLimit(RateLimit.Scope.LEVEL, 10, TimeUnit.SECONDS, 2)), 0L);
+		long now = 42 * SECOND;
+
+		assertEquals(0, filter.filter(Level.INFO, null, "a", null, now));
+		assertEquals(0, filter.filter(Level.INFO, null, "b", null, now));
+		assertEquals(OutputFilter.DISCARD, filter.filter(Level.INFO, null, "c", null, now));
+
+		/* Other severity levels have their own bucket */
+		assertEquals(0, filter.filter(Level.WARNING, null, "c", null, now));
+
+		/* One token is refilled every 100 milliseconds */
+		assertEquals(OutputFilter.DISCARD, filter.filter(Level.INFO, null, "d", null, now + 99 * MILLISECOND));
+		assertEquals(0, filter.filter(Level.INFO, null, "e", null, now + 100 * MILLISECOND));
+		assertEquals(OutputFilter.DISCARD, filter.filter(Level.INFO, null, "f", null, now + 100 * MILLISECOND));
+
+		/* Burst size is the maximum number of tokens */
+		now += 10 * SECOND;
+		assertEquals(0, filter.filter(Level.INFO, null, "g", null, now));
+		assertEquals(0, filter.filter(Level.INFO, null, "h", null, now));
+		assertEquals(OutputFilter.DISCARD, filter.filter(Level.INFO, null, "i", null, now));
+	}
+
+	/**
+	 * Test rate limit per class.
+	 */
+	@Test
+	public final void testClassScope() {
+		OutputFilter filter = OutputFilter.create(Arrays.asList(new RateLimit(RateLimit.Scope.CLASS, 1, TimeUnit.SECONDS)), 0L);
+		long now = SECOND;
+
+		assertEquals(0, filter.filter(Level.INFO, "a.A", "Hello", null, now));
+		assertEquals(OutputFilter.DISCARD, filter.filter(Level.ERROR, "a.A", "World", null, now));
+		assertEquals(0, filter.filter(Level.INFO, "b.B", "Hello", null, now));
+		assertEquals(0, filter.filter(Level.INFO, "a.A", "Hello", null, now + SECOND));
+	}
+
+	/**
+	 * Test rate limit per message template.
+	 */
+	@Test
+	public final void testMessageScope() {
+		OutputFilter filter = OutputFilter.create(Arrays.asList(new RateLimit(RateLimit.Scope.MESSAGE, 1, TimeUnit.MINUTES)), 0L);
+		long now = SECOND;
+
+		assertEquals(0, filter.filter(Level.INFO, null, "Value: {}", null, now));
+		assertEquals(OutputFilter.DISCARD, filter.filter(Level.WARNING, null, "Value: {}", null, now));
+		assertEquals(0, filter.filter(Level.INFO, null, "Other: {}", null, now));
+
+		/* Objects are limited by their class */
+		assertEquals(0, filter.filter(Level.INFO, null, 1, null, now));
+		assertEquals(OutputFilter.DISCARD, filter.filter(Level.INFO, null, 2, null, now));
+		assertEquals(0, filter.filter(Level.INFO, null, 1L, null, now));
+		assertEquals(0, filter.filter(Level.INFO, null, null, null, now));
+		assertEquals(OutputFilter.DISCARD, filter.filter(Level.INFO, null, null, null, now));
+	}
+
+	/**
+	 * Test collapsing identical log entries.
+	 */
+	@Test
+	public final void testDuplicates() {
+		OutputFilter filter = OutputFilter.create(Collections.<RateLimit> emptyList(), 1000L);
+		long now = SECOND;
+
+		assertEquals(0, filter.filter(Level.INFO, "a.A", "Hello", null, now));
+		assertEquals(OutputFilter.DISCARD, filter.filter(Level.INFO, "a.A", "Hello", null, now + MILLISECOND));
+		assertEquals(OutputFilter.DISCARD, filter.filter(Level.INFO, "a.A", "Hello", null, now + 2 * MILLISECOND));
+
+		/* Different class, message or exception type are not identical */
+		assertEquals(0, filter.filter(Level.INFO, "b.B", "Hello", null, now));
+		assertEquals(0, filter.filter(Level.INFO, "a.A", "World", null, now));
+		assertEquals(0, filter.filter(Level.INFO, "a.A", "Hello", new RuntimeException(), now));
+		assertEquals(OutputFilter.DISCARD, filter.filter(Level.INFO, "a.A", "Hello", new RuntimeException(), now));
+		assertEquals(0, filter.filter(Level.INFO, "a.A", "Hello", new IllegalStateException(), now));
+
+		/* After the interval, the number of collapsed log entries is returned */
+		assertEquals(2, filter.filter(Level.INFO, "a.A", "Hello", null, now + SECOND));
+		assertEquals(OutputFilter.DISCARD, filter.filter(Level.INFO, "a.A", "Hello", null, now + SECOND));
+		assertEquals(1, filter.filter(Level.INFO, "a.A", "Hello", null, now + 2 * SECOND));
+		assertEquals(0, filter.filter(Level.INFO, "a.A", "Hello", null, now + 3 * SECOND));
+	}
+
+	/**
+	 * Test that log entries, which have been discarded by a rate limit after passing the duplicate check, are counted
+	 * as collapsed.
+	 */
+	@Test
+	public final void testDuplicatesWithRateLimit() {
+		OutputFilter filter = OutputFilter.create(Arrays.asList(new RateLimit(RateLimit.Scope.LEVEL, 1, TimeUnit.MINUTES)), 1000L);
+		long now = SECOND;
+
+		assertEquals(0, filter.filter(Level.INFO, "a.A", "Hello", null, now));
+		assertEquals(OutputFilter.DISCARD, filter.filter(Level.INFO, "a.A", "Hello", null, now));
+		assertEquals(OutputFilter.DISCARD, filter.filter(Level.INFO, "a.A", "Hello", null, now + SECOND));
+
+		assertEquals(2, filter.filter(Level.INFO, "a.A", "Hello", null, now + 2 * SECOND + TimeUnit.MINUTES.toNanos(1L)));
+	}
+
+	/**
+	 * Test taking the number of collapsed log entries, if no further identical log entry arrives.
+	 */
+	@Test
+	public final void testExpire() {
+		OutputFilter filter = OutputFilter.create(Collections.<RateLimit> emptyList(), 1000L);
+		long now = SECOND;
+
+		assertEquals(0, filter.filter(Level.WARNING, "a.A", "Hello", null, now));
+		assertEquals(OutputFilter.DISCARD, filter.filter(Level.WARNING, "a.A", "Hello", null, now + MILLISECOND));
+		assertEquals(OutputFilter.DISCARD, filter.filter(Level.WARNING, "a.A", "Hello", null, now + 2 * MILLISECOND));
+		assertEquals(0, filter.filter(Level.INFO, "b.B", 42, null, now));
+		assertEquals(OutputFilter.DISCARD, filter.filter(Level.INFO, "b.B", 43, null, now));
+
+		/* Interval is not yet expired */
+		assertThat(filter.expire(now + SECOND / 2, false), empty());
+
+		/* Interval is expired */
+		List<OutputFilter.Summary> summaries = new ArrayList<OutputFilter.Summary>(filter.expire(now + SECOND, false));
+		assertEquals(2, summaries.size());
+		Collections.sort(summaries, new Comparator<OutputFilter.Summary>() {
+			@Override
+			public int compare(final OutputFilter.Summary first, final OutputFilter.Summary second) {
+				return first.getClassName().compareTo(second.getClassName());
+			}
+		});
+		assertEquals(Level.WARNING, summaries.get(0).getLevel());
+		assertEquals("a.A", summaries.get(0).getClassName());
+		assertEquals("Hello", summaries.get(0).getTemplate());
+		assertEquals(2, summaries.get(0).getCollapsed());
+		assertEquals(Level.INFO, summaries.get(1).getLevel());
+		assertEquals("b.B", summaries.get(1).getClassName());
+		assertEquals(Integer.class.getName(), summaries.get(1).getTemplate());
+		assertEquals(1, summaries.get(1).getCollapsed());
+
+		/* Taken numbers are neither returned again nor reported by the next identical log entry */
+		assertThat(filter.expire(now + SECOND, false), empty());
+		assertEquals(0, filter.filter(Level.WARNING, "a.A", "Hello", null, now + SECOND));
+
+		/* All numbers are taken, regardless of the interval */
+		assertEquals(OutputFilter.DISCARD, filter.filter(Level.WARNING, "a.A", "Hello", null, now + SECOND));
+		summaries = filter.expire(now + SECOND, true);
+		assertEquals(1, summaries.size());
+		assertEquals(1, summaries.get(0).getCollapsed());
+	}
+
+	/**
+	 * Test that numbers of collapsed log entries are kept if the maximum number of tracked log entries is reached.
+	 */
+	@Test
+	public final void testTooManyDuplicates() {
+		OutputFilter filter = OutputFilter.create(Collections.<RateLimit> emptyList(), 1000L);
+		long now = SECOND;
+
+		for (int i = 0; i < 10000; ++i) {
+			assertEquals(0, filter.filter(Level.INFO, "a.A", "Message " + i, null, now));
+			assertEquals(OutputFilter.DISCARD, filter.filter(Level.INFO, "a.A", "Message " + i, null, now));
+		}
+
+		/* Further log entries cannot be collapsed */
+		assertEquals(0, filter.filter(Level.INFO, "a.A", "Other", null, now));
+		assertEquals(0, filter.filter(Level.INFO, "a.A", "Other", null, now));
+
+		assertEquals(10000, filter.expire(now + SECOND, false).size());
+		assertThat(filter.expire(now + 2 * SECOND, false), empty());
+
+		/* Idle log entries are removed */
+		assertEquals(0, filter.filter(Level.INFO, "a.A", "Other", null, now + 2 * SECOND));
+		assertEquals(OutputFilter.DISCARD, filter.filter(Level.INFO, "a.A", "Other", null, now + 2 * SECOND));
+	}
+
+}
@@ -19,10 +19,13 @@ import static org.hamcrest.Matchers.emptyArray;
 import static org.hamcrest.number.OrderingComparison.lessThan;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.cooder.tinylog.hamcrest.ArrayMatchers.containsCollectionWithSizes;
 import static org.cooder.tinylog.hamcrest.ArrayMatchers.distinctContentInArray;
 import static org.cooder.tinylog.hamcrest.ArrayMatchers.typesInArray;
@@ -37,8 +40,11 @@ import java.lang.reflect.Constructor;
 import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import mockit.Mock;
@@ -55,11 +61,13 @@ import org.cooder.tinylog.policies.SizePolicy;
 import org.cooder.tinylog.policies.StartupPolicy;
 import org.cooder.tinylog.util.FileHelper;
 import org.cooder.tinylog.util.NullWriter;
+import org.cooder.tinylog.writers.BinaryWriter;
 import org.cooder.tinylog.util.PropertiesBuilder;
 import org.cooder.tinylog.writers.ConsoleWriter;
 import org.cooder.tinylog.writers.FileWriter;
 import org.cooder.tinylog.writers.PropertiesSupport;
 import org.cooder.tinylog.writers.Property;
+import org.cooder.tinylog.writers.RollingFileWriter;
 import org.cooder.tinylog.writers.Writer;
 
 /**
@@ -293,6 +301,96 @@ public class PropertiesLoaderTest extends AbstractTinylogTest {
 		logFile.delete();
 	}
 
+	/**
+	 * Test that writers with unchanged properties are reused when reading writers again.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testReuseWriters() throws IOException {
+		File logFile = FileHelper.createTemporaryFile("log");
+
+		Configurator configurator = Configurator.defaultConfig();
+		PropertiesBuilder propertiesBuilder = new PropertiesBuilder();
+		propertiesBuilder.set("tinylog.writer1", "console");
+		propertiesBuilder.set("tinylog.writer2", "file").set("tinylog.writer2.filename", logFile.getAbsolutePath());
+		Map<String, Writer> writers = PropertiesLoader.readWriters(configurator, propertiesBuilder.create(), PropertiesLoader.mapWriters(configurator,
+				propertiesBuilder.create()));
+		assertEquals(2, writers.size());
+		List<Writer> oldWriters = configurator.create().getWriters();
+		assertThat(oldWriters, types(ConsoleWriter.class, FileWriter.class));
+
+		/* Test mapping writers of an existing configurator */
+
+		assertEquals(writers, PropertiesLoader.mapWriters(configurator, propertiesBuilder.create()));
+
+		/* Test changing level and format pattern of writers */
+
+		configurator = Configurator.defaultConfig();
+		propertiesBuilder.set("tinylog.writer1.level", "warning").set("tinylog.writer2.format", "{message}");
+		writers = PropertiesLoader.readWriters(configurator, propertiesBuilder.create(), writers);
+		List<Writer> newWriters = configurator.create().getWriters();
+		assertSame(oldWriters.get(0), newWriters.get(0));
+		assertSame(oldWriters.get(1), newWriters.get(1));
+
+		/* Test changing properties of one writer */
+
+		configurator = Configurator.defaultConfig();
+		propertiesBuilder.set("tinylog.writer2.buffered", "true");
+		writers = PropertiesLoader.readWriters(configurator, propertiesBuilder.create(), writers);
+		newWriters = configurator.create().getWriters();
+		assertSame(oldWriters.get(0), newWriters.get(0));
+		assertNotSame(oldWriters.get(1), newWriters.get(1));
+		assertTrue(((FileWriter) newWriters.get(1)).isBuffered());
+		assertEquals(2, writers.size());
+
+		/* Test that writers cannot be mapped, if the configurator has not been created from the properties */
+
+		configurator = Configurator.defaultConfig().writer(new ConsoleWriter());
+		assertThat(PropertiesLoader.mapWriters(configurator, propertiesBuilder.create()).values(), empty());
+
+		logFile.delete();
+	}
+
+	/**
+	 * Test reusing writers, which declare the format pattern as own property.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testReuseWritersWithFormatProperty() throws IOException {
+		File logFile = FileHelper.createTemporaryFile("bin");
+
+		Configurator configurator = Configurator.defaultConfig();
+		PropertiesBuilder propertiesBuilder = new PropertiesBuilder();
+		propertiesBuilder.set("tinylog.writer", "binary").set("tinylog.writer.filename", logFile.getAbsolutePath());
+		Map<String, Writer> writers = PropertiesLoader.readWriters(configurator, propertiesBuilder.create(), new HashMap<String, Writer>());
+		Writer oldWriter = configurator.create().getWriters().get(0);
+		assertThat(oldWriter, type(BinaryWriter.class));
+		assertEquals(writers, PropertiesLoader.mapWriters(configurator, propertiesBuilder.create()));
+
+		/* Test changing level, which isn't declared by the binary writer */
+
+		configurator = Configurator.defaultConfig();
+		propertiesBuilder.set("tinylog.writer.level", "warning");
+		writers = PropertiesLoader.readWriters(configurator, propertiesBuilder.create(), writers);
+		assertSame(oldWriter, configurator.create().getWriters().get(0));
+
+		/* Test changing format pattern, which is declared by the binary writer */
+
+		configurator = Configurator.defaultConfig();
+		propertiesBuilder.set("tinylog.writer.format", "{message}");
+		writers = PropertiesLoader.readWriters(configurator, propertiesBuilder.create(), writers);
+		Writer newWriter = configurator.create().getWriters().get(0);
+		assertThat(newWriter, type(BinaryWriter.class));
+		assertNotSame(oldWriter, newWriter);
+		assertEquals(writers, PropertiesLoader.mapWriters(configurator, propertiesBuilder.create()));
+
+		logFile.delete();
+	}
+
 	/**
 	 * Test reading a writer without any properties.
 	 *
@@ -853,6 +951,7 @@ public class PropertiesLoaderTest extends AbstractTinylogTest {
 	@Test
 	public final void testReadWriterIfNoRegistered() throws IOException {
 		try (ClassLoaderMock mock = new ClassLoaderMock(PropertiesLoader.class.getClassLoader())) {
+			mock.set("META-INF/services/" + ImplementationRegistry.class.getPackage().getName(), (String) null);
 			mock.set("META-INF/services/" + Writer.class.getPackage().getName(), (String) null);
 
 			Configurator configurator = Configurator.defaultConfig();
@@ -872,6 +971,7 @@ public class PropertiesLoaderTest extends AbstractTinylogTest {
 	@Test
 	public final void testReadLabelerIfNoRegistered() throws IOException {
 		try (ClassLoaderMock mock = new ClassLoaderMock(PropertiesLoader.class.getClassLoader())) {
+			mock.set("META-INF/services/" + ImplementationRegistry.class.getPackage().getName(), (String) null);
 			mock.set("META-INF/services/" + Writer.class.getPackage().getName(), PropertiesWriter.class.getName());
 			mock.set("META-INF/services/" + Labeler.class.getPackage().getName(), (String) null);
 
@@ -892,6 +992,7 @@ public class PropertiesLoaderTest extends AbstractTinylogTest {
 	@Test
 	public final void testReadPolicyIfNoRegistered() throws IOException {
 		try (ClassLoaderMock mock = new ClassLoaderMock(PropertiesLoader.class.getClassLoader())) {
+			mock.set("META-INF/services/" + ImplementationRegistry.class.getPackage().getName(), (String) null);
 			mock.set("META-INF/services/" + Writer.class.getPackage().getName(), PropertiesWriter.class.getName());
 			mock.set("META-INF/services/" + Policy.class.getPackage().getName(), (String) null);
 
@@ -928,6 +1029,8 @@ public class PropertiesLoaderTest extends AbstractTinylogTest {
 		PropertiesLoader.readWriters(configurator, new PropertiesBuilder().set("tinylog.writer", "console").create());
 		List<Writer> writers = configurator.create().getWriters();
 		assertThat(writers, types(ConsoleWriter.class));
+		assertEquals("LOGGER ERROR: Failed to read services from \"META-INF/services/org.cooder.tinylog\" (" + IOException.class.getName() + ")",
+				getErrorStream().nextLine());
 		assertEquals("LOGGER ERROR: Failed to read services from \"META-INF/services/org.cooder.tinylog.writers\" (" + IOException.class.getName() + ")",
 				getErrorStream().nextLine());
 		assertEquals("LOGGER ERROR: Cannot find a writer for the name \"console\"", getErrorStream().nextLine());
@@ -1012,6 +1115,7 @@ public class PropertiesLoaderTest extends AbstractTinylogTest {
 	public final void testReadWriterIfInstantiationFailed() throws IOException {
 		try (ClassLoaderMock classLoaderMock = new ClassLoaderMock(PropertiesLoader.class.getClassLoader())) {
 			String writerClassName = EvilWriter.class.getName();
+			classLoaderMock.set("META-INF/services/" + ImplementationRegistry.class.getPackage().getName(), (String) null);
 			classLoaderMock.set("META-INF/services/" + Writer.class.getPackage().getName(), writerClassName);
 
 			Configurator configurator = Configurator.defaultConfig();
@@ -1142,6 +1246,108 @@ public class PropertiesLoaderTest extends AbstractTinylogTest {
 		}
 	}
 
+	/**
+	 * Test reading writers, labelers and policies from generated registries without any registered services.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testReadFromGeneratedRegistries() throws IOException {
+		try (ClassLoaderMock mock = new ClassLoaderMock(PropertiesLoader.class.getClassLoader())) {
+			mock.set("META-INF/services/" + Writer.class.getPackage().getName(), (String) null);
+			mock.set("META-INF/services/" + Labeler.class.getPackage().getName(), (String) null);
+			mock.set("META-INF/services/" + Policy.class.getPackage().getName(), (String) null);
+
+			File logFile = FileHelper.createTemporaryFile("log");
+
+			Configurator configurator = Configurator.defaultConfig();
+			PropertiesBuilder propertiesBuilder = new PropertiesBuilder().set("tinylog.writer", "rollingfile");
+			propertiesBuilder.set("tinylog.writer.filename", logFile.getAbsolutePath()).set("tinylog.writer.backups", "2");
+			propertiesBuilder.set("tinylog.writer.label", "count").set("tinylog.writer.policies", "startup, size: 1KB");
+			PropertiesLoader.readWriters(configurator, propertiesBuilder.create());
+
+			List<Writer> writers = configurator.create().getWriters();
+			assertThat(writers, types(RollingFileWriter.class));
+			RollingFileWriter writer = (RollingFileWriter) writers.get(0);
+			assertEquals(logFile.getAbsolutePath(), writer.getFilename());
+			assertEquals(2, writer.getNumberOfBackups());
+			assertThat(writer.getLabeler(), type(CountLabeler.class));
+			assertThat(writer.getPolicies(), types(StartupPolicy.class, SizePolicy.class));
+
+			logFile.delete();
+		}
+	}
+
+	/**
+	 * Test failures while instantiation of writers, labelers and policies from registries.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testReadFromRegistryIfInstantiationFailed() throws IOException {
+		try (ClassLoaderMock mock = new ClassLoaderMock(PropertiesLoader.class.getClassLoader())) {
+			mock.set("META-INF/services/" + ImplementationRegistry.class.getPackage().getName(), EvilRegistry.class.getName());
+			mock.set("META-INF/services/" + Writer.class.getPackage().getName(), PropertiesWriter.class.getName());
+
+			Configurator configurator = Configurator.defaultConfig();
+			PropertiesLoader.readWriters(configurator, new PropertiesBuilder().set("tinylog.writer", "evil").create());
+			assertThat(configurator.create().getWriters(), types(ConsoleWriter.class));
+			assertEquals("LOGGER ERROR: Failed to create an instance of \"" + EvilWriter.class.getName() + "\" (" + UnsupportedOperationException.class.getName()
+					+ ")", getErrorStream().nextLine());
+			assertEquals("LOGGER ERROR: Failed to initialize evil writer", getErrorStream().nextLine());
+
+			configurator = Configurator.defaultConfig();
+			PropertiesBuilder propertiesBuilder = new PropertiesBuilder().set("tinylog.writer", "properties").set("tinylog.writer.labeler", "evil: abc");
+			PropertiesLoader.readWriters(configurator, propertiesBuilder.create());
+			assertEquals("LOGGER WARNING: evil does not support parameters", getErrorStream().nextLine());
+			assertEquals("LOGGER ERROR: Failed to create an instance of \"" + EvilLabeler.class.getName() + "\" (" + UnsupportedOperationException.class.getName()
+					+ ")", getErrorStream().nextLine());
+			assertEquals("LOGGER ERROR: Failed to initialize evil labeler", getErrorStream().nextLine());
+			assertEquals("LOGGER ERROR: Failed to initialize properties writer", getErrorStream().nextLine());
+
+			configurator = Configurator.defaultConfig();
+			propertiesBuilder = new PropertiesBuilder().set("tinylog.writer", "properties").set("tinylog.writer.labeler", "nodefault");
+			PropertiesLoader.readWriters(configurator, propertiesBuilder.create());
+			assertEquals("LOGGER ERROR: \"" + LabelerWithoutDefaultConstructor.class.getName() + "\" does not have a default constructor",
+					getErrorStream().nextLine());
+			assertEquals("LOGGER ERROR: Failed to initialize nodefault labeler", getErrorStream().nextLine());
+			assertEquals("LOGGER ERROR: Failed to initialize properties writer", getErrorStream().nextLine());
+
+			configurator = Configurator.defaultConfig();
+			propertiesBuilder = new PropertiesBuilder().set("tinylog.writer", "properties").set("tinylog.writer.policy", "evil");
+			PropertiesLoader.readWriters(configurator, propertiesBuilder.create());
+			assertEquals("LOGGER ERROR: Failed to create an instance of \"" + EvilPolicy.class.getName() + "\" (" + UnsupportedOperationException.class.getName()
+					+ ")", getErrorStream().nextLine());
+			assertEquals("LOGGER ERROR: Failed to initialize evil policy", getErrorStream().nextLine());
+			assertEquals("LOGGER ERROR: Failed to initialize properties writer", getErrorStream().nextLine());
+		}
+	}
+
+	/**
+	 * Test that registries are resolved only once for reading all writers including their labelers and policies.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testResolvingRegistriesOnce() throws IOException {
+		try (ClassLoaderMock mock = new ClassLoaderMock(PropertiesLoader.class.getClassLoader())) {
+			mock.set("META-INF/services/" + ImplementationRegistry.class.getPackage().getName(), CountingRegistry.class.getName());
+			mock.set("META-INF/services/" + Writer.class.getPackage().getName(), PropertiesWriter.class.getName());
+			CountingRegistry.instances = 0;
+
+			Configurator configurator = Configurator.defaultConfig();
+			PropertiesBuilder propertiesBuilder = new PropertiesBuilder().set("tinylog.writer1", "properties").set("tinylog.writer1.labeler", "count");
+			propertiesBuilder.set("tinylog.writer2", "properties").set("tinylog.writer2.policies", "startup, size: 1KB");
+			PropertiesLoader.readWriters(configurator, propertiesBuilder.create());
+
+			assertThat(configurator.create().getWriters(), types(PropertiesWriter.class, PropertiesWriter.class));
+			assertEquals(1, CountingRegistry.instances);
+		}
+	}
+
 	/**
 	 * Test instantiation of a labeler without default constructor.
 	 *
@@ -1300,6 +1506,163 @@ public class PropertiesLoaderTest extends AbstractTinylogTest {
 		assertEquals(1, configuration.getWritingThread().getPriority());
 	}
 
+	/**
+	 * Test reading rate limits and interval for collapsing identical log entries.
+	 */
+	@Test
+	public final void testReadOutputFilter() {
+		Configurator configurator = Configurator.defaultConfig();
+		PropertiesLoader.readOutputFilter(configurator, new PropertiesBuilder().create());
+		Configuration configuration = configurator.create();
+		assertThat(configuration.getRateLimits(), empty());
+		assertEquals(0L, configuration.getDuplicateInterval());
+		assertNull(configuration.getOutputFilter());
+
+		configurator = Configurator.defaultConfig();
+		PropertiesBuilder propertiesBuilder = new PropertiesBuilder().set("tinylog.ratelimit.level", "100/s").set("tinylog.ratelimit.class", "6000/min, 10")
+				.set("tinylog.ratelimit.message", "5");
+		PropertiesLoader.readOutputFilter(configurator, propertiesBuilder.create());
+		configuration = configurator.create();
+		assertEquals(3, configuration.getRateLimits().size());
+		assertEquals(RateLimit.Scope.LEVEL, configuration.getRateLimits().get(0).getScope());
+		assertEquals(100L, configuration.getRateLimits().get(0).getEntries());
+		assertEquals(TimeUnit.SECONDS, configuration.getRateLimits().get(0).getUnit());
+		assertEquals(RateLimit.Scope.CLASS, configuration.getRateLimits().get(1).getScope());
+		assertEquals(6000L, configuration.getRateLimits().get(1).getEntries());
+		assertEquals(TimeUnit.MINUTES, configuration.getRateLimits().get(1).getUnit());
+		assertEquals(10L, configuration.getRateLimits().get(1).getBurst());
+		assertEquals(RateLimit.Scope.MESSAGE, configuration.getRateLimits().get(2).getScope());
+		assertEquals(5L, configuration.getRateLimits().get(2).getEntries());
+		assertNotNull(configuration.getOutputFilter());
+
+		configurator = Configurator.defaultConfig();
+		PropertiesLoader.readOutputFilter(configurator, new PropertiesBuilder().set("tinylog.ratelimit.level", "often").create());
+		assertThat(configurator.create().getRateLimits(), empty());
+		assertEquals("LOGGER WARNING: \"often\" is an invalid rate limit", getErrorStream().nextLine());
+
+		configurator = Configurator.defaultConfig();
+		PropertiesLoader.readOutputFilter(configurator, new PropertiesBuilder().set("tinylog.duplicates", "500").create());
+		assertEquals(500L, configurator.create().getDuplicateInterval());
+
+		configurator = Configurator.defaultConfig();
+		PropertiesLoader.readOutputFilter(configurator, new PropertiesBuilder().set("tinylog.duplicates", "250ms").create());
+		assertEquals(250L, configurator.create().getDuplicateInterval());
+
+		configurator = Configurator.defaultConfig();
+		PropertiesLoader.readOutputFilter(configurator, new PropertiesBuilder().set("tinylog.duplicates", "2s").create());
+		assertEquals(2000L, configurator.create().getDuplicateInterval());
+
+		configurator = Configurator.defaultConfig();
+		PropertiesLoader.readOutputFilter(configurator, new PropertiesBuilder().set("tinylog.duplicates", "invalid").create());
+		assertEquals(0L, configurator.create().getDuplicateInterval());
+		assertEquals("LOGGER WARNING: \"invalid\" is an invalid interval for collapsing identical log entries", getErrorStream().nextLine());
+	}
+
+	/**
+	 * Test reading sampling rates and key for consistent sampling.
+	 */
+	@Test
+	public final void testReadSampling() {
+		Configurator configurator = Configurator.defaultConfig();
+		PropertiesLoader.readSampling(configurator, new PropertiesBuilder().create());
+		Configuration configuration = configurator.create();
+		assertEquals(1d, configuration.getSamplingRate(), 0d);
+		assertEquals(0, configuration.getCustomSamplingRates().size());
+		assertNull(configuration.getSamplingKey());
+
+		configurator = Configurator.defaultConfig();
+		PropertiesBuilder propertiesBuilder = new PropertiesBuilder().set("tinylog.sample", "0.01").set("tinylog.sample@a", "1/1000")
+				.set("tinylog.sample@b.C", "5%").set("tinylog.sample.key", "trace");
+		PropertiesLoader.readSampling(configurator, propertiesBuilder.create());
+		configuration = configurator.create();
+		assertEquals(0.01d, configuration.getSamplingRate(), 0d);
+		assertEquals(2, configuration.getCustomSamplingRates().size());
+		assertEquals(0.001d, configuration.getCustomSamplingRates().get("a"), 0d);
+		assertEquals(0.05d, configuration.getCustomSamplingRates().get("b.C"), 0d);
+		assertEquals("trace", configuration.getSamplingKey());
+
+		configurator = Configurator.defaultConfig();
+		PropertiesLoader.readSampling(configurator, new PropertiesBuilder().set("tinylog.sample", "often").create());
+		assertEquals(1d, configurator.create().getSamplingRate(), 0d);
+		assertEquals("LOGGER WARNING: \"often\" is an invalid sampling rate", getErrorStream().nextLine());
+
+		configurator = Configurator.defaultConfig();
+		PropertiesLoader.readSampling(configurator, new PropertiesBuilder().set("tinylog.sample@a", "2").create());
+		assertEquals(0, configurator.create().getCustomSamplingRates().size());
+		assertEquals("LOGGER WARNING: \"2\" is an invalid sampling rate", getErrorStream().nextLine());
+	}
+
+	/**
+	 * Test reading whether statistics are to record.
+	 */
+	@Test
+	public final void testReadStatistics() {
+		Configurator configurator = Configurator.defaultConfig();
+		PropertiesLoader.readStatistics(configurator, new PropertiesBuilder().create());
+		assertFalse(configurator.create().isStatisticsEnabled());
+
+		configurator = Configurator.defaultConfig();
+		PropertiesLoader.readStatistics(configurator, new PropertiesBuilder().set("tinylog.statistics", "true").create());
+		assertTrue(configurator.create().isStatisticsEnabled());
+
+		configurator = Configurator.defaultConfig().statistics(true);
+		PropertiesLoader.readStatistics(configurator, new PropertiesBuilder().set("tinylog.statistics", "false").create());
+		assertFalse(configurator.create().isStatisticsEnabled());
+	}
+
+	/**
+	 * Test reading sampling interval for timing and the interval for outputting the timing.
+	 */
+	@Test
+	public final void testReadTiming() {
+		Configurator configurator = Configurator.defaultConfig();
+		PropertiesLoader.readStatistics(configurator, new PropertiesBuilder().create());
+		assertEquals(0, configurator.create().getTimingInterval());
+		assertEquals(0L, configurator.create().getTimingDumpInterval());
+
+		configurator = Configurator.defaultConfig();
+		PropertiesLoader.readStatistics(configurator, new PropertiesBuilder().set("tinylog.timing", "100").set("tinylog.timing.dump", "60s").create());
+		assertEquals(100, configurator.create().getTimingInterval());
+		assertEquals(60000L, configurator.create().getTimingDumpInterval());
+
+		configurator = Configurator.defaultConfig();
+		PropertiesLoader.readStatistics(configurator, new PropertiesBuilder().set("tinylog.timing", "1").set("tinylog.timing.dump", "500ms").create());
+		assertEquals(1, configurator.create().getTimingInterval());
+		assertEquals(500L, configurator.create().getTimingDumpInterval());
+
+		configurator = Configurator.defaultConfig();
+		PropertiesLoader.readStatistics(configurator, new PropertiesBuilder().set("tinylog.timing", "abc").set("tinylog.timing.dump", "xyz").create());
+		assertEquals("LOGGER WARNING: \"abc\" is an invalid sampling interval for timing", getErrorStream().nextLine());
+		assertEquals("LOGGER WARNING: \"xyz\" is an invalid interval for outputting timing", getErrorStream().nextLine());
+		assertEquals(0, configurator.create().getTimingInterval());
+		assertEquals(0L, configurator.create().getTimingDumpInterval());
+	}
+
+	/**
+	 * Test reading the initialization of writers in background.
+	 */
+	@Test
+	public final void testReadDeferredInit() {
+		Configurator configurator = Configurator.defaultConfig();
+		PropertiesLoader.readDeferredInit(configurator, new PropertiesBuilder().create());
+		assertEquals(0, configurator.create().getDeferredInitQueueSize());
+		assertEquals(0L, configurator.create().getDeferredInitTimeout());
+
+		configurator = Configurator.defaultConfig();
+		PropertiesLoader.readDeferredInit(configurator, new PropertiesBuilder().set("tinylog.deferredinit", "1000").set("tinylog.deferredinit.timeout", "30s")
+				.create());
+		assertEquals(1000, configurator.create().getDeferredInitQueueSize());
+		assertEquals(30000L, configurator.create().getDeferredInitTimeout());
+
+		configurator = Configurator.defaultConfig();
+		PropertiesLoader.readDeferredInit(configurator, new PropertiesBuilder().set("tinylog.deferredinit", "abc").set("tinylog.deferredinit.timeout", "xyz")
+				.create());
+		assertEquals("LOGGER WARNING: \"abc\" is an invalid queue size for initializing writers in background", getErrorStream().nextLine());
+		assertEquals("LOGGER WARNING: \"xyz\" is an invalid timeout for buffered log entries", getErrorStream().nextLine());
+		assertEquals(0, configurator.create().getDeferredInitQueueSize());
+		assertEquals(0L, configurator.create().getDeferredInitTimeout());
+	}
+
 	@PropertiesSupport(name = "properties", properties = { @Property(name = "boolean", type = boolean.class, optional = true),
 			@Property(name = "int", type = int.class, optional = true), @Property(name = "string", type = String.class, optional = true),
 			@Property(name = "strings", type = String[].class, optional = true), @Property(name = "labeler", type = Labeler.class, optional = true),
@@ -1382,6 +1745,97 @@ public class PropertiesLoaderTest extends AbstractTinylogTest {
 
 	}
 
+	/**
+	 * Hand-written registry for evil writers, labelers and policies.
+	 */
+	public static final class EvilRegistry implements ImplementationRegistry {
+
+		/** */
+		public EvilRegistry() {
+		}
+
+		@Override
+		public Class<?> findWriter(final String name) {
+			return "evil".equalsIgnoreCase(name) ? EvilWriter.class : null;
+		}
+
+		@Override
+		public Class<?> findLabeler(final String name) {
+			if ("evil".equalsIgnoreCase(name)) {
+				return EvilLabeler.class;
+			} else if ("nodefault".equalsIgnoreCase(name)) {
+				return LabelerWithoutDefaultConstructor.class;
+			} else {
+				return null;
+			}
+		}
+
+		@Override
+		public Class<?> findPolicy(final String name) {
+			return "evil".equalsIgnoreCase(name) ? EvilPolicy.class : null;
+		}
+
+		@Override
+		public Class<?>[][] getConstructors(final Class<?> implementation) {
+			if (implementation == LabelerWithoutDefaultConstructor.class) {
+				return new Class<?>[][] { new Class<?>[] { boolean.class } };
+			} else {
+				return new Class<?>[][] { new Class<?>[0] };
+			}
+		}
+
+		@Override
+		public Object create(final Class<?> implementation, final int constructor, final Object[] arguments) throws Exception {
+			if (implementation == EvilWriter.class) {
+				return new EvilWriter();
+			} else if (implementation == EvilLabeler.class) {
+				return new EvilLabeler();
+			} else {
+				return new EvilPolicy();
+			}
+		}
+
+	}
+
+	/**
+	 * Registry without any implementations, which counts its instances.
+	 */
+	public static final class CountingRegistry implements ImplementationRegistry {
+
+		private static int instances;
+
+		/** */
+		public CountingRegistry() {
+			++instances;
+		}
+
+		@Override
+		public Class<?> findWriter(final String name) {
+			return null;
+		}
+
+		@Override
+		public Class<?> findLabeler(final String name) {
+			return null;
+		}
+
+		@Override
+		public Class<?> findPolicy(final String name) {
+			return null;
+		}
+
+		@Override
+		public Class<?>[][] getConstructors(final Class<?> implementation) {
+			return new Class<?>[0][];
+		}
+
+		@Override
+		public Object create(final Class<?> implementation, final int constructor, final Object[] arguments) throws Exception {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
 	@org.cooder.tinylog.labelers.PropertiesSupport(name = "evil")
 	private static class EvilLabeler implements Labeler {
 
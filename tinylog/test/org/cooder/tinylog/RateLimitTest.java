@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests for rate limits.
+ *
+ * @see RateLimit
+ */
+public class RateLimitTest extends AbstractTinylogTest {
+
+	/**
+	 * Test creating rate limits without explicit burst size.
+	 */
+	@Test
+	public final void testDefaultBurst() {
+		RateLimit rateLimit = new RateLimit(RateLimit.Scope.LEVEL, 100, TimeUnit.SECONDS);
+		assertEquals(RateLimit.Scope.LEVEL, rateLimit.getScope());
+		assertEquals(100L, rateLimit.getEntries());
+		assertEquals(TimeUnit.SECONDS, rateLimit.getUnit());
+		assertEquals(100L, rateLimit.getBurst());
+		assertEquals(10000000L, rateLimit.getInterval());
+	}
+
+	/**
+	 * Test creating rate limits with explicit burst size.
+	 */
+	@Test
+	public final void testExplicitBurst() {
+		RateLimit rateLimit = new RateLimit(RateLimit.Scope.CLASS, 60, TimeUnit.MINUTES, 5);
+		assertEquals(RateLimit.Scope.CLASS, rateLimit.getScope());
+		assertEquals(60L, rateLimit.getEntries());
+		assertEquals(TimeUnit.MINUTES, rateLimit.getUnit());
+		assertEquals(5L, rateLimit.getBurst());
+		assertEquals(1000000000L, rateLimit.getInterval());
+	}
+
+	/**
+	 * Test that the interval is never zero, even for very high rates.
+	 */
+	@Test
+	public final void testMinimumInterval() {
+		RateLimit rateLimit = new RateLimit(RateLimit.Scope.MESSAGE, Long.MAX_VALUE, TimeUnit.SECONDS);
+		assertEquals(1L, rateLimit.getInterval());
+	}
+
+	/**
+	 * Test rejecting a non-positive number of log entries.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testInvalidEntries() {
+		new RateLimit(RateLimit.Scope.LEVEL, 0, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Test rejecting a non-positive burst size.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testInvalidBurst() {
+		new RateLimit(RateLimit.Scope.LEVEL, 10, TimeUnit.SECONDS, -1);
+	}
+
+	/**
+	 * Test parsing textual definitions of rate limits.
+	 */
+	@Test
+	public final void testParsing() {
+		RateLimit rateLimit = new RateLimit(RateLimit.Scope.LEVEL, "10");
+		assertEquals(10L, rateLimit.getEntries());
+		assertEquals(TimeUnit.SECONDS, rateLimit.getUnit());
+		assertEquals(10L, rateLimit.getBurst());
+
+		rateLimit = new RateLimit(RateLimit.Scope.LEVEL, "100/s");
+		assertEquals(100L, rateLimit.getEntries());
+		assertEquals(TimeUnit.SECONDS, rateLimit.getUnit());
+
+		rateLimit = new RateLimit(RateLimit.Scope.LEVEL, "6000 / min, 100");
+		assertEquals(6000L, rateLimit.getEntries());
+		assertEquals(TimeUnit.MINUTES, rateLimit.getUnit());
+		assertEquals(100L, rateLimit.getBurst());
+
+		rateLimit = new RateLimit(RateLimit.Scope.LEVEL, "5/HOUR");
+		assertEquals(5L, rateLimit.getEntries());
+		assertEquals(TimeUnit.HOURS, rateLimit.getUnit());
+	}
+
+	/**
+	 * Test parsing invalid number of log entries.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testParsingInvalidEntries() {
+		new RateLimit(RateLimit.Scope.LEVEL, "many/s");
+	}
+
+	/**
+	 * Test parsing invalid time unit.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testParsingInvalidUnit() {
+		new RateLimit(RateLimit.Scope.LEVEL, "10/day");
+	}
+
+	/**
+	 * Test parsing invalid burst size.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testParsingInvalidBurst() {
+		new RateLimit(RateLimit.Scope.LEVEL, "10/s, x");
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for sampling.
+ *
+ * @see Sampling
+ */
+public class SamplingTest extends AbstractTinylogTest {
+
+	/**
+	 * Clear logging context.
+	 */
+	@After
+	public final void clearContext() {
+		LoggingContext.clear();
+	}
+
+	/**
+	 * Test that no sampling will be created if nothing is defined.
+	 */
+	@Test
+	public final void testCreation() {
+		assertNull(Sampling.create(1d, Collections.<String, Double> emptyMap(), null));
+
+		Sampling sampling = Sampling.create(0.5d, Collections.<String, Double> emptyMap(), null);
+		assertEquals(0.5d, sampling.getRate(), 0d);
+		assertFalse(sampling.isClassNameRequired());
+
+		sampling = Sampling.create(1d, Collections.singletonMap("a", 0.5d), "trace");
+		assertEquals(Collections.singletonMap("a", 0.5d), sampling.getCustomRates());
+		assertEquals("trace", sampling.getKey());
+		assertTrue(sampling.isClassNameRequired());
+	}
+
+	/**
+	 * Test that only trace and debug log entries are sampled.
+	 */
+	@Test
+	public final void testLevels() {
+		Sampling sampling = Sampling.create(0d, Collections.<String, Double> emptyMap(), null);
+		assertFalse(sampling.isSampled(Level.TRACE, null));
+		assertFalse(sampling.isSampled(Level.DEBUG, null));
+		assertTrue(sampling.isSampled(Level.INFO, null));
+		assertTrue(sampling.isSampled(Level.WARNING, null));
+		assertTrue(sampling.isSampled(Level.ERROR, null));
+	}
+
+	/**
+	 * Test random sampling with a global sampling rate.
+	 */
+	@Test
+	public final void testRandomSampling() {
+		Sampling sampling = Sampling.create(0.1d, Collections.<String, Double> emptyMap(), null);
+		assertThat(count(sampling, "a.A", 100000), allOf(greaterThan(9000), lessThan(11000)));
+	}
+
+	/**
+	 * Test sampling rates for specific packages and classes.
+	 */
+	@Test
+	public final void testCustomRates() {
+		Map<String, Double> rates = new HashMap<String, Double>();
+		rates.put("a", 0d);
+		rates.put("a.b.C", 1d);
+		rates.put("c", 0.5d);
+		Sampling sampling = Sampling.create(1d, rates, null);
+
+		assertEquals(0, count(sampling, "a.A", 1000));
+		assertEquals(0, count(sampling, "a.b.B", 1000));
+		assertEquals(1000, count(sampling, "a.b.C", 1000));
+		assertEquals(1000, count(sampling, "b.B", 1000));
+		assertThat(count(sampling, "c.C", 10000), allOf(greaterThan(4000), lessThan(6000)));
+	}
+
+	/**
+	 * Test consistent sampling by a context value.
+	 */
+	@Test
+	public final void testConsistentSampling() {
+		Sampling sampling = Sampling.create(0.5d, Collections.<String, Double> emptyMap(), "trace");
+
+		int sampled = 0;
+		for (int i = 0; i < 1000; ++i) {
+			LoggingContext.put("trace", "id-" + i);
+			boolean first = sampling.isSampled(Level.DEBUG, null);
+			for (int j = 0; j < 10; ++j) {
+				assertEquals(first, sampling.isSampled(Level.DEBUG, null));
+			}
+			if (first) {
+				++sampled;
+			}
+		}
+		assertThat(sampled, allOf(greaterThan(400), lessThan(600)));
+
+		/* Log entries without context value are sampled randomly */
+		LoggingContext.clear();
+		assertThat(count(sampling, null, 10000), allOf(greaterThan(4000), lessThan(6000)));
+	}
+
+	private static int count(final Sampling sampling, final String className, final int iterations) {
+		int count = 0;
+		for (int i = 0; i < iterations; ++i) {
+			if (sampling.isSampled(Level.DEBUG, className)) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.cooder.tinylog.Statistics.Distribution;
+import org.cooder.tinylog.Statistics.Phase;
+import org.cooder.tinylog.util.StoreWriter;
+import org.cooder.tinylog.writers.LogEntryValue;
+import org.junit.Test;
+
+/**
+ * Tests for sampled timing of the output phases.
+ *
+ * @see Timing
+ */
+public class TimingTest extends AbstractTinylogTest {
+
+	/**
+	 * Test assigning values to log-linear buckets.
+	 */
+	@Test
+	public final void testBuckets() {
+		for (long value = 0L; value < 8L; ++value) {
+			assertEquals(value, Distribution.index(value, 3));
+			assertEquals(value, Distribution.upperBound((int) value, 3));
+		}
+
+		assertEquals(8, Distribution.index(8L, 3));
+		assertEquals(15, Distribution.index(15L, 3));
+		assertEquals(16, Distribution.index(16L, 3));
+		assertEquals(16, Distribution.index(17L, 3));
+		assertEquals(17L, Distribution.upperBound(16, 3));
+
+		for (long value = 1L; value < 1L << 36; value = value * 3L + 1L) {
+			int index = Distribution.index(value, 3);
+			long upperBound = Distribution.upperBound(index, 3);
+			assertThat(upperBound, greaterThanOrEqualTo(value));
+			assertThat(upperBound - value, lessThanOrEqualTo(value / 8L));
+			assertThat(value, greaterThan(Distribution.upperBound(index - 1, 3)));
+		}
+	}
+
+	/**
+	 * Test that nothing is measured if timing is disabled.
+	 */
+	@Test
+	public final void testDisabled() {
+		StoreWriter writer = new StoreWriter(LogEntryValue.LEVEL, LogEntryValue.MESSAGE);
+		Configurator.defaultConfig().writer(writer).activate();
+		Metrics.reset();
+
+		Logger.info("Hello!");
+		assertNotNull(writer.consumeLogEntry());
+
+		assertEquals(0L, Logger.getStatistics().getTimings().get(Phase.TOTAL).getCount());
+	}
+
+	/**
+	 * Test measuring every log entry.
+	 */
+	@Test
+	public final void testEveryLogEntry() {
+		StoreWriter writer = new StoreWriter(LogEntryValue.LEVEL, LogEntryValue.CLASS, LogEntryValue.MESSAGE);
+		Configurator.defaultConfig().writer(writer).level("a.b", Level.OFF).timing(1).activate();
+		Metrics.reset();
+
+		for (int i = 0; i < 10; ++i) {
+			Logger.info("Hello {}!", i);
+			assertNotNull(writer.consumeLogEntry());
+		}
+
+		Map<Phase, Distribution> timings = Logger.getStatistics().getTimings();
+		assertEquals(10L, timings.get(Phase.TOTAL).getCount());
+		assertEquals(10L, timings.get(Phase.LEVEL_CHECK).getCount());
+		assertEquals(10L, timings.get(Phase.STACK_TRACE).getCount());
+		assertEquals(10L, timings.get(Phase.MESSAGE).getCount());
+		assertEquals(10L, timings.get(Phase.RENDERING).getCount());
+		assertEquals(10L, timings.get(Phase.DISPATCH).getCount());
+		assertThat(timings.get(Phase.TOTAL).getSum(), greaterThanOrEqualTo(timings.get(Phase.MESSAGE).getSum()));
+	}
+
+	/**
+	 * Test measuring only every n-th log entry.
+	 */
+	@Test
+	public final void testSampling() {
+		StoreWriter writer = new StoreWriter(LogEntryValue.LEVEL, LogEntryValue.MESSAGE);
+		Configurator.defaultConfig().writer(writer).timing(4).activate();
+		Metrics.reset();
+
+		for (int i = 0; i < 100; ++i) {
+			Logger.info("Hello!");
+			assertNotNull(writer.consumeLogEntry());
+		}
+
+		Map<Phase, Distribution> timings = Logger.getStatistics().getTimings();
+		assertEquals(25L, timings.get(Phase.TOTAL).getCount());
+		assertEquals(25L, timings.get(Phase.MESSAGE).getCount());
+		assertEquals(0L, timings.get(Phase.STACK_TRACE).getCount());
+
+		Metrics.reset();
+		assertEquals(0L, Logger.getStatistics().getTimings().get(Phase.TOTAL).getCount());
+	}
+
+	/**
+	 * Test that log entries discarded by a custom severity level are measured only until the level check.
+	 */
+	@Test
+	public final void testDiscarded() {
+		StoreWriter writer = new StoreWriter(LogEntryValue.LEVEL, LogEntryValue.MESSAGE);
+		Configurator.defaultConfig().writer(writer).level(TimingTest.class, Level.WARNING).timing(1).activate();
+		Metrics.reset();
+
+		Logger.info("Hello!");
+		assertNull(writer.consumeLogEntry());
+
+		Map<Phase, Distribution> timings = Logger.getStatistics().getTimings();
+		assertEquals(1L, timings.get(Phase.TOTAL).getCount());
+		assertEquals(1L, timings.get(Phase.LEVEL_CHECK).getCount());
+		assertEquals(1L, timings.get(Phase.STACK_TRACE).getCount());
+		assertEquals(0L, timings.get(Phase.MESSAGE).getCount());
+		assertEquals(0L, timings.get(Phase.DISPATCH).getCount());
+	}
+
+	/**
+	 * Test that recorders of terminated threads are removed when new threads are registered, even if no snapshot is
+	 * created, and that their measurements are kept.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testTerminatedThreads() throws Exception {
+		StoreWriter writer = new StoreWriter(LogEntryValue.LEVEL, LogEntryValue.MESSAGE);
+		Configurator.defaultConfig().writer(writer).timing(1).activate();
+		Metrics.reset();
+
+		Field field = Timing.class.getDeclaredField("recorders");
+		field.setAccessible(true);
+		Collection<?> recorders = (Collection<?>) field.get(null);
+		int initialRecorders = recorders.size();
+
+		for (int i = 0; i < 10; ++i) {
+			Thread thread = new Thread() {
+
+				@Override
+				public void run() {
+					Logger.info("Hello!");
+				}
+
+			};
+			thread.start();
+			thread.join();
+			assertNotNull(writer.consumeLogEntry());
+			assertThat(recorders.size(), lessThanOrEqualTo(initialRecorders + 1));
+		}
+
+		assertEquals(10L, Logger.getStatistics().getTimings().get(Phase.TOTAL).getCount());
+	}
+
+	/**
+	 * Test creating a human readable summary.
+	 */
+	@Test
+	public final void testSummary() {
+		Map<Phase, Distribution> timings = new EnumMap<Phase, Distribution>(Phase.class);
+		for (Phase phase : Phase.values()) {
+			timings.put(phase, new Distribution(3, new long[Long.SIZE * 8], 0L, 0L));
+		}
+		long[] buckets = new long[Long.SIZE * 8];
+		buckets[5] = 2L;
+		timings.put(Phase.MESSAGE, new Distribution(3, buckets, 10L, 5L));
+		timings.put(Phase.TOTAL, new Distribution(3, buckets, 10L, 5L));
+
+		assertEquals("Timing of 2 sampled log entries in ns (median / 99th percentile / maximum): message 5 / 5 / 5, total 5 / 5 / 5",
+				Timing.summarize(timings));
+	}
+
+	/**
+	 * Test outputting the timing periodically as log entry.
+	 *
+	 * @throws InterruptedException
+	 *             Test failed
+	 */
+	@Test
+	public final void testDump() throws InterruptedException {
+		StoreWriter writer = new StoreWriter(LogEntryValue.LEVEL, LogEntryValue.MESSAGE);
+		Configurator.defaultConfig().writer(writer).timing(1).timingDump(10L).activate();
+		Metrics.reset();
+
+		Logger.info("Hello!");
+		assertNotNull(writer.consumeLogEntry());
+
+		LogEntry logEntry = null;
+		for (int i = 0; i < 500 && logEntry == null; ++i) {
+			Thread.sleep(10L);
+			logEntry = writer.consumeLogEntry();
+		}
+
+		assertNotNull(logEntry);
+		assertEquals(Level.INFO, logEntry.getLevel());
+		assertThat(logEntry.getMessage(), startsWith("Timing of 1 sampled log entries in ns"));
+
+		Configurator.defaultConfig().activate();
+		assertEquals(1L, Logger.getStatistics().getTimings().get(Phase.TOTAL).getCount());
+	}
+
+}
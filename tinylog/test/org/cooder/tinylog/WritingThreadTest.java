@@ -78,6 +78,67 @@ public class WritingThreadTest extends AbstractTinylogTest {
 		assertEquals("sample", logEntry.getMessage());
 	}
 
+	/**
+	 * Test draining pending log entries, when a writing thread is replaced.
+	 *
+	 * @throws InterruptedException
+	 *             Test failed
+	 */
+	@Test
+	public final void testDrain() throws InterruptedException {
+		StoreWriter writer = new StoreWriter();
+
+		/* Test writing pending log entries by running thread */
+
+		WritingThread writingThread = new WritingThread(null, Thread.NORM_PRIORITY);
+		writingThread.putLogEntry(writer, new LogEntryBuilder().message("first").create());
+		writingThread.start();
+		writingThread.drain(null);
+		assertFalse(writingThread.isAlive());
+		assertEquals("first", writer.consumeLogEntry().getMessage());
+
+		/* Test writing log entries synchronously, which are put after draining */
+
+		writingThread.putLogEntry(writer, new LogEntryBuilder().message("second").create());
+		assertEquals("second", writer.consumeLogEntry().getMessage());
+
+		/* Test handing over pending and later log entries to successor */
+
+		StoreWriter otherWriter = new StoreWriter();
+		writingThread = new WritingThread(null, Thread.NORM_PRIORITY);
+		WritingThread successor = new WritingThread(null, Thread.NORM_PRIORITY);
+		writingThread.putLogEntry(writer, new LogEntryBuilder().message("third").create());
+		writingThread.drain(successor);
+		writingThread.putLogEntry(otherWriter, new LogEntryBuilder().message("fourth").create());
+		assertNull(writer.consumeLogEntry());
+		assertNull(otherWriter.consumeLogEntry());
+
+		successor.start();
+		successor.shutdown();
+		successor.join();
+		assertEquals("third", writer.consumeLogEntry().getMessage());
+		assertEquals("fourth", otherWriter.consumeLogEntry().getMessage());
+	}
+
+	/**
+	 * Test that draining waits until a slow writer has finished writing pending log entries.
+	 *
+	 * @throws InterruptedException
+	 *             Test failed
+	 */
+	@Test
+	public final void testDrainSlowWriter() throws InterruptedException {
+		SlowWriter writer = new SlowWriter(1500L);
+		WritingThread writingThread = new WritingThread(null, Thread.NORM_PRIORITY);
+		writingThread.putLogEntry(writer, new LogEntryBuilder().message("slow").create());
+		writingThread.start();
+
+		WritingThread successor = new WritingThread(null, Thread.NORM_PRIORITY);
+		writingThread.drain(successor);
+		assertFalse(writingThread.isAlive());
+		assertEquals(1, writer.written);
+	}
+
 	/**
 	 * Test if writing thread flushes after an iteration.
 	 *
@@ -218,4 +279,28 @@ public class WritingThreadTest extends AbstractTinylogTest {
 
 	}
 
+	private static final class SlowWriter extends NullWriter {
+
+		private final long delay;
+		private volatile int written = 0;
+
+		private SlowWriter(final long delay) {
+			this.delay = delay;
+		}
+
+		@Override
+		public void write(final LogEntry logEntry) {
+			long end = System.currentTimeMillis() + delay;
+			for (long remaining = delay; remaining > 0; remaining = end - System.currentTimeMillis()) {
+				try {
+					Thread.sleep(remaining);
+				} catch (InterruptedException ex) {
+					// Continue waiting as shutting down the writing thread interrupts it
+				}
+			}
+			++written;
+		}
+
+	}
+
 }
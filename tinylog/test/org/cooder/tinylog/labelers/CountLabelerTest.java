@@ -83,6 +83,114 @@ public class CountLabelerTest extends AbstractLabelerTest {
 		backupFile2.delete();
 	}
 
+	/**
+	 * Test rolling companion files together with log files.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testCompanionFiles() throws IOException {
+		File baseFile = FileHelper.createTemporaryFile("tmp");
+		File baseCompanion = new File(baseFile.getPath() + ".idx");
+		File backupCompanion1 = new File(getBackupFile(baseFile, "tmp", "0").getPath() + ".idx");
+		File backupCompanion2 = new File(getBackupFile(baseFile, "tmp", "1").getPath() + ".idx");
+		backupCompanion1.deleteOnExit();
+		backupCompanion2.deleteOnExit();
+
+		CountLabeler labeler = new CountLabeler();
+		labeler.setCompanionSuffix(".idx");
+		labeler.init(ConfigurationCreator.getDummyConfiguration());
+		labeler.getLogFile(baseFile);
+
+		FileHelper.write(baseFile, "1");
+		FileHelper.write(baseCompanion, "index 1");
+		labeler.roll(baseFile, 2);
+		assertFalse(baseCompanion.exists());
+		assertEquals("index 1", FileHelper.read(backupCompanion1));
+
+		/* Log file without companion file must not inherit the companion file of the backup */
+		FileHelper.write(baseFile, "2");
+		labeler.roll(baseFile, 2);
+		assertFalse(backupCompanion1.exists());
+		assertEquals("index 1", FileHelper.read(backupCompanion2));
+
+		FileHelper.write(baseFile, "3");
+		FileHelper.write(baseCompanion, "index 3");
+		labeler.roll(baseFile, 2);
+		assertEquals("index 3", FileHelper.read(backupCompanion1));
+		assertFalse(backupCompanion2.exists());
+
+		getBackupFile(baseFile, "tmp", "0").delete();
+		getBackupFile(baseFile, "tmp", "1").delete();
+		backupCompanion1.delete();
+	}
+
+	/**
+	 * Test deleting the oldest backups if the total size of all backups exceeds the retention.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testRetentionBySize() throws IOException {
+		File baseFile = FileHelper.createTemporaryFile("tmp");
+		File backupFile1 = getBackupFile(baseFile, "tmp", "0");
+		File backupFile2 = getBackupFile(baseFile, "tmp", "1");
+		File backupFile3 = getBackupFile(baseFile, "tmp", "2");
+
+		CountLabeler labeler = new CountLabeler();
+		labeler.setRetention(new Retention(5L, 0L));
+		labeler.init(ConfigurationCreator.getDummyConfiguration());
+		assertSame(baseFile, labeler.getLogFile(baseFile));
+
+		FileHelper.write(baseFile, "12");
+		labeler.roll(baseFile, 10);
+		FileHelper.write(baseFile, "34");
+		labeler.roll(baseFile, 10);
+		assertEquals("34", FileHelper.read(backupFile1));
+		assertEquals("12", FileHelper.read(backupFile2));
+
+		FileHelper.write(baseFile, "56");
+		labeler.roll(baseFile, 10);
+		assertEquals("56", FileHelper.read(backupFile1));
+		assertEquals("34", FileHelper.read(backupFile2));
+		assertFalse(backupFile3.exists());
+
+		backupFile1.delete();
+		backupFile2.delete();
+	}
+
+	/**
+	 * Test deleting backups that are older than the retention.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testRetentionByAge() throws IOException {
+		File baseFile = FileHelper.createTemporaryFile("tmp");
+		File backupFile1 = getBackupFile(baseFile, "tmp", "0");
+		File backupFile2 = getBackupFile(baseFile, "tmp", "1");
+
+		CountLabeler labeler = new CountLabeler();
+		labeler.setRetention(new Retention(0L, 60000L));
+		labeler.init(ConfigurationCreator.getDummyConfiguration());
+		labeler.getLogFile(baseFile);
+
+		FileHelper.write(baseFile, "1");
+		baseFile.setLastModified(System.currentTimeMillis() - 120000L);
+		labeler.roll(baseFile, 10);
+		assertFalse(backupFile1.exists());
+
+		FileHelper.write(baseFile, "2");
+		labeler.roll(baseFile, 10);
+		assertTrue(backupFile1.exists());
+		assertFalse(backupFile2.exists());
+
+		backupFile1.delete();
+	}
+
 	/**
 	 * Test labeling for log file without file extension.
 	 *
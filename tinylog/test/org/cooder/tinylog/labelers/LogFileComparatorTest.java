@@ -65,7 +65,7 @@ public class LogFileComparatorTest extends AbstractTinylogTest {
 	}
 
 	/**
-	 * The compare with two files that have the same age.
+	 * The compare with two files that have the same age. The file with the greater name should be handled as youngest.
 	 */
 	@Test
 	public final void testSameAge() {
@@ -74,7 +74,14 @@ public class LogFileComparatorTest extends AbstractTinylogTest {
 
 		LogFileComparator comparator = LogFileComparator.getInstance();
 		assertNotNull(comparator);
-		assertEquals(0, comparator.compare(file1, file2));
+		assertEquals(0, comparator.compare(file1, file1));
+		if (file1.getName().compareTo(file2.getName()) > 0) {
+			assertThat(comparator.compare(file1, file2), lessThan(0));
+			assertThat(comparator.compare(file2, file1), greaterThan(0));
+		} else {
+			assertThat(comparator.compare(file1, file2), greaterThan(0));
+			assertThat(comparator.compare(file2, file1), lessThan(0));
+		}
 	}
 
 	/**
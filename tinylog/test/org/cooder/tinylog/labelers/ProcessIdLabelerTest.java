@@ -149,6 +149,77 @@ public class ProcessIdLabelerTest extends AbstractLabelerTest {
 		backupFile2.delete();
 	}
 
+	/**
+	 * Test if labeler deletes backups, which have been created by other processes after getting the log file.
+	 *
+	 * @throws IOException
+	 *             Problem with the temporary file
+	 */
+	@Test
+	public final void testDeletingBackupsOfOtherProcesses() throws IOException {
+		File baseFile = File.createTempFile("test", ".tmp");
+		baseFile.delete();
+
+		File backupFile1 = getBackupFile(baseFile, "tmp", "$OLD1$");
+		backupFile1.createNewFile();
+		backupFile1.setLastModified(2000L);
+
+		ProcessIdLabeler labeler = new ProcessIdLabeler();
+		labeler.init(ConfigurationCreator.getDummyConfiguration());
+		File logFile = labeler.getLogFile(baseFile);
+
+		/* Simulate backups of other processes */
+
+		File backupFile2 = getBackupFile(baseFile, "tmp", "$OLD2$");
+		backupFile2.createNewFile();
+		backupFile2.setLastModified(1000L);
+		File backupFile3 = getBackupFile(baseFile, "tmp", "$OLD3$");
+		backupFile3.createNewFile();
+		backupFile3.setLastModified(0L);
+
+		labeler.roll(logFile, 1);
+
+		assertTrue(backupFile1.exists());
+		assertFalse(backupFile2.exists());
+		assertFalse(backupFile3.exists());
+
+		backupFile1.delete();
+	}
+
+	/**
+	 * Test if labeler deletes the oldest files if the total size of all backups exceeds the retention.
+	 *
+	 * @throws IOException
+	 *             Problem with the temporary file
+	 */
+	@Test
+	public final void testRetentionBySize() throws IOException {
+		File baseFile = File.createTempFile("test", ".tmp");
+		baseFile.delete();
+
+		File backupFile1 = getBackupFile(baseFile, "tmp", "$OLD1$");
+		FileHelper.write(backupFile1, "12");
+		backupFile1.setLastModified(1000L);
+		File backupFile2 = getBackupFile(baseFile, "tmp", "$OLD2$");
+		FileHelper.write(backupFile2, "34");
+		backupFile2.setLastModified(2000L);
+		File backupFile3 = getBackupFile(baseFile, "tmp", "$OLD3$");
+		FileHelper.write(backupFile3, "56");
+		backupFile3.setLastModified(3000L);
+
+		ProcessIdLabeler labeler = new ProcessIdLabeler();
+		labeler.setRetention(new Retention(5L, 0L));
+		labeler.init(ConfigurationCreator.getDummyConfiguration());
+		labeler.roll(labeler.getLogFile(baseFile), 10);
+
+		assertFalse(backupFile1.exists());
+		assertTrue(backupFile2.exists());
+		assertTrue(backupFile3.exists());
+
+		backupFile2.delete();
+		backupFile3.delete();
+	}
+
 	/**
 	 * Test deleting if current file is in use.
 	 *
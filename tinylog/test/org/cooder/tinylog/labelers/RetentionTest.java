@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.labelers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.cooder.tinylog.AbstractTinylogTest;
+import org.junit.Test;
+
+/**
+ * Tests for retention of backups.
+ *
+ * @see Retention
+ */
+public class RetentionTest extends AbstractTinylogTest {
+
+	/**
+	 * Test creating a retention with numeric limits.
+	 */
+	@Test
+	public final void testNumericLimits() {
+		Retention retention = new Retention(1024L, 60000L);
+		assertEquals(1024L, retention.getMaxSize());
+		assertEquals(60000L, retention.getMaxAge());
+
+		retention = new Retention(0L, 0L);
+		assertEquals(0L, retention.getMaxSize());
+		assertEquals(0L, retention.getMaxAge());
+	}
+
+	/**
+	 * Test rejecting negative limits.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testNegativeSize() {
+		new Retention(-1L, 0L);
+	}
+
+	/**
+	 * Test rejecting negative limits.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testNegativeAge() {
+		new Retention(0L, -1L);
+	}
+
+	/**
+	 * Test parsing sizes with and without byte unit.
+	 */
+	@Test
+	public final void testParsingSize() {
+		assertEquals(42L, new Retention("42", null).getMaxSize());
+		assertEquals(42L * 1024L, new Retention("42 KB", null).getMaxSize());
+		assertEquals(42L * 1024L * 1024L, new Retention("42MB", null).getMaxSize());
+		assertEquals(42L * 1024L * 1024L * 1024L, new Retention("42GB", null).getMaxSize());
+		assertEquals(0L, new Retention(null, "1d").getMaxSize());
+	}
+
+	/**
+	 * Test parsing ages with and without time unit.
+	 */
+	@Test
+	public final void testParsingAge() {
+		assertEquals(2L * 24L * 60L * 60L * 1000L, new Retention(null, "2").getMaxAge());
+		assertEquals(2L * 24L * 60L * 60L * 1000L, new Retention(null, "2d").getMaxAge());
+		assertEquals(2L * 60L * 60L * 1000L, new Retention(null, "2 H").getMaxAge());
+		assertEquals(2L * 60L * 1000L, new Retention(null, "2m").getMaxAge());
+		assertEquals(2L * 1000L, new Retention(null, "2s").getMaxAge());
+		assertEquals(0L, new Retention("1KB", null).getMaxAge());
+	}
+
+	/**
+	 * Test rejecting invalid sizes.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testInvalidSize() {
+		new Retention("abc", null);
+	}
+
+	/**
+	 * Test rejecting invalid ages.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testInvalidAge() {
+		new Retention(null, "0d");
+	}
+
+	/**
+	 * Test checking backups against the limits.
+	 */
+	@Test
+	public final void testRetaining() {
+		Retention retention = new Retention(100L, 1000L);
+		assertTrue(retention.isRetained(100L, 5000L, 6000L));
+		assertFalse(retention.isRetained(101L, 5000L, 6000L));
+		assertFalse(retention.isRetained(100L, 4999L, 6000L));
+
+		retention = new Retention(0L, 0L);
+		assertTrue(retention.isRetained(Long.MAX_VALUE, 0L, Long.MAX_VALUE));
+	}
+
+}
@@ -125,6 +125,42 @@ public class TimestampLabelerTest extends AbstractLabelerTest {
 		targetFile4.delete();
 	}
 
+	/**
+	 * Test deleting companion files together with backups.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testCompanionFiles() throws IOException {
+		File baseFile = FileHelper.createTemporaryFile(null);
+		baseFile.delete();
+
+		systemTimeMock.setCurrentTimeMillis(0L);
+		File targetFile1 = getBackupFile(baseFile, null, formatCurrentTime());
+		File companion1 = new File(targetFile1.getPath() + ".idx");
+		companion1.deleteOnExit();
+		targetFile1.createNewFile();
+		companion1.createNewFile();
+
+		TimestampLabeler labeler = new TimestampLabeler(TIMESTAMP_FORMAT);
+		labeler.setCompanionSuffix(".idx");
+		labeler.init(ConfigurationCreator.getDummyConfiguration());
+		systemTimeMock.setCurrentTimeMillis(1000L);
+		File targetFile2 = labeler.getLogFile(baseFile);
+		targetFile2.createNewFile();
+
+		/* Companion file must not be considered as backup */
+		systemTimeMock.setCurrentTimeMillis(2000L);
+		File targetFile3 = labeler.roll(targetFile2, 1);
+		assertFalse(targetFile1.exists());
+		assertFalse(companion1.exists());
+		assertTrue(targetFile2.exists());
+
+		targetFile2.delete();
+		targetFile3.delete();
+	}
+
 	/**
 	 * Test labeling for log file without file extension.
 	 *
@@ -204,6 +240,92 @@ public class TimestampLabelerTest extends AbstractLabelerTest {
 		targetFile2.delete();
 	}
 
+	/**
+	 * Test deleting the oldest backups if the total size of all backups exceeds the retention.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testRetentionBySize() throws IOException {
+		File baseFile = FileHelper.createTemporaryFile("tmp");
+		baseFile.delete();
+
+		TimestampLabeler labeler = new TimestampLabeler(TIMESTAMP_FORMAT);
+		labeler.setRetention(new Retention(5L, 0L));
+		labeler.init(ConfigurationCreator.getDummyConfiguration());
+
+		systemTimeMock.setCurrentTimeMillis(0L);
+		File targetFile1 = labeler.getLogFile(baseFile);
+		FileHelper.write(targetFile1, "123");
+
+		systemTimeMock.setCurrentTimeMillis(1000L);
+		File targetFile2 = labeler.roll(targetFile1, 10);
+		FileHelper.write(targetFile2, "45");
+
+		systemTimeMock.setCurrentTimeMillis(2000L);
+		File targetFile3 = labeler.roll(targetFile2, 10);
+		assertTrue(targetFile1.exists());
+		assertTrue(targetFile2.exists());
+		FileHelper.write(targetFile3, "6");
+
+		/* Files written within the same millisecond must be still ordered correctly */
+		long lastModified = targetFile1.lastModified();
+		assertTrue(targetFile2.setLastModified(lastModified));
+		assertTrue(targetFile3.setLastModified(lastModified));
+
+		systemTimeMock.setCurrentTimeMillis(3000L);
+		File targetFile4 = labeler.roll(targetFile3, 10);
+		assertFalse(targetFile1.exists());
+		assertTrue(targetFile2.exists());
+		assertTrue(targetFile3.exists());
+
+		targetFile2.delete();
+		targetFile3.delete();
+		targetFile4.delete();
+	}
+
+	/**
+	 * Test deleting backups that are older than the retention, including backups of former runs.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testRetentionByAge() throws IOException {
+		File baseFile = FileHelper.createTemporaryFile("tmp");
+		baseFile.delete();
+
+		File oldFile = getBackupFile(baseFile, "tmp", "old");
+		oldFile.createNewFile();
+		oldFile.setLastModified(10000L);
+
+		TimestampLabeler labeler = new TimestampLabeler(TIMESTAMP_FORMAT);
+		labeler.setRetention(new Retention(0L, 60000L));
+		labeler.init(ConfigurationCreator.getDummyConfiguration());
+
+		systemTimeMock.setCurrentTimeMillis(60000L);
+		File targetFile1 = labeler.getLogFile(baseFile);
+		targetFile1.createNewFile();
+		targetFile1.setLastModified(60000L);
+
+		systemTimeMock.setCurrentTimeMillis(70000L);
+		File targetFile2 = labeler.roll(targetFile1, 10);
+		targetFile2.createNewFile();
+		assertTrue(oldFile.exists());
+		assertTrue(targetFile1.exists());
+
+		systemTimeMock.setCurrentTimeMillis(71000L);
+		File targetFile3 = labeler.roll(targetFile2, 10);
+		assertFalse(oldFile.exists());
+		assertTrue(targetFile1.exists());
+		assertTrue(targetFile2.exists());
+
+		targetFile1.delete();
+		targetFile2.delete();
+		targetFile3.delete();
+	}
+
 	/**
 	 * Test deleting if backup file is in use.
 	 *
@@ -13,6 +13,7 @@
 
 package org.cooder.tinylog.policies;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -89,6 +90,45 @@ public class CountPolicyTest extends AbstractPolicyTest {
 		file.delete();
 	}
 
+	/**
+	 * Test counting of all kinds of line breaks in an existing log file.
+	 * 
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testCountingLineBreaks() throws IOException {
+		File file = FileHelper.createTemporaryFile(null, "1\n2\r\n3\r4\r\n\r\n5");
+		assertEquals(5L, CountPolicy.countLines(file, 1));
+
+		Policy policy = new CountPolicy(5);
+		policy.init(ConfigurationCreator.getDummyConfiguration()); // 1 line per log entry
+		assertTrue(policy.check(file));
+		assertFalse(policy.check("6"));
+
+		file.delete();
+	}
+
+	/**
+	 * Test counting line breaks in parallel, if a line break is split between two parts.
+	 * 
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testCountingLineBreaksInParallel() throws IOException {
+		File file = FileHelper.createTemporaryFile(null, "1\r\n2\r\n3\r\n4\n5\r");
+		for (int parts = 1; parts <= file.length() + 1; ++parts) {
+			assertEquals("Parts: " + parts, 5L, CountPolicy.countLines(file, parts));
+		}
+
+		file = FileHelper.createTemporaryFile(null, "");
+		assertEquals(0L, CountPolicy.countLines(file, 1));
+		assertEquals(0L, CountPolicy.countLines(file, 4));
+
+		file.delete();
+	}
+
 	/**
 	 * Test exception for maxSize = 0.
 	 */
@@ -38,6 +38,8 @@ public final class LogEntryBuilder {
 	private int lineNumber = -1;
 	private Level level = null;
 	private String message = null;
+	private String messageTemplate = null;
+	private Object[] arguments = null;
 	private Throwable exception = null;
 	private String renderedLogEntry = null;
 
@@ -175,6 +177,21 @@ public final class LogEntryBuilder {
 		return this;
 	}
 
+	/**
+	 * Set the message template and its arguments.
+	 *
+	 * @param messageTemplate
+	 *            Message template without inserted arguments
+	 * @param arguments
+	 *            Arguments for the message template
+	 * @return The current log entry builder
+	 */
+	public LogEntryBuilder rawMessage(final String messageTemplate, final Object... arguments) {
+		this.messageTemplate = messageTemplate;
+		this.arguments = arguments;
+		return this;
+	}
+
 	/**
 	 * Set the exception of the log entry.
 	 *
@@ -210,6 +227,11 @@ public final class LogEntryBuilder {
 			Method setter = LogEntry.class.getDeclaredMethod("setRenderedLogEntry", String.class);
 			setter.setAccessible(true);
 			setter.invoke(logEntry, renderedLogEntry);
+			if (messageTemplate != null) {
+				setter = LogEntry.class.getDeclaredMethod("setRawMessage", String.class, Object[].class);
+				setter.setAccessible(true);
+				setter.invoke(logEntry, messageTemplate, arguments);
+			}
 		} catch (ReflectiveOperationException ex) {
 			throw new RuntimeException(ex);
 		} catch (SecurityException ex) {
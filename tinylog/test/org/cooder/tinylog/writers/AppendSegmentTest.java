@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.writers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.cooder.tinylog.AbstractTinylogTest;
+import org.junit.Test;
+
+/**
+ * Tests for the lock-free append buffer.
+ *
+ * @see AppendSegment
+ */
+public class AppendSegmentTest extends AbstractTinylogTest {
+
+	/**
+	 * Test appending and reading log entries.
+	 */
+	@Test
+	public final void testAppending() {
+		AppendSegment segment = new AppendSegment(10, 10, true);
+		assertEquals(10, segment.getCapacity());
+		assertTrue(segment.isEmpty());
+
+		assertTrue(segment.append("abc", "abc".getBytes()));
+		assertTrue(segment.append("de", "de".getBytes()));
+		assertFalse(segment.isEmpty());
+
+		segment.seal();
+		assertEquals(2, segment.await());
+		assertEquals(5, segment.getSize());
+		assertEquals("abcde", new String(segment.getData(), 0, segment.getSize()));
+		assertEquals("abc", segment.getEntry(0));
+		assertEquals(0, segment.getOffset(0));
+		assertEquals("de", segment.getEntry(1));
+		assertEquals(3, segment.getOffset(1));
+	}
+
+	/**
+	 * Test storing additional information for log entries.
+	 */
+	@Test
+	public final void testTags() {
+		AppendSegment segment = new AppendSegment(10, 10, true);
+		assertTrue(segment.append("abc", "abc".getBytes(), 42L));
+		assertTrue(segment.append("de", "de".getBytes()));
+
+		segment.seal();
+		assertEquals(2, segment.await());
+		assertEquals(42L, segment.getTag(0));
+		assertEquals(0L, segment.getTag(1));
+	}
+
+	/**
+	 * Test rejecting log entries if the segment is full.
+	 */
+	@Test
+	public final void testFull() {
+		AppendSegment segment = new AppendSegment(4, 2, true);
+		assertTrue(segment.append("abc", "abc".getBytes()));
+		assertFalse(segment.append("de", "de".getBytes()));
+		assertTrue(segment.append("d", "d".getBytes()));
+		assertFalse(segment.append("", new byte[0]));
+	}
+
+	/**
+	 * Test rejecting log entries if the segment is sealed and accepting them again after opening.
+	 */
+	@Test
+	public final void testSealingAndOpening() {
+		AppendSegment segment = new AppendSegment(10, 10, false);
+		assertFalse(segment.append("abc", "abc".getBytes()));
+
+		segment.open();
+		assertTrue(segment.append("abc", "abc".getBytes()));
+		segment.seal();
+		assertFalse(segment.append("de", "de".getBytes()));
+		assertEquals(1, segment.await());
+
+		segment.release();
+		assertNull(segment.getEntry(0));
+
+		segment.open();
+		assertTrue(segment.isEmpty());
+		assertTrue(segment.append("de", "de".getBytes()));
+		segment.seal();
+		assertEquals(1, segment.await());
+		assertEquals("de", new String(segment.getData(), 0, segment.getSize()));
+	}
+
+	/**
+	 * Test appending log entries by multiple threads at the same time.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for threads
+	 */
+	@Test
+	public final void testConcurrentAppending() throws InterruptedException {
+		final AppendSegment segment = new AppendSegment(64 * 1024, 4 * 1024, true);
+
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int i = 0; i < 4; ++i) {
+			final String prefix = Integer.toString(i);
+			threads.add(new Thread() {
+
+				@Override
+				public void run() {
+					for (int j = 0; j < 1000; ++j) {
+						String entry = prefix + ":" + j + "\n";
+						if (!segment.append(entry, entry.getBytes())) {
+							break;
+						}
+					}
+				}
+
+			});
+		}
+
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		segment.seal();
+		int count = segment.await();
+		assertEquals(4 * 1000, count);
+
+		Set<String> entries = new HashSet<String>();
+		String content = new String(segment.getData(), 0, segment.getSize());
+		int start = 0;
+		for (int i = 0; i < count; ++i) {
+			int end = i + 1 < count ? segment.getOffset(i + 1) : segment.getSize();
+			assertEquals(start, segment.getOffset(i));
+			assertEquals(segment.getEntry(i), content.substring(start, end));
+			entries.add(segment.getEntry(i));
+			start = end;
+		}
+		assertEquals(4 * 1000, entries.size());
+	}
+
+}
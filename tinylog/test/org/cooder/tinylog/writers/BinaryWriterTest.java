@@ -0,0 +1,313 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package org.cooder.tinylog.writers;
+
+import static org.cooder.tinylog.hamcrest.CollectionMatchers.types;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+
+import org.cooder.tinylog.BinaryLogDecoder;
+import org.cooder.tinylog.Level;
+import org.cooder.tinylog.LogEntry;
+import org.cooder.tinylog.util.FileHelper;
+import org.cooder.tinylog.util.LogEntryBuilder;
+import org.cooder.tinylog.util.PropertiesBuilder;
+import org.junit.Test;
+
+/**
+ * Tests for the binary writer.
+ *
+ * @see BinaryWriter
+ */
+public class BinaryWriterTest extends AbstractWriterTest {
+
+	/**
+	 * Test required log entry values.
+	 */
+	@Test
+	public final void testRequiredLogEntryValue() {
+		BinaryWriter writer = new BinaryWriter("log.bin");
+		assertThat(writer.getRequiredLogEntryValues(), containsInAnyOrder(LogEntryValue.DATE, LogEntryValue.PROCESS_ID, LogEntryValue.THREAD,
+				LogEntryValue.CONTEXT, LogEntryValue.CLASS, LogEntryValue.METHOD, LogEntryValue.FILE, LogEntryValue.LINE, LogEntryValue.LEVEL,
+				LogEntryValue.RAW_MESSAGE, LogEntryValue.EXCEPTION));
+
+		writer = new BinaryWriter("log.bin", false, false, "{date:HH:mm:ss} {class_name}: {message}");
+		assertThat(writer.getRequiredLogEntryValues(), containsInAnyOrder(LogEntryValue.DATE, LogEntryValue.CLASS, LogEntryValue.LEVEL,
+				LogEntryValue.RAW_MESSAGE, LogEntryValue.EXCEPTION));
+	}
+
+	/**
+	 * Test getting parameters.
+	 */
+	@Test
+	public final void testParameters() {
+		BinaryWriter writer = new BinaryWriter("log.bin");
+		assertFalse(writer.isBuffered());
+		assertFalse(writer.isAppending());
+		assertNull(writer.getFormatPattern());
+
+		writer = new BinaryWriter("log.bin", true, true, "{message}");
+		assertTrue(writer.isBuffered());
+		assertTrue(writer.isAppending());
+		assertEquals("{message}", writer.getFormatPattern());
+	}
+
+	/**
+	 * Test writing log entries and decoding them afterwards.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testWriting() throws IOException {
+		File file = FileHelper.createTemporaryFile("bin");
+
+		BinaryWriter writer = new BinaryWriter(file.getAbsolutePath());
+		writer.init(null);
+
+		Date date = new Date(1500000000000L);
+		Thread thread = Thread.currentThread();
+		writer.write(new LogEntryBuilder().date(date).processId("42").thread(thread).context("user", "alice").className("a.b.C").method("run")
+				.file("C.java").lineNumber(7).level(Level.INFO).rawMessage("{} + {} = {0.00}", 1, 2L, 3d).create());
+		writer.write(new LogEntryBuilder().date(new Date(date.getTime() - 1)).level(Level.WARNING)
+				.rawMessage("{} {} {} {} {} {} {} {}", "text", 'c', true, null, (short) 1, (byte) 2, 1.5f, new BigDecimal("0.1")).create());
+		writer.write(new LogEntryBuilder().level(Level.ERROR).message("Plain text").create());
+		writer.close();
+
+		BinaryLogDecoder decoder = new BinaryLogDecoder(new FileInputStream(file));
+
+		LogEntry logEntry = decoder.read();
+		assertEquals(date, logEntry.getDate());
+		assertEquals("42", logEntry.getProcessId());
+		assertEquals(thread.getName(), logEntry.getThread().getName());
+		assertEquals(thread.getId(), logEntry.getThread().getId());
+		assertEquals("alice", logEntry.getContext().get("user"));
+		assertEquals("a.b.C", logEntry.getClassName());
+		assertEquals("run", logEntry.getMethodName());
+		assertEquals("C.java", logEntry.getFilename());
+		assertEquals(7, logEntry.getLineNumber());
+		assertEquals(Level.INFO, logEntry.getLevel());
+		assertEquals("1 + 2 = 3.00", logEntry.getMessage());
+		assertEquals("{} + {} = {0.00}", logEntry.getMessageTemplate());
+		assertArrayEquals(new Object[] { 1, 2L, 3d }, logEntry.getArguments());
+
+		logEntry = decoder.read();
+		assertEquals(date.getTime() - 1, logEntry.getDate().getTime());
+		assertNull(logEntry.getThread());
+		assertEquals(Level.WARNING, logEntry.getLevel());
+		assertEquals("text c true null 1 2 1.5 0.1", logEntry.getMessage());
+
+		logEntry = decoder.read();
+		assertNull(logEntry.getDate());
+		assertEquals(Level.ERROR, logEntry.getLevel());
+		assertEquals("Plain text", logEntry.getMessage());
+		assertNull(logEntry.getMessageTemplate());
+
+		assertNull(decoder.read());
+		decoder.close();
+
+		file.delete();
+	}
+
+	/**
+	 * Test that strings are written only once into the dictionary.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testDictionary() throws IOException {
+		File file = FileHelper.createTemporaryFile("bin");
+
+		BinaryWriter writer = new BinaryWriter(file.getAbsolutePath());
+		writer.init(null);
+
+		LogEntry logEntry = new LogEntryBuilder().className("org.cooder.tinylog.writers.BinaryWriterTest").method("testDictionary")
+				.level(Level.INFO).rawMessage("A quite long message template with an argument: {}", 1).create();
+		writer.write(logEntry);
+		long first = file.length();
+		writer.write(logEntry);
+		long second = file.length() - first;
+		writer.close();
+
+		assertThat(second, lessThan(first / 4));
+
+		file.delete();
+	}
+
+	/**
+	 * Test writing an exception with a cause.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testException() throws IOException {
+		File file = FileHelper.createTemporaryFile("bin");
+
+		BinaryWriter writer = new BinaryWriter(file.getAbsolutePath());
+		writer.init(null);
+
+		Exception cause = new IllegalStateException("Cause");
+		cause.setStackTrace(new StackTraceElement[] { new StackTraceElement("a.b.C", "run", "C.java", 1) });
+		Exception exception = new RuntimeException("Failure", cause);
+		exception.setStackTrace(new StackTraceElement[] { new StackTraceElement("a.b.D", "call", null, -1),
+			new StackTraceElement("a.b.E", "main", "E.java", 42) });
+		writer.write(new LogEntryBuilder().level(Level.ERROR).exception(exception).create());
+		writer.close();
+
+		BinaryLogDecoder decoder = new BinaryLogDecoder(new FileInputStream(file));
+		Throwable decoded = decoder.read().getException();
+		decoder.close();
+
+		assertEquals("java.lang.RuntimeException: Failure", decoded.toString());
+		assertArrayEquals(exception.getStackTrace(), decoded.getStackTrace());
+		assertEquals("java.lang.IllegalStateException: Cause", decoded.getCause().toString());
+		assertArrayEquals(cause.getStackTrace(), decoded.getCause().getStackTrace());
+		assertNull(decoded.getCause().getCause());
+
+		file.delete();
+	}
+
+	/**
+	 * Test appending log entries to an existing binary log file.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testAppending() throws IOException {
+		File file = FileHelper.createTemporaryFile("bin");
+
+		BinaryWriter writer = new BinaryWriter(file.getAbsolutePath(), true, true);
+		writer.init(null);
+		writer.write(new LogEntryBuilder().date(new Date(1000L)).className("a.b.C").rawMessage("First").create());
+		writer.close();
+
+		writer = new BinaryWriter(file.getAbsolutePath(), true, true);
+		writer.init(null);
+		writer.write(new LogEntryBuilder().date(new Date(2000L)).className("a.b.C").rawMessage("Second").create());
+		writer.close();
+
+		BinaryLogDecoder decoder = new BinaryLogDecoder(new FileInputStream(file));
+		LogEntry logEntry = decoder.read();
+		assertEquals(1000L, logEntry.getDate().getTime());
+		assertEquals("First", logEntry.getMessage());
+		logEntry = decoder.read();
+		assertEquals(2000L, logEntry.getDate().getTime());
+		assertEquals("a.b.C", logEntry.getClassName());
+		assertEquals("Second", logEntry.getMessage());
+		assertNull(decoder.read());
+		decoder.close();
+
+		file.delete();
+	}
+
+	/**
+	 * Test appending log entries to a binary log file, whose last record is incomplete.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testAppendingAfterIncompleteRecord() throws IOException {
+		File file = FileHelper.createTemporaryFile("bin");
+
+		BinaryWriter writer = new BinaryWriter(file.getAbsolutePath(), true, true);
+		writer.init(null);
+		writer.write(new LogEntryBuilder().date(new Date(1000L)).className("a.b.C").rawMessage("First").create());
+		writer.close();
+		long length = file.length();
+
+		writer = new BinaryWriter(file.getAbsolutePath(), true, true);
+		writer.init(null);
+		writer.write(new LogEntryBuilder().date(new Date(2000L)).className("a.b.C").rawMessage("Lost message").create());
+		writer.close();
+
+		/* Simulate a crash while writing the second log entry */
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+		randomAccessFile.setLength(file.length() - 5);
+		randomAccessFile.close();
+
+		writer = new BinaryWriter(file.getAbsolutePath(), true, true);
+		writer.init(null);
+		writer.write(new LogEntryBuilder().date(new Date(3000L)).className("a.b.C").rawMessage("Third").create());
+		writer.close();
+
+		BinaryLogDecoder decoder = new BinaryLogDecoder(new FileInputStream(file));
+		LogEntry logEntry = decoder.read();
+		assertEquals(1000L, logEntry.getDate().getTime());
+		assertEquals("First", logEntry.getMessage());
+		logEntry = decoder.read();
+		assertEquals(3000L, logEntry.getDate().getTime());
+		assertEquals("a.b.C", logEntry.getClassName());
+		assertEquals("Third", logEntry.getMessage());
+		assertNull(decoder.read());
+		decoder.close();
+
+		/* Complete records must not be truncated */
+		assertThat(length, lessThan(file.length()));
+
+		file.delete();
+	}
+
+	/**
+	 * Test reading binary writer from properties.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testFromProperties() throws IOException {
+		PropertiesBuilder propertiesBuilder = new PropertiesBuilder().set("tinylog.writer", "binary");
+		List<Writer> writers = createFromProperties(propertiesBuilder.create());
+		assertThat(writers, empty());
+		assertEquals("LOGGER ERROR: Missing required property \"tinylog.writer.filename\"", getErrorStream().nextLine());
+		assertEquals("LOGGER ERROR: Failed to initialize binary writer", getErrorStream().nextLine());
+
+		propertiesBuilder.set("tinylog.writer.filename", "log.bin");
+		writers = createFromProperties(propertiesBuilder.create());
+		assertThat(writers, types(BinaryWriter.class));
+		BinaryWriter binaryWriter = (BinaryWriter) writers.get(0);
+		assertEquals("log.bin", binaryWriter.getFilename());
+		assertFalse(binaryWriter.isBuffered());
+		assertFalse(binaryWriter.isAppending());
+		assertNull(binaryWriter.getFormatPattern());
+
+		propertiesBuilder.set("tinylog.writer.buffered", "true").set("tinylog.writer.append", "true").set("tinylog.writer.format", "{message}");
+		writers = createFromProperties(propertiesBuilder.create());
+		assertThat(writers, types(BinaryWriter.class));
+		binaryWriter = (BinaryWriter) writers.get(0);
+		assertTrue(binaryWriter.isBuffered());
+		assertTrue(binaryWriter.isAppending());
+		assertEquals("{message}", binaryWriter.getFormatPattern());
+	}
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.writers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+import org.cooder.tinylog.AbstractTinylogTest;
+import org.cooder.tinylog.util.FileHelper;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Tests for addresses of log collectors.
+ *
+ * @see CollectorAddress
+ */
+public class CollectorAddressTest extends AbstractTinylogTest {
+
+	/**
+	 * Test parsing a single port.
+	 */
+	@Test
+	public final void testPort() {
+		CollectorAddress address = new CollectorAddress("8080");
+		assertFalse(address.isUnixDomain());
+		assertNull(address.getSocketFile());
+		assertEquals("8080", address.toString());
+	}
+
+	/**
+	 * Test parsing host and port.
+	 */
+	@Test
+	public final void testHostAndPort() {
+		CollectorAddress address = new CollectorAddress("localhost:8080");
+		assertFalse(address.isUnixDomain());
+		assertEquals("localhost:8080", address.toString());
+	}
+
+	/**
+	 * Test parsing a Unix domain socket.
+	 */
+	@Test
+	public final void testUnixDomainSocket() {
+		CollectorAddress address = new CollectorAddress("unix:/tmp/tinylog.sock");
+		assertTrue(address.isUnixDomain());
+		assertEquals(new File("/tmp/tinylog.sock"), address.getSocketFile());
+	}
+
+	/**
+	 * Test rejecting invalid addresses.
+	 */
+	@Test
+	public final void testInvalidAddresses() {
+		for (String invalid : new String[] { "", "unix:", "localhost", "localhost:abc", "0", "70000" }) {
+			try {
+				new CollectorAddress(invalid);
+				fail("IllegalArgumentException expected for \"" + invalid + "\"");
+			} catch (IllegalArgumentException ex) {
+				// Expected
+			}
+		}
+	}
+
+	/**
+	 * Test connecting to a bound TCP address.
+	 *
+	 * @throws IOException
+	 *             Failed to bind or to connect
+	 */
+	@Test
+	public final void testTcpConnection() throws IOException {
+		CollectorAddress address = new CollectorAddress(Integer.toString(findFreePort()));
+
+		ServerSocketChannel server = address.bind();
+		try {
+			SocketChannel channel = address.connect();
+			assertTrue(channel.isConnected());
+			channel.close();
+		} finally {
+			server.close();
+		}
+	}
+
+	/**
+	 * Test connecting to a Unix domain socket (Java 16 or higher only).
+	 *
+	 * @throws IOException
+	 *             Failed to bind or to connect
+	 */
+	@Test
+	public final void testUnixDomainConnection() throws IOException {
+		File file = FileHelper.createTemporaryFile("sock");
+		CollectorAddress address = new CollectorAddress("unix:" + file.getAbsolutePath());
+
+		ServerSocketChannel server;
+		try {
+			server = address.bind();
+		} catch (IOException ex) {
+			Assume.assumeTrue("Unix domain sockets are not supported", false);
+			return;
+		}
+
+		try {
+			SocketChannel channel = address.connect();
+			assertTrue(channel.isConnected());
+			channel.close();
+		} finally {
+			server.close();
+			file.delete();
+		}
+	}
+
+	/**
+	 * Test failing connecting if nobody is listening.
+	 *
+	 * @throws IOException
+	 *             Failed to find a free port
+	 */
+	@Test(expected = IOException.class)
+	public final void testNoListener() throws IOException {
+		new CollectorAddress(Integer.toString(findFreePort())).connect();
+	}
+
+	/**
+	 * Find a free local port.
+	 *
+	 * @return Currently unused port
+	 * @throws IOException
+	 *             Failed to open a server socket
+	 */
+	static int findFreePort() throws IOException {
+		ServerSocket socket = new ServerSocket(0);
+		try {
+			return socket.getLocalPort();
+		} finally {
+			socket.close();
+		}
+	}
+
+}
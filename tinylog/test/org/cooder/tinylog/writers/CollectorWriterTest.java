@@ -0,0 +1,278 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.writers;
+
+import static org.cooder.tinylog.hamcrest.CollectionMatchers.types;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import org.cooder.tinylog.util.FileHelper;
+import org.cooder.tinylog.util.LogEntryBuilder;
+import org.cooder.tinylog.util.PropertiesBuilder;
+import org.junit.Test;
+
+/**
+ * Tests for the collector writer.
+ *
+ * @see CollectorWriter
+ */
+public class CollectorWriterTest extends AbstractWriterTest {
+
+	/**
+	 * Test required log entry values.
+	 */
+	@Test
+	public final void testRequiredLogEntryValue() {
+		CollectorWriter writer = new CollectorWriter("8080");
+		Set<LogEntryValue> requiredLogEntryValues = writer.getRequiredLogEntryValues();
+		assertThat(requiredLogEntryValues, contains(LogEntryValue.RENDERED_LOG_ENTRY));
+	}
+
+	/**
+	 * Test getting address and fallback file.
+	 */
+	@Test
+	public final void testParameters() {
+		CollectorWriter writer = new CollectorWriter("localhost:8080");
+		assertEquals("localhost:8080", writer.getAddress());
+		assertNull(writer.getFallback());
+
+		writer = new CollectorWriter("8080", "fallback.log");
+		assertEquals("8080", writer.getAddress());
+		assertEquals("fallback.log", writer.getFallback());
+	}
+
+	/**
+	 * Test sending log entries to a running collector.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testSending() throws Exception {
+		File file = FileHelper.createTemporaryFile(null);
+		File fallback = FileHelper.createTemporaryFile(null);
+		String address = Integer.toString(CollectorAddressTest.findFreePort());
+
+		LogCollector collector = new LogCollector(address, file.getAbsolutePath());
+		collector.start();
+
+		CollectorWriter first = new CollectorWriter(address, fallback.getAbsolutePath());
+		first.init(null);
+		assertTrue(first.isConnected());
+		CollectorWriter second = new CollectorWriter(address, fallback.getAbsolutePath());
+		second.init(null);
+		assertTrue(second.isConnected());
+
+		for (int i = 0; i < 1000; ++i) {
+			first.write(new LogEntryBuilder().renderedLogEntry("first " + i + "\n").create());
+			second.write(new LogEntryBuilder().renderedLogEntry("second " + i + "\n").create());
+		}
+		first.close();
+		second.close();
+
+		collector.stop();
+
+		String[] lines = FileHelper.read(file).split("\n");
+		assertEquals(2000, lines.length);
+		int nextFirst = 0;
+		int nextSecond = 0;
+		for (String line : lines) {
+			if (line.startsWith("first ")) {
+				assertEquals("first " + nextFirst++, line);
+			} else {
+				assertEquals("second " + nextSecond++, line);
+			}
+		}
+		assertEquals("", FileHelper.read(fallback));
+
+		file.delete();
+		fallback.delete();
+	}
+
+	/**
+	 * Test sending a log entry, which is larger than the send buffer.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testLargeLogEntry() throws Exception {
+		File file = FileHelper.createTemporaryFile(null);
+		String address = Integer.toString(CollectorAddressTest.findFreePort());
+
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 10000; ++i) {
+			builder.append("0123456789");
+		}
+		builder.append("\n");
+
+		LogCollector collector = new LogCollector(address, file.getAbsolutePath());
+		collector.start();
+
+		CollectorWriter writer = new CollectorWriter(address);
+		writer.init(null);
+		writer.write(new LogEntryBuilder().renderedLogEntry(builder.toString()).create());
+		writer.write(new LogEntryBuilder().renderedLogEntry("Hello\n").create());
+		writer.close();
+
+		collector.stop();
+
+		assertEquals(builder + "Hello\n", FileHelper.read(file));
+
+		file.delete();
+	}
+
+	/**
+	 * Test writing to the fallback file if no collector is running.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testFallback() throws IOException {
+		File fallback = FileHelper.createTemporaryFile(null);
+		String address = Integer.toString(CollectorAddressTest.findFreePort());
+
+		CollectorWriter writer = new CollectorWriter(address, fallback.getAbsolutePath());
+		writer.init(null);
+		assertEquals("LOGGER WARNING: Log collector \"" + address
+				+ "\" is not available. Log entries will be written to the fallback file until the collector is available.", getErrorStream().nextLine());
+		assertFalse(writer.isConnected());
+
+		writer.write(new LogEntryBuilder().renderedLogEntry("Hello\n").create());
+		writer.flush();
+		assertEquals("Hello\n", FileHelper.read(fallback));
+
+		writer.close();
+
+		fallback.delete();
+	}
+
+	/**
+	 * Test losing log entries if no collector is running and no fallback file is defined.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testNoFallback() throws IOException {
+		String address = Integer.toString(CollectorAddressTest.findFreePort());
+
+		CollectorWriter writer = new CollectorWriter(address);
+		writer.init(null);
+		assertEquals("LOGGER WARNING: Log collector \"" + address
+				+ "\" is not available. Log entries will be written to the fallback file until the collector is available.", getErrorStream().nextLine());
+
+		writer.write(new LogEntryBuilder().renderedLogEntry("Hello\n").create());
+		writer.write(new LogEntryBuilder().renderedLogEntry("World\n").create());
+		assertEquals("LOGGER WARNING: No fallback file is defined for log collector \"" + address + "\". Therefore log entries will be lost.",
+				getErrorStream().nextLine());
+
+		writer.close();
+	}
+
+	/**
+	 * Test switching to the fallback file if the collector has been stopped and reconnecting after the collector has
+	 * been restarted.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testReconnecting() throws Exception {
+		File file = FileHelper.createTemporaryFile(null);
+		File fallback = FileHelper.createTemporaryFile(null);
+		String address = Integer.toString(CollectorAddressTest.findFreePort());
+
+		LogCollector collector = new LogCollector(address, file.getAbsolutePath());
+		collector.start();
+
+		CollectorWriter writer = new CollectorWriter(address, fallback.getAbsolutePath());
+		writer.init(null);
+		writer.write(new LogEntryBuilder().renderedLogEntry("1\n").create());
+		writer.flush();
+
+		collector.stop();
+		assertEquals("1\n", FileHelper.read(file));
+
+		/* Writing to a closed connection will fail, at the latest on the second attempt */
+		for (int i = 2; writer.isConnected(); ++i) {
+			writer.write(new LogEntryBuilder().renderedLogEntry(i + "\n").create());
+			writer.flush();
+			Thread.sleep(10L);
+		}
+		assertThat(getErrorStream().nextLine(), startsWith("LOGGER WARNING: Lost connection to log collector \"" + address + "\""));
+		assertFalse(FileHelper.read(fallback).isEmpty());
+
+		collector = new LogCollector(address, file.getAbsolutePath());
+		collector.start();
+		Thread.sleep(1100L);
+
+		/* Connecting doesn't block, so log entries are written to the fallback file until the connection is established */
+		for (int i = 0; !writer.isConnected(); ++i) {
+			assertThat(i, lessThan(100));
+			writer.write(new LogEntryBuilder().renderedLogEntry("pending\n").create());
+			Thread.sleep(10L);
+		}
+
+		writer.write(new LogEntryBuilder().renderedLogEntry("last\n").create());
+		assertTrue(writer.isConnected());
+		writer.close();
+
+		collector.stop();
+		assertTrue(FileHelper.read(file).endsWith("last\n"));
+
+		file.delete();
+		fallback.delete();
+	}
+
+	/**
+	 * Test reading collector writer from properties.
+	 */
+	@Test
+	public final void testFromProperties() {
+		PropertiesBuilder propertiesBuilder = new PropertiesBuilder().set("tinylog.writer", "collector");
+		List<Writer> writers = createFromProperties(propertiesBuilder.create());
+		assertThat(writers, empty());
+		assertEquals("LOGGER ERROR: Missing required property \"tinylog.writer.address\"", getErrorStream().nextLine());
+		assertEquals("LOGGER ERROR: Failed to initialize collector writer", getErrorStream().nextLine());
+
+		propertiesBuilder.set("tinylog.writer.address", "unix:/tmp/tinylog.sock");
+		writers = createFromProperties(propertiesBuilder.create());
+		assertThat(writers, types(CollectorWriter.class));
+		CollectorWriter collectorWriter = (CollectorWriter) writers.get(0);
+		assertEquals("unix:/tmp/tinylog.sock", collectorWriter.getAddress());
+		assertNull(collectorWriter.getFallback());
+
+		propertiesBuilder.set("tinylog.writer.fallback", "fallback.log");
+		writers = createFromProperties(propertiesBuilder.create());
+		assertThat(writers, types(CollectorWriter.class));
+		collectorWriter = (CollectorWriter) writers.get(0);
+		assertEquals("fallback.log", collectorWriter.getFallback());
+	}
+
+}
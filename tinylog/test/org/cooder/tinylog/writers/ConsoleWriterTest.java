@@ -17,9 +17,13 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.cooder.tinylog.hamcrest.CollectionMatchers.types;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.io.UnsupportedEncodingException;
 import java.util.Arrays;
@@ -28,6 +32,7 @@ import java.util.Set;
 
 import org.junit.Test;
 import org.cooder.tinylog.Level;
+import org.cooder.tinylog.util.FileHelper;
 import org.cooder.tinylog.util.LogEntryBuilder;
 import org.cooder.tinylog.util.PropertiesBuilder;
 
@@ -195,6 +200,98 @@ public class ConsoleWriterTest extends AbstractWriterTest {
 		new ConsoleWriter("abc");
 	}
 
+	/**
+	 * Test buffered writing, where warnings and errors are written to a separate stream.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testBufferedWriting() throws IOException {
+		File errFile = FileHelper.createTemporaryFile(null);
+		File outFile = FileHelper.createTemporaryFile(null);
+		FileOutputStream err = new FileOutputStream(errFile);
+		FileOutputStream out = new FileOutputStream(outFile);
+
+		ConsoleWriter writer = new ConsoleWriter(err, out);
+		assertTrue(writer.isBuffered());
+		writer.init(null);
+
+		writer.write(new LogEntryBuilder().level(Level.INFO).renderedLogEntry("Hello\n").create());
+		writer.write(new LogEntryBuilder().level(Level.ERROR).renderedLogEntry("Failure\n").create());
+		writer.write(new LogEntryBuilder().level(Level.DEBUG).renderedLogEntry("World\n").create());
+		assertEquals("", FileHelper.read(outFile));
+		assertEquals("", FileHelper.read(errFile));
+
+		writer.flush();
+		assertEquals("Hello\nWorld\n", FileHelper.read(outFile));
+		assertEquals("Failure\n", FileHelper.read(errFile));
+
+		writer.close();
+		err.close();
+		out.close();
+
+		errFile.delete();
+		outFile.delete();
+	}
+
+	/**
+	 * Test that buffered log entries are written automatically after a while without any further log entries.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testBufferedWritingByTime() throws Exception {
+		File file = FileHelper.createTemporaryFile(null);
+		FileOutputStream stream = new FileOutputStream(file);
+
+		ConsoleWriter writer = new ConsoleWriter(stream, stream);
+		writer.init(null);
+
+		writer.write(new LogEntryBuilder().level(Level.INFO).renderedLogEntry("Hello\n").create());
+		writer.write(new LogEntryBuilder().level(Level.WARNING).renderedLogEntry("World\n").create());
+		for (int i = 0; i < 100 && FileHelper.read(file).isEmpty(); ++i) {
+			Thread.sleep(10L);
+		}
+		assertEquals("Hello\nWorld\n", FileHelper.read(file));
+
+		writer.close();
+		stream.close();
+
+		file.delete();
+	}
+
+	/**
+	 * Test buffered writing of log entries that are larger than the buffer.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testBufferedWritingOfLargeLogEntries() throws IOException {
+		File file = FileHelper.createTemporaryFile(null);
+		FileOutputStream stream = new FileOutputStream(file);
+
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 10000; ++i) {
+			builder.append("0123456789");
+		}
+		builder.append("\n");
+
+		ConsoleWriter writer = new ConsoleWriter(stream, stream);
+		writer.init(null);
+
+		writer.write(new LogEntryBuilder().level(Level.INFO).renderedLogEntry("Hello\n").create());
+		writer.write(new LogEntryBuilder().level(Level.INFO).renderedLogEntry(builder.toString()).create());
+		assertEquals("Hello\n" + builder, FileHelper.read(file));
+
+		writer.close();
+		stream.close();
+
+		file.delete();
+	}
+
 	/**
 	 * Test reading console writer from properties.
 	 */
@@ -202,6 +299,16 @@ public class ConsoleWriterTest extends AbstractWriterTest {
 	public final void testFromProperties() {
 		List<Writer> writers = createFromProperties(new PropertiesBuilder().set("tinylog.writer", "console").create());
 		assertThat(writers, types(ConsoleWriter.class));
+		assertFalse(((ConsoleWriter) writers.get(0)).isBuffered());
+
+		writers = createFromProperties(new PropertiesBuilder().set("tinylog.writer", "console").set("tinylog.writer.buffered", "true").create());
+		assertThat(writers, types(ConsoleWriter.class));
+		assertTrue(((ConsoleWriter) writers.get(0)).isBuffered());
+
+		writers = createFromProperties(
+				new PropertiesBuilder().set("tinylog.writer", "console").set("tinylog.writer.stream", "err").set("tinylog.writer.buffered", "true").create());
+		assertThat(writers, types(ConsoleWriter.class));
+		assertTrue(((ConsoleWriter) writers.get(0)).isBuffered());
 	}
 
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.writers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.cooder.tinylog.AbstractTinylogTest;
+import org.cooder.tinylog.Level;
+import org.junit.Test;
+
+/**
+ * Tests for the definition of durable log entries.
+ *
+ * @see Durability
+ */
+public class DurabilityTest extends AbstractTinylogTest {
+
+	/**
+	 * Test creating a durability definition by parameters.
+	 */
+	@Test
+	public final void testParameters() {
+		Durability durability = new Durability(Level.ERROR, 5L, 100L);
+		assertEquals(Level.ERROR, durability.getLevel());
+		assertEquals(5L, durability.getDelay());
+		assertEquals(100L, durability.getBytes());
+	}
+
+	/**
+	 * Test rejecting {@link Level#OFF}.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testOffLevel() {
+		new Durability(Level.OFF, 5L, 100L);
+	}
+
+	/**
+	 * Test rejecting an empty batch size.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testInvalidBytes() {
+		new Durability(Level.ERROR, 5L, 0L);
+	}
+
+	/**
+	 * Test parsing definitions from properties.
+	 */
+	@Test
+	public final void testParsing() {
+		Durability durability = new Durability("error");
+		assertEquals(Level.ERROR, durability.getLevel());
+		assertEquals(Durability.DEFAULT_DELAY, durability.getDelay());
+		assertEquals(Durability.DEFAULT_BYTES, durability.getBytes());
+
+		durability = new Durability("ALL: 0ms");
+		assertEquals(Level.TRACE, durability.getLevel());
+		assertEquals(0L, durability.getDelay());
+		assertEquals(Durability.DEFAULT_BYTES, durability.getBytes());
+
+		durability = new Durability("warning: 20, 2MB");
+		assertEquals(Level.WARNING, durability.getLevel());
+		assertEquals(20L, durability.getDelay());
+		assertEquals(2L * 1024L * 1024L, durability.getBytes());
+
+		durability = new Durability("info: 1ms, 512KB");
+		assertEquals(Level.INFO, durability.getLevel());
+		assertEquals(512L * 1024L, durability.getBytes());
+	}
+
+	/**
+	 * Test rejecting unknown severity levels.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testParsingInvalidLevel() {
+		new Durability("fatal");
+	}
+
+	/**
+	 * Test rejecting invalid delays.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testParsingInvalidDelay() {
+		new Durability("error: soon");
+	}
+
+	/**
+	 * Test checking if log entries must be durable.
+	 */
+	@Test
+	public final void testRequired() {
+		Durability durability = new Durability(Level.WARNING, 0L, 1L);
+		assertFalse(durability.isRequired(Level.INFO));
+		assertTrue(durability.isRequired(Level.WARNING));
+		assertTrue(durability.isRequired(Level.ERROR));
+		assertFalse(durability.isRequired(null));
+	}
+
+}
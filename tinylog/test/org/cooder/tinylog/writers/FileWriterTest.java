@@ -33,6 +33,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
+import org.cooder.tinylog.Level;
 import org.cooder.tinylog.util.FileHelper;
 import org.cooder.tinylog.util.LogEntryBuilder;
 import org.cooder.tinylog.util.LoopWritingThread;
@@ -153,6 +154,30 @@ public class FileWriterTest extends AbstractWriterTest {
 		reader.close();
 	}
 
+	/**
+	 * Test if durable log entries are written to disk before writing returns, even if writing is buffered.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testDurableWriting() throws IOException {
+		File file = FileHelper.createTemporaryFile(null);
+
+		FileWriter writer = new FileWriter(file.getAbsolutePath(), true, false, null, new Durability(Level.ERROR, 0L, 1024L));
+		assertThat(writer.getRequiredLogEntryValues(), containsInAnyOrder(LogEntryValue.LEVEL, LogEntryValue.RENDERED_LOG_ENTRY, LogEntryValue.CLASS));
+		writer.init(null);
+
+		writer.write(new LogEntryBuilder().level(Level.INFO).renderedLogEntry("Hello\n").create());
+		assertEquals("", FileHelper.read(file));
+
+		writer.write(new LogEntryBuilder().level(Level.ERROR).renderedLogEntry("World\n").create());
+		assertEquals("Hello\nWorld\n", FileHelper.read(file));
+
+		writer.close();
+		file.delete();
+	}
+
 	/**
 	 * Test if buffered file writer writes log entries after flush.
 	 *
@@ -487,6 +512,18 @@ public class FileWriterTest extends AbstractWriterTest {
 		assertEquals(filename, fileWriter.getFilename());
 		assertTrue(fileWriter.isBuffered());
 		assertTrue(fileWriter.isAppending());
+		assertNull(fileWriter.getDurability());
+
+		propertiesBuilder.set("tinylog.writer.durability", "warning: 5ms, 64KB");
+		writers = createFromProperties(propertiesBuilder.create());
+		assertThat(writers, types(FileWriter.class));
+		fileWriter = (FileWriter) writers.get(0);
+		assertEquals(filename, fileWriter.getFilename());
+		assertTrue(fileWriter.isBuffered());
+		assertTrue(fileWriter.isAppending());
+		assertEquals(Level.WARNING, fileWriter.getDurability().getLevel());
+		assertEquals(5L, fileWriter.getDurability().getDelay());
+		assertEquals(64L * 1024L, fileWriter.getDurability().getBytes());
 
 		file.delete();
 	}
@@ -0,0 +1,411 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.writers;
+
+import static org.cooder.tinylog.hamcrest.CollectionMatchers.types;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.cooder.tinylog.Configuration;
+import org.cooder.tinylog.Configurator;
+import org.cooder.tinylog.EnvironmentHelper;
+import org.cooder.tinylog.Level;
+import org.cooder.tinylog.LogEntry;
+import org.cooder.tinylog.Logger;
+import org.cooder.tinylog.util.ConfigurationCreator;
+import org.cooder.tinylog.util.LogEntryBuilder;
+import org.cooder.tinylog.util.NullWriter;
+import org.cooder.tinylog.util.PropertiesBuilder;
+import org.junit.Test;
+
+/**
+ * Tests for the flight recorder writer.
+ *
+ * @see FlightRecorderWriter
+ */
+public class FlightRecorderWriterTest extends AbstractWriterTest {
+
+	private static final String NEW_LINE = EnvironmentHelper.getNewLine();
+
+	/**
+	 * Test required log entry values.
+	 */
+	@Test
+	public final void testRequiredLogEntryValues() {
+		FlightRecorderWriter writer = new FlightRecorderWriter(new NullWriter(EnumSet.of(LogEntryValue.THREAD)));
+		assertThat(writer.getRequiredLogEntryValues(), containsInAnyOrder(LogEntryValue.LEVEL, LogEntryValue.THREAD));
+
+		writer = new FlightRecorderWriter(new ListWriter(), 10, false, Level.ERROR, "{level}: {message}");
+		assertThat(writer.getRequiredLogEntryValues(), containsInAnyOrder(LogEntryValue.LEVEL, LogEntryValue.MESSAGE, LogEntryValue.EXCEPTION));
+
+		writer = new FlightRecorderWriter(new ListWriter());
+		Set<LogEntryValue> requiredLogEntryValues = writer.getRequiredLogEntryValues();
+		assertThat(requiredLogEntryValues, hasItems(LogEntryValue.DATE, LogEntryValue.THREAD, LogEntryValue.CLASS, LogEntryValue.METHOD,
+				LogEntryValue.LEVEL, LogEntryValue.MESSAGE, LogEntryValue.EXCEPTION));
+		assertThat(requiredLogEntryValues, not(hasItems(LogEntryValue.RENDERED_LOG_ENTRY)));
+	}
+
+	/**
+	 * Test getting parameters.
+	 */
+	@Test
+	public final void testParameters() {
+		Writer delegate = new ListWriter();
+
+		FlightRecorderWriter writer = new FlightRecorderWriter(delegate);
+		assertSame(delegate, writer.getDelegate());
+		assertEquals(1000, writer.getSize());
+		assertFalse(writer.isPerThread());
+		assertEquals(Level.ERROR, writer.getTrigger());
+		assertNull(writer.getFormatPattern());
+
+		writer = new FlightRecorderWriter(delegate, 42, true, Level.WARNING, "{message}");
+		assertEquals(42, writer.getSize());
+		assertTrue(writer.isPerThread());
+		assertEquals(Level.WARNING, writer.getTrigger());
+		assertEquals("{message}", writer.getFormatPattern());
+	}
+
+	/**
+	 * Test rejecting an invalid size.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testInvalidSize() {
+		new FlightRecorderWriter(new ListWriter(), 0);
+	}
+
+	/**
+	 * Test dumping the latest log entries of all threads if an error is written.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testDumpOnError() throws Exception {
+		ListWriter delegate = new ListWriter();
+		FlightRecorderWriter writer = new FlightRecorderWriter(delegate, 3, false, Level.ERROR, "{level}: {message}");
+		writer.init(ConfigurationCreator.getDummyConfiguration());
+		assertEquals(1, delegate.numberOfInits);
+
+		for (int i = 1; i <= 5; ++i) {
+			writer.write(new LogEntryBuilder().level(Level.DEBUG).message(Integer.toString(i)).create());
+		}
+		writer.write(new LogEntryBuilder().level(Level.WARNING).message("6").create());
+		assertThat(delegate.entries, empty());
+
+		writer.write(new LogEntryBuilder().level(Level.ERROR).message("Failure").create());
+		assertEquals(Collections.singletonList("DEBUG: 4" + NEW_LINE + "DEBUG: 5" + NEW_LINE + "WARNING: 6" + NEW_LINE + "ERROR: Failure" + NEW_LINE),
+				Collections.singletonList(join(delegate.entries)));
+
+		/* Already dumped log entries are not dumped again */
+		delegate.entries.clear();
+		writer.write(new LogEntryBuilder().level(Level.DEBUG).message("7").create());
+		writer.write(new LogEntryBuilder().level(Level.ERROR).message("Failure").create());
+		assertEquals("DEBUG: 7" + NEW_LINE + "ERROR: Failure" + NEW_LINE, join(delegate.entries));
+
+		writer.flush();
+		assertEquals(1, delegate.numberOfFlushes);
+		writer.close();
+		assertEquals(1, delegate.numberOfCloses);
+	}
+
+	/**
+	 * Test dumping log entries explicitly.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testExplicitDump() throws Exception {
+		ListWriter delegate = new ListWriter();
+		FlightRecorderWriter writer = new FlightRecorderWriter(delegate, 10, false, Level.ERROR, "{message}");
+		writer.init(ConfigurationCreator.getDummyConfiguration());
+
+		writer.write(new LogEntryBuilder().level(Level.INFO).message("Hello").create());
+		writer.write(new LogEntryBuilder().level(Level.INFO).message("World").create());
+		writer.dump();
+		assertEquals("Hello" + NEW_LINE + "World" + NEW_LINE, join(delegate.entries));
+
+		delegate.entries.clear();
+		writer.dump();
+		assertThat(delegate.entries, empty());
+
+		writer.close();
+	}
+
+	/**
+	 * Test dumping the shared buffer while other threads are writing log entries. Each log entry must be dumped exactly
+	 * once.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testConcurrentDump() throws Exception {
+		final int threads = 4;
+		final int entriesPerThread = 10000;
+
+		ListWriter delegate = new ListWriter(EnumSet.of(LogEntryValue.MESSAGE));
+		final FlightRecorderWriter writer = new FlightRecorderWriter(delegate, threads * entriesPerThread);
+		writer.init(ConfigurationCreator.getDummyConfiguration());
+
+		List<Thread> producers = new ArrayList<Thread>();
+		for (int i = 0; i < threads; ++i) {
+			final int thread = i;
+			producers.add(new Thread() {
+
+				@Override
+				public void run() {
+					try {
+						for (int j = 0; j < entriesPerThread; ++j) {
+							writer.write(new LogEntryBuilder().level(Level.DEBUG).message(thread + ":" + j).create());
+						}
+					} catch (Exception ex) {
+						throw new RuntimeException(ex);
+					}
+				}
+
+			});
+		}
+
+		for (Thread producer : producers) {
+			producer.start();
+		}
+		while (producers.get(0).isAlive()) {
+			writer.dump();
+		}
+		for (Thread producer : producers) {
+			producer.join();
+		}
+		writer.dump();
+
+		assertEquals(threads * entriesPerThread, delegate.entries.size());
+		Set<String> messages = new HashSet<String>();
+		for (LogEntry logEntry : delegate.entries) {
+			assertTrue(messages.add(logEntry.getMessage()));
+		}
+
+		writer.close();
+	}
+
+	/**
+	 * Test passing log entries without rendering if the delegate writer doesn't require rendered log entries.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testWithoutRendering() throws Exception {
+		ListWriter delegate = new ListWriter(EnumSet.of(LogEntryValue.MESSAGE));
+		FlightRecorderWriter writer = new FlightRecorderWriter(delegate);
+		writer.init(ConfigurationCreator.getDummyConfiguration());
+
+		writer.write(new LogEntryBuilder().level(Level.DEBUG).message("Hello").create());
+		writer.write(new LogEntryBuilder().level(Level.ERROR).message("World").create());
+		assertEquals(2, delegate.entries.size());
+		assertEquals("Hello", delegate.entries.get(0).getMessage());
+		assertNull(delegate.entries.get(0).getRenderedLogEntry());
+		assertEquals("World", delegate.entries.get(1).getMessage());
+
+		writer.close();
+	}
+
+	/**
+	 * Test keeping log entries separately per thread.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testPerThread() throws Exception {
+		ListWriter delegate = new ListWriter();
+		final FlightRecorderWriter writer = new FlightRecorderWriter(delegate, 2, true, Level.ERROR, "{message}");
+		writer.init(ConfigurationCreator.getDummyConfiguration());
+
+		writer.write(new LogEntryBuilder().level(Level.DEBUG).message("main 1").create());
+
+		Thread thread = new Thread() {
+
+			@Override
+			public void run() {
+				try {
+					writer.write(new LogEntryBuilder().level(Level.DEBUG).message("other").create());
+				} catch (Exception ex) {
+					throw new RuntimeException(ex);
+				}
+			}
+
+		};
+		thread.start();
+		thread.join();
+
+		writer.write(new LogEntryBuilder().level(Level.DEBUG).message("main 2").create());
+		writer.write(new LogEntryBuilder().level(Level.DEBUG).message("main 3").create());
+		writer.write(new LogEntryBuilder().level(Level.ERROR).message("Failure").create());
+		assertEquals("main 2" + NEW_LINE + "main 3" + NEW_LINE + "Failure" + NEW_LINE, join(delegate.entries));
+
+		writer.close();
+	}
+
+	/**
+	 * Test falling back to a shared buffer if the writing thread is enabled.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testPerThreadWithWritingThread() throws Exception {
+		Method method = Configurator.class.getDeclaredMethod("create");
+		method.setAccessible(true);
+		Configuration configuration = (Configuration) method.invoke(ConfigurationCreator.getDummyConfigurator().writingThread(null));
+
+		ListWriter delegate = new ListWriter();
+		FlightRecorderWriter writer = new FlightRecorderWriter(delegate, 10, true, Level.ERROR, "{message}");
+		writer.init(configuration);
+		assertEquals("LOGGER WARNING: Flight recorder cannot separate log entries per thread if the writing thread is enabled, a shared buffer will be used",
+				getErrorStream().nextLine());
+
+		writer.write(new LogEntryBuilder().level(Level.DEBUG).message("Hello").create());
+		writer.write(new LogEntryBuilder().level(Level.ERROR).message("World").create());
+		assertEquals("Hello" + NEW_LINE + "World" + NEW_LINE, join(delegate.entries));
+
+		writer.close();
+	}
+
+	/**
+	 * Test logging via logger with the global format pattern.
+	 */
+	@Test
+	public final void testLogging() {
+		ListWriter delegate = new ListWriter();
+		FlightRecorderWriter writer = new FlightRecorderWriter(delegate);
+		Configurator.defaultConfig().writer(writer).level(Level.TRACE).formatPattern("{class_name}.{method}(): {message}").activate();
+
+		Logger.debug("Hello");
+		assertThat(delegate.entries, empty());
+
+		Logger.error("World");
+		assertEquals("FlightRecorderWriterTest.testLogging(): Hello" + NEW_LINE + "FlightRecorderWriterTest.testLogging(): World" + NEW_LINE,
+				join(delegate.entries));
+	}
+
+	/**
+	 * Test reading flight recorder writer from properties.
+	 */
+	@Test
+	public final void testFromProperties() {
+		PropertiesBuilder propertiesBuilder = new PropertiesBuilder().set("tinylog.writer", "flightrecorder");
+		List<Writer> writers = createFromProperties(propertiesBuilder.create());
+		assertThat(writers, empty());
+		assertEquals("LOGGER ERROR: Missing required property \"tinylog.writer.delegate\"", getErrorStream().nextLine());
+		assertEquals("LOGGER ERROR: Failed to initialize flightrecorder writer", getErrorStream().nextLine());
+
+		propertiesBuilder.set("tinylog.writer.delegate", "unknown");
+		writers = createFromProperties(propertiesBuilder.create());
+		assertThat(writers, empty());
+		assertEquals("LOGGER ERROR: Cannot find a writer for the name \"unknown\"", getErrorStream().nextLine());
+		assertEquals("LOGGER ERROR: Failed to initialize flightrecorder writer", getErrorStream().nextLine());
+
+		propertiesBuilder.set("tinylog.writer.delegate", "file");
+		writers = createFromProperties(propertiesBuilder.create());
+		assertThat(writers, empty());
+		assertEquals("LOGGER ERROR: Missing required property \"tinylog.writer.delegate.filename\"", getErrorStream().nextLine());
+		assertEquals("LOGGER ERROR: Failed to initialize file writer", getErrorStream().nextLine());
+		assertEquals("LOGGER ERROR: Failed to initialize flightrecorder writer", getErrorStream().nextLine());
+
+		propertiesBuilder.set("tinylog.writer.delegate", "console");
+		writers = createFromProperties(propertiesBuilder.create());
+		assertThat(writers, types(FlightRecorderWriter.class));
+		FlightRecorderWriter flightRecorderWriter = (FlightRecorderWriter) writers.get(0);
+		assertThat(flightRecorderWriter.getDelegate(), instanceOf(ConsoleWriter.class));
+		assertEquals(1000, flightRecorderWriter.getSize());
+		assertFalse(flightRecorderWriter.isPerThread());
+		assertEquals(Level.ERROR, flightRecorderWriter.getTrigger());
+		assertNull(flightRecorderWriter.getFormatPattern());
+
+		propertiesBuilder.set("tinylog.writer.size", "100").set("tinylog.writer.perthread", "true").set("tinylog.writer.trigger", "warning")
+				.set("tinylog.writer.dump.format", "{level}: {message}").set("tinylog.writer.delegate.buffered", "true");
+		writers = createFromProperties(propertiesBuilder.create());
+		assertThat(writers, types(FlightRecorderWriter.class));
+		flightRecorderWriter = (FlightRecorderWriter) writers.get(0);
+		assertTrue(((ConsoleWriter) flightRecorderWriter.getDelegate()).isBuffered());
+		assertEquals(100, flightRecorderWriter.getSize());
+		assertTrue(flightRecorderWriter.isPerThread());
+		assertEquals(Level.WARNING, flightRecorderWriter.getTrigger());
+		assertEquals("{level}: {message}", flightRecorderWriter.getFormatPattern());
+	}
+
+	private static String join(final List<LogEntry> logEntries) {
+		StringBuilder builder = new StringBuilder();
+		for (LogEntry logEntry : logEntries) {
+			builder.append(logEntry.getRenderedLogEntry());
+		}
+		return builder.toString();
+	}
+
+	private static final class ListWriter extends NullWriter {
+
+		private final List<LogEntry> entries = new ArrayList<LogEntry>();
+		private int numberOfInits;
+		private int numberOfFlushes;
+		private int numberOfCloses;
+
+		private ListWriter() {
+			super(EnumSet.of(LogEntryValue.RENDERED_LOG_ENTRY));
+		}
+
+		private ListWriter(final Set<LogEntryValue> requiredLogEntryValues) {
+			super(requiredLogEntryValues);
+		}
+
+		@Override
+		public void init(final Configuration configuration) {
+			++numberOfInits;
+		}
+
+		@Override
+		public void write(final LogEntry logEntry) {
+			entries.add(logEntry);
+		}
+
+		@Override
+		public void flush() {
+			++numberOfFlushes;
+		}
+
+		@Override
+		public void close() {
+			++numberOfCloses;
+		}
+
+	}
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.writers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.cooder.tinylog.AbstractTinylogTest;
+import org.cooder.tinylog.Level;
+import org.junit.Test;
+
+/**
+ * Tests for batching of forcing log files to disk.
+ *
+ * @see GroupCommit
+ */
+public class GroupCommitTest extends AbstractTinylogTest {
+
+	/**
+	 * Test syncing a single write.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testSingleWrite() throws IOException {
+		CountingTarget target = new CountingTarget();
+		GroupCommit groupCommit = new GroupCommit(new Durability(Level.ERROR, 0L, 1024L), target);
+
+		long ticket = groupCommit.register(10);
+		assertEquals(10L, ticket);
+		groupCommit.await(ticket);
+		assertEquals(1, target.syncs.get());
+
+		groupCommit.await(ticket);
+		assertEquals(1, target.syncs.get());
+	}
+
+	/**
+	 * Test that no sync is required if the log file has already been synced.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testAlreadySynced() throws IOException {
+		CountingTarget target = new CountingTarget();
+		GroupCommit groupCommit = new GroupCommit(new Durability(Level.ERROR, 0L, 1024L), target);
+
+		long ticket = groupCommit.register(10);
+		groupCommit.synced();
+		groupCommit.await(ticket);
+		assertEquals(0, target.syncs.get());
+		assertEquals(10L, groupCommit.getTicket());
+	}
+
+	/**
+	 * Test that concurrent writes are synced together.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for threads
+	 */
+	@Test
+	public final void testGroupCommit() throws InterruptedException {
+		CountingTarget target = new CountingTarget();
+		final GroupCommit groupCommit = new GroupCommit(new Durability(Level.ERROR, 50L, 1024L * 1024L), target);
+
+		List<AwaitingThread> threads = new ArrayList<AwaitingThread>();
+		for (int i = 0; i < 10; ++i) {
+			threads.add(new AwaitingThread(groupCommit, groupCommit.register(10)));
+		}
+
+		for (AwaitingThread thread : threads) {
+			thread.start();
+		}
+		for (AwaitingThread thread : threads) {
+			thread.join();
+			assertNull(thread.exception);
+		}
+
+		assertEquals(1, target.syncs.get());
+	}
+
+	/**
+	 * Test that enough pending bytes sync immediately without waiting for the delay.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for thread
+	 */
+	@Test
+	public final void testSyncingByBytes() throws InterruptedException {
+		CountingTarget target = new CountingTarget();
+		GroupCommit groupCommit = new GroupCommit(new Durability(Level.ERROR, 60000L, 100L), target);
+
+		AwaitingThread thread = new AwaitingThread(groupCommit, groupCommit.register(10));
+		thread.start();
+
+		Thread.sleep(50L);
+		groupCommit.register(100);
+
+		thread.join(10000L);
+		assertFalse(thread.isAlive());
+		assertNull(thread.exception);
+		assertEquals(1, target.syncs.get());
+	}
+
+	/**
+	 * Test that a failed sync will be reported and retried by the next waiting thread.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testFailingSync() throws IOException {
+		CountingTarget target = new CountingTarget();
+		target.failures.set(1);
+		GroupCommit groupCommit = new GroupCommit(new Durability(Level.ERROR, 0L, 1024L), target);
+
+		long ticket = groupCommit.register(10);
+		try {
+			groupCommit.await(ticket);
+			fail("IOException expected");
+		} catch (IOException ex) {
+			assertEquals("Failed to sync", ex.getMessage());
+		}
+
+		groupCommit.await(ticket);
+		assertEquals(1, target.syncs.get());
+	}
+
+	private static final class CountingTarget implements GroupCommit.Target {
+
+		private final AtomicInteger syncs = new AtomicInteger();
+		private final AtomicInteger failures = new AtomicInteger();
+
+		@Override
+		public void sync() throws IOException {
+			if (failures.getAndDecrement() > 0) {
+				throw new IOException("Failed to sync");
+			}
+			syncs.incrementAndGet();
+		}
+
+	}
+
+	private static final class AwaitingThread extends Thread {
+
+		private final GroupCommit groupCommit;
+		private final long ticket;
+		private volatile IOException exception;
+
+		private AwaitingThread(final GroupCommit groupCommit, final long ticket) {
+			this.groupCommit = groupCommit;
+			this.ticket = ticket;
+		}
+
+		@Override
+		public void run() {
+			try {
+				groupCommit.await(ticket);
+			} catch (IOException ex) {
+				exception = ex;
+			}
+		}
+
+	}
+
+}
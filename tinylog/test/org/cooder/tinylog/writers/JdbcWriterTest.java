@@ -54,8 +54,11 @@ import org.h2.jdbcx.JdbcDataSource;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.cooder.tinylog.Configurator;
 import org.cooder.tinylog.EnvironmentHelper;
 import org.cooder.tinylog.Level;
+import org.cooder.tinylog.Logger;
+import org.cooder.tinylog.Statistics;
 import org.cooder.tinylog.mocks.SystemTimeMock;
 import org.cooder.tinylog.util.LogEntryBuilder;
 import org.cooder.tinylog.util.PropertiesBuilder;
@@ -412,7 +415,7 @@ public class JdbcWriterTest extends AbstractWriterTest {
 		assertThat(writer.getRequiredLogEntryValues(), containsInAnyOrder(LogEntryValue.LEVEL, LogEntryValue.MESSAGE));
 
 		writer = new JdbcWriter(JDBC_URL, "log", Arrays.asList(Value.values()));
-		assertThat(writer.getRequiredLogEntryValues(), containsInAnyOrder(filter(LogEntryValue.values(), LogEntryValue.DATE)));
+		assertThat(writer.getRequiredLogEntryValues(), containsInAnyOrder(filter(LogEntryValue.values(), LogEntryValue.DATE, LogEntryValue.RAW_MESSAGE)));
 	}
 
 	/**
@@ -1434,6 +1437,495 @@ public class JdbcWriterTest extends AbstractWriterTest {
 		writer.close();
 	}
 
+	/**
+	 * Test executing a batch process as soon as the defined batch size is reached.
+	 *
+	 * @throws SQLException
+	 *             Test failed
+	 * @throws NamingException
+	 *             Test failed
+	 */
+	@Test
+	public final void testBatchSize() throws SQLException, NamingException {
+		JdbcWriter writer = new JdbcWriter(JDBC_URL, "log", null, Arrays.asList(Value.MESSAGE), true, null, null, -1, 10, 0, 0, 0);
+		assertEquals(10, writer.getBatchSize());
+		writer.init(null);
+
+		for (int i = 1; i < 10; ++i) {
+			writer.write(new LogEntryBuilder().message("Entry: " + i).create());
+		}
+		assertEquals(Collections.emptyList(), getLogEntries());
+
+		writer.write(new LogEntryBuilder().message("Entry: 10").create());
+		assertEquals(10, getLogEntries().size());
+
+		writer.close();
+	}
+
+	/**
+	 * Test executing a batch process as soon as the flush interval is exceeded.
+	 *
+	 * @throws SQLException
+	 *             Test failed
+	 * @throws NamingException
+	 *             Test failed
+	 */
+	@Test
+	public final void testTimeBasedFlushing() throws SQLException, NamingException {
+		SystemTimeMock systemTimeMock = new SystemTimeMock();
+
+		JdbcWriter writer = new JdbcWriter(JDBC_URL, "log", null, Arrays.asList(Value.MESSAGE), true, null, null, -1, 100, 1000, 0, 0);
+		assertEquals(1000L, writer.getFlushInterval());
+		writer.init(null);
+
+		writer.write(new LogEntryBuilder().message("First").create());
+		systemTimeMock.setCurrentTimeMillis(999);
+		writer.write(new LogEntryBuilder().message("Second").create());
+		assertEquals(Collections.emptyList(), getLogEntries());
+
+		systemTimeMock.setCurrentTimeMillis(1000);
+		writer.write(new LogEntryBuilder().message("Third").create());
+		assertEquals(Arrays.asList("First", "Second", "Third"), getLogEntries());
+
+		writer.close();
+	}
+
+	/**
+	 * Test executing a batch process after exceeding the flush interval without writing further log entries.
+	 *
+	 * @throws SQLException
+	 *             Test failed
+	 * @throws NamingException
+	 *             Test failed
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for flushing
+	 */
+	@Test
+	public final void testTimeBasedFlushingWithoutFurtherLogEntries() throws SQLException, NamingException, InterruptedException {
+		JdbcWriter writer = new JdbcWriter(JDBC_URL, "log", null, Arrays.asList(Value.MESSAGE), true, null, null, -1, 100, 10, 0, 0);
+		writer.init(null);
+
+		writer.write(new LogEntryBuilder().message("Hello World").create());
+		waitForLogEntries(1);
+		assertEquals(Arrays.asList("Hello World"), getLogEntries());
+
+		writer.close();
+	}
+
+	/**
+	 * Test inserting log entries by multi-row insert statements.
+	 *
+	 * @throws SQLException
+	 *             Test failed
+	 * @throws NamingException
+	 *             Test failed
+	 */
+	@Test
+	public final void testBulkInserting() throws SQLException, NamingException {
+		Statement statement = connection.createStatement();
+		try {
+			statement.executeUpdate("ALTER TABLE \"log\" ADD \"level\" VARCHAR");
+		} finally {
+			statement.close();
+		}
+
+		JdbcWriter writer = new JdbcWriter(JDBC_URL, "log", null, Arrays.asList(Value.MESSAGE, Value.LEVEL), false, null, null, -1, 11, 0, 0, 0, 4);
+		assertEquals(4, writer.getBulkSize());
+		assertTrue(writer.isBatchMode());
+		writer.init(null);
+
+		List<String> messages = new ArrayList<>();
+		List<String> levels = new ArrayList<>();
+		for (int i = 0; i < 11; ++i) {
+			Level level = Level.values()[i % Level.values().length];
+			writer.write(new LogEntryBuilder().message("Entry: " + (i + 1)).level(level).create());
+			messages.add("Entry: " + (i + 1));
+			levels.add(level.name());
+			if (i < 10) {
+				assertEquals(Collections.emptyList(), getLogEntries());
+			}
+		}
+		assertEquals(messages, getLogEntries("entry"));
+		assertEquals(levels, getLogEntries("level"));
+
+		clearEntries();
+
+		writer.write(new LogEntryBuilder().message("First").level(Level.INFO).create());
+		writer.write(new LogEntryBuilder().message("Second").level(Level.WARNING).create());
+		writer.write(new LogEntryBuilder().message("Third").level(Level.ERROR).create());
+		writer.flush();
+		assertEquals(Arrays.asList("First", "Second", "Third"), getLogEntries("entry"));
+		assertEquals(Arrays.asList("INFO", "WARNING", "ERROR"), getLogEntries("level"));
+
+		writer.close();
+	}
+
+	/**
+	 * Test inserting log entries of a failed bulk insert after reestablishing a broken database connection.
+	 *
+	 * @throws SQLException
+	 *             Test failed
+	 * @throws NamingException
+	 *             Test failed
+	 */
+	@Test
+	public final void testBulkBuffering() throws SQLException, NamingException {
+		JdbcWriter writer = new JdbcWriter(JDBC_URL, "log", null, Arrays.asList(Value.MESSAGE), true, null, null, 0, 100, 0, 100, 0, 2);
+		writer.init(null);
+
+		writer.write(new LogEntryBuilder().message("First").create());
+		writer.write(new LogEntryBuilder().message("Second").create());
+		writer.write(new LogEntryBuilder().message("Third").create());
+
+		shutdown();
+
+		writer.flush();
+		assertThat(getErrorStream().nextLine(), allOf(startsWith("LOGGER ERROR: Database connection is broken ("), endsWith(")")));
+
+		while (getErrorStream().hasLines()) { // H2 writes errors into the console
+			assertThat(getErrorStream().nextLine(), not(startsWith("LOGGER")));
+		}
+
+		reestablish();
+
+		writer.write(new LogEntryBuilder().message("Fourth").create());
+		assertEquals(Arrays.asList("First", "Second", "Third"), getLogEntries());
+		assertThat(getErrorStream().nextLine(), is("LOGGER ERROR: Broken database connection has been reestablished"));
+
+		writer.close();
+		assertEquals(Arrays.asList("First", "Second", "Third", "Fourth"), getLogEntries());
+	}
+
+	/**
+	 * Test inserting buffered log entries after reestablishing a broken database connection.
+	 *
+	 * @throws SQLException
+	 *             Test failed
+	 * @throws NamingException
+	 *             Test failed
+	 */
+	@Test
+	public final void testBuffering() throws SQLException, NamingException {
+		JdbcWriter writer = new JdbcWriter(JDBC_URL, "log", null, Arrays.asList(Value.MESSAGE), false, null, null, 0, 100, 0, 2, 0);
+		assertEquals(2, writer.getBufferSize());
+		writer.init(null);
+
+		shutdown();
+
+		writer.write(new LogEntryBuilder().message("First").create());
+		assertThat(getErrorStream().nextLine(), allOf(startsWith("LOGGER ERROR: Database connection is broken ("), endsWith(")")));
+		writer.write(new LogEntryBuilder().message("Second").create());
+		writer.write(new LogEntryBuilder().message("Third").create());
+
+		while (getErrorStream().hasLines()) { // H2 writes errors into the console
+			assertThat(getErrorStream().nextLine(), not(startsWith("LOGGER")));
+		}
+
+		reestablish();
+
+		writer.write(new LogEntryBuilder().message("Fourth").create());
+		assertEquals(Arrays.asList("Second", "Third", "Fourth"), getLogEntries());
+		assertThat(getErrorStream().nextLine(), is("LOGGER ERROR: Broken database connection has been reestablished"));
+		assertThat(getErrorStream().nextLine(), is("LOGGER WARNING: Buffer for broken database connection has been exceeded, 1 log entries have been lost"));
+
+		writer.close();
+	}
+
+	/**
+	 * Test recording batch sizes, reconnects and lost log entries if statistics are enabled.
+	 *
+	 * @throws SQLException
+	 *             Test failed
+	 * @throws NamingException
+	 *             Test failed
+	 */
+	@Test
+	public final void testStatistics() throws SQLException, NamingException {
+		Configurator.defaultConfig().statistics(true).activate();
+
+		JdbcWriter writer = new JdbcWriter(JDBC_URL, "log", null, Arrays.asList(Value.MESSAGE), true, null, null, 0, 2, 0, 1, 0);
+		writer.init(null);
+
+		writer.write(new LogEntryBuilder().message("First").create());
+		writer.write(new LogEntryBuilder().message("Second").create());
+
+		shutdown();
+
+		writer.write(new LogEntryBuilder().message("Third").create());
+		writer.flush();
+		assertThat(getErrorStream().nextLine(), allOf(startsWith("LOGGER ERROR: Database connection is broken ("), endsWith(")")));
+		writer.write(new LogEntryBuilder().message("Fourth").create());
+
+		while (getErrorStream().hasLines()) { // H2 writes errors into the console
+			assertThat(getErrorStream().nextLine(), not(startsWith("LOGGER")));
+		}
+
+		reestablish();
+
+		writer.write(new LogEntryBuilder().message("Fifth").create());
+		assertThat(getErrorStream().nextLine(), is("LOGGER ERROR: Broken database connection has been reestablished"));
+		assertThat(getErrorStream().nextLine(), is("LOGGER WARNING: Buffer for broken database connection has been exceeded, 1 log entries have been lost"));
+
+		writer.close();
+		assertEquals(Arrays.asList("Fourth", "Fifth"), getLogEntries());
+
+		Statistics.WriterStatistics statistics = Logger.getStatistics().getWriters().get(writer);
+		assertEquals(3L, statistics.getBatches().getCount());
+		assertEquals(4L, statistics.getBatches().getSum());
+		assertEquals(2L, statistics.getBatches().getMaximum());
+		assertEquals(1L, statistics.getReconnects());
+		assertEquals(1L, statistics.getLostEntries());
+	}
+
+	/**
+	 * Test inserting log entries of a failed batch process after reestablishing a broken database connection.
+	 *
+	 * @throws SQLException
+	 *             Test failed
+	 * @throws NamingException
+	 *             Test failed
+	 */
+	@Test
+	public final void testBatchBuffering() throws SQLException, NamingException {
+		JdbcWriter writer = new JdbcWriter(JDBC_URL, "log", null, Arrays.asList(Value.MESSAGE), true, null, null, 0, 100, 0, 100, 0);
+		writer.init(null);
+
+		writer.write(new LogEntryBuilder().message("First").create());
+		writer.write(new LogEntryBuilder().message("Second").create());
+
+		shutdown();
+
+		writer.flush();
+		assertThat(getErrorStream().nextLine(), allOf(startsWith("LOGGER ERROR: Database connection is broken ("), endsWith(")")));
+
+		while (getErrorStream().hasLines()) { // H2 writes errors into the console
+			assertThat(getErrorStream().nextLine(), not(startsWith("LOGGER")));
+		}
+
+		reestablish();
+
+		writer.write(new LogEntryBuilder().message("Third").create());
+		assertEquals(Arrays.asList("First", "Second"), getLogEntries());
+		assertThat(getErrorStream().nextLine(), is("LOGGER ERROR: Broken database connection has been reestablished"));
+
+		writer.flush();
+		assertEquals(Arrays.asList("First", "Second", "Third"), getLogEntries());
+
+		writer.close();
+	}
+
+	/**
+	 * Test that only log entries of a partially failed batch process, which have not been inserted, are kept for
+	 * inserting after reconnecting.
+	 *
+	 * @throws SQLException
+	 *             Test failed
+	 * @throws NamingException
+	 *             Test failed
+	 */
+	@Test
+	public final void testPartiallyFailedBatch() throws SQLException, NamingException {
+		JdbcWriter writer = new JdbcWriter(JDBC_URL, "log", null, Arrays.asList(Value.MESSAGE), true, null, null, 0, 100, 0, 100, 0);
+		writer.init(null);
+
+		Statement statement = connection.createStatement();
+		try {
+			statement.executeUpdate("ALTER TABLE \"log\" ADD CONSTRAINT \"valid\" CHECK (\"entry\" <> 'Invalid')");
+		} finally {
+			statement.close();
+		}
+
+		writer.write(new LogEntryBuilder().message("First").create());
+		writer.write(new LogEntryBuilder().message("Invalid").create());
+		writer.write(new LogEntryBuilder().message("Third").create());
+		writer.flush();
+		assertThat(getErrorStream().nextLine(), startsWith("LOGGER ERROR: Database connection is broken ("));
+
+		while (getErrorStream().hasLines()) { // H2 writes errors into the console
+			assertThat(getErrorStream().nextLine(), not(startsWith("LOGGER")));
+		}
+
+		statement = connection.createStatement();
+		try {
+			statement.executeUpdate("ALTER TABLE \"log\" DROP CONSTRAINT \"valid\"");
+		} finally {
+			statement.close();
+		}
+
+		writer.flush();
+		assertThat(getErrorStream().nextLine(), is("LOGGER ERROR: Broken database connection has been reestablished"));
+		assertThat(getLogEntries(), containsInAnyOrder("First", "Invalid", "Third"));
+
+		writer.close();
+	}
+
+	/**
+	 * Test that buffered log entries, which could not be inserted until closing the writer, will be reported.
+	 *
+	 * @throws SQLException
+	 *             Test failed
+	 * @throws NamingException
+	 *             Test failed
+	 */
+	@Test
+	public final void testLostBufferedEntries() throws SQLException, NamingException {
+		DriverManagerMock driverManagerMock = new DriverManagerMock();
+
+		JdbcWriter writer = new JdbcWriter(JDBC_URL, "log", null, Arrays.asList(Value.MESSAGE), false, null, null, 0, 100, 0, 100, 0);
+		writer.init(null);
+
+		shutdown();
+		driverManagerMock.disconnected = true;
+
+		writer.write(new LogEntryBuilder().message("First").create());
+		assertThat(getErrorStream().nextLine(), allOf(startsWith("LOGGER ERROR: Database connection is broken ("), endsWith(")")));
+		writer.write(new LogEntryBuilder().message("Second").create());
+
+		while (getErrorStream().hasLines()) { // H2 writes errors into the console
+			assertThat(getErrorStream().nextLine(), not(startsWith("LOGGER")));
+		}
+
+		writer.close();
+		assertEquals("LOGGER WARNING: 2 buffered log entries could not be inserted into database", getErrorStream().nextLine());
+	}
+
+	/**
+	 * Test inserting log entries asynchronously by multiple workers.
+	 *
+	 * @throws SQLException
+	 *             Test failed
+	 * @throws NamingException
+	 *             Test failed
+	 */
+	@Test
+	public final void testWorkers() throws SQLException, NamingException {
+		JdbcWriter writer = new JdbcWriter(JDBC_URL, "log", null, Arrays.asList(Value.MESSAGE), true, null, null, -1, 10, 0, 0, 2);
+		assertEquals(2, writer.getWorkers());
+		writer.init(null);
+
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 1000; ++i) {
+			String message = "Entry: " + (i + 1);
+			writer.write(new LogEntryBuilder().message(message).create());
+			expected.add(message);
+		}
+
+		writer.close();
+		assertThat(getLogEntries(), containsInAnyOrder(expected.toArray()));
+	}
+
+	/**
+	 * Test inserting log entries asynchronously without batch mode.
+	 *
+	 * @throws SQLException
+	 *             Test failed
+	 * @throws NamingException
+	 *             Test failed
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for worker
+	 */
+	@Test
+	public final void testWorkerWithoutBatchMode() throws SQLException, NamingException, InterruptedException {
+		JdbcWriter writer = new JdbcWriter(JDBC_URL, "log", null, Arrays.asList(Value.MESSAGE), false, null, null, -1, 100, 0, 0, 1);
+		writer.init(null);
+
+		writer.write(new LogEntryBuilder().message("First").create());
+		writer.write(new LogEntryBuilder().message("Second").create());
+		waitForLogEntries(2);
+		assertEquals(Arrays.asList("First", "Second"), getLogEntries());
+
+		writer.close();
+	}
+
+	/**
+	 * Test executing batch processes of workers after exceeding the flush interval.
+	 *
+	 * @throws SQLException
+	 *             Test failed
+	 * @throws NamingException
+	 *             Test failed
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for worker
+	 */
+	@Test
+	public final void testWorkerTimeBasedFlushing() throws SQLException, NamingException, InterruptedException {
+		JdbcWriter writer = new JdbcWriter(JDBC_URL, "log", null, Arrays.asList(Value.MESSAGE), true, null, null, -1, 100, 10, 0, 1);
+		writer.init(null);
+
+		writer.write(new LogEntryBuilder().message("Hello World").create());
+		waitForLogEntries(1);
+		assertEquals(Arrays.asList("Hello World"), getLogEntries());
+
+		writer.close();
+	}
+
+	/**
+	 * Test that flushing triggers workers to execute their batch processes.
+	 *
+	 * @throws SQLException
+	 *             Test failed
+	 * @throws NamingException
+	 *             Test failed
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for worker
+	 */
+	@Test
+	public final void testWorkerFlushing() throws SQLException, NamingException, InterruptedException {
+		JdbcWriter writer = new JdbcWriter(JDBC_URL, "log", null, Arrays.asList(Value.MESSAGE), true, null, null, -1, 100, 0, 0, 1);
+		writer.init(null);
+
+		writer.write(new LogEntryBuilder().message("Hello World").create());
+		Thread.sleep(100L);
+		assertEquals(Collections.emptyList(), getLogEntries());
+
+		writer.flush();
+		waitForLogEntries(1);
+		assertEquals(Arrays.asList("Hello World"), getLogEntries());
+
+		writer.close();
+	}
+
+	/**
+	 * Test rejecting invalid batch sizes, flush intervals, buffer sizes and numbers of workers.
+	 */
+	@Test
+	public final void testInvalidParameters() {
+		try {
+			new JdbcWriter(JDBC_URL, "log", null, Arrays.asList(Value.MESSAGE), true, null, null, -1, 0, 0, 0, 0);
+			fail("IllegalArgumentException expected");
+		} catch (IllegalArgumentException ex) {
+			assertEquals("Batch size must be positive, but is 0", ex.getMessage());
+		}
+
+		try {
+			new JdbcWriter(JDBC_URL, "log", null, Arrays.asList(Value.MESSAGE), true, null, null, -1, 1, -1, 0, 0);
+			fail("IllegalArgumentException expected");
+		} catch (IllegalArgumentException ex) {
+			assertEquals("Flush interval must not be negative, but is -1", ex.getMessage());
+		}
+
+		try {
+			new JdbcWriter(JDBC_URL, "log", null, Arrays.asList(Value.MESSAGE), true, null, null, -1, 1, 0, -1, 0);
+			fail("IllegalArgumentException expected");
+		} catch (IllegalArgumentException ex) {
+			assertEquals("Buffer size must not be negative, but is -1", ex.getMessage());
+		}
+
+		try {
+			new JdbcWriter(JDBC_URL, "log", null, Arrays.asList(Value.MESSAGE), true, null, null, -1, 1, 0, 0, -1);
+			fail("IllegalArgumentException expected");
+		} catch (IllegalArgumentException ex) {
+			assertEquals("Number of workers must not be negative, but is -1", ex.getMessage());
+		}
+
+		try {
+			new JdbcWriter(JDBC_URL, "log", null, Arrays.asList(Value.MESSAGE), true, null, null, -1, 1, 0, 0, 0, -1);
+			fail("IllegalArgumentException expected");
+		} catch (IllegalArgumentException ex) {
+			assertEquals("Number of rows per insert statement must not be negative, but is -1", ex.getMessage());
+		}
+	}
+
 	/**
 	 * Test reading JDBC writer from properties.
 	 */
@@ -1560,6 +2052,37 @@ public class JdbcWriterTest extends AbstractWriterTest {
 		assertEquals("admin", jdbcWriter.getUsername());
 		assertEquals("123", jdbcWriter.getPassword());
 		assertTrue(jdbcWriter.getReconnetInterval() < 0);
+		assertEquals(128, jdbcWriter.getBatchSize());
+		assertEquals(0L, jdbcWriter.getFlushInterval());
+		assertEquals(0, jdbcWriter.getBufferSize());
+		assertEquals(0, jdbcWriter.getWorkers());
+		assertEquals(0, jdbcWriter.getBulkSize());
+
+		propertiesBuilder.set("tinylog.writer.batchsize", "500").set("tinylog.writer.flush", "200").set("tinylog.writer.buffer", "10000")
+				.set("tinylog.writer.workers", "4");
+		writers = createFromProperties(propertiesBuilder.create());
+		assertThat(writers, types(JdbcWriter.class));
+		jdbcWriter = (JdbcWriter) writers.get(0);
+		assertEquals("jdbc:", jdbcWriter.getUrl());
+		assertEquals("admin", jdbcWriter.getUsername());
+		assertEquals(500, jdbcWriter.getBatchSize());
+		assertEquals(200L, jdbcWriter.getFlushInterval());
+		assertEquals(10000, jdbcWriter.getBufferSize());
+		assertEquals(4, jdbcWriter.getWorkers());
+
+		propertiesBuilder.set("tinylog.writer.bulk", "50");
+		writers = createFromProperties(propertiesBuilder.create());
+		assertThat(writers, types(JdbcWriter.class));
+		jdbcWriter = (JdbcWriter) writers.get(0);
+		assertEquals(50, jdbcWriter.getBulkSize());
+		assertTrue(jdbcWriter.isBatchMode());
+
+		propertiesBuilder.set("tinylog.writer.batchsize", "0");
+		writers = createFromProperties(propertiesBuilder.create());
+		assertThat(writers, empty());
+		assertEquals("LOGGER ERROR: Failed to create an instance of \"" + JdbcWriter.class.getName() + "\" (" + IllegalArgumentException.class.getName()
+				+ ": Batch size must be positive, but is 0)", getErrorStream().nextLine());
+		assertEquals("LOGGER ERROR: Failed to initialize jdbc writer", getErrorStream().nextLine());
 	}
 
 	@SuppressWarnings("unchecked")
@@ -1622,6 +2145,12 @@ public class JdbcWriterTest extends AbstractWriterTest {
 		}
 	}
 
+	private void waitForLogEntries(final int count) throws SQLException, InterruptedException {
+		for (int i = 0; i < 500 && getLogEntries().size() < count; ++i) {
+			Thread.sleep(10L);
+		}
+	}
+
 	private void clearEntries() throws SQLException {
 		Statement statement = connection.createStatement();
 		try {
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.writers;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import org.cooder.tinylog.AbstractTinylogTest;
+import org.cooder.tinylog.util.FileHelper;
+import org.junit.Test;
+
+/**
+ * Tests for the log collector.
+ *
+ * @see LogCollector
+ */
+public class LogCollectorTest extends AbstractTinylogTest {
+
+	/**
+	 * Test receiving log entries from multiple connections.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testReceiving() throws Exception {
+		File file = FileHelper.createTemporaryFile(null);
+		String address = Integer.toString(CollectorAddressTest.findFreePort());
+
+		LogCollector collector = new LogCollector(address, file.getAbsolutePath());
+		collector.start();
+
+		SocketChannel first = new CollectorAddress(address).connect();
+		SocketChannel second = new CollectorAddress(address).connect();
+		send(first, "Hello\n");
+		send(second, "World\n");
+		first.close();
+		second.close();
+
+		collector.stop();
+
+		String content = FileHelper.read(file);
+		assertEquals(12, content.length());
+		assertEquals(true, content.contains("Hello\n"));
+		assertEquals(true, content.contains("World\n"));
+
+		file.delete();
+	}
+
+	/**
+	 * Test receiving a log entry, which is larger than the receive buffer.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testLargeLogEntry() throws Exception {
+		File file = FileHelper.createTemporaryFile(null);
+		String address = Integer.toString(CollectorAddressTest.findFreePort());
+
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 20000; ++i) {
+			builder.append("0123456789");
+		}
+		builder.append("\n");
+
+		LogCollector collector = new LogCollector(address, file.getAbsolutePath());
+		collector.start();
+
+		SocketChannel channel = new CollectorAddress(address).connect();
+		send(channel, builder.toString());
+		send(channel, "Hello\n");
+		channel.close();
+
+		collector.stop();
+
+		assertEquals(builder + "Hello\n", FileHelper.read(file));
+
+		file.delete();
+	}
+
+	/**
+	 * Test discarding an incomplete log entry of a closed connection.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testIncompleteLogEntry() throws Exception {
+		File file = FileHelper.createTemporaryFile(null);
+		String address = Integer.toString(CollectorAddressTest.findFreePort());
+
+		LogCollector collector = new LogCollector(address, file.getAbsolutePath());
+		collector.start();
+
+		SocketChannel channel = new CollectorAddress(address).connect();
+		send(channel, "Hello\n");
+		ByteBuffer buffer = ByteBuffer.allocate(7);
+		buffer.putInt(10).put("abc".getBytes()).flip();
+		channel.write(buffer);
+		channel.close();
+
+		collector.stop();
+
+		assertEquals("Hello\n", FileHelper.read(file));
+
+		file.delete();
+	}
+
+	/**
+	 * Test closing connections that send invalid data.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testInvalidData() throws Exception {
+		File file = FileHelper.createTemporaryFile(null);
+		String address = Integer.toString(CollectorAddressTest.findFreePort());
+
+		LogCollector collector = new LogCollector(address, file.getAbsolutePath());
+		collector.start();
+
+		SocketChannel channel = new CollectorAddress(address).connect();
+		ByteBuffer buffer = ByteBuffer.allocate(4);
+		buffer.putInt(-1).flip();
+		channel.write(buffer);
+		assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+		channel.close();
+
+		collector.stop();
+
+		assertEquals("LOGGER WARNING: Received invalid data from a log producer, connection will be closed", getErrorStream().nextLine());
+		assertEquals("", FileHelper.read(file));
+
+		file.delete();
+	}
+
+	/**
+	 * Test failing to start a collector for an address that is already bound.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test(expected = IOException.class)
+	public final void testAddressInUse() throws Exception {
+		File file = FileHelper.createTemporaryFile(null);
+		String address = Integer.toString(CollectorAddressTest.findFreePort());
+
+		LogCollector collector = new LogCollector(address, file.getAbsolutePath());
+		collector.start();
+		try {
+			new LogCollector(address, file.getAbsolutePath()).start();
+		} finally {
+			collector.stop();
+			file.delete();
+		}
+	}
+
+	private static void send(final SocketChannel channel, final String text) throws IOException {
+		byte[] data = text.getBytes();
+		ByteBuffer buffer = ByteBuffer.allocate(4 + data.length);
+		buffer.putInt(data.length).put(data).flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+}
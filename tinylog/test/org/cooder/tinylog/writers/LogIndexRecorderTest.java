@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.writers;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.cooder.tinylog.AbstractCoreTest;
+import org.cooder.tinylog.Level;
+import org.cooder.tinylog.util.FileHelper;
+import org.junit.Test;
+
+/**
+ * Tests for the recorder of log indexes.
+ *
+ * @see LogIndexRecorder
+ */
+public class LogIndexRecorderTest extends AbstractCoreTest {
+
+	/**
+	 * Test that log entries are recorded after the defined interval, for each new second and for severe log entries.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testRecording() throws IOException {
+		File file = FileHelper.createTemporaryFile(null);
+
+		LogIndexRecorder recorder = new LogIndexRecorder(file, false, false, 2);
+		recorder.record(1000L, Level.INFO, 10);
+		recorder.record(1001L, Level.INFO, 10);
+		recorder.record(1002L, Level.INFO, 10);
+		recorder.record(1003L, Level.INFO, 10);
+		recorder.record(1004L, Level.ERROR, 10);
+		recorder.record(1005L, Level.INFO, 10);
+		recorder.record(2000L, Level.DEBUG, 10);
+		recorder.close();
+		write(file, 70);
+
+		LogIndex index = new LogIndex(file);
+		assertEquals(4, index.size());
+
+		assertEquals(1000L, index.getTimestamp(0));
+		assertEquals(0L, index.getOffset(0));
+		assertEquals(Level.INFO, index.getLevel(0));
+
+		assertEquals(1003L, index.getTimestamp(1));
+		assertEquals(30L, index.getOffset(1));
+
+		assertEquals(1004L, index.getTimestamp(2));
+		assertEquals(40L, index.getOffset(2));
+		assertEquals(Level.ERROR, index.getLevel(2));
+
+		assertEquals(2000L, index.getTimestamp(3));
+		assertEquals(60L, index.getOffset(3));
+		assertEquals(10, index.getLength(3));
+		assertEquals(Level.DEBUG, index.getLevel(3));
+
+		index.close();
+
+		file.delete();
+		LogIndex.getIndexFile(file).delete();
+	}
+
+	/**
+	 * Test that recorded timestamps never decrease, even if log entries are not written in chronological order.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testUnorderedTimestamps() throws IOException {
+		File file = FileHelper.createTemporaryFile(null);
+
+		LogIndexRecorder recorder = new LogIndexRecorder(file, false, false, 100);
+		recorder.record(2500L, Level.INFO, 10);
+		recorder.record(1500L, Level.INFO, 10);
+		recorder.record(3000L, Level.INFO, 10);
+		recorder.close();
+		write(file, 30);
+
+		LogIndex index = new LogIndex(file);
+		assertEquals(3, index.size());
+		assertEquals(2500L, index.getTimestamp(0));
+		assertEquals(2500L, index.getTimestamp(1));
+		assertEquals(3000L, index.getTimestamp(2));
+		index.close();
+
+		file.delete();
+		LogIndex.getIndexFile(file).delete();
+	}
+
+	/**
+	 * Test continuing an existing index for an appended log file.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testAppending() throws IOException {
+		File file = FileHelper.createTemporaryFile(null);
+
+		LogIndexRecorder recorder = new LogIndexRecorder(file, true, true, 100);
+		recorder.record(1000L, Level.INFO, 10);
+		recorder.close();
+		write(file, 10);
+
+		recorder = new LogIndexRecorder(file, true, true, 100);
+		recorder.record(2000L, Level.INFO, 10);
+		recorder.close();
+		write(file, 10);
+
+		LogIndex index = new LogIndex(file);
+		assertEquals(2, index.size());
+		assertEquals(0L, index.getOffset(0));
+		assertEquals(10L, index.getOffset(1));
+		index.close();
+
+		recorder = new LogIndexRecorder(file, false, false, 100);
+		recorder.record(3000L, Level.INFO, 10);
+		recorder.close();
+
+		index = new LogIndex(file);
+		assertEquals(1, index.size());
+		assertEquals(3000L, index.getTimestamp(0));
+		assertEquals(0L, index.getOffset(0));
+		index.close();
+
+		file.delete();
+		LogIndex.getIndexFile(file).delete();
+	}
+
+	private static void write(final File file, final int bytes) throws IOException {
+		FileOutputStream stream = new FileOutputStream(file, true);
+		try {
+			stream.write(new byte[bytes]);
+		} finally {
+			stream.close();
+		}
+	}
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.writers;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.cooder.tinylog.AbstractCoreTest;
+import org.cooder.tinylog.Level;
+import org.cooder.tinylog.util.FileHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for reading log indexes.
+ *
+ * @see LogIndex
+ */
+public class LogIndexTest extends AbstractCoreTest {
+
+	private File file;
+
+	/**
+	 * Create a log file with index. Each second has three log entries, and the last log entry of the second second is
+	 * an error.
+	 *
+	 * @throws IOException
+	 *             Failed to create log file
+	 */
+	@Before
+	public final void init() throws IOException {
+		file = FileHelper.createTemporaryFile(null);
+		LogIndexRecorder recorder = new LogIndexRecorder(file, false, false, 1);
+		StringBuilder builder = new StringBuilder();
+		for (int second = 1; second <= 3; ++second) {
+			for (int i = 0; i < 3; ++i) {
+				String entry = second + ":" + i + "\n";
+				recorder.record(second * 1000L + i * 100L, second == 2 && i == 2 ? Level.ERROR : Level.INFO, entry.length());
+				builder.append(entry);
+			}
+		}
+		recorder.close();
+
+		FileOutputStream stream = new FileOutputStream(file);
+		try {
+			stream.write(builder.toString().getBytes("US-ASCII"));
+		} finally {
+			stream.close();
+		}
+	}
+
+	/**
+	 * Delete created log file and index.
+	 */
+	@After
+	public final void dispose() {
+		file.delete();
+		LogIndex.getIndexFile(file).delete();
+	}
+
+	/**
+	 * Test reading records.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testRecords() throws IOException {
+		LogIndex index = new LogIndex(file);
+		assertEquals(new File(file.getPath() + ".idx"), LogIndex.getIndexFile(file));
+
+		/* Interval of 1 means that every second log entry is recorded, plus the first log entry of each second */
+		assertEquals(6, index.size());
+		assertEquals(1000L, index.getTimestamp(0));
+		assertEquals(0L, index.getOffset(0));
+		assertEquals(4, index.getLength(0));
+		assertEquals(Level.INFO, index.getLevel(0));
+		assertEquals(2200L, index.getTimestamp(3));
+		assertEquals(20L, index.getOffset(3));
+		assertEquals(Level.ERROR, index.getLevel(3));
+
+		index.close();
+	}
+
+	/**
+	 * Test finding positions of time ranges.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testTimeRange() throws IOException {
+		LogIndex index = new LogIndex(file);
+
+		assertEquals(0L, index.findStart(0L));
+		assertEquals(0L, index.findStart(1000L));
+		assertEquals(8L, index.findStart(2000L));
+		assertEquals(12L, index.findStart(2100L));
+		assertEquals(32L, index.findStart(9999L));
+
+		assertEquals(0L, index.findEnd(0L));
+		assertEquals(8L, index.findEnd(1000L));
+		assertEquals(24L, index.findEnd(2200L));
+		assertEquals(36L, index.findEnd(9999L));
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		index.copy(index.findStart(2000L), index.findEnd(2999L), output);
+		assertEquals("1:2\n2:0\n2:1\n2:2\n", output.toString("US-ASCII"));
+
+		index.close();
+	}
+
+	/**
+	 * Test finding severe log entries.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testLevel() throws IOException {
+		LogIndex index = new LogIndex(file);
+		assertArrayEquals(new int[] { 3 }, index.findRecords(Level.ERROR));
+		assertEquals(6, index.findRecords(Level.TRACE).length);
+		index.close();
+	}
+
+	/**
+	 * Test outputting log entries via command line.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testMain() throws IOException {
+		LogIndex.main(new String[] { file.getAbsolutePath(), "3000" });
+		assertEquals("2:2", getOutputStream().nextLine());
+		assertEquals("3:0", getOutputStream().nextLine());
+		assertEquals("3:1", getOutputStream().nextLine());
+		assertEquals("3:2", getOutputStream().nextLine());
+
+		LogIndex.main(new String[] { file.getAbsolutePath(), "1000", "1000" });
+		assertEquals("1:0", getOutputStream().nextLine());
+		assertEquals("1:1", getOutputStream().nextLine());
+
+		LogIndex.main(new String[] { file.getAbsolutePath(), "--level", "error" });
+		assertEquals("2:2", getOutputStream().nextLine());
+	}
+
+	/**
+	 * Test reading an invalid index.
+	 *
+	 * @throws IOException
+	 *             Failed to create invalid index
+	 */
+	@Test
+	public final void testInvalidIndex() throws IOException {
+		FileOutputStream stream = new FileOutputStream(LogIndex.getIndexFile(file));
+		try {
+			stream.write(new byte[] { 'X', 'Y', 'Z', 0, 0, 0 });
+		} finally {
+			stream.close();
+		}
+
+		try {
+			new LogIndex(file);
+			fail("IOException expected");
+		} catch (IOException ex) {
+			assertThat(ex.getMessage(), containsString("Invalid log index"));
+		}
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.cooder.tinylog.writers;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.cooder.tinylog.AbstractTinylogTest;
+import org.cooder.tinylog.util.FileHelper;
+import org.junit.Test;
+
+/**
+ * Tests for the output stream for preallocated log files.
+ *
+ * @see PreallocatedFileOutputStream
+ */
+public class PreallocatedFileOutputStreamTest extends AbstractTinylogTest {
+
+	/**
+	 * Test reserving disk space for a new file and trimming it on close.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testNewFile() throws IOException {
+		File file = FileHelper.createTemporaryFile(null, "old content");
+
+		PreallocatedFileOutputStream stream = new PreallocatedFileOutputStream(file, false, 100 * 1024);
+		assertEquals(100 * 1024, file.length());
+		stream.write("Hello".getBytes());
+		stream.write('!');
+		assertEquals(100 * 1024, file.length());
+		stream.close();
+
+		assertEquals("Hello!", FileHelper.read(file));
+
+		file.delete();
+	}
+
+	/**
+	 * Test continuing an existing file.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testAppending() throws IOException {
+		File file = FileHelper.createTemporaryFile(null, "Hello");
+
+		PreallocatedFileOutputStream stream = new PreallocatedFileOutputStream(file, true, 10);
+		assertEquals(10, file.length());
+		stream.write(" World".getBytes());
+		assertEquals(11, file.length());
+		stream.close();
+
+		assertEquals("Hello World", FileHelper.read(file));
+
+		file.delete();
+	}
+
+	/**
+	 * Test trimming of files, which have not been closed properly.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testTrim() throws IOException {
+		File file = FileHelper.createTemporaryFile(null);
+		FileOutputStream stream = new FileOutputStream(file);
+		stream.write("Hello".getBytes());
+		stream.write(new byte[200 * 1024]);
+		stream.close();
+
+		PreallocatedFileOutputStream.trim(file);
+		assertEquals("Hello", FileHelper.read(file));
+
+		FileHelper.write(file, "");
+		stream = new FileOutputStream(file);
+		stream.write(new byte[100]);
+		stream.close();
+
+		PreallocatedFileOutputStream.trim(file);
+		assertEquals(0, file.length());
+
+		file.delete();
+	}
+
+}
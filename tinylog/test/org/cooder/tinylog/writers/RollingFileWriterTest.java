@@ -17,6 +17,7 @@ import static org.cooder.tinylog.hamcrest.ClassMatchers.type;
 import static org.cooder.tinylog.hamcrest.CollectionMatchers.types;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
@@ -31,13 +32,19 @@ import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Set;
 
 import org.cooder.tinylog.Configuration;
+import org.cooder.tinylog.Configurator;
+import org.cooder.tinylog.Level;
+import org.cooder.tinylog.Logger;
+import org.cooder.tinylog.Statistics;
 import org.cooder.tinylog.labelers.CountLabeler;
 import org.cooder.tinylog.labelers.Labeler;
 import org.cooder.tinylog.labelers.ProcessIdLabeler;
+import org.cooder.tinylog.labelers.Retention;
 import org.cooder.tinylog.labelers.TimestampLabeler;
 import org.cooder.tinylog.policies.DailyPolicy;
 import org.cooder.tinylog.policies.Policy;
@@ -345,6 +352,137 @@ public class RollingFileWriterTest extends AbstractWriterTest {
 		file.delete();
 	}
 
+	/**
+	 * Test concurrent appending with threading.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testMultiThreadedConcurrentWriting() throws Exception {
+		File file = FileHelper.createTemporaryFile(null);
+
+		RollingFileWriter writer = new RollingFileWriter(file.getAbsolutePath(), 1, false, false, true, null, null, null);
+		assertTrue(writer.isConcurrent());
+		writer.init(ConfigurationCreator.getDummyConfiguration());
+
+		List<LoopWritingThread> threads = new ArrayList<LoopWritingThread>();
+		for (int i = 0; i < 5; ++i) {
+			threads.add(new LoopWritingThread(writer));
+		}
+
+		for (LoopWritingThread thread : threads) {
+			thread.start();
+		}
+
+		Thread.sleep(100L);
+
+		for (LoopWritingThread thread : threads) {
+			thread.shutdown();
+		}
+
+		for (LoopWritingThread thread : threads) {
+			thread.join();
+		}
+
+		writer.flush();
+
+		long writtenLines = 0L;
+		for (LoopWritingThread thread : threads) {
+			writtenLines += thread.getWrittenLines();
+		}
+
+		long readLines = 0L;
+		BufferedReader reader = new BufferedReader(new FileReader(file));
+		for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+			assertEquals(LoopWritingThread.LINE, line);
+			++readLines;
+		}
+		reader.close();
+
+		assertNotEquals(0, readLines);
+		assertEquals(writtenLines, readLines);
+
+		writer.close();
+		file.delete();
+	}
+
+	/**
+	 * Test rolling at the boundaries of log entries while appending concurrently.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testConcurrentRolling() throws Exception {
+		File file = FileHelper.createTemporaryFile(null);
+		File backup1 = new File(file.getAbsolutePath() + ".0");
+		File backup2 = new File(file.getAbsolutePath() + ".1");
+
+		RollingFileWriter writer = new RollingFileWriter(file.getAbsolutePath(), 2, false, false, true, null, null, null, new SizePolicy(4));
+		writer.init(ConfigurationCreator.getDummyConfiguration());
+		writer.write(new LogEntryBuilder().renderedLogEntry("12").create());
+		writer.write(new LogEntryBuilder().renderedLogEntry("34").create());
+		writer.write(new LogEntryBuilder().renderedLogEntry("56").create());
+		assertEquals("", FileHelper.read(file));
+
+		writer.flush();
+		assertEquals("1234", FileHelper.read(backup1));
+		assertEquals("56", FileHelper.read(file));
+
+		writer.write(new LogEntryBuilder().renderedLogEntry("78").create());
+		writer.write(new LogEntryBuilder().renderedLogEntry("90").create());
+		writer.write(new LogEntryBuilder().renderedLogEntry("ab").create());
+		writer.close();
+		assertEquals("1234", FileHelper.read(backup2));
+		assertEquals("567890", FileHelper.read(backup1));
+		assertEquals("ab", FileHelper.read(file));
+
+		file.delete();
+		backup1.delete();
+		backup2.delete();
+	}
+
+	/**
+	 * Test concurrent appending of log entries, which are larger than the buffer.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testConcurrentWritingOfLargeEntries() throws Exception {
+		File file = FileHelper.createTemporaryFile(null);
+
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 100 * 1024; ++i) {
+			builder.append((char) ('a' + i % 26));
+		}
+		String large = builder.toString();
+
+		RollingFileWriter writer = new RollingFileWriter(file.getAbsolutePath(), 0, false, false, true, null, null, null);
+		writer.init(ConfigurationCreator.getDummyConfiguration());
+		writer.write(new LogEntryBuilder().renderedLogEntry("1").create());
+		writer.write(new LogEntryBuilder().renderedLogEntry(large).create());
+		writer.write(new LogEntryBuilder().renderedLogEntry("2").create());
+		writer.close();
+
+		assertEquals("1" + large + "2", FileHelper.read(file));
+
+		file.delete();
+	}
+
+	/**
+	 * Test if durable log entries are written to disk before writing returns.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testDurableWriting() throws Exception {
+		testDurableWriting(false);
+		testDurableWriting(true);
+	}
+
 	/**
 	 * Test rolling while writing.
 	 *
@@ -478,6 +616,257 @@ public class RollingFileWriterTest extends AbstractWriterTest {
 		file.delete();
 	}
 
+	/**
+	 * Test writing into preallocated log files.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testPreallocatedWriting() throws Exception {
+		testPreallocatedWriting(false);
+		testPreallocatedWriting(true);
+	}
+
+	/**
+	 * Test continuing a preallocated log file, which has not been trimmed because of a crash.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testContinuingUntrimmedPreallocatedFile() throws Exception {
+		File file = FileHelper.createTemporaryFile(null);
+		FileOutputStream stream = new FileOutputStream(file);
+		stream.write(new byte[] { '1', '2', 0, 0, 0, 0, 0, 0, 0, 0 });
+		stream.close();
+
+		RollingFileWriter writer = new RollingFileWriter(file.getAbsolutePath(), 0, false, true, null, null, new SizePolicy(10));
+		writer.init(ConfigurationCreator.getDummyConfiguration());
+		assertEquals(10, file.length());
+		writer.write(new LogEntryBuilder().renderedLogEntry("3").create());
+		writer.close();
+
+		assertEquals("123", FileHelper.read(file));
+
+		file.delete();
+	}
+
+	/**
+	 * Test if preallocation will be ignored without a size policy.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testPreallocationWithoutSizePolicy() throws Exception {
+		File file = FileHelper.createTemporaryFile(null);
+
+		RollingFileWriter writer = new RollingFileWriter(file.getAbsolutePath(), 0, false, true, null, null, new StartupPolicy());
+		assertEquals("LOGGER WARNING: Log files can be preallocated only in combination with a size policy. Therefore \"preallocate\" will be ignored.",
+				getErrorStream().nextLine());
+		assertFalse(writer.isPreallocating());
+
+		writer.init(ConfigurationCreator.getDummyConfiguration());
+		assertEquals(0, file.length());
+		writer.close();
+
+		file.delete();
+	}
+
+	/**
+	 * Test reading a preallocating rolling file writer from properties.
+	 *
+	 * @throws IOException
+	 *             Failed to create log file
+	 */
+	@Test
+	public final void testPreallocationFromProperties() throws IOException {
+		File file = FileHelper.createTemporaryFile("log");
+
+		PropertiesBuilder propertiesBuilder = new PropertiesBuilder().set("tinylog.writer", "rollingfile").set("tinylog.writer.filename", file.getAbsolutePath())
+				.set("tinylog.writer.backups", "1").set("tinylog.writer.policies", "size: 1KB").set("tinylog.writer.preallocate", "true");
+		List<Writer> writers = createFromProperties(propertiesBuilder.create());
+		assertThat(writers, types(RollingFileWriter.class));
+		RollingFileWriter rollingFileWriter = (RollingFileWriter) writers.get(0);
+		assertEquals(file.getAbsolutePath(), rollingFileWriter.getFilename());
+		assertFalse(rollingFileWriter.isBuffered());
+		assertTrue(rollingFileWriter.isPreallocating());
+		assertThat(rollingFileWriter.getPolicies(), types(SizePolicy.class));
+
+		writers = createFromProperties(propertiesBuilder.set("tinylog.writer.buffered", "true").set("tinylog.writer.preallocate", "false").create());
+		assertThat(writers, types(RollingFileWriter.class));
+		rollingFileWriter = (RollingFileWriter) writers.get(0);
+		assertTrue(rollingFileWriter.isBuffered());
+		assertFalse(rollingFileWriter.isPreallocating());
+
+		file.delete();
+	}
+
+	/**
+	 * Test deleting backups, which exceed the total size of the retention.
+	 *
+	 * @throws Exception
+	 *             Test failed
+	 */
+	@Test
+	public final void testRetention() throws Exception {
+		File file = FileHelper.createTemporaryFile(null);
+		File backup1 = new File(file.getAbsolutePath() + ".0");
+		File backup2 = new File(file.getAbsolutePath() + ".1");
+
+		RollingFileWriter writer = new RollingFileWriter(file.getAbsolutePath(), 10, false, false, null, new Retention(4L, 0L), null, new SizePolicy(2));
+		assertEquals(4L, writer.getRetention().getMaxSize());
+		writer.init(ConfigurationCreator.getDummyConfiguration());
+		writer.write(new LogEntryBuilder().renderedLogEntry("12").create());
+		writer.write(new LogEntryBuilder().renderedLogEntry("34").create());
+		writer.write(new LogEntryBuilder().renderedLogEntry("56").create());
+		writer.write(new LogEntryBuilder().renderedLogEntry("78").create());
+		writer.close();
+
+		assertEquals("78", FileHelper.read(file));
+		assertEquals("3456", FileHelper.read(backup1));
+		assertFalse(backup2.exists());
+
+		file.delete();
+		backup1.delete();
+	}
+
+	/**
+	 * Test if a retention will be ignored for labelers, which don't support a retention.
+	 *
+	 * @throws IOException
+	 *             Failed to create log file
+	 */
+	@Test
+	public final void testRetentionWithUnsupportedLabeler() throws IOException {
+		File file = FileHelper.createTemporaryFile(null);
+
+		RollingFileWriter writer = new RollingFileWriter(file.getAbsolutePath(), 0, false, false, new PlainLabeler(), new Retention(4L, 0L), null);
+		assertEquals("LOGGER WARNING: Labeler \"" + PlainLabeler.class.getName()
+				+ "\" doesn't support a retention by total size or age. Therefore \"totalsize\" and \"maxage\" will be ignored.",
+				getErrorStream().nextLine());
+		assertNull(writer.getRetention());
+
+		file.delete();
+	}
+
+	/**
+	 * Test writing a sparse index, which is rolled together with the log file.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testIndex() throws IOException {
+		testIndex(false);
+	}
+
+	/**
+	 * Test writing a sparse index in combination with concurrent writing.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testConcurrentIndex() throws IOException {
+		testIndex(true);
+	}
+
+	/**
+	 * Test if index files will be not kept for backups if the labeler doesn't support companion files.
+	 *
+	 * @throws IOException
+	 *             Failed to create log file
+	 */
+	@Test
+	public final void testIndexWithUnsupportedLabeler() throws IOException {
+		File file = FileHelper.createTemporaryFile(null);
+
+		RollingFileWriter writer = new RollingFileWriter(file.getAbsolutePath(), 0, false, false, false, new PlainLabeler(), null, null, 100, null);
+		assertEquals("LOGGER WARNING: Labeler \"" + PlainLabeler.class.getName()
+				+ "\" doesn't support companion files. Therefore index files will not be kept for backups.", getErrorStream().nextLine());
+		assertEquals(100, writer.getIndexInterval());
+
+		file.delete();
+	}
+
+	/**
+	 * Test recording written bytes and rollovers if statistics are enabled.
+	 *
+	 * @throws IOException
+	 *             Failed to create log file
+	 */
+	@Test
+	public final void testStatistics() throws IOException {
+		Configurator.defaultConfig().statistics(true).activate();
+
+		File file = FileHelper.createTemporaryFile(null);
+		File backup = new File(file.getAbsolutePath() + ".0");
+
+		RollingFileWriter writer = new RollingFileWriter(file.getAbsolutePath(), 1, new SizePolicy(10));
+		writer.init(ConfigurationCreator.getDummyConfiguration());
+		writer.write(new LogEntryBuilder().renderedLogEntry("1234\n").create());
+		writer.write(new LogEntryBuilder().renderedLogEntry("1234\n").create());
+		writer.write(new LogEntryBuilder().renderedLogEntry("1234\n").create());
+		writer.close();
+
+		Statistics.WriterStatistics statistics = Logger.getStatistics().getWriters().get(writer);
+		assertEquals(15L, statistics.getBytes());
+		assertEquals(1L, statistics.getRollovers().getCount());
+		assertThat(statistics.getRollovers().getMaximum(), greaterThan(0L));
+
+		file.delete();
+		backup.delete();
+	}
+
+	/**
+	 * Test reading a rolling file writer with retention from properties.
+	 *
+	 * @throws IOException
+	 *             Failed to create log file
+	 */
+	@Test
+	public final void testRetentionFromProperties() throws IOException {
+		File file = FileHelper.createTemporaryFile("log");
+
+		PropertiesBuilder propertiesBuilder = new PropertiesBuilder().set("tinylog.writer", "rollingfile").set("tinylog.writer.filename", file.getAbsolutePath())
+				.set("tinylog.writer.backups", "100").set("tinylog.writer.label", "timestamp").set("tinylog.writer.totalsize", "1GB");
+		List<Writer> writers = createFromProperties(propertiesBuilder.create());
+		assertThat(writers, types(RollingFileWriter.class));
+		RollingFileWriter rollingFileWriter = (RollingFileWriter) writers.get(0);
+		assertThat(rollingFileWriter.getLabeler(), type(TimestampLabeler.class));
+		assertEquals(1024L * 1024L * 1024L, rollingFileWriter.getRetention().getMaxSize());
+		assertEquals(0L, rollingFileWriter.getRetention().getMaxAge());
+
+		writers = createFromProperties(propertiesBuilder.remove("tinylog.writer.totalsize").set("tinylog.writer.maxage", "7d").create());
+		assertThat(writers, types(RollingFileWriter.class));
+		rollingFileWriter = (RollingFileWriter) writers.get(0);
+		assertEquals(0L, rollingFileWriter.getRetention().getMaxSize());
+		assertEquals(7L * 24L * 60L * 60L * 1000L, rollingFileWriter.getRetention().getMaxAge());
+
+		writers = createFromProperties(propertiesBuilder.remove("tinylog.writer.maxage").create());
+		assertThat(writers, types(RollingFileWriter.class));
+		assertNull(((RollingFileWriter) writers.get(0)).getRetention());
+		assertFalse(((RollingFileWriter) writers.get(0)).isConcurrent());
+
+		writers = createFromProperties(propertiesBuilder.set("tinylog.writer.concurrent", "true").create());
+		assertThat(writers, types(RollingFileWriter.class));
+		assertTrue(((RollingFileWriter) writers.get(0)).isConcurrent());
+		assertNull(((RollingFileWriter) writers.get(0)).getDurability());
+
+		writers = createFromProperties(propertiesBuilder.set("tinylog.writer.durability", "all").create());
+		assertThat(writers, types(RollingFileWriter.class));
+		assertEquals(Level.TRACE, ((RollingFileWriter) writers.get(0)).getDurability().getLevel());
+		assertEquals(0, ((RollingFileWriter) writers.get(0)).getIndexInterval());
+
+		writers = createFromProperties(propertiesBuilder.set("tinylog.writer.index", "1000").create());
+		assertThat(writers, types(RollingFileWriter.class));
+		assertEquals(1000, ((RollingFileWriter) writers.get(0)).getIndexInterval());
+
+		file.delete();
+	}
+
 	/**
 	 * Test reading rolling file writer from properties.
 	 *
@@ -514,6 +903,54 @@ public class RollingFileWriterTest extends AbstractWriterTest {
 		backup.delete();
 	}
 
+	private void testPreallocatedWriting(final boolean buffered) throws Exception {
+		File file = FileHelper.createTemporaryFile(null, "1");
+		File backup = new File(file.getAbsolutePath() + ".0");
+
+		RollingFileWriter writer = new RollingFileWriter(file.getAbsolutePath(), 100, buffered, true, null, null, new SizePolicy(4));
+		assertTrue(writer.isPreallocating());
+		writer.init(ConfigurationCreator.getDummyConfiguration());
+		assertEquals(4, file.length());
+
+		writer.write(new LogEntryBuilder().renderedLogEntry("23").create());
+		writer.write(new LogEntryBuilder().renderedLogEntry("45").create());
+		writer.flush();
+		assertEquals(4, file.length());
+		assertEquals("123", FileHelper.read(backup));
+
+		writer.write(new LogEntryBuilder().renderedLogEntry("6").create());
+		writer.close();
+
+		assertEquals("456", FileHelper.read(file));
+
+		file.delete();
+		backup.delete();
+	}
+
+	private void testDurableWriting(final boolean concurrent) throws Exception {
+		File file = FileHelper.createTemporaryFile(null);
+		File backup = new File(file.getAbsolutePath() + ".0");
+
+		RollingFileWriter writer = new RollingFileWriter(file.getAbsolutePath(), 1, true, false, concurrent, null, null, new Durability(Level.WARNING, 0L, 1024L),
+				null, new SizePolicy(10));
+		assertThat(writer.getRequiredLogEntryValues(), containsInAnyOrder(LogEntryValue.LEVEL, LogEntryValue.RENDERED_LOG_ENTRY, LogEntryValue.CLASS));
+		writer.init(ConfigurationCreator.getDummyConfiguration());
+
+		writer.write(new LogEntryBuilder().level(Level.INFO).renderedLogEntry("12345").create());
+		assertEquals("", FileHelper.read(file));
+
+		writer.write(new LogEntryBuilder().level(Level.WARNING).renderedLogEntry("67890").create());
+		assertEquals("1234567890", FileHelper.read(file));
+
+		writer.write(new LogEntryBuilder().level(Level.ERROR).renderedLogEntry("abc").create());
+		assertEquals("1234567890", FileHelper.read(backup));
+		assertEquals("abc", FileHelper.read(file));
+
+		writer.close();
+		file.delete();
+		backup.delete();
+	}
+
 	private void testFromProperties(final Boolean buffered) throws IOException {
 		File file = FileHelper.createTemporaryFile("log");
 		boolean expectBuffered = Boolean.TRUE.equals(buffered);
@@ -585,4 +1022,65 @@ public class RollingFileWriterTest extends AbstractWriterTest {
 		file.delete();
 	}
 
+	private static void testIndex(final boolean concurrent) throws IOException {
+		File file = FileHelper.createTemporaryFile(null);
+		File backup = new File(file.getAbsolutePath() + ".0");
+
+		RollingFileWriter writer = new RollingFileWriter(file.getAbsolutePath(), 1, false, false, concurrent, null, null, null, 2, null,
+				new SizePolicy(15));
+		assertThat(writer.getRequiredLogEntryValues(),
+				containsInAnyOrder(LogEntryValue.RENDERED_LOG_ENTRY, LogEntryValue.CLASS, LogEntryValue.DATE, LogEntryValue.LEVEL));
+		writer.init(ConfigurationCreator.getDummyConfiguration());
+		writer.write(new LogEntryBuilder().date(new Date(1000L)).level(Level.INFO).renderedLogEntry("1a\n").create());
+		writer.write(new LogEntryBuilder().date(new Date(1100L)).level(Level.INFO).renderedLogEntry("1b\n").create());
+		writer.write(new LogEntryBuilder().date(new Date(1200L)).level(Level.INFO).renderedLogEntry("1c\n").create());
+		writer.write(new LogEntryBuilder().date(new Date(1300L)).level(Level.INFO).renderedLogEntry("1d\n").create());
+		writer.write(new LogEntryBuilder().date(new Date(2000L)).level(Level.ERROR).renderedLogEntry("2a\n").create());
+		writer.write(new LogEntryBuilder().date(new Date(3000L)).level(Level.WARNING).renderedLogEntry("3a\n").create());
+		writer.close();
+
+		LogIndex index = new LogIndex(backup);
+		assertEquals(3, index.size());
+		assertEquals(1000L, index.getTimestamp(0));
+		assertEquals(0L, index.getOffset(0));
+		assertEquals(1300L, index.getTimestamp(1));
+		assertEquals(9L, index.getOffset(1));
+		assertEquals(2000L, index.getTimestamp(2));
+		assertEquals(12L, index.getOffset(2));
+		assertEquals(3, index.getLength(2));
+		assertEquals(Level.ERROR, index.getLevel(2));
+		index.close();
+
+		index = new LogIndex(file);
+		assertEquals(1, index.size());
+		assertEquals(3000L, index.getTimestamp(0));
+		assertEquals(0L, index.getOffset(0));
+		assertEquals(Level.WARNING, index.getLevel(0));
+		index.close();
+
+		file.delete();
+		LogIndex.getIndexFile(file).delete();
+		backup.delete();
+		LogIndex.getIndexFile(backup).delete();
+	}
+
+	private static final class PlainLabeler implements Labeler {
+
+		@Override
+		public void init(final Configuration configuration) {
+			// Do nothing
+		}
+
+		@Override
+		public File getLogFile(final File baseFile) {
+			return baseFile;
+		}
+
+		@Override
+		public File roll(final File file, final int maxBackups) {
+			return file;
+		}
+
+	}
+
 }
@@ -288,6 +288,95 @@ public class SharedFileWriterTest extends AbstractWriterTest {
 		writer.close();
 	}
 
+	/**
+	 * Test buffered writing, where log entries are written as batch when flushing.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testBufferedWriting() throws IOException {
+		File file = FileHelper.createTemporaryFile(null);
+
+		SharedFileWriter writer = new SharedFileWriter(file.getAbsolutePath(), true, true);
+		assertTrue(writer.isBuffered());
+		writer.init(null);
+
+		writer.write(new LogEntryBuilder().renderedLogEntry("Hello\n").create());
+		writer.write(new LogEntryBuilder().renderedLogEntry("World\n").create());
+		assertEquals("", FileHelper.read(file));
+
+		writer.flush();
+		assertEquals("Hello\nWorld\n", FileHelper.read(file));
+
+		writer.write(new LogEntryBuilder().renderedLogEntry("Goodbye\n").create());
+		writer.close();
+		assertEquals("Hello\nWorld\nGoodbye\n", FileHelper.read(file));
+
+		file.delete();
+	}
+
+	/**
+	 * Test buffered writing of log entries that exceed the buffer.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testBufferedWritingOfLargeLogEntries() throws IOException {
+		File file = FileHelper.createTemporaryFile(null);
+
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 10000; ++i) {
+			builder.append("0123456789");
+		}
+		builder.append("\n");
+		String largeEntry = builder.toString();
+
+		SharedFileWriter writer = new SharedFileWriter(file.getAbsolutePath(), true, true);
+		writer.init(null);
+
+		writer.write(new LogEntryBuilder().renderedLogEntry("Hello\n").create());
+		writer.write(new LogEntryBuilder().renderedLogEntry(largeEntry).create());
+		assertEquals("Hello\n" + largeEntry, FileHelper.read(file));
+
+		writer.write(new LogEntryBuilder().renderedLogEntry("World\n").create());
+		writer.close();
+		assertEquals("Hello\n" + largeEntry + "World\n", FileHelper.read(file));
+
+		file.delete();
+	}
+
+	/**
+	 * Test unbuffered writing of small and large log entries.
+	 *
+	 * @throws IOException
+	 *             Test failed
+	 */
+	@Test
+	public final void testUnbufferedWritingOfLargeLogEntries() throws IOException {
+		File file = FileHelper.createTemporaryFile(null);
+
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 1000; ++i) {
+			builder.append("0123456789");
+		}
+		builder.append("\n");
+		String largeEntry = builder.toString();
+
+		SharedFileWriter writer = new SharedFileWriter(file.getAbsolutePath(), true, false);
+		assertFalse(writer.isBuffered());
+		writer.init(null);
+
+		writer.write(new LogEntryBuilder().renderedLogEntry("Hello\n").create());
+		writer.write(new LogEntryBuilder().renderedLogEntry(largeEntry).create());
+		assertEquals("Hello\n" + largeEntry, FileHelper.read(file));
+
+		writer.close();
+
+		file.delete();
+	}
+
 	/**
 	 * Test continuing of existing log file.
 	 *
@@ -470,6 +559,11 @@ public class SharedFileWriterTest extends AbstractWriterTest {
 			public void write(final byte[] b) throws IOException {
 				throw new IOException();
 			}
+
+			@Mock
+			public void write(final byte[] b, final int off, final int len) throws IOException {
+				throw new IOException();
+			}
 		};
 
 		try {
@@ -518,6 +612,21 @@ public class SharedFileWriterTest extends AbstractWriterTest {
 		sharedFileWriter = (SharedFileWriter) writers.get(0);
 		assertEquals(file.getAbsolutePath(), sharedFileWriter.getFilename());
 		assertTrue(sharedFileWriter.isAppending());
+		assertFalse(sharedFileWriter.isBuffered());
+
+		propertiesBuilder.set("tinylog.writer.buffered", "true");
+		writers = createFromProperties(propertiesBuilder.create());
+		assertThat(writers, types(SharedFileWriter.class));
+		sharedFileWriter = (SharedFileWriter) writers.get(0);
+		assertTrue(sharedFileWriter.isAppending());
+		assertTrue(sharedFileWriter.isBuffered());
+
+		propertiesBuilder.remove("tinylog.writer.append");
+		writers = createFromProperties(propertiesBuilder.create());
+		assertThat(writers, types(SharedFileWriter.class));
+		sharedFileWriter = (SharedFileWriter) writers.get(0);
+		assertTrue(sharedFileWriter.isBuffered());
+		assertEquals(!EnvironmentHelper.isWindows(), sharedFileWriter.isAppending());
 
 		file.delete();
 	}